@@ -0,0 +1,72 @@
+#!/bin/bash
+
+# Event Spool Recovery Script
+# A scale-down removes the highest StatefulSet ordinals but retains their event-spool volumes. If the broker was
+# down, upload events spooled by those pods stay on the retained volumes. This script brings the ordinals back
+# with their volumes, waits for them to replay the spool to Kafka and then hands the replica count back to the
+# autoscaler.
+#
+# Usage: ./scripts/recover-event-spools.sh [namespace]
+
+set -euo pipefail
+
+NAMESPACE="${1:-default}"
+STATEFULSET="videos-api"
+SCALED_OBJECT="videos-api-scaledobject"
+HPA="videos-api-hpa"
+TIMEOUT_SECONDS="${RECOVERY_TIMEOUT_SECONDS:-1800}"
+
+highest=$(kubectl get pvc -n "$NAMESPACE" -o name \
+  | sed -n "s|^persistentvolumeclaim/event-spool-$STATEFULSET-\([0-9]*\)$|\1|p" | sort -n | tail -1)
+current=$(kubectl get statefulset "$STATEFULSET" -n "$NAMESPACE" -o jsonpath='{.spec.replicas}')
+
+if [ -z "$highest" ] || [ "$highest" -lt "$current" ]; then
+  echo "✅ No event-spool volume outside the $current running replicas."
+  exit 0
+fi
+
+target=$((highest + 1))
+echo "📦 Volumes found up to ordinal $highest; scaling $STATEFULSET to $target replicas to replay them..."
+
+# Pin the replica count so the autoscaler does not remove the ordinals again while they replay
+if kubectl get scaledobject "$SCALED_OBJECT" -n "$NAMESPACE" >/dev/null 2>&1; then
+  kubectl annotate scaledobject "$SCALED_OBJECT" -n "$NAMESPACE" \
+    autoscaling.keda.sh/paused-replicas="$target" --overwrite
+  resume() {
+    kubectl annotate scaledobject "$SCALED_OBJECT" -n "$NAMESPACE" autoscaling.keda.sh/paused-replicas-
+  }
+else
+  min=$(kubectl get hpa "$HPA" -n "$NAMESPACE" -o jsonpath='{.spec.minReplicas}')
+  max=$(kubectl get hpa "$HPA" -n "$NAMESPACE" -o jsonpath='{.spec.maxReplicas}')
+  kubectl patch hpa "$HPA" -n "$NAMESPACE" --type merge \
+    -p "{\"spec\":{\"minReplicas\":$target,\"maxReplicas\":$(( target > max ? target : max ))}}"
+  resume() {
+    kubectl patch hpa "$HPA" -n "$NAMESPACE" --type merge -p "{\"spec\":{\"minReplicas\":$min,\"maxReplicas\":$max}}"
+  }
+  kubectl scale statefulset "$STATEFULSET" -n "$NAMESPACE" --replicas="$target"
+fi
+
+kubectl rollout status statefulset/"$STATEFULSET" -n "$NAMESPACE" --timeout=10m
+
+# The spool is replayed on startup; wait until every recovered pod reports an empty spool
+deadline=$(( $(date +%s) + TIMEOUT_SECONDS ))
+for ordinal in $(seq "$current" "$highest"); do
+  pod="$STATEFULSET-$ordinal"
+  while true; do
+    depth=$(kubectl get --raw "/api/v1/namespaces/$NAMESPACE/pods/$pod:8080/proxy/videos/actuator/prometheus" \
+      | awk '/^video_kafka_spool_depth/ { print $NF; exit }')
+    echo "⏳ $pod: ${depth:-?} spooled events pending"
+    if [ "${depth%.*}" = "0" ]; then
+      break
+    fi
+    if [ "$(date +%s)" -ge "$deadline" ]; then
+      echo "❌ $pod still has spooled events after ${TIMEOUT_SECONDS}s; autoscaling stays pinned at $target replicas."
+      echo "   Check broker connectivity, then run this script again."
+      exit 1
+    fi
+    sleep 15
+  done
+done
+
+resume
+echo "✅ Spools replayed; autoscaling resumed."
@@ -0,0 +1,69 @@
+#!/bin/bash
+
+# Startup Benchmark Script
+# Measures time until the health endpoint reports UP for the plain JVM, Spring AOT and AOT + AppCDS.
+# Requires the local infrastructure (./scripts/dev-setup.sh) and a jar built with: mvn -Paot package
+
+set -e
+
+JAR=${1:-target/videos-api-0.0.1-SNAPSHOT.jar}
+RUNS=${STARTUP_BENCHMARK_RUNS:-5}
+PROFILES=${STARTUP_BENCHMARK_PROFILES:-local}
+PORT=${STARTUP_BENCHMARK_PORT:-8080}
+TIMEOUT_SECONDS=${STARTUP_BENCHMARK_TIMEOUT:-120}
+HEALTH_URL="http://localhost:${PORT}/videos/actuator/health"
+WORK_DIR="$(dirname "$JAR")/startup-benchmark"
+
+if [ ! -f "$JAR" ]; then
+    echo "❌ Jar not found: $JAR (build it with: mvn -Paot package -DskipTests)"
+    exit 1
+fi
+
+rm -rf "$WORK_DIR"
+mkdir -p "$WORK_DIR"
+cp "$JAR" "$WORK_DIR/app.jar"
+java -Djarmode=tools -jar "$WORK_DIR/app.jar" extract --destination "$WORK_DIR/extracted" > /dev/null
+APP_JAR="$WORK_DIR/extracted/app.jar"
+
+echo "🏋️ Training run to dump the CDS archive..."
+java -XX:ArchiveClassesAtExit="$WORK_DIR/application.jsa" -Dspring.context.exit=onRefresh \
+    -Dspring.profiles.active=prod,cds-training -jar "$APP_JAR" > "$WORK_DIR/training.log" 2>&1
+
+measure() {
+    local name=$1
+    shift
+    local times=()
+    for run in $(seq 1 "$RUNS"); do
+        local start
+        start=$(date +%s%N)
+        java "$@" -Dspring.profiles.active="$PROFILES" -Dserver.port="$PORT" -jar "$APP_JAR" \
+            > "$WORK_DIR/$name-$run.log" 2>&1 &
+        local pid=$!
+        until curl -fs "$HEALTH_URL" > /dev/null 2>&1; do
+            if ! kill -0 "$pid" 2> /dev/null; then
+                echo "❌ $name run $run exited before becoming ready, see $WORK_DIR/$name-$run.log"
+                exit 1
+            fi
+            if [ $(( ($(date +%s%N) - start) / 1000000000 )) -ge "$TIMEOUT_SECONDS" ]; then
+                kill "$pid"
+                echo "❌ $name run $run not ready after ${TIMEOUT_SECONDS}s, see $WORK_DIR/$name-$run.log"
+                exit 1
+            fi
+            sleep 0.1
+        done
+        times+=($(( ($(date +%s%N) - start) / 1000000 )))
+        kill "$pid"
+        wait "$pid" 2> /dev/null || true
+    done
+    local sorted
+    sorted=$(printf '%s\n' "${times[@]}" | sort -n)
+    printf '%-10s min %6s ms   median %6s ms   max %6s ms\n' "$name" \
+        "$(echo "$sorted" | head -1)" \
+        "$(echo "$sorted" | sed -n "$(( (RUNS + 1) / 2 ))p")" \
+        "$(echo "$sorted" | tail -1)"
+}
+
+echo "⏱️ Measuring time to ready over $RUNS runs (profiles: $PROFILES)..."
+measure "jvm" -Dspring.aot.enabled=false
+measure "aot" -Dspring.aot.enabled=true
+measure "aot+cds" -Dspring.aot.enabled=true -XX:SharedArchiveFile="$WORK_DIR/application.jsa"
@@ -0,0 +1,109 @@
+package br.com.fiap.videosapi.benchmark;
+
+import br.com.fiap.videosapi.core.config.ObjectMapperConfig;
+import br.com.fiap.videosapi.video.common.domain.dto.event.VideoStatusUpdateEvent;
+import br.com.fiap.videosapi.video.common.domain.dto.event.VideoUploadEvent;
+import br.com.fiap.videosapi.video.infrastructure.kafka.serialization.VideoEventAvroCodec;
+import br.com.fiap.videosapi.video.infrastructure.kafka.serialization.VideoEventFormat;
+import br.com.fiap.videosapi.video.infrastructure.kafka.serialization.VideoEventSchemaRegistry;
+import br.com.fiap.videosapi.video.infrastructure.kafka.serialization.VideoEventSerializer;
+import br.com.fiap.videosapi.video.infrastructure.kafka.serialization.VideoStatusUpdateEventDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VideoEventSerializationBenchmark {
+
+    private static final String TOPIC = "video.status";
+
+    private ObjectMapper legacyObjectMapper;
+    private VideoEventSerializer jsonSerializer;
+    private VideoEventSerializer avroSerializer;
+    private VideoStatusUpdateEventDeserializer deserializer;
+    private VideoUploadEvent uploadEvent;
+    private VideoStatusUpdateEvent statusUpdateEvent;
+    private String statusUpdateJson;
+    private byte[] statusUpdateJsonBytes;
+    private byte[] statusUpdateAvroBytes;
+
+    @Setup
+    public void setUp() throws Exception {
+        legacyObjectMapper = new ObjectMapper();
+        legacyObjectMapper.registerModule(new JavaTimeModule());
+        legacyObjectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        ObjectMapper objectMapper = new ObjectMapperConfig().objectMapper();
+        VideoEventAvroCodec codec = new VideoEventAvroCodec(VideoEventSchemaRegistry.withDefaultSchemas());
+        jsonSerializer = new VideoEventSerializer(codec, objectMapper, VideoEventFormat.JSON);
+        avroSerializer = new VideoEventSerializer(codec, objectMapper, VideoEventFormat.AVRO);
+        deserializer = new VideoStatusUpdateEventDeserializer(codec, objectMapper);
+
+        uploadEvent = VideoUploadEvent.createUploadSuccessEvent(123456L, "my holiday video.mp4",
+                "0c9f5d1e-8b7a-4f3e-9a61-2d4b7c8e9f10.mp4", "video/mp4", 314572800L,
+                "https://videosstorage.blob.core.windows.net/videos/0c9f5d1e-8b7a-4f3e-9a61-2d4b7c8e9f10.mp4",
+                "videos", "DefaultEndpointsProtocol=https;AccountName=videosstorage;AccountKey=c2VjcmV0;EndpointSuffix=core.windows.net",
+                LocalDateTime.of(2024, 5, 1, 10, 30, 15));
+        uploadEvent.setUserId("7f3c2a9e-1b4d-4c8a-9e6f-0a1b2c3d4e5f");
+        statusUpdateEvent = VideoStatusUpdateEvent.builder()
+                .videoId(123456L)
+                .userId("7f3c2a9e-1b4d-4c8a-9e6f-0a1b2c3d4e5f")
+                .status("SUCCESS")
+                .occurredAt(LocalDateTime.of(2024, 5, 1, 10, 35, 0))
+                .build();
+        statusUpdateJson = legacyObjectMapper.writeValueAsString(statusUpdateEvent);
+        statusUpdateJsonBytes = jsonSerializer.serialize(TOPIC, new RecordHeaders(), statusUpdateEvent);
+        statusUpdateAvroBytes = avroSerializer.serialize(TOPIC, new RecordHeaders(), statusUpdateEvent);
+    }
+
+    @Benchmark
+    public byte[] uploadEventLegacyStringJson() throws Exception {
+        return legacyObjectMapper.writeValueAsString(uploadEvent).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] uploadEventTypedJson() {
+        return jsonSerializer.serialize(TOPIC, new RecordHeaders(), uploadEvent);
+    }
+
+    @Benchmark
+    public byte[] uploadEventAvro() {
+        return avroSerializer.serialize(TOPIC, new RecordHeaders(), uploadEvent);
+    }
+
+    @Benchmark
+    public VideoStatusUpdateEvent statusEventLegacyStringJson() throws Exception {
+        String message = new String(statusUpdateJson.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+        return legacyObjectMapper.readValue(message, VideoStatusUpdateEvent.class);
+    }
+
+    @Benchmark
+    public VideoStatusUpdateEvent statusEventTypedJson() {
+        return deserializer.deserialize(TOPIC, new RecordHeaders(), statusUpdateJsonBytes);
+    }
+
+    @Benchmark
+    public VideoStatusUpdateEvent statusEventAvro() {
+        return deserializer.deserialize(TOPIC, new RecordHeaders(), statusUpdateAvroBytes);
+    }
+}
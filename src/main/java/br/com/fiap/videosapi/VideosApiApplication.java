@@ -1,13 +1,18 @@
 package br.com.fiap.videosapi;
 
+import br.com.fiap.videosapi.core.config.VideosApiRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.util.TimeZone;
 
 @SpringBootApplication
 @EnableKafka
+@EnableScheduling
+@ImportRuntimeHints(VideosApiRuntimeHints.class)
 public class VideosApiApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,89 @@
+package br.com.fiap.videosapi.core.config;
+
+import br.com.fiap.videosapi.video.infrastructure.kafka.VideoStatusDeadLetterPublisher;
+import br.com.fiap.videosapi.video.infrastructure.kafka.VideoStatusUpdateParallelConsumer;
+import br.com.fiap.videosapi.video.infrastructure.kafka.VideoStatusUpdateTransactionalConsumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.time.Duration;
+
+@Configuration
+public class KafkaConsumerConfig {
+
+    public static final String BATCH_LISTENER_CONTAINER_FACTORY = "videoStatusBatchListenerContainerFactory";
+    public static final String PARALLEL_LISTENER_CONTAINER_FACTORY = "videoStatusParallelListenerContainerFactory";
+    public static final String TRANSACTIONAL_LISTENER_CONTAINER_FACTORY = "videoStatusTransactionalListenerContainerFactory";
+
+    @Bean(BATCH_LISTENER_CONTAINER_FACTORY)
+    @ConditionalOnProperty(name = "video.kafka.status-consumer.mode", havingValue = "batch")
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> videoStatusBatchListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory,
+            VideoStatusDeadLetterPublisher deadLetterPublisher,
+            @Value("${video.kafka.status-consumer.batch.max-attempts:3}") int maxAttempts,
+            @Value("${video.kafka.status-consumer.batch.retry-backoff:PT1S}") Duration retryBackoff
+    ) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        // a batch that keeps failing is dead-lettered record by record instead of being logged and committed past
+        factory.setCommonErrorHandler(new DefaultErrorHandler(
+                (record, exception) -> deadLetterPublisher.publish(deadLetterRecord(record), exception).join(),
+                new FixedBackOff(retryBackoff.toMillis(), Math.max(0, maxAttempts - 1))));
+        return factory;
+    }
+
+    @Bean(PARALLEL_LISTENER_CONTAINER_FACTORY)
+    @ConditionalOnProperty(name = "video.kafka.status-consumer.mode", havingValue = "parallel")
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> videoStatusParallelListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory,
+            VideoStatusUpdateParallelConsumer parallelConsumer,
+            VideoStatusDeadLetterPublisher deadLetterPublisher
+    ) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        ContainerProperties containerProperties = factory.getContainerProperties();
+        containerProperties.setAckMode(ContainerProperties.AckMode.MANUAL);
+        containerProperties.setAsyncAcks(true);
+        containerProperties.setConsumerRebalanceListener(parallelConsumer);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(
+                (record, exception) -> deadLetterPublisher.publish(deadLetterRecord(record), exception).join(),
+                new FixedBackOff(0L, 0L)));
+        return factory;
+    }
+
+    @Bean(TRANSACTIONAL_LISTENER_CONTAINER_FACTORY)
+    @ConditionalOnProperty(name = "video.kafka.status-consumer.mode", havingValue = "transactional")
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> videoStatusTransactionalListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory,
+            VideoStatusUpdateTransactionalConsumer transactionalConsumer,
+            @Value("${video.kafka.status-consumer.transactional.max-attempts:3}") int maxAttempts,
+            @Value("${video.kafka.status-consumer.transactional.retry-backoff:PT1S}") Duration retryBackoff
+    ) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(
+                (record, exception) -> transactionalConsumer.recover(deadLetterRecord(record), exception),
+                new FixedBackOff(retryBackoff.toMillis(), Math.max(0, maxAttempts - 1))));
+        return factory;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ConsumerRecord<String, ?> deadLetterRecord(ConsumerRecord<?, ?> record) {
+        return (ConsumerRecord<String, ?>) record;
+    }
+}
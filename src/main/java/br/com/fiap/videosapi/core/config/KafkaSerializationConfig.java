@@ -0,0 +1,56 @@
+package br.com.fiap.videosapi.core.config;
+
+import br.com.fiap.videosapi.video.common.domain.dto.event.VideoStatusUpdateEvent;
+import br.com.fiap.videosapi.video.infrastructure.kafka.serialization.VideoEventAvroCodec;
+import br.com.fiap.videosapi.video.infrastructure.kafka.serialization.VideoEventFormat;
+import br.com.fiap.videosapi.video.infrastructure.kafka.serialization.VideoEventSchemaRegistry;
+import br.com.fiap.videosapi.video.infrastructure.kafka.serialization.VideoEventSerializer;
+import br.com.fiap.videosapi.video.infrastructure.kafka.serialization.VideoStatusUpdateEventDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaConsumerFactoryCustomizer;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaProducerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+
+@Configuration
+public class KafkaSerializationConfig {
+
+    @Bean
+    public VideoEventSchemaRegistry videoEventSchemaRegistry() {
+        return VideoEventSchemaRegistry.withDefaultSchemas();
+    }
+
+    @Bean
+    public VideoEventAvroCodec videoEventAvroCodec(VideoEventSchemaRegistry videoEventSchemaRegistry) {
+        return new VideoEventAvroCodec(videoEventSchemaRegistry);
+    }
+
+    @Bean
+    @SuppressWarnings("unchecked")
+    public DefaultKafkaProducerFactoryCustomizer videoEventSerializerCustomizer(
+            VideoEventAvroCodec videoEventAvroCodec,
+            ObjectMapper objectMapper,
+            @Value("${video.kafka.event-format:json}") String eventFormat
+    ) {
+        VideoEventSerializer serializer = new VideoEventSerializer(videoEventAvroCodec, objectMapper,
+                VideoEventFormat.fromProperty(eventFormat));
+        return producerFactory -> ((DefaultKafkaProducerFactory<String, Object>) producerFactory)
+                .setValueSerializer(serializer);
+    }
+
+    @Bean
+    @SuppressWarnings("unchecked")
+    public DefaultKafkaConsumerFactoryCustomizer videoStatusUpdateDeserializerCustomizer(
+            VideoEventAvroCodec videoEventAvroCodec,
+            ObjectMapper objectMapper
+    ) {
+        ErrorHandlingDeserializer<VideoStatusUpdateEvent> deserializer = new ErrorHandlingDeserializer<>(
+                new VideoStatusUpdateEventDeserializer(videoEventAvroCodec, objectMapper));
+        return consumerFactory -> ((DefaultKafkaConsumerFactory<String, VideoStatusUpdateEvent>) consumerFactory)
+                .setValueDeserializer(deserializer);
+    }
+}
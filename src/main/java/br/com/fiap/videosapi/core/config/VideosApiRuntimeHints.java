@@ -0,0 +1,44 @@
+package br.com.fiap.videosapi.core.config;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+
+public class VideosApiRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final String DTO_PACKAGE = "br.com.fiap.videosapi.video.common.domain.dto";
+
+    static final List<String> REFLECTIVE_TYPES = List.of(
+            "org.apache.kafka.common.security.plain.PlainLoginModule",
+            "org.apache.kafka.common.serialization.StringSerializer",
+            "org.apache.kafka.common.serialization.StringDeserializer"
+    );
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.resources()
+                .registerPattern("avro/*.avsc")
+                .registerPattern("db/migration/*.sql")
+                .registerPattern("org/apache/tika/mime/tika-mimetypes.xml")
+                .registerPattern("org/apache/tika/mime/custom-mimetypes.xml");
+
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+        for (BeanDefinition candidate : scanner.findCandidateComponents(DTO_PACKAGE)) {
+            bindingRegistrar.registerReflectionHints(hints.reflection(),
+                    ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+        }
+
+        REFLECTIVE_TYPES.forEach(type -> hints.reflection()
+                .registerType(TypeReference.of(type), MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS));
+    }
+}
@@ -1,5 +1,7 @@
 package br.com.fiap.videosapi.core.context;
 
+import java.util.concurrent.Callable;
+
 public final class UserContext {
     private static final ThreadLocal<String> USER_ID = new ThreadLocal<>();
 
@@ -16,4 +18,42 @@ public final class UserContext {
     public static void clear() {
         USER_ID.remove();
     }
+
+    public static <T> T callWithUserId(String userId, Callable<T> task) throws Exception {
+        String previous = USER_ID.get();
+        bind(userId);
+        try {
+            return task.call();
+        } finally {
+            bind(previous);
+        }
+    }
+
+    public static void runWithUserId(String userId, Runnable task) {
+        String previous = USER_ID.get();
+        bind(userId);
+        try {
+            task.run();
+        } finally {
+            bind(previous);
+        }
+    }
+
+    public static Runnable wrap(Runnable task) {
+        String userId = USER_ID.get();
+        return () -> runWithUserId(userId, task);
+    }
+
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        String userId = USER_ID.get();
+        return () -> callWithUserId(userId, task);
+    }
+
+    private static void bind(String userId) {
+        if (userId == null) {
+            USER_ID.remove();
+        } else {
+            USER_ID.set(userId);
+        }
+    }
 }
@@ -0,0 +1,15 @@
+package br.com.fiap.videosapi.core.context;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserContextTaskDecorator implements TaskDecorator {
+
+    @Override
+    @NonNull
+    public Runnable decorate(@NonNull Runnable runnable) {
+        return UserContext.wrap(runnable);
+    }
+}
@@ -0,0 +1,6 @@
+package br.com.fiap.videosapi.core.datasource;
+
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
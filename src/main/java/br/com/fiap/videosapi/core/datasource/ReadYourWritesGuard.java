@@ -0,0 +1,52 @@
+package br.com.fiap.videosapi.core.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@Slf4j
+public class ReadYourWritesGuard {
+
+    private final long windowNanos;
+    private final Map<String, Long> primaryPinnedUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesGuard(@Value("${video.datasource.read-your-writes-window:PT5S}") Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    public void markWrite(String userId) {
+        if (userId == null || windowNanos <= 0) {
+            return;
+        }
+        primaryPinnedUntil.put(userId, System.nanoTime() + windowNanos);
+    }
+
+    public boolean requiresPrimary(String userId) {
+        if (userId == null) {
+            return false;
+        }
+        Long pinnedUntil = primaryPinnedUntil.get(userId);
+        if (pinnedUntil == null) {
+            return false;
+        }
+        if (System.nanoTime() - pinnedUntil < 0) {
+            return true;
+        }
+        primaryPinnedUntil.remove(userId, pinnedUntil);
+        return false;
+    }
+
+    @Scheduled(fixedDelayString = "${video.datasource.read-your-writes-purge-interval:PT1M}")
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        int before = primaryPinnedUntil.size();
+        primaryPinnedUntil.values().removeIf(pinnedUntil -> now - pinnedUntil >= 0);
+        log.debug("Purged {} expired read-your-writes entries", before - primaryPinnedUntil.size());
+    }
+}
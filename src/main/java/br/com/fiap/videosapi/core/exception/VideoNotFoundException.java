@@ -0,0 +1,8 @@
+package br.com.fiap.videosapi.core.exception;
+
+public class VideoNotFoundException extends VideoException {
+
+    public VideoNotFoundException(Long videoId) {
+        super("Video not found with ID: " + videoId);
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.fiap.videosapi.core.reactive;
+
+import br.com.fiap.videosapi.core.context.UserContext;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Callable;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class BlockingCallOffloader {
+
+    private final Scheduler scheduler;
+
+    public BlockingCallOffloader(
+            @Value("${video.reactive.jdbc.thread-cap:10}") int threadCap,
+            @Value("${video.reactive.jdbc.queued-task-cap:10000}") int queuedTaskCap
+    ) {
+        this.scheduler = Schedulers.newBoundedElastic(threadCap, queuedTaskCap, "video-jdbc");
+    }
+
+    public <T> Mono<T> call(String userId, Callable<T> task) {
+        return Mono.fromCallable(() -> UserContext.callWithUserId(userId, task))
+                .subscribeOn(scheduler);
+    }
+
+    @PreDestroy
+    public void close() {
+        scheduler.dispose();
+    }
+}
@@ -3,6 +3,7 @@ package br.com.fiap.videosapi.core.web;
 import br.com.fiap.videosapi.core.context.UserContext;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
@@ -10,9 +11,10 @@ import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 
 @Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class UserContextInterceptor implements HandlerInterceptor {
 
-    private static final String USER_HEADER = "x-cliente-id";
+    static final String USER_HEADER = "x-cliente-id";
 
     @Override
     public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) throws Exception {
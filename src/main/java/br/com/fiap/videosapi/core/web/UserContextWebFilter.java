@@ -0,0 +1,46 @@
+package br.com.fiap.videosapi.core.web;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+import static br.com.fiap.videosapi.core.web.UserContextInterceptor.USER_HEADER;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class UserContextWebFilter implements WebFilter {
+
+    private static final byte[] MISSING_HEADER_BODY =
+            "{\"message\":\"Missing required header x-cliente-id\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Override
+    @NonNull
+    public Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
+        String userId = exchange.getRequest().getHeaders().getFirst(USER_HEADER);
+
+        String uri = exchange.getRequest().getPath().value();
+        boolean isPublic = uri.contains("/actuator") || uri.contains("/swagger") || uri.contains("/api-docs");
+
+        if (userId == null || userId.isBlank()) {
+            if (isPublic) {
+                return chain.filter(exchange);
+            }
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.BAD_REQUEST);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(MISSING_HEADER_BODY)));
+        }
+
+        exchange.getResponse().getHeaders().set(USER_HEADER, userId);
+        return chain.filter(exchange);
+    }
+}
@@ -0,0 +1,9 @@
+package br.com.fiap.videosapi.video.application.usecase;
+
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoUploadResponse;
+import org.springframework.http.codec.multipart.PartEvent;
+import reactor.core.publisher.Flux;
+
+public interface ReactiveVideoUploadUseCase {
+    Flux<VideoUploadResponse> uploadVideos(Flux<PartEvent> parts, String userId);
+}
@@ -1,12 +1,19 @@
 package br.com.fiap.videosapi.video.application.usecase;
 
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoBatchGetResponse;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoChangesResponse;
 import br.com.fiap.videosapi.video.common.domain.dto.response.VideoListResponse;
 import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface VideoListUseCase {
     List<VideoListResponse> listAllVideos();
     List<VideoListResponse> listVideosByStatus(VideoStatus status);
     VideoListResponse getVideoById(Long id);
+    VideoBatchGetResponse getVideosByIds(List<Long> ids);
+    List<VideoListResponse> searchVideos(String query, int page, int size);
+    VideoChangesResponse getChanges(String since, int limit);
+    void streamAllVideos(String userId, Consumer<VideoListResponse> consumer);
 }
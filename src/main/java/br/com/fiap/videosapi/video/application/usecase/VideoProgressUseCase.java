@@ -0,0 +1,7 @@
+package br.com.fiap.videosapi.video.application.usecase;
+
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoProgressResponse;
+
+public interface VideoProgressUseCase {
+    VideoProgressResponse getProgress(Long videoId);
+}
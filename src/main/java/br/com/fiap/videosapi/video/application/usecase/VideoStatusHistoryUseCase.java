@@ -0,0 +1,9 @@
+package br.com.fiap.videosapi.video.application.usecase;
+
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoTimeInStateResponse;
+
+import java.util.List;
+
+public interface VideoStatusHistoryUseCase {
+    List<VideoTimeInStateResponse> getTimeInState(int days);
+}
@@ -3,7 +3,15 @@ package br.com.fiap.videosapi.video.application.usecase;
 import br.com.fiap.videosapi.video.common.domain.dto.event.VideoStatusUpdateEvent;
 import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
 
+import java.util.List;
+
 public interface VideoStatusUpdateUseCase {
     void updateVideoStatus(Long videoId, String status);
     void processStatusUpdateEvent(VideoStatusUpdateEvent event);
+
+    /**
+     * Applies the status transitions of a batch in one transaction. Progress reports are skipped and must be applied
+     * one at a time through {@link #processStatusUpdateEvent}, so a rejected report cannot roll back the batch.
+     */
+    int processStatusUpdateEvents(List<VideoStatusUpdateEvent> events);
 }
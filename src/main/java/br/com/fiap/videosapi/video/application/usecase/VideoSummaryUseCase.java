@@ -0,0 +1,15 @@
+package br.com.fiap.videosapi.video.application.usecase;
+
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoSummaryResponse;
+import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
+import br.com.fiap.videosapi.video.domain.event.VideoStatusChangedEvent;
+
+import java.util.List;
+
+public interface VideoSummaryUseCase {
+    VideoSummaryResponse getSummary();
+    void recordUpload(String userId, long fileSize);
+    void recordStatusChange(String userId, VideoStatus previousStatus, VideoStatus newStatus);
+    void recordStatusChanges(List<VideoStatusChangedEvent> changes);
+    int reconcile();
+}
@@ -0,0 +1,12 @@
+package br.com.fiap.videosapi.video.application.usecase;
+
+import br.com.fiap.videosapi.video.common.domain.dto.request.VideoWebhookRequest;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoWebhookResponse;
+
+import java.util.List;
+
+public interface VideoWebhookUseCase {
+    VideoWebhookResponse register(VideoWebhookRequest request);
+    List<VideoWebhookResponse> listWebhooks();
+    boolean unregister(Long id);
+}
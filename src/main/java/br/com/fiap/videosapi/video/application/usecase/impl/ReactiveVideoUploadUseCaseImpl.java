@@ -0,0 +1,169 @@
+package br.com.fiap.videosapi.video.application.usecase.impl;
+
+import br.com.fiap.videosapi.core.datasource.ReadYourWritesGuard;
+import br.com.fiap.videosapi.core.reactive.BlockingCallOffloader;
+import br.com.fiap.videosapi.video.application.usecase.ReactiveVideoUploadUseCase;
+import br.com.fiap.videosapi.video.application.usecase.VideoSummaryUseCase;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoUploadResponse;
+import br.com.fiap.videosapi.video.domain.entity.Video;
+import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
+import br.com.fiap.videosapi.video.infrastructure.azure.AzureBlobAsyncStorageService;
+import br.com.fiap.videosapi.video.infrastructure.azure.AzureBlobUploadResult;
+import br.com.fiap.videosapi.video.infrastructure.kafka.VideoEventProducer;
+import br.com.fiap.videosapi.video.infrastructure.repository.VideoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.tika.Tika;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.multipart.FilePartEvent;
+import org.springframework.http.codec.multipart.PartEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveVideoUploadUseCaseImpl implements ReactiveVideoUploadUseCase {
+
+    static final String FILES_PART = "files";
+
+    private final AzureBlobAsyncStorageService azureBlobAsyncStorageService;
+    private final VideoEventProducer videoEventProducer;
+    private final VideoRepository videoRepository;
+    private final VideoSummaryUseCase videoSummaryUseCase;
+    private final ReadYourWritesGuard readYourWritesGuard;
+    private final BlockingCallOffloader blockingCallOffloader;
+    private final Tika tika = new Tika();
+
+    @Value("${azure.storage.connection-string}")
+    String connectionString;
+
+    @Override
+    public Flux<VideoUploadResponse> uploadVideos(Flux<PartEvent> parts, String userId) {
+        return parts.windowUntil(PartEvent::isLast)
+                .concatMap(part -> part.<VideoUploadResponse>switchOnFirst((signal, events) -> {
+                    if (signal.get() instanceof FilePartEvent file && FILES_PART.equals(file.name())) {
+                        return uploadVideo(file, events.map(PartEvent::content), userId);
+                    }
+                    return events.doOnNext(event -> DataBufferUtils.release(event.content()))
+                            .thenMany(Flux.<VideoUploadResponse>empty());
+                }));
+    }
+
+    private Mono<VideoUploadResponse> uploadVideo(FilePartEvent file, Flux<DataBuffer> content, String userId) {
+        AtomicLong size = new AtomicLong();
+        Flux<ByteBuffer> chunks = content.map(ReactiveVideoUploadUseCaseImpl::toByteBuffer)
+                .filter(ByteBuffer::hasRemaining)
+                .<ByteBuffer>handle((buffer, sink) -> {
+                    if (size.addAndGet(buffer.remaining()) > VideoUploadUseCaseImpl.MAX_FILE_SIZE) {
+                        sink.error(new IllegalArgumentException("File size exceeds maximum allowed size of 500MB"));
+                    } else {
+                        sink.next(buffer);
+                    }
+                });
+
+        return chunks.<VideoUploadResponse>switchOnFirst((signal, validated) -> {
+                    if (!signal.hasValue()) {
+                        return signal.isOnComplete()
+                                ? Mono.<VideoUploadResponse>error(new IllegalArgumentException("File cannot be empty"))
+                                : validated.then(Mono.<VideoUploadResponse>empty());
+                    }
+                    String detectedMimeType = detect(signal.get());
+                    try {
+                        VideoUploadUseCaseImpl.validateMimeType(detectedMimeType);
+                    } catch (IllegalArgumentException e) {
+                        return validated.then(Mono.<VideoUploadResponse>error(e));
+                    }
+                    log.info("Video file validation passed for file: {} with type: {}", file.filename(), detectedMimeType);
+                    return store(file, validated, size, userId, detectedMimeType);
+                })
+                .next()
+                .onErrorResume(e -> {
+                    log.error("Error uploading video: {}", e.getMessage(), e);
+                    return Mono.just(VideoUploadResponse.builder()
+                            .message("Error uploading video: " + e.getMessage())
+                            .build());
+                });
+    }
+
+    private Mono<VideoUploadResponse> store(FilePartEvent file, Flux<ByteBuffer> chunks, AtomicLong size, String userId,
+                                            String detectedMimeType) {
+        MediaType contentType = file.headers().getContentType();
+        Video pending = Video.builder()
+                .userId(userId)
+                .originalFileName(file.filename())
+                .storedFileName(file.name())
+                .contentType(contentType == null ? detectedMimeType : contentType.toString())
+                // Size is only known once the stream is drained; V12 allows 0 while the row is PENDING.
+                .fileSize(0L)
+                .status(VideoStatus.PENDING)
+                .build();
+
+        AtomicReference<Long> pendingId = new AtomicReference<>();
+        return blockingCallOffloader.call(userId, () -> videoRepository.save(pending))
+                .doOnNext(video -> pendingId.set(video.getId()))
+                .flatMap(video -> azureBlobAsyncStorageService
+                        .uploadVideo(chunks, video.getId(), video.getOriginalFileName(), video.getContentType())
+                        .flatMap(result -> blockingCallOffloader.call(userId, () -> complete(video, result, size.get())))
+                        .onErrorResume(e -> blockingCallOffloader.call(userId,
+                                        () -> videoRepository.deletePendingUpload(video.getId()))
+                                .then(Mono.<VideoUploadResponse>error(e))))
+                // A client that disconnects cancels the chain instead of erroring it; drop the pending row then too.
+                // The delete only matches PENDING rows, so a cancel racing the completion is harmless.
+                .doOnCancel(() -> discardPending(userId, pendingId.get()));
+    }
+
+    private void discardPending(String userId, Long videoId) {
+        if (videoId == null) {
+            return;
+        }
+        blockingCallOffloader.call(userId, () -> videoRepository.deletePendingUpload(videoId))
+                .subscribe(deleted -> log.info("Discarded cancelled upload for video ID: {}", videoId),
+                        e -> log.warn("Could not discard cancelled upload for video ID: {}, the sweeper will: {}",
+                                videoId, e.getMessage()));
+    }
+
+    private VideoUploadResponse complete(Video video, AzureBlobUploadResult uploadResult, long fileSize) {
+        int completed = videoRepository.completePendingUpload(video.getId(), uploadResult.getFileName(),
+                uploadResult.getBlobUrl(), uploadResult.getContainerName(), fileSize);
+        if (completed == 0) {
+            throw new IllegalStateException("Upload for video ID " + video.getId() + " expired before it completed");
+        }
+        video.setStoredFileName(uploadResult.getFileName());
+        video.setAzureBlobUrl(uploadResult.getBlobUrl());
+        video.setContainerName(uploadResult.getContainerName());
+        video.setFileSize(fileSize);
+        video.setStatus(VideoStatus.UPLOADED);
+        videoSummaryUseCase.recordUpload(video.getUserId(), fileSize);
+        readYourWritesGuard.markWrite(video.getUserId());
+
+        videoEventProducer.publishVideoUploadEvent(VideoUploadUseCaseImpl.createVideoUploadEvent(video, connectionString));
+        return VideoUploadUseCaseImpl.buildSuccessResponse(video);
+    }
+
+    private String detect(ByteBuffer firstChunk) {
+        byte[] head = new byte[firstChunk.remaining()];
+        firstChunk.duplicate().get(head);
+        return tika.detect(head);
+    }
+
+    private static ByteBuffer toByteBuffer(DataBuffer dataBuffer) {
+        try {
+            byte[] bytes = new byte[dataBuffer.readableByteCount()];
+            dataBuffer.read(bytes);
+            return ByteBuffer.wrap(bytes);
+        } finally {
+            DataBufferUtils.release(dataBuffer);
+        }
+    }
+}
@@ -8,6 +8,7 @@ import br.com.fiap.videosapi.video.infrastructure.repository.VideoRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -18,6 +19,7 @@ public class VideoDownloadUseCaseImpl implements VideoDownloadUseCase {
     private final AzureBlobStorageService azureBlobStorageService;
 
     @Override
+    @Transactional(readOnly = true)
     public VideoDownloadData prepareDownload(Long videoId, String userId) {
         Video video = videoRepository.findById(videoId)
                 .orElseThrow(() -> new IllegalArgumentException("Video not found with id: " + videoId));
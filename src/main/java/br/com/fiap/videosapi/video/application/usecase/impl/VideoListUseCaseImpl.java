@@ -1,17 +1,32 @@
 package br.com.fiap.videosapi.video.application.usecase.impl;
 
 import br.com.fiap.videosapi.video.application.usecase.VideoListUseCase;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoBatchGetResponse;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoChangesResponse;
 import br.com.fiap.videosapi.video.common.domain.dto.response.VideoListResponse;
 import br.com.fiap.videosapi.video.domain.entity.Video;
 import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
 import br.com.fiap.videosapi.video.infrastructure.repository.VideoRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import br.com.fiap.videosapi.core.context.UserContext;
 
 @Service
@@ -20,9 +35,16 @@ import br.com.fiap.videosapi.core.context.UserContext;
 public class VideoListUseCaseImpl implements VideoListUseCase {
 
     private final VideoRepository videoRepository;
+    private final EntityManager entityManager;
+
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_GET_SIZE = 100;
+    private static final int MAX_CHANGES_PAGE_SIZE = 500;
+    private static final LocalDateTime CHANGES_START = LocalDateTime.of(1970, 1, 1, 0, 0);
 
     @Override
     @Cacheable(value = "videos", key = "'all:' + T(br.com.fiap.videosapi.core.context.UserContext).getUserId()")
+    @Transactional(readOnly = true)
     public List<VideoListResponse> listAllVideos() {
         String userId = UserContext.getUserId();
         log.info("Fetching all videos from database for userId={}", userId);
@@ -34,6 +56,7 @@ public class VideoListUseCaseImpl implements VideoListUseCase {
 
     @Override
     @Cacheable(value = "videos", key = "'status_' + #status.name() + ':' + T(br.com.fiap.videosapi.core.context.UserContext).getUserId()")
+    @Transactional(readOnly = true)
     public List<VideoListResponse> listVideosByStatus(VideoStatus status) {
         String userId = UserContext.getUserId();
         log.info("Fetching videos with status: {} for userId={}", status, userId);
@@ -45,6 +68,7 @@ public class VideoListUseCaseImpl implements VideoListUseCase {
 
     @Override
     @Cacheable(value = "video", key = "#id + ':' + T(br.com.fiap.videosapi.core.context.UserContext).getUserId()")
+    @Transactional(readOnly = true)
     public VideoListResponse getVideoById(Long id) {
         String userId = UserContext.getUserId();
         log.info("Fetching video with ID: {} for userId={}", id, userId);
@@ -53,6 +77,112 @@ public class VideoListUseCaseImpl implements VideoListUseCase {
         return mapToVideoListResponse(video);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public VideoBatchGetResponse getVideosByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one video ID must be provided");
+        }
+        Set<Long> requestedIds = new LinkedHashSet<>(ids);
+        requestedIds.remove(null);
+        if (requestedIds.isEmpty() || requestedIds.size() > MAX_BATCH_GET_SIZE) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_BATCH_GET_SIZE + " distinct video IDs must be provided");
+        }
+
+        String userId = UserContext.getUserId();
+        log.info("Fetching {} videos by ID for userId={}", requestedIds.size(), userId);
+        Map<Long, VideoListResponse> found = new HashMap<>();
+        for (Video video : videoRepository.findAllByIdInAndUserId(List.copyOf(requestedIds), userId)) {
+            found.put(video.getId(), mapToVideoListResponse(video));
+        }
+
+        List<VideoListResponse> videos = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requestedIds) {
+            VideoListResponse response = found.get(id);
+            if (response != null) {
+                videos.add(response);
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        return VideoBatchGetResponse.builder()
+                .videos(videos)
+                .missingIds(missingIds)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<VideoListResponse> searchVideos(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be blank");
+        }
+        if (page < 0 || size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page must be >= 0 and size between 1 and " + MAX_SEARCH_PAGE_SIZE);
+        }
+
+        String userId = UserContext.getUserId();
+        String term = query.trim();
+        String escaped = escapeLikePattern(term);
+        log.info("Searching videos by file name '{}' for userId={} (page={}, size={})", term, userId, page, size);
+
+        List<Video> videos = videoRepository.searchByOriginalFileName(
+                userId, term, "%" + escaped + "%", escaped + "%", size, (long) page * size);
+        return videos.stream()
+                .map(this::mapToVideoListResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public VideoChangesResponse getChanges(String since, int limit) {
+        if (limit < 1 || limit > MAX_CHANGES_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_CHANGES_PAGE_SIZE);
+        }
+        LocalDateTime sinceUpdatedAt = CHANGES_START;
+        long sinceId = 0L;
+        if (since != null && !since.isBlank()) {
+            String[] cursor = decodeChangesCursor(since);
+            try {
+                sinceUpdatedAt = LocalDateTime.parse(cursor[0]);
+                sinceId = Long.parseLong(cursor[1]);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid changes cursor");
+            }
+        }
+
+        String userId = UserContext.getUserId();
+        LocalDateTime highWaterMark = videoRepository.findChangeFeedHighWaterMark();
+        List<Video> changed = videoRepository.findChangedSince(userId, sinceUpdatedAt, sinceId, highWaterMark, limit + 1);
+        boolean hasMore = changed.size() > limit;
+        List<Video> page = hasMore ? changed.subList(0, limit) : changed;
+        log.info("Fetched {} videos changed since {}/{} for userId={} (hasMore={})",
+                page.size(), sinceUpdatedAt, sinceId, userId, hasMore);
+
+        Video last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return VideoChangesResponse.builder()
+                .videos(page.stream().map(this::mapToVideoListResponse).collect(Collectors.toList()))
+                .nextCursor(last != null
+                        ? encodeChangesCursor(last.getUpdatedAt(), last.getId())
+                        : encodeChangesCursor(sinceUpdatedAt, sinceId))
+                .hasMore(hasMore)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllVideos(String userId, Consumer<VideoListResponse> consumer) {
+        log.info("Streaming all videos from database for userId={}", userId);
+        try (Stream<Video> videos = videoRepository.streamAllByUserId(userId)) {
+            videos.forEach(video -> {
+                consumer.accept(mapToVideoListResponse(video));
+                entityManager.detach(video);
+            });
+        }
+    }
+
     private VideoListResponse mapToVideoListResponse(Video video) {
         String downloadUrl = null;
         
@@ -68,6 +198,30 @@ public class VideoListUseCaseImpl implements VideoListUseCase {
                 .downloadUrl(downloadUrl)
                 .uploadedAt(video.getUploadedAt())
                 .processedAt(video.getProcessedAt())
+                .updatedAt(video.getUpdatedAt())
                 .build();
     }
+
+    static String encodeChangesCursor(LocalDateTime updatedAt, long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((updatedAt + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeChangesCursor(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length == 2) {
+                return parts;
+            }
+        } catch (IllegalArgumentException e) {
+            log.debug("Could not decode changes cursor {}", cursor);
+        }
+        throw new IllegalArgumentException("Invalid changes cursor");
+    }
+
+    private static String escapeLikePattern(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
 }
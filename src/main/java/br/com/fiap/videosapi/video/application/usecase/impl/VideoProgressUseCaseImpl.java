@@ -0,0 +1,53 @@
+package br.com.fiap.videosapi.video.application.usecase.impl;
+
+import br.com.fiap.videosapi.core.context.UserContext;
+import br.com.fiap.videosapi.core.exception.VideoNotFoundException;
+import br.com.fiap.videosapi.video.application.usecase.VideoProgressUseCase;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoProgressResponse;
+import br.com.fiap.videosapi.video.domain.entity.Video;
+import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
+import br.com.fiap.videosapi.video.infrastructure.progress.VideoProgress;
+import br.com.fiap.videosapi.video.infrastructure.progress.VideoProgressTracker;
+import br.com.fiap.videosapi.video.infrastructure.repository.VideoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VideoProgressUseCaseImpl implements VideoProgressUseCase {
+
+    private final VideoProgressTracker videoProgressTracker;
+    private final VideoRepository videoRepository;
+
+    @Override
+    public VideoProgressResponse getProgress(Long videoId) {
+        String userId = UserContext.getUserId();
+        Optional<VideoProgress> tracked = videoProgressTracker.get(videoId)
+                .filter(progress -> progress.getUserId() != null && progress.getUserId().equals(userId));
+        if (tracked.isPresent()) {
+            VideoProgress progress = tracked.get();
+            return VideoProgressResponse.builder()
+                    .videoId(videoId)
+                    .status(VideoStatus.PROCESSING)
+                    .progressPercent(progress.getPercent())
+                    .stage(progress.getStage())
+                    .updatedAt(progress.getReportedAt())
+                    .build();
+        }
+
+        log.debug("Progress for video ID: {} not in memory, reading from database", videoId);
+        Video video = videoRepository.findByIdAndUserId(videoId, userId)
+                .orElseThrow(() -> new VideoNotFoundException(videoId));
+        return VideoProgressResponse.builder()
+                .videoId(videoId)
+                .status(video.getStatus())
+                .progressPercent(video.getStatus() == VideoStatus.PROCESSED ? Integer.valueOf(100) : video.getProgressPercent())
+                .stage(video.getProgressStage())
+                .updatedAt(video.getProgressUpdatedAt())
+                .build();
+    }
+}
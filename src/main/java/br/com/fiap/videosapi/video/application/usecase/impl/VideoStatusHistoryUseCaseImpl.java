@@ -0,0 +1,34 @@
+package br.com.fiap.videosapi.video.application.usecase.impl;
+
+import br.com.fiap.videosapi.core.context.UserContext;
+import br.com.fiap.videosapi.video.application.usecase.VideoStatusHistoryUseCase;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoTimeInStateResponse;
+import br.com.fiap.videosapi.video.infrastructure.repository.VideoStatusHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VideoStatusHistoryUseCaseImpl implements VideoStatusHistoryUseCase {
+
+    static final int MAX_DAYS = 90;
+
+    private final VideoStatusHistoryRepository videoStatusHistoryRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<VideoTimeInStateResponse> getTimeInState(int days) {
+        if (days < 1 || days > MAX_DAYS) {
+            throw new IllegalArgumentException("Days must be between 1 and " + MAX_DAYS);
+        }
+        String userId = UserContext.getUserId();
+        log.debug("Aggregating time in state over the last {} days for userId={}", days, userId);
+        return videoStatusHistoryRepository.findTimeInState(userId, LocalDateTime.now().minusDays(days));
+    }
+}
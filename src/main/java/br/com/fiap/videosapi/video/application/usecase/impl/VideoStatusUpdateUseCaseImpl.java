@@ -1,16 +1,29 @@
 package br.com.fiap.videosapi.video.application.usecase.impl;
 
+import br.com.fiap.videosapi.core.datasource.ReadYourWritesGuard;
+import br.com.fiap.videosapi.core.exception.VideoNotFoundException;
 import br.com.fiap.videosapi.video.application.usecase.VideoStatusUpdateUseCase;
+import br.com.fiap.videosapi.video.application.usecase.VideoSummaryUseCase;
 import br.com.fiap.videosapi.video.common.domain.dto.event.VideoStatusUpdateEvent;
 import br.com.fiap.videosapi.video.domain.entity.Video;
 import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
+import br.com.fiap.videosapi.video.domain.event.VideoStatusChangedEvent;
+import br.com.fiap.videosapi.video.infrastructure.metrics.VideoStatusUpdateMetrics;
+import br.com.fiap.videosapi.video.infrastructure.progress.VideoProgress;
+import br.com.fiap.videosapi.video.infrastructure.progress.VideoProgressTracker;
 import br.com.fiap.videosapi.video.infrastructure.repository.VideoRepository;
+import br.com.fiap.videosapi.video.infrastructure.repository.VideoStatusTransitionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -19,59 +32,176 @@ import java.util.Optional;
 public class VideoStatusUpdateUseCaseImpl implements VideoStatusUpdateUseCase {
 
     private final VideoRepository videoRepository;
+    private final VideoSummaryUseCase videoSummaryUseCase;
+    private final ReadYourWritesGuard readYourWritesGuard;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final VideoStatusTransitionRepository videoStatusTransitionRepository;
+    private final VideoStatusUpdateMetrics videoStatusUpdateMetrics;
+    private final VideoProgressTracker videoProgressTracker;
 
     @Override
     @Transactional
     public void updateVideoStatus(Long videoId, String status) {
         log.info("Updating video status for ID: {} to status: {}", videoId, status);
-        
-        Video video = videoRepository.findById(videoId)
-                .orElseThrow(() -> new RuntimeException("Video not found with ID: " + videoId));
-
-        VideoStatus previousStatus = video.getStatus();
-
-        if (status.equals("ERROR")) {
-            video.setStatus(VideoStatus.FAILED);
-        } else if (status.equals("SUCCESS")) {
-            video.setStatus(VideoStatus.PROCESSED);
-        }
-
-        if (video.getStatus().equals(VideoStatus.PROCESSED)) {
-            video.setProcessedAt(LocalDateTime.now());
-        }
-
-        videoRepository.save(video);
-        
-        log.info("Video status updated successfully for ID: {} from {} to {}",
-                videoId, previousStatus, video.getStatus());
+        applyStatusUpdate(videoId, null, status, null);
     }
 
     @Override
     @Transactional
     public void processStatusUpdateEvent(VideoStatusUpdateEvent event) {
         log.info("Processing status update event for video ID: {}", event.getVideoId());
-        
-        try {
-            Optional<Video> videoOpt = videoRepository.findById(event.getVideoId());
-            if (videoOpt.isEmpty()) {
-                throw new RuntimeException("Video not found with ID: " + event.getVideoId());
-            }
 
-            Video video = videoOpt.get();
-            if (!event.getUserId().equals(video.getUserId())) {
-                throw new IllegalArgumentException("User mismatch for video ID: " + event.getVideoId());
+        try {
+            if (event.isProgressReport()) {
+                applyProgressUpdate(event);
+                return;
             }
-
-            updateVideoStatus(
-                    event.getVideoId(),
-                    event.getStatus()
-            );
-            
+            applyStatusUpdate(event.getVideoId(), event.getUserId(), event.getStatus(), event.getOccurredAt());
             log.info("Status update event processed successfully for video ID: {}", event.getVideoId());
         } catch (Exception e) {
-            log.error("Error processing status update event for video ID: {}", 
+            log.error("Error processing status update event for video ID: {}",
                     event.getVideoId(), e);
             throw e;
         }
     }
+
+    @Override
+    @Transactional
+    public int processStatusUpdateEvents(List<VideoStatusUpdateEvent> events) {
+        Map<Long, VideoStatusUpdateEvent> latestByVideo = new LinkedHashMap<>();
+        for (VideoStatusUpdateEvent event : events) {
+            if (event.isProgressReport()) {
+                // a bad progress report must not roll back the bulk; callers apply them through processStatusUpdateEvent
+                log.warn("Ignoring progress event for video ID: {} in a status batch", event.getVideoId());
+                continue;
+            }
+            latestByVideo.merge(event.getVideoId(), event, (current, candidate) -> isOlder(candidate, current) ? current : candidate);
+        }
+
+        List<Long> videoIds = new ArrayList<>(latestByVideo.size());
+        List<String> userIds = new ArrayList<>(latestByVideo.size());
+        List<VideoStatus> statuses = new ArrayList<>(latestByVideo.size());
+        List<LocalDateTime> occurredAts = new ArrayList<>(latestByVideo.size());
+        for (VideoStatusUpdateEvent event : latestByVideo.values()) {
+            VideoStatus status = resolveStatus(event.getStatus());
+            if (status == null) {
+                log.warn("Ignoring unsupported status {} for video ID: {}", event.getStatus(), event.getVideoId());
+                continue;
+            }
+            videoIds.add(event.getVideoId());
+            userIds.add(event.getUserId());
+            statuses.add(status);
+            occurredAts.add(event.getOccurredAt());
+        }
+        if (videoIds.isEmpty()) {
+            return 0;
+        }
+
+        List<VideoStatusChangedEvent> changes = videoStatusTransitionRepository.applyStatusUpdates(videoIds, userIds, statuses, occurredAts);
+        videoStatusUpdateMetrics.record(VideoStatusUpdateMetrics.Outcome.APPLIED, changes.size());
+        videoStatusUpdateMetrics.record(VideoStatusUpdateMetrics.Outcome.REJECTED, videoIds.size() - changes.size());
+        videoSummaryUseCase.recordStatusChanges(changes);
+        changes.stream()
+                .map(VideoStatusChangedEvent::getUserId)
+                .distinct()
+                .forEach(readYourWritesGuard::markWrite);
+        changes.forEach(applicationEventPublisher::publishEvent);
+
+        log.info("Applied {} status changes from {} events ({} distinct videos)",
+                changes.size(), events.size(), latestByVideo.size());
+        return changes.size();
+    }
+
+    private void applyProgressUpdate(VideoStatusUpdateEvent event) {
+        Long videoId = event.getVideoId();
+        Integer percent = event.getProgressPercent();
+        if (percent != null && (percent < 0 || percent > 100)) {
+            videoStatusUpdateMetrics.record(VideoStatusUpdateMetrics.Outcome.INVALID);
+            throw new IllegalArgumentException("Progress out of range for video ID: " + videoId + ": " + percent);
+        }
+
+        String userId = event.getUserId();
+        Optional<VideoProgress> tracked = videoProgressTracker.get(videoId);
+        if (tracked.isPresent()) {
+            if (userId != null && !userId.equals(tracked.get().getUserId())) {
+                videoStatusUpdateMetrics.record(VideoStatusUpdateMetrics.Outcome.USER_MISMATCH);
+                throw new IllegalArgumentException("User mismatch for video ID: " + videoId);
+            }
+            userId = tracked.get().getUserId();
+        } else if (applyStatusUpdate(videoId, userId, event.getStatus(), event.getOccurredAt()) != VideoStatus.PROCESSING) {
+            log.info("Ignoring progress for video ID: {} which is no longer processing", videoId);
+            return;
+        }
+
+        videoProgressTracker.record(VideoProgress.builder()
+                .videoId(videoId)
+                .userId(userId)
+                .percent(percent)
+                .stage(event.getStage())
+                .reportedAt(event.getOccurredAt() != null ? event.getOccurredAt() : LocalDateTime.now())
+                .build());
+        videoStatusUpdateMetrics.record(VideoStatusUpdateMetrics.Outcome.PROGRESS);
+    }
+
+    private VideoStatus applyStatusUpdate(Long videoId, String userId, String status, LocalDateTime occurredAt) {
+        VideoStatus targetStatus = resolveStatus(status);
+        if (targetStatus == null) {
+            log.warn("Ignoring unsupported status {} for video ID: {}", status, videoId);
+            return null;
+        }
+
+        Optional<VideoStatusChangedEvent> applied = videoStatusTransitionRepository.applyStatusUpdate(videoId, userId, targetStatus, occurredAt);
+        if (applied.isEmpty()) {
+            return classifyRejectedTransition(videoId, userId, targetStatus);
+        }
+
+        VideoStatusChangedEvent change = applied.get();
+        videoStatusUpdateMetrics.record(VideoStatusUpdateMetrics.Outcome.APPLIED);
+        videoSummaryUseCase.recordStatusChange(change.getUserId(), change.getPreviousStatus(), change.getStatus());
+        readYourWritesGuard.markWrite(change.getUserId());
+        applicationEventPublisher.publishEvent(change);
+
+        log.info("Video status updated successfully for ID: {} from {} to {}",
+                videoId, change.getPreviousStatus(), change.getStatus());
+        return change.getStatus();
+    }
+
+    private VideoStatus classifyRejectedTransition(Long videoId, String userId, VideoStatus targetStatus) {
+        Optional<Video> video = videoRepository.findById(videoId);
+        if (video.isEmpty()) {
+            videoStatusUpdateMetrics.record(VideoStatusUpdateMetrics.Outcome.NOT_FOUND);
+            throw new VideoNotFoundException(videoId);
+        }
+        if (userId != null && !userId.equals(video.get().getUserId())) {
+            videoStatusUpdateMetrics.record(VideoStatusUpdateMetrics.Outcome.USER_MISMATCH);
+            throw new IllegalArgumentException("User mismatch for video ID: " + videoId);
+        }
+        if (video.get().getStatus() == targetStatus) {
+            videoStatusUpdateMetrics.record(VideoStatusUpdateMetrics.Outcome.DUPLICATE);
+            log.info("Ignoring duplicate status {} for video ID: {}", targetStatus, videoId);
+        } else {
+            videoStatusUpdateMetrics.record(VideoStatusUpdateMetrics.Outcome.STALE);
+            log.info("Ignoring stale status transition for video ID: {} from {} to {}",
+                    videoId, video.get().getStatus(), targetStatus);
+        }
+        return video.get().getStatus();
+    }
+
+    private static boolean isOlder(VideoStatusUpdateEvent candidate, VideoStatusUpdateEvent current) {
+        return candidate.getOccurredAt() != null && current.getOccurredAt() != null
+                && candidate.getOccurredAt().isBefore(current.getOccurredAt());
+    }
+
+    private static VideoStatus resolveStatus(String status) {
+        if ("ERROR".equals(status)) {
+            return VideoStatus.FAILED;
+        }
+        if ("SUCCESS".equals(status)) {
+            return VideoStatus.PROCESSED;
+        }
+        if ("PROCESSING".equals(status)) {
+            return VideoStatus.PROCESSING;
+        }
+        return null;
+    }
 }
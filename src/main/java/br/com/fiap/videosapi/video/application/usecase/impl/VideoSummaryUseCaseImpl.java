@@ -0,0 +1,108 @@
+package br.com.fiap.videosapi.video.application.usecase.impl;
+
+import br.com.fiap.videosapi.core.context.UserContext;
+import br.com.fiap.videosapi.video.application.usecase.VideoSummaryUseCase;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoSummaryResponse;
+import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
+import br.com.fiap.videosapi.video.domain.entity.VideoUserSummary;
+import br.com.fiap.videosapi.video.domain.event.VideoStatusChangedEvent;
+import br.com.fiap.videosapi.video.infrastructure.repository.VideoUserSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VideoSummaryUseCaseImpl implements VideoSummaryUseCase {
+
+    private final VideoUserSummaryRepository videoUserSummaryRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public VideoSummaryResponse getSummary() {
+        String userId = UserContext.getUserId();
+        log.info("Fetching video summary for userId={}", userId);
+        VideoUserSummary summary = videoUserSummaryRepository.findById(userId)
+                .orElseGet(() -> VideoUserSummary.builder().userId(userId).build());
+
+        Map<VideoStatus, Long> countsByStatus = new EnumMap<>(VideoStatus.class);
+        long totalVideos = 0;
+        for (VideoStatus status : VideoStatus.values()) {
+            if (status == VideoStatus.PENDING) {
+                continue;
+            }
+            long count = summary.countOf(status);
+            countsByStatus.put(status, count);
+            totalVideos += count;
+        }
+
+        return VideoSummaryResponse.builder()
+                .countsByStatus(countsByStatus)
+                .totalVideos(totalVideos)
+                .totalBytes(summary.getTotalBytes())
+                .updatedAt(summary.getUpdatedAt())
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public void recordUpload(String userId, long fileSize) {
+        videoUserSummaryRepository.applyDelta(userId, 1, 0, 0, 0, fileSize);
+    }
+
+    @Override
+    @Transactional
+    public void recordStatusChange(String userId, VideoStatus previousStatus, VideoStatus newStatus) {
+        if (previousStatus == newStatus) {
+            return;
+        }
+        Map<VideoStatus, Long> delta = new EnumMap<>(VideoStatus.class);
+        mergeStatusChange(delta, previousStatus, newStatus);
+        applyStatusDelta(userId, delta);
+    }
+
+    @Override
+    @Transactional
+    public void recordStatusChanges(List<VideoStatusChangedEvent> changes) {
+        Map<String, Map<VideoStatus, Long>> deltasByUser = new HashMap<>();
+        for (VideoStatusChangedEvent change : changes) {
+            if (change.getPreviousStatus() == change.getStatus()) {
+                continue;
+            }
+            mergeStatusChange(deltasByUser.computeIfAbsent(change.getUserId(), userId -> new EnumMap<>(VideoStatus.class)),
+                    change.getPreviousStatus(), change.getStatus());
+        }
+        deltasByUser.forEach(this::applyStatusDelta);
+    }
+
+    @Override
+    @Transactional
+    public int reconcile() {
+        int corrected = videoUserSummaryRepository.reconcileAll();
+        log.info("Video summary reconciliation finished, {} user summaries corrected", corrected);
+        return corrected;
+    }
+
+    private static void mergeStatusChange(Map<VideoStatus, Long> delta, VideoStatus previousStatus, VideoStatus newStatus) {
+        if (previousStatus != null) {
+            delta.merge(previousStatus, -1L, Long::sum);
+        }
+        delta.merge(newStatus, 1L, Long::sum);
+    }
+
+    private void applyStatusDelta(String userId, Map<VideoStatus, Long> delta) {
+        videoUserSummaryRepository.applyDelta(userId,
+                delta.getOrDefault(VideoStatus.UPLOADED, 0L),
+                delta.getOrDefault(VideoStatus.PROCESSING, 0L),
+                delta.getOrDefault(VideoStatus.PROCESSED, 0L),
+                delta.getOrDefault(VideoStatus.FAILED, 0L),
+                0);
+    }
+}
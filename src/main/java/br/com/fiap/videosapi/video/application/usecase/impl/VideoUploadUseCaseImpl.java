@@ -1,6 +1,8 @@
 package br.com.fiap.videosapi.video.application.usecase.impl;
 
 import br.com.fiap.videosapi.core.context.UserContext;
+import br.com.fiap.videosapi.core.datasource.ReadYourWritesGuard;
+import br.com.fiap.videosapi.video.application.usecase.VideoSummaryUseCase;
 import br.com.fiap.videosapi.video.application.usecase.VideoUploadUseCase;
 import br.com.fiap.videosapi.video.common.domain.dto.event.VideoUploadEvent;
 import br.com.fiap.videosapi.video.common.domain.dto.response.VideoUploadResponse;
@@ -15,7 +17,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.tika.Tika;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -30,19 +31,20 @@ public class VideoUploadUseCaseImpl implements VideoUploadUseCase {
     private final AzureBlobStorageService azureBlobStorageService;
     private final VideoEventProducer videoEventProducer;
     private final VideoRepository videoRepository;
+    private final VideoSummaryUseCase videoSummaryUseCase;
+    private final ReadYourWritesGuard readYourWritesGuard;
     private final Tika tika = new Tika();
 
     @Value("${azure.storage.connection-string}")
     String connectionString;
 
-    private static final List<String> ALLOWED_VIDEO_TYPES = Arrays.asList(
+    static final List<String> ALLOWED_VIDEO_TYPES = Arrays.asList(
             "video/mp4", "video/avi", "video/mov", "video/wmv", "video/flv", "video/webm", "video/mkv", "video/quicktime"
     );
 
-    private static final long MAX_FILE_SIZE = 500 * 1024 * 1024;
+    static final long MAX_FILE_SIZE = 500 * 1024 * 1024;
 
     @Override
-    @Transactional
     public List<VideoUploadResponse> uploadVideos(List<MultipartFile> files) {
         if (files == null || files.isEmpty()) {
             throw new IllegalArgumentException("No files provided for upload");
@@ -53,7 +55,6 @@ public class VideoUploadUseCaseImpl implements VideoUploadUseCase {
                 .toList();
     }
 
-    @Transactional
     public VideoUploadResponse uploadVideo(MultipartFile file) {
         try {
             validateVideoFile(file);
@@ -68,6 +69,8 @@ public class VideoUploadUseCaseImpl implements VideoUploadUseCase {
                     .status(VideoStatus.UPLOADED)
                     .build();
             video = videoRepository.save(video);
+            videoSummaryUseCase.recordUpload(video.getUserId(), video.getFileSize());
+            readYourWritesGuard.markWrite(video.getUserId());
 
             AzureBlobUploadResult uploadResult = azureBlobStorageService.uploadVideo(file, video.getId());
 
@@ -83,7 +86,7 @@ public class VideoUploadUseCaseImpl implements VideoUploadUseCase {
             video.setAzureBlobUrl(uploadResult.getBlobUrl());
             video = videoRepository.save(video);
 
-            VideoUploadEvent event = createVideoUploadEvent(video, uploadResult);
+            VideoUploadEvent event = createVideoUploadEvent(video, connectionString);
             videoEventProducer.publishVideoUploadEvent(event);
 
             return buildSuccessResponse(video);
@@ -96,7 +99,7 @@ public class VideoUploadUseCaseImpl implements VideoUploadUseCase {
         }
     }
 
-    private VideoUploadEvent createVideoUploadEvent(Video video, AzureBlobUploadResult uploadResult) {
+    static VideoUploadEvent createVideoUploadEvent(Video video, String connectionString) {
         return VideoUploadEvent.builder()
                 .videoId(video.getId())
                 .userId(video.getUserId())
@@ -106,7 +109,7 @@ public class VideoUploadUseCaseImpl implements VideoUploadUseCase {
                 .build();
     }
 
-    private VideoUploadResponse buildSuccessResponse(Video video) {
+    static VideoUploadResponse buildSuccessResponse(Video video) {
         return VideoUploadResponse.builder()
                 .id(video.getId())
                 .originalFileName(video.getOriginalFileName())
@@ -130,11 +133,14 @@ public class VideoUploadUseCaseImpl implements VideoUploadUseCase {
         }
 
         String detectedMimeType = tika.detect(file.getInputStream());
+        validateMimeType(detectedMimeType);
 
+        log.info("Video file validation passed for file: {} with type: {}", file.getOriginalFilename(), detectedMimeType);
+    }
+
+    static void validateMimeType(String detectedMimeType) {
         if (detectedMimeType == null || !ALLOWED_VIDEO_TYPES.contains(detectedMimeType)) {
             throw new IllegalArgumentException("Invalid file type. Only video files are allowed. Detected type: " + detectedMimeType);
         }
-
-        log.info("Video file validation passed for file: {} with type: {}", file.getOriginalFilename(), detectedMimeType);
     }
 }
@@ -0,0 +1,86 @@
+package br.com.fiap.videosapi.video.application.usecase.impl;
+
+import br.com.fiap.videosapi.core.context.UserContext;
+import br.com.fiap.videosapi.video.application.usecase.VideoWebhookUseCase;
+import br.com.fiap.videosapi.video.common.domain.dto.request.VideoWebhookRequest;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoWebhookResponse;
+import br.com.fiap.videosapi.video.domain.entity.VideoWebhook;
+import br.com.fiap.videosapi.video.infrastructure.repository.VideoWebhookRepository;
+import br.com.fiap.videosapi.video.infrastructure.webhook.VideoWebhookUrlPolicy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VideoWebhookUseCaseImpl implements VideoWebhookUseCase {
+
+    static final int MAX_WEBHOOKS_PER_USER = 5;
+    private static final int SECRET_BYTES = 32;
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    private final VideoWebhookRepository videoWebhookRepository;
+    private final VideoWebhookUrlPolicy videoWebhookUrlPolicy;
+
+    @Override
+    @Transactional
+    public VideoWebhookResponse register(VideoWebhookRequest request) {
+        String url = request != null ? request.getUrl() : null;
+        videoWebhookUrlPolicy.validate(url);
+        String userId = UserContext.getUserId();
+        if (videoWebhookRepository.countByUserIdAndActiveTrue(userId) >= MAX_WEBHOOKS_PER_USER) {
+            throw new IllegalArgumentException("At most " + MAX_WEBHOOKS_PER_USER + " webhooks can be registered per user");
+        }
+
+        byte[] secret = new byte[SECRET_BYTES];
+        SECURE_RANDOM.nextBytes(secret);
+        VideoWebhook webhook = videoWebhookRepository.save(VideoWebhook.builder()
+                .userId(userId)
+                .url(url.trim())
+                .secret(HexFormat.of().formatHex(secret))
+                .active(true)
+                .build());
+        log.info("Registered webhook ID: {} for userId={}", webhook.getId(), userId);
+
+        VideoWebhookResponse response = mapToResponse(webhook);
+        response.setSecret(webhook.getSecret());
+        return response;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<VideoWebhookResponse> listWebhooks() {
+        return videoWebhookRepository.findAllByUserIdAndActiveTrue(UserContext.getUserId()).stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public boolean unregister(Long id) {
+        String userId = UserContext.getUserId();
+        return videoWebhookRepository.findByIdAndUserIdAndActiveTrue(id, userId)
+                .map(webhook -> {
+                    webhook.setActive(false);
+                    videoWebhookRepository.save(webhook);
+                    log.info("Unregistered webhook ID: {} for userId={}", id, userId);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    private VideoWebhookResponse mapToResponse(VideoWebhook webhook) {
+        return VideoWebhookResponse.builder()
+                .id(webhook.getId())
+                .url(webhook.getUrl())
+                .createdAt(webhook.getCreatedAt())
+                .build();
+    }
+}
@@ -1,10 +1,13 @@
 package br.com.fiap.videosapi.video.common.domain.dto.event;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -14,4 +17,15 @@ public class VideoStatusUpdateEvent {
     private Long videoId;
     private String userId;
     private String status;
+    private LocalDateTime occurredAt;
+    private Integer progressPercent;
+    private String stage;
+
+    /**
+     * PROCESSING events report progress rather than a status transition, and are applied one at a time.
+     */
+    @JsonIgnore
+    public boolean isProgressReport() {
+        return "PROCESSING".equals(status);
+    }
 }
@@ -0,0 +1,22 @@
+package br.com.fiap.videosapi.video.common.domain.dto.event;
+
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoStatusChangeResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VideoWebhookPayload {
+
+    private String deliveryId;
+    private Long webhookId;
+    private LocalDateTime sentAt;
+    private List<VideoStatusChangeResponse> events;
+}
@@ -0,0 +1,17 @@
+package br.com.fiap.videosapi.video.common.domain.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VideoBatchGetRequest {
+
+    private List<Long> ids;
+}
@@ -0,0 +1,15 @@
+package br.com.fiap.videosapi.video.common.domain.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VideoWebhookRequest {
+
+    private String url;
+}
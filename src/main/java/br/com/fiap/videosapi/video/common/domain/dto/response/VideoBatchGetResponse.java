@@ -0,0 +1,18 @@
+package br.com.fiap.videosapi.video.common.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VideoBatchGetResponse {
+
+    private List<VideoListResponse> videos;
+    private List<Long> missingIds;
+}
@@ -21,4 +21,5 @@ public class VideoListResponse {
     private String downloadUrl;
     private LocalDateTime uploadedAt;
     private LocalDateTime processedAt;
+    private LocalDateTime updatedAt;
 }
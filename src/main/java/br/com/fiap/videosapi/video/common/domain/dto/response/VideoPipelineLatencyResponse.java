@@ -0,0 +1,18 @@
+package br.com.fiap.videosapi.video.common.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VideoPipelineLatencyResponse {
+
+    private long completed;
+    private Double p50Seconds;
+    private Double p95Seconds;
+    private Double p99Seconds;
+}
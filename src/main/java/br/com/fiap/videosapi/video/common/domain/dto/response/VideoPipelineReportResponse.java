@@ -0,0 +1,27 @@
+package br.com.fiap.videosapi.video.common.domain.dto.response;
+
+import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VideoPipelineReportResponse {
+
+    private Duration latencyWindow;
+    private long completedInWindow;
+    private Map<String, Double> latencySeconds;
+    private Duration stuckAfter;
+    private long stuckTotal;
+    private Map<VideoStatus, Long> stuckByStatus;
+    private Duration timeInStateWindow;
+    private List<VideoTimeInStateResponse> timeInState;
+}
@@ -0,0 +1,22 @@
+package br.com.fiap.videosapi.video.common.domain.dto.response;
+
+import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VideoStatusChangeResponse {
+
+    private Long videoId;
+    private VideoStatus previousStatus;
+    private VideoStatus status;
+    private LocalDateTime processedAt;
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,22 @@
+package br.com.fiap.videosapi.video.common.domain.dto.response;
+
+import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VideoSummaryResponse {
+
+    private Map<VideoStatus, Long> countsByStatus;
+    private Long totalVideos;
+    private Long totalBytes;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,21 @@
+package br.com.fiap.videosapi.video.common.domain.dto.response;
+
+import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VideoTimeInStateResponse {
+
+    private VideoStatus status;
+    private long transitions;
+    private double averageSeconds;
+    private double p50Seconds;
+    private double p95Seconds;
+    private double maxSeconds;
+}
@@ -0,0 +1,22 @@
+package br.com.fiap.videosapi.video.common.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class VideoWebhookResponse {
+
+    private Long id;
+    private String url;
+    private String secret;
+    private LocalDateTime createdAt;
+}
@@ -41,16 +41,33 @@ public class Video {
     @Column(nullable = false)
     private String containerName;
 
+    // Status columns are only changed by VideoStatusTransitionRepository, whose conditional UPDATEs lock the row
+    // (FOR UPDATE) and compare last_status_event_at; JPA saves of the upload path must never write them back.
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private VideoStatus status;
 
     @Column(nullable = false)
     private LocalDateTime uploadedAt;
 
-    @Column
+    @Column(updatable = false)
     private LocalDateTime processedAt;
 
+    @Column(updatable = false)
+    private LocalDateTime lastStatusEventAt;
+
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(insertable = false, updatable = false)
+    private Integer progressPercent;
+
+    @Column(insertable = false, updatable = false)
+    private String progressStage;
+
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime progressUpdatedAt;
+
     @PrePersist
     protected void onCreate() {
         uploadedAt = LocalDateTime.now();
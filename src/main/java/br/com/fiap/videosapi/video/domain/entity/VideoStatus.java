@@ -1,8 +1,42 @@
 package br.com.fiap.videosapi.video.domain.entity;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 public enum VideoStatus {
+    /**
+     * A streamed upload whose bytes are still arriving. Hidden from every read and removed if the upload never
+     * completes. Only the upload itself promotes it to UPLOADED, so status events never see it as a predecessor.
+     */
+    PENDING,
     UPLOADED,
     PROCESSING,
     PROCESSED,
-    FAILED
+    FAILED;
+
+    private static final Map<VideoStatus, Set<VideoStatus>> TRANSITIONS = new EnumMap<>(VideoStatus.class);
+
+    static {
+        TRANSITIONS.put(PENDING, EnumSet.noneOf(VideoStatus.class));
+        TRANSITIONS.put(UPLOADED, EnumSet.of(PROCESSING, PROCESSED, FAILED));
+        TRANSITIONS.put(PROCESSING, EnumSet.of(PROCESSED, FAILED));
+        TRANSITIONS.put(PROCESSED, EnumSet.noneOf(VideoStatus.class));
+        TRANSITIONS.put(FAILED, EnumSet.of(PROCESSED));
+    }
+
+    public boolean canTransitionTo(VideoStatus target) {
+        return TRANSITIONS.get(this).contains(target);
+    }
+
+    public Set<VideoStatus> allowedPredecessors() {
+        Set<VideoStatus> predecessors = EnumSet.noneOf(VideoStatus.class);
+        for (VideoStatus status : values()) {
+            if (status.canTransitionTo(this)) {
+                predecessors.add(status);
+            }
+        }
+        return predecessors;
+    }
 }
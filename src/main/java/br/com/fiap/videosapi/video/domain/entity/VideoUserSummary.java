@@ -0,0 +1,52 @@
+package br.com.fiap.videosapi.video.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "video_user_summary")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VideoUserSummary {
+
+    @Id
+    private String userId;
+
+    @Column(nullable = false)
+    private long uploadedCount;
+
+    @Column(nullable = false)
+    private long processingCount;
+
+    @Column(nullable = false)
+    private long processedCount;
+
+    @Column(nullable = false)
+    private long failedCount;
+
+    @Column(nullable = false)
+    private long totalBytes;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public long countOf(VideoStatus status) {
+        return switch (status) {
+            case PENDING -> 0;
+            case UPLOADED -> uploadedCount;
+            case PROCESSING -> processingCount;
+            case PROCESSED -> processedCount;
+            case FAILED -> failedCount;
+        };
+    }
+}
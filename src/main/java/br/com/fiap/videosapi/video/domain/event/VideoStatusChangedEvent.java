@@ -0,0 +1,27 @@
+package br.com.fiap.videosapi.video.domain.event;
+
+import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VideoStatusChangedEvent {
+
+    private Long videoId;
+    private String userId;
+    private VideoStatus previousStatus;
+    private VideoStatus status;
+    private Long fileSize;
+    private String contentType;
+    private LocalDateTime uploadedAt;
+    private LocalDateTime processedAt;
+    private LocalDateTime previousStatusSince;
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,72 @@
+package br.com.fiap.videosapi.video.infrastructure.azure;
+
+import com.azure.storage.blob.BlobAsyncClient;
+import com.azure.storage.blob.BlobContainerAsyncClient;
+import com.azure.storage.blob.BlobServiceAsyncClient;
+import com.azure.storage.blob.models.ParallelTransferOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Slf4j
+public class AzureBlobAsyncStorageService {
+
+    private final BlobContainerAsyncClient containerClient;
+    private final String containerName;
+    private final ParallelTransferOptions transferOptions;
+
+    public AzureBlobAsyncStorageService(
+            @Value("${azure.storage.container-name}") String containerName,
+            BlobServiceAsyncClient blobServiceAsyncClient,
+            @Value("${video.reactive.upload.block-size:8MB}") DataSize blockSize,
+            @Value("${video.reactive.upload.max-concurrency:2}") int maxConcurrency
+    ) {
+        this.containerName = containerName;
+        this.containerClient = blobServiceAsyncClient.getBlobContainerAsyncClient(containerName);
+        this.transferOptions = new ParallelTransferOptions()
+                .setBlockSizeLong(blockSize.toBytes())
+                .setMaxConcurrency(maxConcurrency);
+    }
+
+    public Mono<AzureBlobUploadResult> uploadVideo(Flux<ByteBuffer> content, Long idVideo, String originalFileName, String contentType) {
+        String fileName = idVideo + "/" + originalFileName;
+        BlobAsyncClient blobClient = containerClient.getBlobAsyncClient(fileName);
+
+        return createContainerIfNotExists()
+                .then(Mono.defer(() -> blobClient.upload(content, transferOptions, true)))
+                .doOnSuccess(item -> log.info("Successfully uploaded file {} to Azure Blob Storage", fileName))
+                .thenReturn(AzureBlobUploadResult.builder()
+                        .fileName(fileName)
+                        .blobUrl(blobClient.getBlobUrl())
+                        .containerName(containerName)
+                        .contentType(contentType)
+                        .success(true)
+                        .build());
+    }
+
+    public Flux<ByteBuffer> download(String blobName) {
+        return containerClient.getBlobAsyncClient(blobName).downloadStream();
+    }
+
+    private Mono<Void> createContainerIfNotExists() {
+        return containerClient.createIfNotExists()
+                .doOnNext(created -> {
+                    if (created) {
+                        log.info("Created container: {}", containerName);
+                    }
+                })
+                .onErrorResume(e -> {
+                    log.error("Error creating container: {}", containerName, e);
+                    return Mono.empty();
+                })
+                .then();
+    }
+}
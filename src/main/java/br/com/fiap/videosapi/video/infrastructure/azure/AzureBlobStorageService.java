@@ -13,6 +13,7 @@ import java.time.OffsetDateTime;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 
 @Service
 @Slf4j
@@ -63,6 +64,11 @@ public class AzureBlobStorageService {
         return containerClient.getBlobClient(blobName).exists();
     }
 
+    public void download(String blobName, OutputStream outputStream) {
+        BlobContainerClient containerClient = blobServiceClient.getBlobContainerClient(containerName);
+        containerClient.getBlobClient(blobName).downloadStream(outputStream);
+    }
+
     public String generatePublicUrl(String blobName) {
         BlobContainerClient containerClient = blobServiceClient.getBlobContainerClient(containerName);
 
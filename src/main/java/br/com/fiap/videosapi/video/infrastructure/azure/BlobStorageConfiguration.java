@@ -1,8 +1,10 @@
 package br.com.fiap.videosapi.video.infrastructure.azure;
 
+import com.azure.storage.blob.BlobServiceAsyncClient;
 import com.azure.storage.blob.BlobServiceClient;
 import com.azure.storage.blob.BlobServiceClientBuilder;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -17,4 +19,14 @@ public class BlobStorageConfiguration {
                 .connectionString(connectionString)
                 .buildClient();
     }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public BlobServiceAsyncClient blobServiceAsyncClient(
+            @Value("${azure.storage.connection-string}") String connectionString
+    ) {
+        return new BlobServiceClientBuilder()
+                .connectionString(connectionString)
+                .buildAsyncClient();
+    }
 }
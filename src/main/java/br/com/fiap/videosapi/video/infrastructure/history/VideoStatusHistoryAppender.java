@@ -0,0 +1,168 @@
+package br.com.fiap.videosapi.video.infrastructure.history;
+
+import br.com.fiap.videosapi.video.domain.event.VideoStatusChangedEvent;
+import br.com.fiap.videosapi.video.infrastructure.repository.VideoStatusHistoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Slf4j
+public class VideoStatusHistoryAppender {
+
+    private final VideoStatusHistoryRepository videoStatusHistoryRepository;
+    private final BlockingQueue<VideoStatusChangedEvent> queue;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration pollInterval;
+    private final Duration retryBackoff;
+    private final Duration shutdownTimeout;
+    private final Counter appended;
+    private final Counter dropped;
+    private final Counter failed;
+    private volatile boolean running;
+    private Thread worker;
+
+    public VideoStatusHistoryAppender(
+            VideoStatusHistoryRepository videoStatusHistoryRepository,
+            MeterRegistry meterRegistry,
+            @Value("${video.status-history.queue-capacity:10000}") int queueCapacity,
+            @Value("${video.status-history.batch-size:500}") int batchSize,
+            @Value("${video.status-history.max-attempts:3}") int maxAttempts,
+            @Value("${video.status-history.poll-interval:PT1S}") Duration pollInterval,
+            @Value("${video.status-history.retry-backoff:PT1S}") Duration retryBackoff,
+            @Value("${video.status-history.shutdown-timeout:PT10S}") Duration shutdownTimeout
+    ) {
+        this.videoStatusHistoryRepository = videoStatusHistoryRepository;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.pollInterval = pollInterval;
+        this.retryBackoff = retryBackoff;
+        this.shutdownTimeout = shutdownTimeout;
+        this.appended = historyCounter(meterRegistry, "appended");
+        this.dropped = historyCounter(meterRegistry, "dropped");
+        this.failed = historyCounter(meterRegistry, "failed");
+        Gauge.builder("video.status.history.queued", queue, BlockingQueue::size)
+                .description("Status transitions waiting to be appended to the history table")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStatusChanged(VideoStatusChangedEvent event) {
+        if (!queue.offer(event)) {
+            dropped.increment();
+            log.warn("Status history queue is full, dropping transition {} -> {} for video ID: {}",
+                    event.getPreviousStatus(), event.getStatus(), event.getVideoId());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = Thread.ofPlatform().name("video-status-history-appender").daemon().start(this::run);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        Thread current;
+        synchronized (this) {
+            running = false;
+            current = worker;
+        }
+        if (current != null) {
+            current.join(shutdownTimeout.toMillis());
+        }
+
+        List<VideoStatusChangedEvent> remaining = new ArrayList<>(batchSize);
+        while (queue.drainTo(remaining, batchSize) > 0) {
+            appendOrDiscard(remaining);
+            remaining.clear();
+        }
+    }
+
+    private void run() {
+        List<VideoStatusChangedEvent> batch = new ArrayList<>(batchSize);
+        int attempts = 0;
+        while (running) {
+            try {
+                if (batch.isEmpty()) {
+                    VideoStatusChangedEvent first = queue.poll(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                }
+                append(batch);
+                batch.clear();
+                attempts = 0;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                if (++attempts >= maxAttempts) {
+                    discard(batch, e);
+                    batch.clear();
+                    attempts = 0;
+                    continue;
+                }
+                log.warn("Could not append {} status transitions to history (attempt {}/{}), retrying in {}: {}",
+                        batch.size(), attempts, maxAttempts, retryBackoff, e.getMessage());
+                try {
+                    Thread.sleep(retryBackoff);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            appendOrDiscard(batch);
+        }
+    }
+
+    private void append(List<VideoStatusChangedEvent> batch) {
+        int rows = videoStatusHistoryRepository.appendAll(batch);
+        appended.increment(rows);
+        log.debug("Appended {} status transitions to history ({} queued)", rows, queue.size());
+    }
+
+    private void appendOrDiscard(List<VideoStatusChangedEvent> batch) {
+        try {
+            append(batch);
+        } catch (RuntimeException e) {
+            discard(batch, e);
+        }
+    }
+
+    private void discard(List<VideoStatusChangedEvent> batch, RuntimeException cause) {
+        failed.increment(batch.size());
+        log.error("Discarding {} status transitions that could not be appended to history", batch.size(), cause);
+    }
+
+    private static Counter historyCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("video.status.history.transitions")
+                .description("Status transitions handled by the history appender by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.fiap.videosapi.video.infrastructure.kafka;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+class KeyOrderedExecutor implements AutoCloseable {
+
+    private final ExecutorService workers;
+    private final Semaphore window;
+    private final Map<Object, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock idleLock = new ReentrantLock();
+    private final Condition idle = idleLock.newCondition();
+
+    KeyOrderedExecutor(String threadNamePrefix, int workerThreads, int maxInFlight) {
+        this.workers = Executors.newFixedThreadPool(workerThreads, Thread.ofPlatform().name(threadNamePrefix, 0).factory());
+        this.window = new Semaphore(maxInFlight);
+    }
+
+    CompletableFuture<Void> submit(Object key, Runnable task) throws InterruptedException {
+        window.acquire();
+        inFlight.incrementAndGet();
+        CompletableFuture<Void> future;
+        try {
+            future = tails.compute(key, (k, tail) -> tail == null
+                    ? CompletableFuture.runAsync(task, workers)
+                    : tail.exceptionally(error -> null).thenRunAsync(task, workers));
+        } catch (RuntimeException e) {
+            release();
+            throw e;
+        }
+        future.whenComplete((result, error) -> {
+            tails.remove(key, future);
+            release();
+        });
+        return future;
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    boolean awaitIdle(Duration timeout) throws InterruptedException {
+        long remaining = timeout.toNanos();
+        idleLock.lock();
+        try {
+            while (inFlight.get() > 0) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = idle.awaitNanos(remaining);
+            }
+            return true;
+        } finally {
+            idleLock.unlock();
+        }
+    }
+
+    private void release() {
+        window.release();
+        if (inFlight.decrementAndGet() == 0) {
+            idleLock.lock();
+            try {
+                idle.signalAll();
+            } finally {
+                idleLock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        close(Duration.ofSeconds(30));
+    }
+
+    void close(Duration timeout) throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            workers.shutdownNow();
+        }
+    }
+}
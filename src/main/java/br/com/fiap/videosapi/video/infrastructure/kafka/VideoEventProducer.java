@@ -1,10 +1,11 @@
 package br.com.fiap.videosapi.video.infrastructure.kafka;
 
 import br.com.fiap.videosapi.video.common.domain.dto.event.VideoUploadEvent;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import br.com.fiap.videosapi.video.infrastructure.kafka.spool.VideoEventSpool;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.errors.SerializationException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
@@ -17,31 +18,34 @@ import java.util.concurrent.CompletableFuture;
 @Slf4j
 public class VideoEventProducer implements VideoEventPublisher {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
-    private final ObjectMapper objectMapper;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final VideoEventSpool videoEventSpool;
 
     @Value("${topics.video-upload}")
     private String videoUploadTopic;
 
     public void publishVideoUploadEvent(VideoUploadEvent event) {
         try {
-            String eventJson = objectMapper.writeValueAsString(event);
             String key = String.valueOf(event.getVideoId());
             
-            CompletableFuture<SendResult<String, String>> future = kafkaTemplate.send(videoUploadTopic, key, eventJson);
+            CompletableFuture<SendResult<String, Object>> future = kafkaTemplate.send(videoUploadTopic, key, event);
             
             future.whenComplete((result, exception) -> {
                 if (exception == null) {
                     log.info("Successfully published video upload event for videoId: {} to topic: {} with offset: {}",
                             event.getVideoId(), videoUploadTopic, result.getRecordMetadata().offset());
                 } else {
-                    log.error("Failed to publish video upload event for videoId: {} to topic: {}",
+                    log.error("Failed to publish video upload event for videoId: {} to topic: {}, spooling for replay",
                             event.getVideoId(), videoUploadTopic, exception);
+                    videoEventSpool.appendAsync(event);
                 }
             });
             
-        } catch (JsonProcessingException e) {
+        } catch (SerializationException e) {
             log.error("Error serializing video upload event for videoId: {}", event.getVideoId(), e);
+        } catch (KafkaException e) {
+            log.error("Failed to send video upload event for videoId: {}, spooling for replay", event.getVideoId(), e);
+            videoEventSpool.append(event);
         }
     }
 }
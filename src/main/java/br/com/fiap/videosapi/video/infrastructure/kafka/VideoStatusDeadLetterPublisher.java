@@ -0,0 +1,64 @@
+package br.com.fiap.videosapi.video.infrastructure.kafka;
+
+import br.com.fiap.videosapi.video.infrastructure.metrics.VideoStatusUpdateMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VideoStatusDeadLetterPublisher {
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final VideoStatusUpdateMetrics videoStatusUpdateMetrics;
+
+    @Value("${topics.video-status-update}-dlt")
+    private String deadLetterTopic;
+
+    public CompletableFuture<SendResult<String, Object>> publish(ConsumerRecord<String, ?> record, Throwable cause) {
+        ProducerRecord<String, Object> deadLetter = new ProducerRecord<>(deadLetterTopic, null, record.key(), valueOf(record, cause));
+        Headers headers = deadLetter.headers();
+        record.headers().forEach(header -> {
+            if (!SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER.equals(header.key())) {
+                headers.add(header);
+            }
+        });
+        headers.add(KafkaHeaders.DLT_ORIGINAL_TOPIC, record.topic().getBytes(StandardCharsets.UTF_8));
+        headers.add(KafkaHeaders.DLT_ORIGINAL_PARTITION, ByteBuffer.allocate(Integer.BYTES).putInt(record.partition()).array());
+        headers.add(KafkaHeaders.DLT_ORIGINAL_OFFSET, ByteBuffer.allocate(Long.BYTES).putLong(record.offset()).array());
+        headers.add(KafkaHeaders.DLT_ORIGINAL_TIMESTAMP, ByteBuffer.allocate(Long.BYTES).putLong(record.timestamp()).array());
+        headers.add(KafkaHeaders.DLT_EXCEPTION_FQCN, cause.getClass().getName().getBytes(StandardCharsets.UTF_8));
+        headers.add(KafkaHeaders.DLT_EXCEPTION_MESSAGE, String.valueOf(cause.getMessage()).getBytes(StandardCharsets.UTF_8));
+
+        log.warn("Sending status update at {}-{}@{} to {}: {}",
+                record.topic(), record.partition(), record.offset(), deadLetterTopic, cause.getMessage());
+        videoStatusUpdateMetrics.record(VideoStatusUpdateMetrics.Outcome.DEAD_LETTERED);
+        return kafkaTemplate.send(deadLetter);
+    }
+
+    private static Object valueOf(ConsumerRecord<String, ?> record, Throwable cause) {
+        if (record.value() != null) {
+            return record.value();
+        }
+        for (Throwable current = cause; current != null; current = current.getCause()) {
+            if (current instanceof DeserializationException deserializationException) {
+                return deserializationException.getData();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,98 @@
+package br.com.fiap.videosapi.video.infrastructure.kafka;
+
+import br.com.fiap.videosapi.core.config.KafkaConsumerConfig;
+import br.com.fiap.videosapi.core.exception.VideoNotFoundException;
+import br.com.fiap.videosapi.video.application.usecase.VideoStatusUpdateUseCase;
+import br.com.fiap.videosapi.video.common.domain.dto.event.VideoStatusUpdateEvent;
+import br.com.fiap.videosapi.video.infrastructure.metrics.VideoStatusUpdateMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+@ConditionalOnProperty(name = "video.kafka.status-consumer.mode", havingValue = "batch")
+@RequiredArgsConstructor
+@Slf4j
+public class VideoStatusUpdateBatchConsumer {
+
+    private static final LogAccessor LOG_ACCESSOR = new LogAccessor(VideoStatusUpdateBatchConsumer.class);
+
+    private final VideoStatusUpdateUseCase videoStatusUpdateUseCase;
+    private final VideoStatusDeadLetterPublisher deadLetterPublisher;
+    private final VideoStatusUpdateMetrics videoStatusUpdateMetrics;
+
+    @KafkaListener(
+            topics = "${topics.video-status-update}",
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = KafkaConsumerConfig.BATCH_LISTENER_CONTAINER_FACTORY,
+            properties = {
+                    "enable.auto.commit:false",
+                    "max.poll.records:${video.kafka.status-consumer.max-poll-records:500}"
+            }
+    )
+    public void consumeVideoStatusUpdates(List<ConsumerRecord<String, VideoStatusUpdateEvent>> records) {
+        log.info("Received batch of {} video status update messages", records.size());
+        long start = System.nanoTime();
+
+        List<VideoStatusUpdateEvent> events = new ArrayList<>(records.size());
+        List<CompletableFuture<?>> deadLetters = new ArrayList<>();
+        for (ConsumerRecord<String, VideoStatusUpdateEvent> record : records) {
+            videoStatusUpdateMetrics.recordEventAge(record.timestamp());
+            DeserializationException deserializationFailure = SerializationUtils.getExceptionFromHeader(
+                    record, SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, LOG_ACCESSOR);
+            if (deserializationFailure != null) {
+                videoStatusUpdateMetrics.record(VideoStatusUpdateMetrics.Outcome.INVALID);
+                deadLetters.add(deadLetterPublisher.publish(record, deserializationFailure));
+                continue;
+            }
+            VideoStatusUpdateEvent event;
+            try {
+                event = readEvent(record);
+            } catch (IllegalArgumentException e) {
+                videoStatusUpdateMetrics.record(VideoStatusUpdateMetrics.Outcome.INVALID);
+                deadLetters.add(deadLetterPublisher.publish(record, e));
+                continue;
+            }
+            if (!event.isProgressReport()) {
+                events.add(event);
+                continue;
+            }
+            // progress reports are validated per record, each in its own transaction, so a rejected one is
+            // dead-lettered without rolling back the status changes of the rest of the batch
+            try {
+                videoStatusUpdateUseCase.processStatusUpdateEvent(event);
+            } catch (IllegalArgumentException | VideoNotFoundException e) {
+                deadLetters.add(deadLetterPublisher.publish(record, e));
+            }
+        }
+        CompletableFuture.allOf(deadLetters.toArray(CompletableFuture[]::new)).join();
+        if (events.isEmpty()) {
+            return;
+        }
+
+        try {
+            int applied = videoStatusUpdateUseCase.processStatusUpdateEvents(events);
+            log.info("Successfully processed batch of {} messages, {} status changes applied", records.size(), applied);
+        } finally {
+            videoStatusUpdateMetrics.recordProcessing("batch", start);
+        }
+    }
+
+    private VideoStatusUpdateEvent readEvent(ConsumerRecord<String, VideoStatusUpdateEvent> record) {
+        VideoStatusUpdateEvent event = record.value();
+        if (event == null || event.getVideoId() == null || event.getUserId() == null || event.getUserId().isBlank()) {
+            throw new IllegalArgumentException("Missing event, videoId or userId in VideoStatusUpdateEvent");
+        }
+        return event;
+    }
+}
@@ -1,44 +1,69 @@
 package br.com.fiap.videosapi.video.infrastructure.kafka;
 
+import br.com.fiap.videosapi.core.exception.VideoNotFoundException;
 import br.com.fiap.videosapi.video.application.usecase.VideoStatusUpdateUseCase;
 import br.com.fiap.videosapi.video.common.domain.dto.event.VideoStatusUpdateEvent;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import br.com.fiap.videosapi.video.infrastructure.metrics.VideoStatusUpdateMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
 @Component
+@ConditionalOnProperty(name = "video.kafka.status-consumer.mode", havingValue = "record", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class VideoStatusUpdateConsumer {
 
     private final VideoStatusUpdateUseCase videoStatusUpdateUseCase;
-    private final ObjectMapper objectMapper;
+    private final VideoStatusUpdateMetrics videoStatusUpdateMetrics;
 
+    @RetryableTopic(
+            attempts = "${video.kafka.status-consumer.retry.attempts:4}",
+            backoff = @Backoff(
+                    delayExpression = "${video.kafka.status-consumer.retry.initial-delay:1000}",
+                    multiplierExpression = "${video.kafka.status-consumer.retry.multiplier:2.0}",
+                    maxDelayExpression = "${video.kafka.status-consumer.retry.max-delay:30000}"
+            ),
+            exclude = {
+                    IllegalArgumentException.class,
+                    VideoNotFoundException.class
+            },
+            traversingCauses = "true",
+            autoCreateTopics = "${video.kafka.status-consumer.retry.auto-create-topics:true}",
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE
+    )
     @KafkaListener(
             topics = "${topics.video-status-update}",
             groupId = "${spring.kafka.consumer.group-id}"
     )
     public void consumeVideoStatusUpdate(
-            @Payload String message,
+            @Payload VideoStatusUpdateEvent event,
             @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
             @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-            @Header(KafkaHeaders.OFFSET) long offset
+            @Header(KafkaHeaders.OFFSET) long offset,
+            @Header(KafkaHeaders.RECEIVED_TIMESTAMP) long timestamp
     ) {
 
         log.info("Received video status update message from topic: {}, partition: {}, offset: {}",
                 topic, partition, offset);
+        long start = System.nanoTime();
+        videoStatusUpdateMetrics.recordEventAge(timestamp);
 
         try {
-            VideoStatusUpdateEvent event = objectMapper.readValue(message, VideoStatusUpdateEvent.class);
             log.info("Processing status update for video ID: {} to status: {} (userId={})",
                     event.getVideoId(), event.getStatus(), event.getUserId());
 
             if (event.getUserId() == null || event.getUserId().isBlank()) {
+                videoStatusUpdateMetrics.record(VideoStatusUpdateMetrics.Outcome.INVALID);
                 throw new IllegalArgumentException("Missing userId in VideoStatusUpdateEvent");
             }
 
@@ -47,8 +72,25 @@ public class VideoStatusUpdateConsumer {
             log.info("Successfully processed status update for video ID: {}", event.getVideoId());
 
         } catch (Exception e) {
-            log.error("Error processing video status update message: {}", message, e);
+            if (!(e instanceof IllegalArgumentException) && !(e instanceof VideoNotFoundException)) {
+                videoStatusUpdateMetrics.record(VideoStatusUpdateMetrics.Outcome.FAILED);
+            }
+            log.error("Error processing video status update event: {}", event, e);
             throw new RuntimeException("Failed to process video status update", e);
+        } finally {
+            videoStatusUpdateMetrics.recordProcessing("record", start);
         }
     }
+
+    @DltHandler
+    public void handleDeadLetter(
+            @Payload VideoStatusUpdateEvent event,
+            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+            @Header(name = KafkaHeaders.DLT_EXCEPTION_FQCN, required = false) String exceptionClass,
+            @Header(name = KafkaHeaders.DLT_EXCEPTION_MESSAGE, required = false) String exceptionMessage
+    ) {
+        videoStatusUpdateMetrics.record(VideoStatusUpdateMetrics.Outcome.DEAD_LETTERED);
+        log.error("Video status update moved to {} after {}: {} - event: {}",
+                topic, exceptionClass, exceptionMessage, event);
+    }
 }
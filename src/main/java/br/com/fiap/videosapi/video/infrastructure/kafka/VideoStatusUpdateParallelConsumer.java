@@ -0,0 +1,180 @@
+package br.com.fiap.videosapi.video.infrastructure.kafka;
+
+import br.com.fiap.videosapi.core.config.KafkaConsumerConfig;
+import br.com.fiap.videosapi.core.exception.VideoNotFoundException;
+import br.com.fiap.videosapi.video.application.usecase.VideoStatusUpdateUseCase;
+import br.com.fiap.videosapi.video.common.domain.dto.event.VideoStatusUpdateEvent;
+import br.com.fiap.videosapi.video.infrastructure.metrics.VideoStatusUpdateMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+
+@Component
+@ConditionalOnProperty(name = "video.kafka.status-consumer.mode", havingValue = "parallel")
+@Slf4j
+public class VideoStatusUpdateParallelConsumer implements ConsumerAwareRebalanceListener {
+
+    private static final Duration MAX_DEAD_LETTER_BACKOFF = Duration.ofSeconds(30);
+
+    private final VideoStatusUpdateUseCase videoStatusUpdateUseCase;
+    private final VideoStatusDeadLetterPublisher deadLetterPublisher;
+    private final VideoStatusUpdateMetrics videoStatusUpdateMetrics;
+    private final KeyOrderedExecutor executor;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration drainTimeout;
+
+    public VideoStatusUpdateParallelConsumer(
+            VideoStatusUpdateUseCase videoStatusUpdateUseCase,
+            VideoStatusDeadLetterPublisher deadLetterPublisher,
+            VideoStatusUpdateMetrics videoStatusUpdateMetrics,
+            @Value("${video.kafka.status-consumer.parallel.worker-threads:16}") int workerThreads,
+            @Value("${video.kafka.status-consumer.parallel.max-in-flight:256}") int maxInFlight,
+            @Value("${video.kafka.status-consumer.parallel.max-attempts:3}") int maxAttempts,
+            @Value("${video.kafka.status-consumer.parallel.retry-backoff:PT1S}") Duration retryBackoff,
+            @Value("${video.kafka.status-consumer.parallel.drain-timeout:PT30S}") Duration drainTimeout
+    ) {
+        this.videoStatusUpdateUseCase = videoStatusUpdateUseCase;
+        this.deadLetterPublisher = deadLetterPublisher;
+        this.videoStatusUpdateMetrics = videoStatusUpdateMetrics;
+        this.executor = new KeyOrderedExecutor("video-status-worker-", workerThreads, maxInFlight);
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.drainTimeout = drainTimeout;
+    }
+
+    @KafkaListener(
+            topics = "${topics.video-status-update}",
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = KafkaConsumerConfig.PARALLEL_LISTENER_CONTAINER_FACTORY,
+            properties = {
+                    "enable.auto.commit:false",
+                    "max.poll.records:${video.kafka.status-consumer.max-poll-records:500}"
+            }
+    )
+    public void consumeVideoStatusUpdate(ConsumerRecord<String, VideoStatusUpdateEvent> record, Acknowledgment acknowledgment)
+            throws InterruptedException {
+        VideoStatusUpdateEvent event;
+        try {
+            event = readEvent(record);
+        } catch (IllegalArgumentException e) {
+            videoStatusUpdateMetrics.record(VideoStatusUpdateMetrics.Outcome.INVALID);
+            deadLetterPublisher.publish(record, e).join();
+            acknowledgment.acknowledge();
+            return;
+        }
+
+        executor.submit(event.getVideoId(), () -> {
+            long start = System.nanoTime();
+            videoStatusUpdateMetrics.recordEventAge(record.timestamp());
+            boolean handled = false;
+            try {
+                handled = process(event, record);
+            } finally {
+                videoStatusUpdateMetrics.recordProcessing("parallel", start);
+                // A record is only left unacknowledged when shutdown interrupts its worker. With async acks it then
+                // holds back the partition's commit, so the next owner of the partition reads it again.
+                if (handled) {
+                    acknowledgment.acknowledge();
+                }
+            }
+        });
+    }
+
+    @Override
+    public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        log.info("Partitions revoked {}, waiting for {} in-flight status updates", partitions, executor.getInFlight());
+        try {
+            if (!executor.awaitIdle(drainTimeout)) {
+                log.warn("Timed out after {} draining in-flight status updates; {} will be redelivered",
+                        drainTimeout, executor.getInFlight());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.close(drainTimeout);
+    }
+
+    /**
+     * @return {@code true} when the record was applied or parked on the DLT and may be acknowledged
+     */
+    private boolean process(VideoStatusUpdateEvent event, ConsumerRecord<String, VideoStatusUpdateEvent> record) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                videoStatusUpdateUseCase.processStatusUpdateEvent(event);
+                return true;
+            } catch (IllegalArgumentException | VideoNotFoundException e) {
+                return publishDeadLetter(record, e);
+            } catch (RuntimeException e) {
+                videoStatusUpdateMetrics.record(VideoStatusUpdateMetrics.Outcome.FAILED);
+                if (attempt >= maxAttempts) {
+                    log.error("Giving up status update for video ID: {} after {} attempts", event.getVideoId(), attempt, e);
+                    return publishDeadLetter(record, e);
+                }
+                log.warn("Attempt {} of status update for video ID: {} failed, retrying: {}",
+                        attempt, event.getVideoId(), e.getMessage());
+                if (!backOff(retryBackoff.multipliedBy(attempt), record)) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    /**
+     * Keeps publishing until the DLT accepts the record. Leaving it unacknowledged would not redeliver it while this
+     * consumer keeps running: with manual async acks nothing re-polls the offset, and the partition's commit would
+     * stay stuck behind it. Only shutdown ends the loop early.
+     */
+    private boolean publishDeadLetter(ConsumerRecord<String, VideoStatusUpdateEvent> record, Exception cause) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                deadLetterPublisher.publish(record, cause).join();
+                return true;
+            } catch (CompletionException | CancellationException e) {
+                log.error("Attempt {} to publish {}-{}@{} to the DLT failed, retrying",
+                        attempt, record.topic(), record.partition(), record.offset(), e);
+            }
+            Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempt - 1, 16));
+            if (!backOff(backoff.compareTo(MAX_DEAD_LETTER_BACKOFF) > 0 ? MAX_DEAD_LETTER_BACKOFF : backoff, record)) {
+                return false;
+            }
+        }
+    }
+
+    private boolean backOff(Duration backoff, ConsumerRecord<String, VideoStatusUpdateEvent> record) {
+        try {
+            Thread.sleep(backoff.toMillis());
+            return true;
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            log.warn("Shutdown interrupted the retry of {}-{}@{}; leaving it unacknowledged for the next partition owner",
+                    record.topic(), record.partition(), record.offset());
+            return false;
+        }
+    }
+
+    private VideoStatusUpdateEvent readEvent(ConsumerRecord<String, VideoStatusUpdateEvent> record) {
+        VideoStatusUpdateEvent event = record.value();
+        if (event == null || event.getVideoId() == null || event.getUserId() == null || event.getUserId().isBlank()) {
+            throw new IllegalArgumentException("Missing event, videoId or userId in VideoStatusUpdateEvent");
+        }
+        return event;
+    }
+}
@@ -0,0 +1,100 @@
+package br.com.fiap.videosapi.video.infrastructure.kafka;
+
+import br.com.fiap.videosapi.core.config.KafkaConsumerConfig;
+import br.com.fiap.videosapi.core.exception.VideoNotFoundException;
+import br.com.fiap.videosapi.video.application.usecase.VideoStatusUpdateUseCase;
+import br.com.fiap.videosapi.video.common.domain.dto.event.VideoStatusUpdateEvent;
+import br.com.fiap.videosapi.video.infrastructure.metrics.VideoStatusUpdateMetrics;
+import br.com.fiap.videosapi.video.infrastructure.repository.KafkaConsumerOffsetRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+@Component
+@ConditionalOnProperty(name = "video.kafka.status-consumer.mode", havingValue = "transactional")
+@Slf4j
+public class VideoStatusUpdateTransactionalConsumer implements ConsumerSeekAware {
+
+    private final VideoStatusUpdateUseCase videoStatusUpdateUseCase;
+    private final KafkaConsumerOffsetRepository offsetRepository;
+    private final VideoStatusDeadLetterPublisher deadLetterPublisher;
+    private final VideoStatusUpdateMetrics videoStatusUpdateMetrics;
+    private final TransactionTemplate transactionTemplate;
+    private final String groupId;
+
+    public VideoStatusUpdateTransactionalConsumer(
+            VideoStatusUpdateUseCase videoStatusUpdateUseCase,
+            KafkaConsumerOffsetRepository offsetRepository,
+            VideoStatusDeadLetterPublisher deadLetterPublisher,
+            VideoStatusUpdateMetrics videoStatusUpdateMetrics,
+            PlatformTransactionManager transactionManager,
+            @Value("${spring.kafka.consumer.group-id}") String groupId
+    ) {
+        this.videoStatusUpdateUseCase = videoStatusUpdateUseCase;
+        this.offsetRepository = offsetRepository;
+        this.deadLetterPublisher = deadLetterPublisher;
+        this.videoStatusUpdateMetrics = videoStatusUpdateMetrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.groupId = groupId;
+    }
+
+    @KafkaListener(
+            topics = "${topics.video-status-update}",
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = KafkaConsumerConfig.TRANSACTIONAL_LISTENER_CONTAINER_FACTORY,
+            properties = "enable.auto.commit:false"
+    )
+    public void consumeVideoStatusUpdate(ConsumerRecord<String, VideoStatusUpdateEvent> record) {
+        long start = System.nanoTime();
+        videoStatusUpdateMetrics.recordEventAge(record.timestamp());
+
+        try {
+            VideoStatusUpdateEvent event = readEvent(record);
+            transactionTemplate.executeWithoutResult(status -> {
+                videoStatusUpdateUseCase.processStatusUpdateEvent(event);
+                offsetRepository.store(groupId, record.topic(), record.partition(), record.offset() + 1);
+            });
+            log.debug("Processed status update for video ID: {} and stored offset {}-{}@{}",
+                    event.getVideoId(), record.topic(), record.partition(), record.offset() + 1);
+        } catch (IllegalArgumentException | VideoNotFoundException e) {
+            recover(record, e);
+        } catch (RuntimeException e) {
+            videoStatusUpdateMetrics.record(VideoStatusUpdateMetrics.Outcome.FAILED);
+            throw e;
+        } finally {
+            videoStatusUpdateMetrics.recordProcessing("transactional", start);
+        }
+    }
+
+    public void recover(ConsumerRecord<String, ?> record, Exception exception) {
+        log.error("Dead-lettering status update at {}-{}@{}: {}",
+                record.topic(), record.partition(), record.offset(), exception.getMessage());
+        deadLetterPublisher.publish(record, exception).join();
+        offsetRepository.store(groupId, record.topic(), record.partition(), record.offset() + 1);
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        Map<TopicPartition, Long> stored = offsetRepository.findOffsets(groupId, assignments.keySet());
+        stored.forEach((partition, offset) -> callback.seek(partition.topic(), partition.partition(), offset));
+        log.info("Assigned {} partitions, seeking {} from stored offsets: {}", assignments.size(), stored.size(), stored);
+    }
+
+    private VideoStatusUpdateEvent readEvent(ConsumerRecord<String, VideoStatusUpdateEvent> record) {
+        VideoStatusUpdateEvent event = record.value();
+        if (event == null || event.getVideoId() == null || event.getUserId() == null || event.getUserId().isBlank()) {
+            videoStatusUpdateMetrics.record(VideoStatusUpdateMetrics.Outcome.INVALID);
+            throw new IllegalArgumentException("Missing event, videoId or userId in VideoStatusUpdateEvent");
+        }
+        return event;
+    }
+}
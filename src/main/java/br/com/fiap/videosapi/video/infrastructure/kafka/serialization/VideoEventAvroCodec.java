@@ -0,0 +1,160 @@
+package br.com.fiap.videosapi.video.infrastructure.kafka.serialization;
+
+import br.com.fiap.videosapi.video.common.domain.dto.event.VideoStatusUpdateEvent;
+import br.com.fiap.videosapi.video.common.domain.dto.event.VideoUploadEvent;
+import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
+import lombok.RequiredArgsConstructor;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@RequiredArgsConstructor
+public class VideoEventAvroCodec {
+
+    static final byte MAGIC_BYTE = 0x0;
+    static final int HEADER_LENGTH = 1 + Integer.BYTES;
+
+    private static final String VIDEO_UPLOAD_EVENT = "br.com.fiap.videosapi.video.event.VideoUploadEvent";
+    private static final String VIDEO_STATUS_UPDATE_EVENT = "br.com.fiap.videosapi.video.event.VideoStatusUpdateEvent";
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final VideoEventSchemaRegistry schemaRegistry;
+    private final Map<Integer, GenericDatumWriter<GenericRecord>> writers = new ConcurrentHashMap<>();
+    private final Map<Integer, GenericDatumReader<GenericRecord>> readers = new ConcurrentHashMap<>();
+
+    public static boolean isFramed(byte[] data) {
+        return data != null && data.length >= HEADER_LENGTH && data[0] == MAGIC_BYTE;
+    }
+
+    public byte[] encode(VideoUploadEvent event) {
+        int schemaId = schemaRegistry.getLatestId(VIDEO_UPLOAD_EVENT);
+        Schema schema = schemaRegistry.getById(schemaId);
+        GenericRecord record = new GenericData.Record(schema);
+        record.put("videoId", event.getVideoId());
+        record.put("userId", event.getUserId());
+        record.put("fileName", event.getFileName());
+        record.put("storedFileName", event.getStoredFileName());
+        record.put("contentType", event.getContentType());
+        record.put("fileSize", event.getFileSize());
+        record.put("azureBlobUrl", event.getAzureBlobUrl());
+        record.put("containerName", event.getContainerName());
+        record.put("status", event.getStatus() == null ? null
+                : new GenericData.EnumSymbol(nonNull(schema.getField("status").schema()), event.getStatus().name()));
+        record.put("uploadedAt", toMicros(event.getUploadedAt()));
+        record.put("eventType", event.getEventType());
+        return write(schemaId, record);
+    }
+
+    public VideoUploadEvent decodeVideoUploadEvent(byte[] data) {
+        GenericRecord record = read(data, VIDEO_UPLOAD_EVENT);
+        Object status = record.get("status");
+        return VideoUploadEvent.builder()
+                .videoId((Long) record.get("videoId"))
+                .userId(asString(record.get("userId")))
+                .fileName(asString(record.get("fileName")))
+                .storedFileName(asString(record.get("storedFileName")))
+                .contentType(asString(record.get("contentType")))
+                .fileSize((Long) record.get("fileSize"))
+                .azureBlobUrl(asString(record.get("azureBlobUrl")))
+                .containerName(asString(record.get("containerName")))
+                .status(status == null ? null : VideoStatus.valueOf(status.toString()))
+                .uploadedAt(fromMicros(record.get("uploadedAt")))
+                .eventType(asString(record.get("eventType")))
+                .build();
+    }
+
+    public byte[] encode(VideoStatusUpdateEvent event) {
+        int schemaId = schemaRegistry.getLatestId(VIDEO_STATUS_UPDATE_EVENT);
+        GenericRecord record = new GenericData.Record(schemaRegistry.getById(schemaId));
+        record.put("videoId", event.getVideoId());
+        record.put("userId", event.getUserId());
+        record.put("status", event.getStatus());
+        record.put("occurredAt", toMicros(event.getOccurredAt()));
+        record.put("progressPercent", event.getProgressPercent());
+        record.put("stage", event.getStage());
+        return write(schemaId, record);
+    }
+
+    public VideoStatusUpdateEvent decodeVideoStatusUpdateEvent(byte[] data) {
+        GenericRecord record = read(data, VIDEO_STATUS_UPDATE_EVENT);
+        return VideoStatusUpdateEvent.builder()
+                .videoId((Long) record.get("videoId"))
+                .userId(asString(record.get("userId")))
+                .status(asString(record.get("status")))
+                .occurredAt(fromMicros(record.get("occurredAt")))
+                .progressPercent((Integer) record.get("progressPercent"))
+                .stage(asString(record.get("stage")))
+                .build();
+    }
+
+    private byte[] write(int schemaId, GenericRecord record) {
+        GenericDatumWriter<GenericRecord> writer = writers.computeIfAbsent(schemaId,
+                id -> new GenericDatumWriter<>(schemaRegistry.getById(id)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream(128);
+        out.write(MAGIC_BYTE);
+        out.writeBytes(ByteBuffer.allocate(Integer.BYTES).putInt(schemaId).array());
+        try {
+            BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(out, null);
+            writer.write(record, encoder);
+            encoder.flush();
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Error encoding " + record.getSchema().getName() + " with schema id " + schemaId, e);
+        }
+        return out.toByteArray();
+    }
+
+    private GenericRecord read(byte[] data, String expectedName) {
+        if (!isFramed(data)) {
+            throw new SerializationException("Payload is not a framed Avro event");
+        }
+        int schemaId = ByteBuffer.wrap(data, 1, Integer.BYTES).getInt();
+        Schema writerSchema = schemaRegistry.getById(schemaId);
+        if (!writerSchema.getFullName().equals(expectedName)) {
+            throw new SerializationException("Schema id " + schemaId + " is " + writerSchema.getFullName()
+                    + ", expected " + expectedName);
+        }
+        GenericDatumReader<GenericRecord> reader = readers.computeIfAbsent(schemaId, id -> new GenericDatumReader<>(
+                writerSchema, schemaRegistry.getById(schemaRegistry.getLatestId(expectedName))));
+        try {
+            return reader.read(null, DecoderFactory.get().binaryDecoder(data, HEADER_LENGTH, data.length - HEADER_LENGTH, null));
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Error decoding " + expectedName + " with schema id " + schemaId, e);
+        }
+    }
+
+    private static Schema nonNull(Schema schema) {
+        if (schema.getType() != Schema.Type.UNION) {
+            return schema;
+        }
+        return schema.getTypes().stream()
+                .filter(type -> type.getType() != Schema.Type.NULL)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static String asString(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    private static Long toMicros(LocalDateTime value) {
+        return value == null ? null : ChronoUnit.MICROS.between(EPOCH, value);
+    }
+
+    private static LocalDateTime fromMicros(Object value) {
+        return value == null ? null : EPOCH.plus((Long) value, ChronoUnit.MICROS);
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.fiap.videosapi.video.infrastructure.kafka.serialization;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Optional;
+
+public enum VideoEventFormat {
+
+    AVRO("application/avro"),
+    JSON("application/json");
+
+    public static final String CONTENT_TYPE_HEADER = "content-type";
+
+    private final String contentType;
+
+    VideoEventFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void writeTo(Headers headers) {
+        if (headers == null) {
+            return;
+        }
+        headers.remove(CONTENT_TYPE_HEADER);
+        headers.add(CONTENT_TYPE_HEADER, contentType.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Optional<VideoEventFormat> fromHeaders(Headers headers) {
+        Header header = headers == null ? null : headers.lastHeader(CONTENT_TYPE_HEADER);
+        if (header == null || header.value() == null) {
+            return Optional.empty();
+        }
+        String value = new String(header.value(), StandardCharsets.UTF_8).toLowerCase(Locale.ROOT);
+        for (VideoEventFormat format : values()) {
+            if (value.startsWith(format.contentType)) {
+                return Optional.of(format);
+            }
+        }
+        throw new SerializationException("Unsupported event content type: " + value);
+    }
+
+    public static VideoEventFormat fromProperty(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
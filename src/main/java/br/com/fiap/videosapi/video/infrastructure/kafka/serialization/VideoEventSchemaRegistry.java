@@ -0,0 +1,63 @@
+package br.com.fiap.videosapi.video.infrastructure.kafka.serialization;
+
+import org.apache.avro.Schema;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class VideoEventSchemaRegistry {
+
+    public static final int VIDEO_UPLOAD_EVENT_V1 = 1;
+    public static final int VIDEO_STATUS_UPDATE_EVENT_V1 = 2;
+    public static final int VIDEO_STATUS_UPDATE_EVENT_V2 = 3;
+
+    private final Map<Integer, Schema> schemasById = new ConcurrentHashMap<>();
+    private final Map<String, Integer> latestIdByName = new ConcurrentHashMap<>();
+
+    public static VideoEventSchemaRegistry withDefaultSchemas() {
+        VideoEventSchemaRegistry registry = new VideoEventSchemaRegistry();
+        registry.register(VIDEO_UPLOAD_EVENT_V1, "avro/video-upload-event-v1.avsc");
+        registry.register(VIDEO_STATUS_UPDATE_EVENT_V1, "avro/video-status-update-event-v1.avsc");
+        registry.register(VIDEO_STATUS_UPDATE_EVENT_V2, "avro/video-status-update-event-v2.avsc");
+        return registry;
+    }
+
+    public void register(int id, String resource) {
+        Schema schema = load(resource);
+        if (schemasById.putIfAbsent(id, schema) != null) {
+            throw new IllegalStateException("Schema id already registered: " + id);
+        }
+        latestIdByName.merge(schema.getFullName(), id, Math::max);
+    }
+
+    public Schema getById(int id) {
+        Schema schema = schemasById.get(id);
+        if (schema == null) {
+            throw new SerializationException("Unknown event schema id: " + id);
+        }
+        return schema;
+    }
+
+    public int getLatestId(String fullName) {
+        Integer id = latestIdByName.get(fullName);
+        if (id == null) {
+            throw new SerializationException("No schema registered for " + fullName);
+        }
+        return id;
+    }
+
+    private static Schema load(String resource) {
+        try (InputStream input = VideoEventSchemaRegistry.class.getClassLoader().getResourceAsStream(resource)) {
+            if (input == null) {
+                throw new IllegalStateException("Schema resource not found: " + resource);
+            }
+            return new Schema.Parser().parse(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading schema " + resource, e);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package br.com.fiap.videosapi.video.infrastructure.kafka.serialization;
+
+import br.com.fiap.videosapi.video.common.domain.dto.event.VideoStatusUpdateEvent;
+import br.com.fiap.videosapi.video.common.domain.dto.event.VideoUploadEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.nio.charset.StandardCharsets;
+
+public class VideoEventSerializer implements Serializer<Object> {
+
+    private final VideoEventAvroCodec codec;
+    private final ObjectMapper objectMapper;
+    private final VideoEventFormat format;
+    private final ObjectWriter uploadEventWriter;
+    private final ObjectWriter statusUpdateEventWriter;
+
+    public VideoEventSerializer(VideoEventAvroCodec codec, ObjectMapper objectMapper, VideoEventFormat format) {
+        this.codec = codec;
+        this.objectMapper = objectMapper;
+        this.format = format;
+        this.uploadEventWriter = objectMapper.writerFor(VideoUploadEvent.class);
+        this.statusUpdateEventWriter = objectMapper.writerFor(VideoStatusUpdateEvent.class);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        return serialize(topic, null, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (data == null) {
+            return null;
+        }
+        if (data instanceof byte[] bytes) {
+            return bytes;
+        }
+        if (data instanceof String json) {
+            VideoEventFormat.JSON.writeTo(headers);
+            return json.getBytes(StandardCharsets.UTF_8);
+        }
+        if (format == VideoEventFormat.AVRO) {
+            if (data instanceof VideoUploadEvent event) {
+                VideoEventFormat.AVRO.writeTo(headers);
+                return codec.encode(event);
+            }
+            if (data instanceof VideoStatusUpdateEvent event) {
+                VideoEventFormat.AVRO.writeTo(headers);
+                return codec.encode(event);
+            }
+        }
+        try {
+            byte[] json = writerFor(data).writeValueAsBytes(data);
+            VideoEventFormat.JSON.writeTo(headers);
+            return json;
+        } catch (JsonProcessingException e) {
+            throw new SerializationException("Error serializing " + data.getClass().getSimpleName() + " for topic " + topic, e);
+        }
+    }
+
+    private ObjectWriter writerFor(Object data) {
+        if (data instanceof VideoUploadEvent) {
+            return uploadEventWriter;
+        }
+        if (data instanceof VideoStatusUpdateEvent) {
+            return statusUpdateEventWriter;
+        }
+        return objectMapper.writer();
+    }
+}
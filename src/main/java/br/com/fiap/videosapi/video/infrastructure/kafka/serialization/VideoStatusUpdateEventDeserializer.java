@@ -0,0 +1,43 @@
+package br.com.fiap.videosapi.video.infrastructure.kafka.serialization;
+
+import br.com.fiap.videosapi.video.common.domain.dto.event.VideoStatusUpdateEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+
+public class VideoStatusUpdateEventDeserializer implements Deserializer<VideoStatusUpdateEvent> {
+
+    private final VideoEventAvroCodec codec;
+    private final ObjectReader jsonReader;
+
+    public VideoStatusUpdateEventDeserializer(VideoEventAvroCodec codec, ObjectMapper objectMapper) {
+        this.codec = codec;
+        this.jsonReader = objectMapper.readerFor(VideoStatusUpdateEvent.class);
+    }
+
+    @Override
+    public VideoStatusUpdateEvent deserialize(String topic, byte[] data) {
+        return deserialize(topic, null, data);
+    }
+
+    @Override
+    public VideoStatusUpdateEvent deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        VideoEventFormat format = VideoEventFormat.fromHeaders(headers)
+                .orElseGet(() -> VideoEventAvroCodec.isFramed(data) ? VideoEventFormat.AVRO : VideoEventFormat.JSON);
+        if (format == VideoEventFormat.AVRO) {
+            return codec.decodeVideoStatusUpdateEvent(data);
+        }
+        try {
+            return jsonReader.readValue(data);
+        } catch (IOException e) {
+            throw new SerializationException("Error deserializing JSON status update from topic " + topic, e);
+        }
+    }
+}
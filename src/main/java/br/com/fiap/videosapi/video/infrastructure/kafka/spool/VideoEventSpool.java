@@ -0,0 +1,292 @@
+package br.com.fiap.videosapi.video.infrastructure.kafka.spool;
+
+import br.com.fiap.videosapi.video.common.domain.dto.event.VideoUploadEvent;
+import br.com.fiap.videosapi.video.infrastructure.kafka.serialization.VideoEventAvroCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+@Component
+@Slf4j
+public class VideoEventSpool {
+
+    static final String FILE_NAME = "video-upload-events.spool";
+    static final int HEADER_LENGTH = 2 * Long.BYTES;
+    static final int RECORD_OVERHEAD = 2 * Integer.BYTES;
+
+    private static final int READ_POSITION_OFFSET = 0;
+    private static final int WRITE_POSITION_OFFSET = Long.BYTES;
+
+    private final VideoEventAvroCodec codec;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final Counter spooled;
+    private final Counter dropped;
+    private final Counter corrupted;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition recordsAvailable = lock.newCondition();
+    private final ExecutorService appender = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("video-event-spool-append").daemon().factory());
+    private int readPosition;
+    private int writePosition;
+    private long depth;
+
+    public VideoEventSpool(
+            VideoEventAvroCodec codec,
+            MeterRegistry meterRegistry,
+            @Value("${video.kafka.spool.directory:${java.io.tmpdir}/videos-api/spool}") Path directory,
+            @Value("${video.kafka.spool.capacity:64MB}") DataSize capacity
+    ) {
+        this.codec = codec;
+        this.capacity = Math.toIntExact(capacity.toBytes());
+        try {
+            Files.createDirectories(directory);
+            this.channel = FileChannel.open(directory.resolve(FILE_NAME),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, this.capacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open event spool in " + directory, e);
+        }
+        recover();
+
+        this.spooled = spoolCounter(meterRegistry, "spooled");
+        this.dropped = spoolCounter(meterRegistry, "dropped");
+        this.corrupted = spoolCounter(meterRegistry, "corrupted");
+        Gauge.builder("video.kafka.spool.depth", this, VideoEventSpool::depth)
+                .description("Upload events waiting in the local spool to be replayed to Kafka")
+                .register(meterRegistry);
+        Gauge.builder("video.kafka.spool.bytes", this, VideoEventSpool::usedBytes)
+                .description("Bytes used by pending records in the local spool")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Appends on the spool's own thread. Used from Kafka send callbacks, which run on the producer I/O thread
+     * and must not wait for the fsync.
+     */
+    public CompletableFuture<Boolean> appendAsync(VideoUploadEvent event) {
+        try {
+            return CompletableFuture.supplyAsync(() -> append(event), appender);
+        } catch (RejectedExecutionException e) {
+            log.error("Event spool is closed, dropping upload event for videoId: {}", event.getVideoId());
+            dropped.increment();
+            return CompletableFuture.completedFuture(false);
+        }
+    }
+
+    public boolean append(VideoUploadEvent event) {
+        byte[] payload;
+        try {
+            payload = codec.encode(event);
+        } catch (SerializationException e) {
+            log.error("Could not spool upload event for videoId: {}", event.getVideoId(), e);
+            dropped.increment();
+            return false;
+        }
+
+        lock.lock();
+        try {
+            int recordLength = RECORD_OVERHEAD + payload.length;
+            if (writePosition + recordLength > capacity) {
+                compact();
+            }
+            if (writePosition + recordLength > capacity) {
+                log.error("Event spool is full ({} records), dropping upload event for videoId: {}", depth, event.getVideoId());
+                dropped.increment();
+                return false;
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            buffer.putInt(writePosition, payload.length);
+            buffer.putInt(writePosition + Integer.BYTES, (int) crc.getValue());
+            buffer.put(writePosition + RECORD_OVERHEAD, payload);
+            buffer.force(writePosition, recordLength);
+            writePosition += recordLength;
+            writeHeader();
+            depth++;
+            spooled.increment();
+            recordsAvailable.signalAll();
+            log.warn("Spooled upload event for videoId: {} ({} pending)", event.getVideoId(), depth);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Optional<VideoUploadEvent> peek() {
+        lock.lock();
+        try {
+            while (readPosition < writePosition) {
+                byte[] payload = new byte[buffer.getInt(readPosition)];
+                buffer.get(readPosition + RECORD_OVERHEAD, payload);
+                try {
+                    return Optional.of(codec.decodeVideoUploadEvent(payload));
+                } catch (SerializationException e) {
+                    log.error("Skipping undecodable record at position {} of the event spool", readPosition, e);
+                    corrupted.increment();
+                    commit();
+                }
+            }
+            return Optional.empty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void commit() {
+        lock.lock();
+        try {
+            if (readPosition >= writePosition) {
+                return;
+            }
+            readPosition += RECORD_OVERHEAD + buffer.getInt(readPosition);
+            depth--;
+            if (readPosition == writePosition) {
+                readPosition = HEADER_LENGTH;
+                writePosition = HEADER_LENGTH;
+            }
+            writeHeader();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void awaitRecords(long timeoutMillis) throws InterruptedException {
+        lock.lock();
+        try {
+            if (depth == 0) {
+                recordsAvailable.await(timeoutMillis, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long depth() {
+        lock.lock();
+        try {
+            return depth;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long usedBytes() {
+        lock.lock();
+        try {
+            return writePosition - readPosition;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        appender.shutdown();
+        try {
+            if (!appender.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("Timed out waiting for pending appends to the event spool");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        lock.lock();
+        try {
+            buffer.force();
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Error closing event spool: {}", e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void recover() {
+        long storedRead = buffer.getLong(READ_POSITION_OFFSET);
+        long storedWrite = buffer.getLong(WRITE_POSITION_OFFSET);
+        if (storedRead < HEADER_LENGTH || storedWrite > capacity || storedRead > storedWrite) {
+            readPosition = HEADER_LENGTH;
+            writePosition = HEADER_LENGTH;
+            writeHeader();
+            return;
+        }
+
+        readPosition = (int) storedRead;
+        int position = readPosition;
+        while (position < storedWrite) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || position + RECORD_OVERHEAD + length > storedWrite || !checksumMatches(position, length)) {
+                log.warn("Truncating event spool at position {} after a torn or corrupt record", position);
+                break;
+            }
+            position += RECORD_OVERHEAD + length;
+            depth++;
+        }
+        writePosition = position;
+        writeHeader();
+        if (depth > 0) {
+            log.info("Recovered {} spooled upload events pending replay", depth);
+        }
+    }
+
+    private boolean checksumMatches(int position, int length) {
+        byte[] payload = new byte[length];
+        buffer.get(position + RECORD_OVERHEAD, payload);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return buffer.getInt(position + Integer.BYTES) == (int) crc.getValue();
+    }
+
+    private void compact() {
+        if (readPosition == HEADER_LENGTH) {
+            return;
+        }
+        int pending = writePosition - readPosition;
+        byte[] records = new byte[pending];
+        buffer.get(readPosition, records);
+        buffer.put(HEADER_LENGTH, records);
+        buffer.force(HEADER_LENGTH, pending);
+        readPosition = HEADER_LENGTH;
+        writePosition = HEADER_LENGTH + pending;
+        writeHeader();
+    }
+
+    private void writeHeader() {
+        buffer.putLong(READ_POSITION_OFFSET, readPosition);
+        buffer.putLong(WRITE_POSITION_OFFSET, writePosition);
+        buffer.force(0, HEADER_LENGTH);
+    }
+
+    private static Counter spoolCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("video.kafka.spool.events")
+                .description("Upload events handled by the local spool by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,158 @@
+package br.com.fiap.videosapi.video.infrastructure.kafka.spool;
+
+import br.com.fiap.videosapi.video.common.domain.dto.event.VideoUploadEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Component
+@Slf4j
+public class VideoEventSpoolReplayer {
+
+    private static final long IDLE_WAIT_MILLIS = 30_000L;
+
+    private final VideoEventSpool videoEventSpool;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final String videoUploadTopic;
+    private final String connectionString;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration sendTimeout;
+    private final Duration drainTimeout;
+    private final Counter replayed;
+    private volatile boolean running;
+    private Thread worker;
+
+    public VideoEventSpoolReplayer(
+            VideoEventSpool videoEventSpool,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${topics.video-upload}") String videoUploadTopic,
+            @Value("${azure.storage.connection-string}") String connectionString,
+            @Value("${video.kafka.spool.replay.initial-backoff:PT1S}") Duration initialBackoff,
+            @Value("${video.kafka.spool.replay.max-backoff:PT1M}") Duration maxBackoff,
+            @Value("${video.kafka.spool.replay.send-timeout:PT10S}") Duration sendTimeout,
+            @Value("${video.kafka.spool.replay.drain-timeout:PT20S}") Duration drainTimeout
+    ) {
+        this.videoEventSpool = videoEventSpool;
+        this.kafkaTemplate = kafkaTemplate;
+        this.videoUploadTopic = videoUploadTopic;
+        this.connectionString = connectionString;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.sendTimeout = sendTimeout;
+        this.drainTimeout = drainTimeout;
+        this.replayed = Counter.builder("video.kafka.spool.events")
+                .description("Upload events handled by the local spool by result")
+                .tag("result", "replayed")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = Thread.ofPlatform().name("video-event-spool-replay").daemon().start(this::run);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        Thread current;
+        synchronized (this) {
+            running = false;
+            current = worker;
+        }
+        if (current != null) {
+            current.interrupt();
+            current.join(sendTimeout.toMillis());
+        }
+        drain();
+    }
+
+    /**
+     * Last replay pass on shutdown, so a healthy broker receives the spooled events before the pod goes away.
+     * Whatever is left stays on the spool volume and is replayed when the pod comes back; for an ordinal removed
+     * by a scale-down that is the next scale-up or {@code scripts/recover-event-spools.sh}.
+     */
+    void drain() throws InterruptedException {
+        long deadline = System.nanoTime() + drainTimeout.toNanos();
+        try {
+            while (videoEventSpool.depth() > 0 && System.nanoTime() - deadline < 0) {
+                if (!replayNext()) {
+                    break;
+                }
+            }
+        } catch (ExecutionException | TimeoutException | KafkaException e) {
+            log.warn("Broker unavailable while draining the event spool on shutdown: {}", e.getMessage());
+        }
+        long pending = videoEventSpool.depth();
+        if (pending > 0) {
+            log.warn("Leaving {} upload events in the spool at shutdown; they are replayed on the next start", pending);
+        }
+    }
+
+    boolean replayNext() throws InterruptedException, ExecutionException, TimeoutException {
+        Optional<VideoUploadEvent> next = videoEventSpool.peek();
+        if (next.isEmpty()) {
+            return false;
+        }
+        VideoUploadEvent event = next.get();
+        if (event.getConnectionString() == null) {
+            event.setConnectionString(connectionString);
+        }
+        try {
+            kafkaTemplate.send(videoUploadTopic, String.valueOf(event.getVideoId()), event)
+                    .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (SerializationException e) {
+            log.error("Discarding spooled upload event for videoId: {} that cannot be serialized", event.getVideoId(), e);
+            videoEventSpool.commit();
+            return true;
+        }
+        videoEventSpool.commit();
+        replayed.increment();
+        log.info("Replayed spooled upload event for videoId: {} ({} pending)", event.getVideoId(), videoEventSpool.depth());
+        return true;
+    }
+
+    private void run() {
+        Duration backoff = initialBackoff;
+        while (running) {
+            try {
+                if (replayNext()) {
+                    backoff = initialBackoff;
+                } else {
+                    videoEventSpool.awaitRecords(IDLE_WAIT_MILLIS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException | TimeoutException | KafkaException e) {
+                log.warn("Broker still unavailable, retrying {} spooled events in {}: {}",
+                        videoEventSpool.depth(), backoff, e.getMessage());
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoff = backoff.multipliedBy(2).compareTo(maxBackoff) > 0 ? maxBackoff : backoff.multipliedBy(2);
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.fiap.videosapi.video.infrastructure.metrics;
+
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoPipelineLatencyResponse;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoPipelineReportResponse;
+import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
+import br.com.fiap.videosapi.video.infrastructure.repository.VideoRepository;
+import br.com.fiap.videosapi.video.infrastructure.repository.VideoStatusHistoryRepository;
+import br.com.fiap.videosapi.video.infrastructure.repository.VideoStatusTransitionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cluster-wide view of the processing pipeline. Every figure is computed from the database, so the report is the
+ * same whichever replica serves it; the per-instance distribution lives in the {@code video.pipeline.latency} histogram.
+ * Latency and stuck counts come from {@code videos} itself; only the time-in-state breakdown reads the best-effort
+ * status history.
+ */
+@Component
+@Endpoint(id = "pipeline")
+public class VideoPipelineEndpoint {
+
+    private static final Set<VideoStatus> NON_TERMINAL = EnumSet.of(VideoStatus.UPLOADED, VideoStatus.PROCESSING);
+
+    private final VideoRepository videoRepository;
+    private final VideoStatusTransitionRepository videoStatusTransitionRepository;
+    private final VideoStatusHistoryRepository videoStatusHistoryRepository;
+    private final Duration latencyWindow;
+    private final Duration stuckAfter;
+    private final Duration timeInStateWindow;
+
+    public VideoPipelineEndpoint(
+            VideoRepository videoRepository,
+            VideoStatusTransitionRepository videoStatusTransitionRepository,
+            VideoStatusHistoryRepository videoStatusHistoryRepository,
+            @Value("${video.pipeline.latency-window:PT15M}") Duration latencyWindow,
+            @Value("${video.pipeline.stuck-after:PT1H}") Duration stuckAfter,
+            @Value("${video.pipeline.time-in-state-window:P1D}") Duration timeInStateWindow
+    ) {
+        this.videoRepository = videoRepository;
+        this.videoStatusTransitionRepository = videoStatusTransitionRepository;
+        this.videoStatusHistoryRepository = videoStatusHistoryRepository;
+        this.latencyWindow = latencyWindow;
+        this.stuckAfter = stuckAfter;
+        this.timeInStateWindow = timeInStateWindow;
+    }
+
+    @ReadOperation
+    @Transactional(readOnly = true)
+    public VideoPipelineReportResponse report() {
+        Map<VideoStatus, Long> stuckByStatus = new EnumMap<>(VideoStatus.class);
+        NON_TERMINAL.forEach(status -> stuckByStatus.put(status, 0L));
+        LocalDateTime now = LocalDateTime.now();
+        for (Object[] row : videoRepository.countByStatusUploadedBefore(NON_TERMINAL, now.minus(stuckAfter))) {
+            stuckByStatus.put((VideoStatus) row[0], (Long) row[1]);
+        }
+
+        VideoPipelineLatencyResponse latency = videoStatusTransitionRepository.findPipelineLatency(now.minus(latencyWindow));
+        Map<String, Double> latencySeconds = new LinkedHashMap<>();
+        if (latency.getCompleted() > 0) {
+            latencySeconds.put("p50", latency.getP50Seconds());
+            latencySeconds.put("p95", latency.getP95Seconds());
+            latencySeconds.put("p99", latency.getP99Seconds());
+        }
+
+        return VideoPipelineReportResponse.builder()
+                .latencyWindow(latencyWindow)
+                .completedInWindow(latency.getCompleted())
+                .latencySeconds(latencySeconds)
+                .stuckAfter(stuckAfter)
+                .stuckTotal(stuckByStatus.values().stream().mapToLong(Long::longValue).sum())
+                .stuckByStatus(stuckByStatus)
+                .timeInStateWindow(timeInStateWindow)
+                .timeInState(videoStatusHistoryRepository.findTimeInState(null, now.minus(timeInStateWindow)))
+                .build();
+    }
+}
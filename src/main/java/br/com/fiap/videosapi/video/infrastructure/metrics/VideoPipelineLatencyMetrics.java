@@ -0,0 +1,85 @@
+package br.com.fiap.videosapi.video.infrastructure.metrics;
+
+import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
+import br.com.fiap.videosapi.video.domain.event.VideoStatusChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Set;
+
+@Component
+public class VideoPipelineLatencyMetrics {
+
+    private static final long MB = 1024L * 1024L;
+
+    // Content types come from the client/Tika, so only known video types become tag values
+    private static final Set<String> CONTENT_TYPE_TAGS = Set.of(
+            "video/mp4", "video/avi", "video/mov", "video/wmv", "video/flv", "video/webm", "video/mkv",
+            "video/quicktime", "video/x-msvideo", "video/x-matroska", "video/x-ms-wmv", "video/x-flv");
+
+    private final MeterRegistry meterRegistry;
+
+    public VideoPipelineLatencyMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStatusChanged(VideoStatusChangedEvent event) {
+        if (!isTerminal(event.getStatus()) || event.getUploadedAt() == null) {
+            return;
+        }
+        LocalDateTime finishedAt = event.getStatus() == VideoStatus.PROCESSED && event.getProcessedAt() != null
+                ? event.getProcessedAt()
+                : event.getChangedAt();
+        if (finishedAt == null) {
+            return;
+        }
+        Duration latency = Duration.between(event.getUploadedAt(), finishedAt);
+        if (latency.isNegative()) {
+            return;
+        }
+
+        Timer.builder("video.pipeline.latency")
+                .description("Time from upload to PROCESSED or FAILED")
+                .tag("outcome", event.getStatus().name().toLowerCase(Locale.ROOT))
+                .tag("size", sizeBucket(event.getFileSize()))
+                .tag("content_type", contentTypeTag(event.getContentType()))
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofSeconds(1))
+                .maximumExpectedValue(Duration.ofHours(6))
+                .register(meterRegistry)
+                .record(latency);
+    }
+
+    static String contentTypeTag(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return "unknown";
+        }
+        int parameters = contentType.indexOf(';');
+        String mediaType = (parameters >= 0 ? contentType.substring(0, parameters) : contentType).trim().toLowerCase(Locale.ROOT);
+        return CONTENT_TYPE_TAGS.contains(mediaType) ? mediaType : "other";
+    }
+
+    static String sizeBucket(Long fileSize) {
+        if (fileSize == null || fileSize <= 0) {
+            return "unknown";
+        }
+        if (fileSize < 50 * MB) {
+            return "lt_50mb";
+        }
+        if (fileSize < 200 * MB) {
+            return "50_200mb";
+        }
+        return "gte_200mb";
+    }
+
+    private static boolean isTerminal(VideoStatus status) {
+        return status == VideoStatus.PROCESSED || status == VideoStatus.FAILED;
+    }
+}
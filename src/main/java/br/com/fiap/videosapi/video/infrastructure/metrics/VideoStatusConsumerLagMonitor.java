@@ -0,0 +1,163 @@
+package br.com.fiap.videosapi.video.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(name = "video.kafka.status-consumer.lag.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class VideoStatusConsumerLagMonitor {
+
+    private final MeterRegistry meterRegistry;
+    private final Supplier<Admin> adminFactory;
+    private final String topic;
+    private final String groupId;
+    private final Duration timeout;
+    private final Map<Integer, AtomicLong> partitionLag = new ConcurrentHashMap<>();
+    private final AtomicLong totalLag = new AtomicLong();
+    private final ReentrantLock lock = new ReentrantLock();
+    private Admin admin;
+
+    @Autowired
+    public VideoStatusConsumerLagMonitor(
+            MeterRegistry meterRegistry,
+            KafkaAdmin kafkaAdmin,
+            @Value("${topics.video-status-update}") String topic,
+            @Value("${spring.kafka.consumer.group-id}") String groupId,
+            @Value("${video.kafka.status-consumer.lag.timeout:PT10S}") Duration timeout
+    ) {
+        this(meterRegistry, () -> Admin.create(kafkaAdmin.getConfigurationProperties()), topic, groupId, timeout);
+    }
+
+    VideoStatusConsumerLagMonitor(MeterRegistry meterRegistry, Supplier<Admin> adminFactory,
+                                  String topic, String groupId, Duration timeout) {
+        this.meterRegistry = meterRegistry;
+        this.adminFactory = adminFactory;
+        this.topic = topic;
+        this.groupId = groupId;
+        this.timeout = timeout;
+        Gauge.builder("video.status.consumer.lag.total", totalLag, AtomicLong::get)
+                .description("Records on the status topic not yet committed by the consumer group")
+                .tag("topic", topic)
+                .tag("group", groupId)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${video.kafka.status-consumer.lag.initial-delay:PT30S}",
+            fixedDelayString = "${video.kafka.status-consumer.lag.interval:PT15S}"
+    )
+    public void refresh() {
+        lock.lock();
+        try {
+            Admin client = admin();
+            Map<TopicPartition, OffsetAndMetadata> committed = client.listConsumerGroupOffsets(groupId)
+                    .partitionsToOffsetAndMetadata()
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            TopicDescription description = client.describeTopics(List.of(topic))
+                    .allTopicNames()
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .get(topic);
+            Map<TopicPartition, OffsetSpec> latest = description.partitions().stream()
+                    .map(partition -> new TopicPartition(topic, partition.partition()))
+                    .collect(Collectors.toMap(Function.identity(), partition -> OffsetSpec.latest()));
+            Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> endOffsets = client.listOffsets(latest)
+                    .all()
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            Map<TopicPartition, Long> startOffsets = earliestOffsets(client, endOffsets.keySet().stream()
+                    .filter(partition -> committed.get(partition) == null)
+                    .toList());
+
+            long total = 0;
+            for (Map.Entry<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> entry : endOffsets.entrySet()) {
+                OffsetAndMetadata position = committed.get(entry.getKey());
+                // without a committed offset the group starts from the earliest retained record (auto-offset-reset)
+                long start = position == null ? startOffsets.getOrDefault(entry.getKey(), 0L) : position.offset();
+                long lag = Math.max(0, entry.getValue().offset() - start);
+                gaugeFor(entry.getKey().partition()).set(lag);
+                total += lag;
+            }
+            totalLag.set(total);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException | RuntimeException e) {
+            log.warn("Could not refresh consumer lag for group {} on topic {}: {}", groupId, topic, e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Map<TopicPartition, Long> earliestOffsets(Admin client, List<TopicPartition> partitions)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        if (partitions.isEmpty()) {
+            return Map.of();
+        }
+        Map<TopicPartition, OffsetSpec> earliest = partitions.stream()
+                .collect(Collectors.toMap(Function.identity(), partition -> OffsetSpec.earliest()));
+        return client.listOffsets(earliest)
+                .all()
+                .get(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().offset()));
+    }
+
+    @PreDestroy
+    public void close() {
+        lock.lock();
+        try {
+            if (admin != null) {
+                admin.close(timeout);
+                admin = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Admin admin() {
+        if (admin == null) {
+            admin = adminFactory.get();
+        }
+        return admin;
+    }
+
+    private AtomicLong gaugeFor(int partition) {
+        return partitionLag.computeIfAbsent(partition, key -> {
+            AtomicLong lag = new AtomicLong();
+            Gauge.builder("video.status.consumer.lag", lag, AtomicLong::get)
+                    .description("Records on a status topic partition not yet committed by the consumer group")
+                    .tag("topic", topic)
+                    .tag("group", groupId)
+                    .tag("partition", String.valueOf(key))
+                    .register(meterRegistry);
+            return lag;
+        });
+    }
+}
@@ -0,0 +1,78 @@
+package br.com.fiap.videosapi.video.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class VideoStatusUpdateMetrics {
+
+    public enum Outcome {
+        APPLIED,
+        PROGRESS,
+        DUPLICATE,
+        STALE,
+        REJECTED,
+        NOT_FOUND,
+        USER_MISMATCH,
+        INVALID,
+        FAILED,
+        DEAD_LETTERED
+    }
+
+    private final Map<Outcome, Counter> counters = new EnumMap<>(Outcome.class);
+    private final Map<String, Timer> processingTimers = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final Timer eventAge;
+
+    public VideoStatusUpdateMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.eventAge = Timer.builder("video.status.consumer.event.age")
+                .description("Time between a status update being produced and the consumer picking it up")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(10))
+                .maximumExpectedValue(Duration.ofHours(1))
+                .register(meterRegistry);
+        for (Outcome outcome : Outcome.values()) {
+            counters.put(outcome, Counter.builder("video.status.updates")
+                    .description("Video status update events by processing outcome")
+                    .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+    }
+
+    public void record(Outcome outcome) {
+        record(outcome, 1);
+    }
+
+    public void record(Outcome outcome, int count) {
+        if (count > 0) {
+            counters.get(outcome).increment(count);
+        }
+    }
+
+    public void recordProcessing(String mode, long startNanos) {
+        processingTimers.computeIfAbsent(mode, key -> Timer.builder("video.status.consumer.processing")
+                        .description("Time spent by the status consumer handling a record or batch")
+                        .tag("mode", key)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofMillis(1))
+                        .maximumExpectedValue(Duration.ofSeconds(30))
+                        .register(meterRegistry))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordEventAge(long recordTimestamp) {
+        if (recordTimestamp > 0) {
+            eventAge.record(Math.max(0, System.currentTimeMillis() - recordTimestamp), TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.fiap.videosapi.video.infrastructure.progress;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VideoProgress {
+
+    private Long videoId;
+    private String userId;
+    private Integer percent;
+    private String stage;
+    private LocalDateTime reportedAt;
+}
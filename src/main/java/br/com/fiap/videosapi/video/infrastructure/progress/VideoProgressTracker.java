@@ -0,0 +1,119 @@
+package br.com.fiap.videosapi.video.infrastructure.progress;
+
+import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
+import br.com.fiap.videosapi.video.domain.event.VideoStatusChangedEvent;
+import br.com.fiap.videosapi.video.infrastructure.repository.VideoProgressRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+@Slf4j
+public class VideoProgressTracker {
+
+    private final VideoProgressRepository videoProgressRepository;
+    private final int flushBatchSize;
+    private final Duration retention;
+    private final Map<Long, VideoProgress> latest = new ConcurrentHashMap<>();
+    private final Map<Long, VideoProgress> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public VideoProgressTracker(
+            VideoProgressRepository videoProgressRepository,
+            MeterRegistry meterRegistry,
+            @Value("${video.progress.flush-batch-size:500}") int flushBatchSize,
+            @Value("${video.progress.retention:PT1H}") Duration retention
+    ) {
+        this.videoProgressRepository = videoProgressRepository;
+        this.flushBatchSize = flushBatchSize;
+        this.retention = retention;
+        Gauge.builder("video.progress.tracked", latest, Map::size)
+                .description("Videos whose latest progress is held in memory")
+                .register(meterRegistry);
+        Gauge.builder("video.progress.pending", pending, Map::size)
+                .description("Videos whose latest progress has not been flushed to the database yet")
+                .register(meterRegistry);
+    }
+
+    public Optional<VideoProgress> get(Long videoId) {
+        return Optional.ofNullable(latest.get(videoId));
+    }
+
+    public void record(VideoProgress progress) {
+        latest.merge(progress.getVideoId(), progress, VideoProgressTracker::newest);
+        pending.merge(progress.getVideoId(), progress, VideoProgressTracker::newest);
+    }
+
+    public void evict(Long videoId) {
+        latest.remove(videoId);
+        pending.remove(videoId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStatusChanged(VideoStatusChangedEvent event) {
+        if (event.getStatus() == VideoStatus.PROCESSED || event.getStatus() == VideoStatus.FAILED) {
+            evict(event.getVideoId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${video.progress.flush-interval:PT2S}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<VideoProgress> drained = new ArrayList<>(pending.size());
+            for (Long videoId : pending.keySet()) {
+                VideoProgress progress = pending.remove(videoId);
+                if (progress != null) {
+                    drained.add(progress);
+                }
+            }
+
+            int written = 0;
+            for (int from = 0; from < drained.size(); from += flushBatchSize) {
+                List<VideoProgress> batch = drained.subList(from, Math.min(from + flushBatchSize, drained.size()));
+                try {
+                    written += videoProgressRepository.saveAll(batch);
+                } catch (RuntimeException e) {
+                    log.warn("Could not flush progress for {} videos, retrying on next flush: {}",
+                            drained.size() - from, e.getMessage());
+                    drained.subList(from, drained.size())
+                            .forEach(progress -> pending.merge(progress.getVideoId(), progress, VideoProgressTracker::newest));
+                    break;
+                }
+            }
+            if (!drained.isEmpty()) {
+                log.debug("Flushed progress of {} videos ({} rows updated)", drained.size(), written);
+            }
+
+            LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+            latest.entrySet().removeIf(entry -> !pending.containsKey(entry.getKey())
+                    && entry.getValue().getReportedAt().isBefore(cutoff));
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    private static VideoProgress newest(VideoProgress current, VideoProgress candidate) {
+        return candidate.getReportedAt().isBefore(current.getReportedAt()) ? current : candidate;
+    }
+}
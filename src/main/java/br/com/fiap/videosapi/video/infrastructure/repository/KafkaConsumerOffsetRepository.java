@@ -0,0 +1,59 @@
+package br.com.fiap.videosapi.video.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class KafkaConsumerOffsetRepository {
+
+    private static final String STORE_OFFSET_SQL = """
+            INSERT INTO kafka_consumer_offsets (consumer_group, topic, partition_id, next_offset, updated_at)
+            VALUES (:group, :topic, :partition, :nextOffset, now())
+            ON CONFLICT (consumer_group, topic, partition_id)
+            DO UPDATE SET next_offset = EXCLUDED.next_offset,
+                          updated_at = EXCLUDED.updated_at
+                    WHERE kafka_consumer_offsets.next_offset < EXCLUDED.next_offset
+            """;
+
+    private static final String FIND_OFFSETS_SQL = """
+            SELECT topic, partition_id, next_offset
+              FROM kafka_consumer_offsets
+             WHERE consumer_group = :group
+               AND topic IN (:topics)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void store(String group, String topic, int partition, long nextOffset) {
+        jdbcTemplate.update(STORE_OFFSET_SQL, new MapSqlParameterSource()
+                .addValue("group", group)
+                .addValue("topic", topic)
+                .addValue("partition", partition)
+                .addValue("nextOffset", nextOffset));
+    }
+
+    public Map<TopicPartition, Long> findOffsets(String group, Collection<TopicPartition> partitions) {
+        Map<TopicPartition, Long> offsets = new HashMap<>();
+        if (partitions.isEmpty()) {
+            return offsets;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("group", group)
+                .addValue("topics", partitions.stream().map(TopicPartition::topic).distinct().toList());
+        jdbcTemplate.query(FIND_OFFSETS_SQL, params, rs -> {
+            TopicPartition partition = new TopicPartition(rs.getString("topic"), rs.getInt("partition_id"));
+            if (partitions.contains(partition)) {
+                offsets.put(partition, rs.getLong("next_offset"));
+            }
+        });
+        return offsets;
+    }
+}
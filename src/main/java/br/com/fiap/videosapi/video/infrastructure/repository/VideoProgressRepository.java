@@ -0,0 +1,43 @@
+package br.com.fiap.videosapi.video.infrastructure.repository;
+
+import br.com.fiap.videosapi.video.infrastructure.progress.VideoProgress;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+@Repository
+@RequiredArgsConstructor
+public class VideoProgressRepository {
+
+    private static final String SAVE_PROGRESS_SQL = """
+            UPDATE videos v
+               SET progress_percent = u.percent,
+                   progress_stage = u.stage,
+                   progress_updated_at = u.reported_at
+              FROM unnest(CAST(:videoIds AS bigint[]), CAST(:percents AS smallint[]), CAST(:stages AS varchar[]),
+                          CAST(:reportedAts AS timestamp[]))
+                       AS u(id, percent, stage, reported_at)
+             WHERE v.id = u.id
+               AND v.status IN ('UPLOADED', 'PROCESSING')
+               AND (v.progress_updated_at IS NULL OR v.progress_updated_at <= u.reported_at)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public int saveAll(Collection<VideoProgress> progress) {
+        if (progress.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("videoIds", progress.stream().map(VideoProgress::getVideoId).toArray(Long[]::new))
+                .addValue("percents", progress.stream().map(VideoProgress::getPercent).toArray(Integer[]::new))
+                .addValue("stages", progress.stream().map(VideoProgress::getStage).toArray(String[]::new))
+                .addValue("reportedAts", progress.stream()
+                        .map(item -> item.getReportedAt() != null ? item.getReportedAt().toString() : null)
+                        .toArray(String[]::new));
+        return jdbcTemplate.update(SAVE_PROGRESS_SQL, params);
+    }
+}
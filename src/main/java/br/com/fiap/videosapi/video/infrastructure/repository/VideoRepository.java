@@ -2,17 +2,133 @@ package br.com.fiap.videosapi.video.infrastructure.repository;
 
 import br.com.fiap.videosapi.video.domain.entity.Video;
 import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface VideoRepository extends JpaRepository<Video, Long> {
 
-    List<Video> findByStatus(VideoStatus status);
-    List<Video> findAllByUserId(String userId);
-    List<Video> findByStatusAndUserId(VideoStatus status, String userId);
-    Optional<Video> findByIdAndUserId(Long id, String userId);
+    // User-facing reads skip PENDING rows: a streamed upload only becomes visible once its blob is committed.
+
+    @Query("""
+            select v from Video v where v.userId = :userId
+               and v.status <> br.com.fiap.videosapi.video.domain.entity.VideoStatus.PENDING
+            """)
+    List<Video> findAllByUserId(@Param("userId") String userId);
+
+    @Query("""
+            select v from Video v where v.status = :status and v.userId = :userId
+               and v.status <> br.com.fiap.videosapi.video.domain.entity.VideoStatus.PENDING
+            """)
+    List<Video> findByStatusAndUserId(@Param("status") VideoStatus status, @Param("userId") String userId);
+
+    @Query("""
+            select v from Video v where v.id = :id and v.userId = :userId
+               and v.status <> br.com.fiap.videosapi.video.domain.entity.VideoStatus.PENDING
+            """)
+    Optional<Video> findByIdAndUserId(@Param("id") Long id, @Param("userId") String userId);
+
+    @Query("""
+            select v from Video v where v.id in :ids and v.userId = :userId
+               and v.status <> br.com.fiap.videosapi.video.domain.entity.VideoStatus.PENDING
+            """)
+    List<Video> findAllByIdInAndUserId(@Param("ids") Collection<Long> ids, @Param("userId") String userId);
+
+    @Query("select v.status, count(v) from Video v where v.status in :statuses and v.uploadedAt < :cutoff group by v.status")
+    List<Object[]> countByStatusUploadedBefore(@Param("statuses") Collection<VideoStatus> statuses,
+                                               @Param("cutoff") LocalDateTime cutoff);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select v from Video v where v.userId = :userId
+               and v.status <> br.com.fiap.videosapi.video.domain.entity.VideoStatus.PENDING order by v.id
+            """)
+    Stream<Video> streamAllByUserId(@Param("userId") String userId);
+
+    @Query(value = """
+            SELECT v.* FROM videos v
+            WHERE v.user_id = :userId
+              AND v.status <> 'PENDING'
+              AND (v.updated_at, v.id) > (CAST(:sinceUpdatedAt AS timestamp), :sinceId)
+              AND v.updated_at < CAST(:highWaterMark AS timestamp)
+            ORDER BY v.updated_at, v.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Video> findChangedSince(@Param("userId") String userId,
+                                 @Param("sinceUpdatedAt") LocalDateTime sinceUpdatedAt,
+                                 @Param("sinceId") long sinceId,
+                                 @Param("highWaterMark") LocalDateTime highWaterMark,
+                                 @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT CAST(COALESCE(min(a.xact_start), now()) AS timestamp)
+            FROM pg_stat_activity a
+            WHERE a.datname = current_database()
+              AND a.state <> 'idle'
+              AND a.xact_start IS NOT NULL
+              AND a.pid <> pg_backend_pid()
+            """, nativeQuery = true)
+    LocalDateTime findChangeFeedHighWaterMark();
+
+    @Query(value = """
+            SELECT v.* FROM videos v
+            WHERE v.user_id = :userId
+              AND v.status <> 'PENDING'
+              AND v.original_file_name ILIKE :containsPattern ESCAPE '\\'
+            ORDER BY (v.original_file_name ILIKE :prefixPattern ESCAPE '\\') DESC,
+                     similarity(v.original_file_name, :query) DESC,
+                     v.id DESC
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<Video> searchByOriginalFileName(@Param("userId") String userId,
+                                         @Param("query") String query,
+                                         @Param("containsPattern") String containsPattern,
+                                         @Param("prefixPattern") String prefixPattern,
+                                         @Param("limit") int limit,
+                                         @Param("offset") long offset);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE videos
+               SET status = 'UPLOADED',
+                   stored_file_name = :storedFileName,
+                   azure_blob_url = :azureBlobUrl,
+                   container_name = :containerName,
+                   file_size = :fileSize,
+                   status_changed_at = CURRENT_TIMESTAMP
+             WHERE id = :id
+               AND status = 'PENDING'
+            """, nativeQuery = true)
+    int completePendingUpload(@Param("id") Long id,
+                              @Param("storedFileName") String storedFileName,
+                              @Param("azureBlobUrl") String azureBlobUrl,
+                              @Param("containerName") String containerName,
+                              @Param("fileSize") long fileSize);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM videos WHERE id = :id AND status = 'PENDING'", nativeQuery = true)
+    int deletePendingUpload(@Param("id") Long id);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM videos WHERE status = 'PENDING' AND uploaded_at < CAST(:cutoff AS timestamp)", nativeQuery = true)
+    int deleteStalePendingUploads(@Param("cutoff") LocalDateTime cutoff);
 }
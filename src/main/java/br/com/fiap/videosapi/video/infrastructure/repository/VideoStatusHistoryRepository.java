@@ -0,0 +1,128 @@
+package br.com.fiap.videosapi.video.infrastructure.repository;
+
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoTimeInStateResponse;
+import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
+import br.com.fiap.videosapi.video.domain.event.VideoStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class VideoStatusHistoryRepository {
+
+    private static final String APPEND_SQL = """
+            INSERT INTO video_status_history (video_id, user_id, previous_status, status,
+                                              previous_status_since, changed_at, time_in_previous_ms)
+            SELECT * FROM unnest(CAST(:videoIds AS bigint[]), CAST(:userIds AS varchar[]),
+                                 CAST(:previousStatuses AS varchar[]), CAST(:statuses AS varchar[]),
+                                 CAST(:previousStatusSinces AS timestamp[]), CAST(:changedAts AS timestamp[]),
+                                 CAST(:timesInPrevious AS bigint[]))
+            """;
+
+    private static final String TIME_IN_STATE_SQL = """
+            SELECT previous_status AS status,
+                   count(*) AS transitions,
+                   avg(time_in_previous_ms) / 1000.0 AS average_seconds,
+                   percentile_cont(0.5) WITHIN GROUP (ORDER BY time_in_previous_ms) / 1000.0 AS p50_seconds,
+                   percentile_cont(0.95) WITHIN GROUP (ORDER BY time_in_previous_ms) / 1000.0 AS p95_seconds,
+                   max(time_in_previous_ms) / 1000.0 AS max_seconds
+              FROM video_status_history
+             WHERE changed_at >= :since
+               AND (CAST(:userId AS varchar) IS NULL OR user_id = :userId)
+             GROUP BY previous_status
+             ORDER BY previous_status
+            """;
+
+    private static final String PARTITION_NAME = "video_status_history_%d_%02d";
+
+    // Rows that landed in the DEFAULT partition for the month must leave it before the month's partition can exist
+    private static final String LOCK_DEFAULT_PARTITION_SQL =
+            "LOCK TABLE video_status_history_default IN SHARE ROW EXCLUSIVE MODE";
+    private static final String STASH_DEFAULT_ROWS_SQL =
+            "CREATE TEMP TABLE video_status_history_moved ON COMMIT DROP AS "
+                    + "SELECT * FROM video_status_history_default WHERE changed_at >= '%1$s' AND changed_at < '%2$s'";
+    private static final String DELETE_DEFAULT_ROWS_SQL =
+            "DELETE FROM video_status_history_default WHERE changed_at >= '%1$s' AND changed_at < '%2$s'";
+    private static final String CREATE_PARTITION_SQL =
+            "CREATE TABLE %1$s PARTITION OF video_status_history FOR VALUES FROM ('%2$s') TO ('%3$s')";
+    private static final String RESTORE_MOVED_ROWS_SQL =
+            "INSERT INTO video_status_history SELECT * FROM video_status_history_moved";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public int appendAll(Collection<VideoStatusChangedEvent> changes) {
+        if (changes.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("videoIds", changes.stream().map(VideoStatusChangedEvent::getVideoId).toArray(Long[]::new))
+                .addValue("userIds", changes.stream().map(VideoStatusChangedEvent::getUserId).toArray(String[]::new))
+                .addValue("previousStatuses", changes.stream().map(change -> change.getPreviousStatus().name()).toArray(String[]::new))
+                .addValue("statuses", changes.stream().map(change -> change.getStatus().name()).toArray(String[]::new))
+                .addValue("previousStatusSinces", changes.stream()
+                        .map(change -> previousStatusSince(change).toString())
+                        .toArray(String[]::new))
+                .addValue("changedAts", changes.stream().map(change -> change.getChangedAt().toString()).toArray(String[]::new))
+                .addValue("timesInPrevious", changes.stream()
+                        .map(change -> Math.max(0L, Duration.between(previousStatusSince(change), change.getChangedAt()).toMillis()))
+                        .toArray(Long[]::new));
+        return jdbcTemplate.update(APPEND_SQL, params);
+    }
+
+    public List<VideoTimeInStateResponse> findTimeInState(String userId, LocalDateTime since) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId, Types.VARCHAR)
+                .addValue("since", Timestamp.valueOf(since));
+        return jdbcTemplate.query(TIME_IN_STATE_SQL, params, (rs, rowNum) -> VideoTimeInStateResponse.builder()
+                .status(VideoStatus.valueOf(rs.getString("status")))
+                .transitions(rs.getLong("transitions"))
+                .averageSeconds(rs.getDouble("average_seconds"))
+                .p50Seconds(rs.getDouble("p50_seconds"))
+                .p95Seconds(rs.getDouble("p95_seconds"))
+                .maxSeconds(rs.getDouble("max_seconds"))
+                .build());
+    }
+
+    /**
+     * Creates the partition for {@code month} if it does not exist yet, moving any rows the DEFAULT partition
+     * already holds for that month into it within the same transaction.
+     *
+     * @return how many rows were moved out of the DEFAULT partition, or {@code -1} if the partition already existed
+     */
+    @Transactional
+    public int createMonthlyPartition(YearMonth month) {
+        JdbcTemplate jdbc = jdbcTemplate.getJdbcTemplate();
+        String partition = String.format(PARTITION_NAME, month.getYear(), month.getMonthValue());
+        // Taken before the existence check so concurrent replicas and inserts into DEFAULT serialize behind it
+        jdbc.execute(LOCK_DEFAULT_PARTITION_SQL);
+        if (Boolean.TRUE.equals(jdbc.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition))) {
+            return -1;
+        }
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        jdbc.execute(String.format(STASH_DEFAULT_ROWS_SQL, from, to));
+        jdbc.execute(String.format(DELETE_DEFAULT_ROWS_SQL, from, to));
+        jdbc.execute(String.format(CREATE_PARTITION_SQL, partition, from, to));
+        return jdbc.update(RESTORE_MOVED_ROWS_SQL);
+    }
+
+    private static LocalDateTime previousStatusSince(VideoStatusChangedEvent change) {
+        if (change.getPreviousStatusSince() != null) {
+            return change.getPreviousStatusSince();
+        }
+        return change.getUploadedAt() != null ? change.getUploadedAt() : change.getChangedAt();
+    }
+}
@@ -0,0 +1,154 @@
+package br.com.fiap.videosapi.video.infrastructure.repository;
+
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoPipelineLatencyResponse;
+import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
+import br.com.fiap.videosapi.video.domain.event.VideoStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class VideoStatusTransitionRepository {
+
+    // Read from videos rather than the best-effort status history, so a dropped history row cannot skew the SLO
+    private static final String PIPELINE_LATENCY_SQL = """
+            SELECT count(*) AS completed,
+                   percentile_cont(0.5) WITHIN GROUP (ORDER BY latency_ms) / 1000.0 AS p50_seconds,
+                   percentile_cont(0.95) WITHIN GROUP (ORDER BY latency_ms) / 1000.0 AS p95_seconds,
+                   percentile_cont(0.99) WITHIN GROUP (ORDER BY latency_ms) / 1000.0 AS p99_seconds
+              FROM (SELECT EXTRACT(EPOCH FROM v.processed_at - v.uploaded_at) * 1000 AS latency_ms
+                      FROM videos v
+                     WHERE v.processed_at >= :since
+                       AND v.status = 'PROCESSED') processed
+             WHERE latency_ms >= 0
+            """;
+
+    private static final String APPLY_STATUS_UPDATE_SQL = """
+            UPDATE videos v
+               SET status = :status,
+                   processed_at = CASE WHEN :status = 'PROCESSED' THEN CAST(:now AS timestamp) ELSE v.processed_at END,
+                   last_status_event_at = COALESCE(CAST(:occurredAt AS timestamp), v.last_status_event_at),
+                   status_changed_at = CAST(:now AS timestamp)
+              FROM (SELECT id, status, status_changed_at
+                      FROM videos
+                     WHERE id = :videoId
+                       AND (CAST(:userId AS varchar) IS NULL OR user_id = :userId)
+                       AND status IN (:allowedStatuses)
+                       AND (CAST(:occurredAt AS timestamp) IS NULL
+                            OR last_status_event_at IS NULL
+                            OR last_status_event_at < CAST(:occurredAt AS timestamp))
+                       FOR UPDATE) prev
+             WHERE v.id = prev.id
+            RETURNING v.id, v.user_id, prev.status AS previous_status, v.status,
+                      v.file_size, v.content_type, v.uploaded_at, v.processed_at,
+                      COALESCE(prev.status_changed_at, v.uploaded_at) AS previous_status_since
+            """;
+
+    private static final String APPLY_STATUS_UPDATES_SQL = """
+            UPDATE videos v
+               SET status = prev.target_status,
+                   processed_at = CASE WHEN prev.target_status = 'PROCESSED' THEN CAST(:now AS timestamp) ELSE v.processed_at END,
+                   last_status_event_at = COALESCE(prev.occurred_at, v.last_status_event_at),
+                   status_changed_at = CAST(:now AS timestamp)
+              FROM (SELECT cur.id, cur.status, cur.status_changed_at, u.status AS target_status, u.occurred_at
+                      FROM videos cur
+                      JOIN unnest(CAST(:videoIds AS bigint[]), CAST(:userIds AS varchar[]), CAST(:statuses AS varchar[]),
+                                  CAST(:allowedStatuses AS varchar[]), CAST(:occurredAts AS timestamp[]))
+                               AS u(id, user_id, status, allowed_statuses, occurred_at)
+                        ON u.id = cur.id
+                     WHERE cur.user_id = u.user_id
+                       AND cur.status = ANY (string_to_array(u.allowed_statuses, ','))
+                       AND (u.occurred_at IS NULL
+                            OR cur.last_status_event_at IS NULL
+                            OR cur.last_status_event_at < u.occurred_at)
+                     ORDER BY cur.id
+                       FOR UPDATE OF cur) prev
+             WHERE v.id = prev.id
+            RETURNING v.id, v.user_id, prev.status AS previous_status, v.status,
+                      v.file_size, v.content_type, v.uploaded_at, v.processed_at,
+                      COALESCE(prev.status_changed_at, v.uploaded_at) AS previous_status_since
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public Optional<VideoStatusChangedEvent> applyStatusUpdate(Long videoId, String userId, VideoStatus status,
+                                                               LocalDateTime occurredAt) {
+        if (status.allowedPredecessors().isEmpty()) {
+            return Optional.empty();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("videoId", videoId)
+                .addValue("userId", userId)
+                .addValue("status", status.name())
+                .addValue("allowedStatuses", status.allowedPredecessors().stream().map(Enum::name).toList())
+                .addValue("occurredAt", occurredAt != null ? Timestamp.valueOf(occurredAt) : null, Types.TIMESTAMP)
+                .addValue("now", Timestamp.valueOf(now));
+
+        return jdbcTemplate.query(APPLY_STATUS_UPDATE_SQL, params, changeMapper(now)).stream().findFirst();
+    }
+
+    public List<VideoStatusChangedEvent> applyStatusUpdates(List<Long> videoIds, List<String> userIds, List<VideoStatus> statuses,
+                                                            List<LocalDateTime> occurredAts) {
+        LocalDateTime now = LocalDateTime.now();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("videoIds", videoIds.toArray(Long[]::new))
+                .addValue("userIds", userIds.toArray(String[]::new))
+                .addValue("statuses", statuses.stream().map(Enum::name).toArray(String[]::new))
+                .addValue("allowedStatuses", statuses.stream()
+                        .map(status -> status.allowedPredecessors().stream().map(Enum::name).collect(Collectors.joining(",")))
+                        .toArray(String[]::new))
+                .addValue("occurredAts", occurredAts.stream()
+                        .map(occurredAt -> occurredAt != null ? occurredAt.toString() : null)
+                        .toArray(String[]::new))
+                .addValue("now", Timestamp.valueOf(now));
+
+        return jdbcTemplate.query(APPLY_STATUS_UPDATES_SQL, params, changeMapper(now));
+    }
+
+    /**
+     * Upload-to-processed latency of every video that reached PROCESSED since {@code since}, across all instances.
+     * Percentiles are {@code null} when nothing completed in the window.
+     */
+    public VideoPipelineLatencyResponse findPipelineLatency(LocalDateTime since) {
+        MapSqlParameterSource params = new MapSqlParameterSource("since", Timestamp.valueOf(since));
+        return jdbcTemplate.queryForObject(PIPELINE_LATENCY_SQL, params, (rs, rowNum) -> VideoPipelineLatencyResponse.builder()
+                .completed(rs.getLong("completed"))
+                .p50Seconds(nullableDouble(rs, "p50_seconds"))
+                .p95Seconds(nullableDouble(rs, "p95_seconds"))
+                .p99Seconds(nullableDouble(rs, "p99_seconds"))
+                .build());
+    }
+
+    private static Double nullableDouble(ResultSet rs, String column) throws SQLException {
+        double value = rs.getDouble(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static RowMapper<VideoStatusChangedEvent> changeMapper(LocalDateTime changedAt) {
+        return (rs, rowNum) -> VideoStatusChangedEvent.builder()
+                .videoId(rs.getLong("id"))
+                .userId(rs.getString("user_id"))
+                .previousStatus(VideoStatus.valueOf(rs.getString("previous_status")))
+                .status(VideoStatus.valueOf(rs.getString("status")))
+                .fileSize(rs.getLong("file_size"))
+                .contentType(rs.getString("content_type"))
+                .uploadedAt(rs.getObject("uploaded_at", LocalDateTime.class))
+                .processedAt(rs.getObject("processed_at", LocalDateTime.class))
+                .previousStatusSince(rs.getObject("previous_status_since", LocalDateTime.class))
+                .changedAt(changedAt)
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package br.com.fiap.videosapi.video.infrastructure.repository;
+
+import br.com.fiap.videosapi.video.domain.entity.VideoUserSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface VideoUserSummaryRepository extends JpaRepository<VideoUserSummary, String> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO video_user_summary AS s
+                (user_id, uploaded_count, processing_count, processed_count, failed_count, total_bytes, updated_at)
+            VALUES (:userId, :uploaded, :processing, :processed, :failed, :bytes, CURRENT_TIMESTAMP)
+            ON CONFLICT (user_id) DO UPDATE SET
+                uploaded_count = s.uploaded_count + EXCLUDED.uploaded_count,
+                processing_count = s.processing_count + EXCLUDED.processing_count,
+                processed_count = s.processed_count + EXCLUDED.processed_count,
+                failed_count = s.failed_count + EXCLUDED.failed_count,
+                total_bytes = s.total_bytes + EXCLUDED.total_bytes,
+                updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    void applyDelta(@Param("userId") String userId,
+                    @Param("uploaded") long uploaded,
+                    @Param("processing") long processing,
+                    @Param("processed") long processed,
+                    @Param("failed") long failed,
+                    @Param("bytes") long bytes);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO video_user_summary AS s
+                (user_id, uploaded_count, processing_count, processed_count, failed_count, total_bytes, updated_at)
+            SELECT user_id,
+                   COUNT(*) FILTER (WHERE status = 'UPLOADED'),
+                   COUNT(*) FILTER (WHERE status = 'PROCESSING'),
+                   COUNT(*) FILTER (WHERE status = 'PROCESSED'),
+                   COUNT(*) FILTER (WHERE status = 'FAILED'),
+                   COALESCE(SUM(file_size), 0),
+                   CURRENT_TIMESTAMP
+            FROM videos
+            GROUP BY user_id
+            ON CONFLICT (user_id) DO UPDATE SET
+                uploaded_count = EXCLUDED.uploaded_count,
+                processing_count = EXCLUDED.processing_count,
+                processed_count = EXCLUDED.processed_count,
+                failed_count = EXCLUDED.failed_count,
+                total_bytes = EXCLUDED.total_bytes,
+                updated_at = EXCLUDED.updated_at
+            WHERE (s.uploaded_count, s.processing_count, s.processed_count, s.failed_count, s.total_bytes)
+                IS DISTINCT FROM (EXCLUDED.uploaded_count, EXCLUDED.processing_count, EXCLUDED.processed_count,
+                                  EXCLUDED.failed_count, EXCLUDED.total_bytes)
+            """, nativeQuery = true)
+    int reconcileAll();
+}
@@ -0,0 +1,18 @@
+package br.com.fiap.videosapi.video.infrastructure.repository;
+
+import br.com.fiap.videosapi.video.domain.entity.VideoWebhook;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface VideoWebhookRepository extends JpaRepository<VideoWebhook, Long> {
+
+    List<VideoWebhook> findAllByUserIdAndActiveTrue(String userId);
+    List<VideoWebhook> findAllByUserIdInAndActiveTrue(Collection<String> userIds);
+    Optional<VideoWebhook> findByIdAndUserIdAndActiveTrue(Long id, String userId);
+    long countByUserIdAndActiveTrue(String userId);
+}
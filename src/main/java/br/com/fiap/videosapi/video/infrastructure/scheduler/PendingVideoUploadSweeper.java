@@ -0,0 +1,54 @@
+package br.com.fiap.videosapi.video.infrastructure.scheduler;
+
+import br.com.fiap.videosapi.video.infrastructure.repository.VideoRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Deletes PENDING rows left behind by streamed uploads that never completed, e.g. when the pod died mid-stream.
+ * Cancelled and failed uploads clean up after themselves; this only catches what they could not. The staged Azure
+ * blocks of such uploads are never committed and expire on their own.
+ */
+@Component
+@Slf4j
+public class PendingVideoUploadSweeper {
+
+    private final VideoRepository videoRepository;
+    private final Duration pendingTimeout;
+    private final Counter rowsSwept;
+
+    public PendingVideoUploadSweeper(
+            VideoRepository videoRepository,
+            MeterRegistry meterRegistry,
+            @Value("${video.reactive.upload.pending-timeout:PT1H}") Duration pendingTimeout
+    ) {
+        this.videoRepository = videoRepository;
+        this.pendingTimeout = pendingTimeout;
+        this.rowsSwept = Counter.builder("video.upload.pending.swept")
+                .description("Pending streamed uploads deleted because they never completed")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${video.reactive.upload.pending-sweep-initial-delay:PT5M}",
+            fixedDelayString = "${video.reactive.upload.pending-sweep-interval:PT15M}"
+    )
+    public void sweepStalePendingUploads() {
+        try {
+            int swept = videoRepository.deleteStalePendingUploads(LocalDateTime.now().minus(pendingTimeout));
+            if (swept > 0) {
+                rowsSwept.increment(swept);
+                log.warn("Deleted {} pending uploads older than {}", swept, pendingTimeout);
+            }
+        } catch (Exception e) {
+            log.error("Error sweeping stale pending uploads", e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.fiap.videosapi.video.infrastructure.scheduler;
+
+import br.com.fiap.videosapi.video.infrastructure.repository.VideoStatusHistoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+@Component
+@Slf4j
+public class VideoStatusHistoryPartitionScheduler {
+
+    private final VideoStatusHistoryRepository videoStatusHistoryRepository;
+    private final int monthsAhead;
+    private final Counter rowsMoved;
+    private final Counter failures;
+
+    public VideoStatusHistoryPartitionScheduler(
+            VideoStatusHistoryRepository videoStatusHistoryRepository,
+            MeterRegistry meterRegistry,
+            @Value("${video.status-history.partitions-ahead:2}") int monthsAhead
+    ) {
+        this.videoStatusHistoryRepository = videoStatusHistoryRepository;
+        this.monthsAhead = monthsAhead;
+        this.rowsMoved = Counter.builder("video.status-history.partition.default-rows-moved")
+                .description("Status history rows moved out of the DEFAULT partition into a new monthly partition")
+                .register(meterRegistry);
+        this.failures = Counter.builder("video.status-history.partition.failures")
+                .description("Monthly status history partitions that could not be created")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${video.status-history.partition-initial-delay:PT1M}",
+            fixedDelayString = "${video.status-history.partition-interval:PT12H}"
+    )
+    public void createUpcomingPartitions() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            try {
+                int moved = videoStatusHistoryRepository.createMonthlyPartition(month);
+                if (moved > 0) {
+                    rowsMoved.increment(moved);
+                    log.warn("Created status history partition for {} and moved {} rows out of the DEFAULT partition",
+                            month, moved);
+                } else if (moved == 0) {
+                    log.info("Created status history partition for {}", month);
+                }
+            } catch (Exception e) {
+                failures.increment();
+                log.error("Error creating status history partition for {}", month, e);
+            }
+        }
+    }
+}
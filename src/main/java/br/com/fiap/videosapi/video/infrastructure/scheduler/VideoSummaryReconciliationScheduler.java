@@ -0,0 +1,27 @@
+package br.com.fiap.videosapi.video.infrastructure.scheduler;
+
+import br.com.fiap.videosapi.video.application.usecase.VideoSummaryUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VideoSummaryReconciliationScheduler {
+
+    private final VideoSummaryUseCase videoSummaryUseCase;
+
+    @Scheduled(
+            initialDelayString = "${video.summary.reconcile-initial-delay:PT5M}",
+            fixedDelayString = "${video.summary.reconcile-interval:PT1H}"
+    )
+    public void reconcile() {
+        try {
+            videoSummaryUseCase.reconcile();
+        } catch (Exception e) {
+            log.error("Error reconciling video summaries", e);
+        }
+    }
+}
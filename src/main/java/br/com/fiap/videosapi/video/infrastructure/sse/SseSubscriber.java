@@ -0,0 +1,62 @@
+package br.com.fiap.videosapi.video.infrastructure.sse;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class SseSubscriber {
+
+    private final String userId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<SseEmitter.SseEventBuilder> pending;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    SseSubscriber(String userId, SseEmitter emitter, int queueCapacity) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.pending = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    String getUserId() {
+        return userId;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    boolean offer(SseEmitter.SseEventBuilder event) {
+        return !closed.get() && pending.offer(event);
+    }
+
+    SseEmitter.SseEventBuilder poll() {
+        return pending.poll();
+    }
+
+    boolean hasPending() {
+        return !pending.isEmpty();
+    }
+
+    boolean tryStartDrain() {
+        return !closed.get() && draining.compareAndSet(false, true);
+    }
+
+    void finishDrain() {
+        draining.set(false);
+    }
+
+    boolean close() {
+        if (closed.compareAndSet(false, true)) {
+            pending.clear();
+            return true;
+        }
+        return false;
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+}
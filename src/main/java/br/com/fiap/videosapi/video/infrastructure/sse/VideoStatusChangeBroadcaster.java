@@ -0,0 +1,154 @@
+package br.com.fiap.videosapi.video.infrastructure.sse;
+
+import br.com.fiap.videosapi.video.domain.event.VideoStatusChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Fans status changes out to the SSE subscribers of every pod. A change is applied by whichever pod consumed its
+ * event, so each applied transition is sent through Postgres NOTIFY and every pod LISTENs on a dedicated connection
+ * and hands what it receives to its local {@link VideoStatusSseRegistry}. The NOTIFY runs inside the transaction
+ * that applied the change, so Postgres delivers it only on commit. Notifications sent while a pod is reconnecting
+ * are missed; clients catch up through the change feed.
+ */
+@Component
+@Slf4j
+public class VideoStatusChangeBroadcaster {
+
+    static final String CHANNEL = "video_status_changed";
+
+    private static final String NOTIFY_SQL = "SELECT pg_notify(:channel, :payload)";
+
+    @FunctionalInterface
+    interface ConnectionFactory {
+        Connection open() throws SQLException;
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final VideoStatusSseRegistry videoStatusSseRegistry;
+    private final ConnectionFactory connectionFactory;
+    private final Duration pollTimeout;
+    private final Duration reconnectBackoff;
+    private volatile boolean running;
+    private Thread listener;
+
+    @Autowired
+    public VideoStatusChangeBroadcaster(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            VideoStatusSseRegistry videoStatusSseRegistry,
+            DataSourceProperties dataSourceProperties,
+            @Value("${video.sse.broadcast.poll-timeout:PT5S}") Duration pollTimeout,
+            @Value("${video.sse.broadcast.reconnect-backoff:PT5S}") Duration reconnectBackoff
+    ) {
+        this(jdbcTemplate, objectMapper, videoStatusSseRegistry,
+                () -> DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                        dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword()),
+                pollTimeout, reconnectBackoff);
+    }
+
+    VideoStatusChangeBroadcaster(NamedParameterJdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                                 VideoStatusSseRegistry videoStatusSseRegistry, ConnectionFactory connectionFactory,
+                                 Duration pollTimeout, Duration reconnectBackoff) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.videoStatusSseRegistry = videoStatusSseRegistry;
+        this.connectionFactory = connectionFactory;
+        this.pollTimeout = pollTimeout;
+        this.reconnectBackoff = reconnectBackoff;
+    }
+
+    @EventListener
+    public void onVideoStatusChanged(VideoStatusChangedEvent event) throws JsonProcessingException {
+        VideoStatusChangedEvent notification = VideoStatusChangedEvent.builder()
+                .videoId(event.getVideoId())
+                .userId(event.getUserId())
+                .previousStatus(event.getPreviousStatus())
+                .status(event.getStatus())
+                .processedAt(event.getProcessedAt())
+                .changedAt(event.getChangedAt())
+                .build();
+        jdbcTemplate.queryForObject(NOTIFY_SQL, new MapSqlParameterSource()
+                .addValue("channel", CHANNEL)
+                .addValue("payload", objectMapper.writeValueAsString(notification)), String.class);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        listener = Thread.ofPlatform().name("video-status-listener").daemon().start(this::listen);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        Thread current;
+        synchronized (this) {
+            running = false;
+            current = listener;
+        }
+        if (current != null) {
+            current.interrupt();
+            current.join(pollTimeout.multipliedBy(2).toMillis());
+        }
+    }
+
+    void dispatch(String payload) {
+        try {
+            videoStatusSseRegistry.dispatch(objectMapper.readValue(payload, VideoStatusChangedEvent.class));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Ignoring unreadable status change notification: {}", e.getMessage());
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = connectionFactory.open()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                log.info("Listening for status changes on channel {}", CHANNEL);
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) pollTimeout.toMillis());
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Status change listener connection failed, reconnecting in {}: {}", reconnectBackoff, e.getMessage());
+                try {
+                    Thread.sleep(reconnectBackoff.toMillis());
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+}
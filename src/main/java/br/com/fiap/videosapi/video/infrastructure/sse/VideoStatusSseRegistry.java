@@ -0,0 +1,155 @@
+package br.com.fiap.videosapi.video.infrastructure.sse;
+
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoStatusChangeResponse;
+import br.com.fiap.videosapi.video.domain.event.VideoStatusChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@Slf4j
+public class VideoStatusSseRegistry {
+
+    private final Map<String, List<SseSubscriber>> subscribersByUser = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final ExecutorService senderExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final long emitterTimeoutMillis;
+    private final int queueCapacity;
+    private final int maxConnectionsPerUser;
+
+    public VideoStatusSseRegistry(
+            @Value("${video.sse.timeout:PT30M}") Duration emitterTimeout,
+            @Value("${video.sse.queue-capacity:32}") int queueCapacity,
+            @Value("${video.sse.max-connections-per-user:5}") int maxConnectionsPerUser
+    ) {
+        this.emitterTimeoutMillis = emitterTimeout.toMillis();
+        this.queueCapacity = queueCapacity;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+    }
+
+    public SseEmitter subscribe(String userId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        SseSubscriber subscriber = new SseSubscriber(userId, emitter, queueCapacity);
+
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> unregister(subscriber));
+        emitter.onError(error -> unregister(subscriber));
+
+        List<SseSubscriber> userSubscribers = subscribersByUser.compute(userId, (key, current) -> {
+            List<SseSubscriber> list = current != null ? current : new CopyOnWriteArrayList<>();
+            list.add(subscriber);
+            return list;
+        });
+        connectionCount.incrementAndGet();
+
+        while (userSubscribers.size() > maxConnectionsPerUser) {
+            SseSubscriber oldest = userSubscribers.getFirst();
+            log.info("Closing oldest SSE connection for userId={} (limit {})", userId, maxConnectionsPerUser);
+            disconnect(oldest);
+            userSubscribers.remove(oldest);
+        }
+
+        log.info("SSE subscriber registered for userId={} ({} open connections)", userId, connectionCount.get());
+        return emitter;
+    }
+
+    /**
+     * Sends a committed status change to this pod's subscribers of the owning user. Called by
+     * {@link VideoStatusChangeBroadcaster} for changes applied on any pod.
+     */
+    public void dispatch(VideoStatusChangedEvent event) {
+        List<SseSubscriber> userSubscribers = subscribersByUser.get(event.getUserId());
+        if (userSubscribers == null || userSubscribers.isEmpty()) {
+            return;
+        }
+
+        VideoStatusChangeResponse payload = VideoStatusChangeResponse.builder()
+                .videoId(event.getVideoId())
+                .previousStatus(event.getPreviousStatus())
+                .status(event.getStatus())
+                .processedAt(event.getProcessedAt())
+                .changedAt(event.getChangedAt())
+                .build();
+
+        for (SseSubscriber subscriber : userSubscribers) {
+            enqueue(subscriber, SseEmitter.event()
+                    .name("video-status")
+                    .data(payload, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${video.sse.heartbeat-interval:PT25S}")
+    public void sendHeartbeats() {
+        subscribersByUser.values().forEach(userSubscribers ->
+                userSubscribers.forEach(subscriber -> enqueue(subscriber, SseEmitter.event().comment("keep-alive"))));
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribersByUser.values().forEach(userSubscribers -> userSubscribers.forEach(this::disconnect));
+        senderExecutor.shutdownNow();
+    }
+
+    private void enqueue(SseSubscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (!subscriber.offer(event)) {
+            log.warn("Dropping slow SSE subscriber for userId={}", subscriber.getUserId());
+            disconnect(subscriber);
+            return;
+        }
+        if (subscriber.tryStartDrain()) {
+            senderExecutor.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(SseSubscriber subscriber) {
+        do {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscriber.poll()) != null) {
+                try {
+                    subscriber.getEmitter().send(event);
+                } catch (IOException | IllegalStateException e) {
+                    log.debug("SSE send failed for userId={}: {}", subscriber.getUserId(), e.getMessage());
+                    unregister(subscriber);
+                    return;
+                }
+            }
+            subscriber.finishDrain();
+        } while (subscriber.hasPending() && subscriber.tryStartDrain());
+    }
+
+    private void disconnect(SseSubscriber subscriber) {
+        if (unregister(subscriber)) {
+            subscriber.getEmitter().complete();
+        }
+    }
+
+    private boolean unregister(SseSubscriber subscriber) {
+        if (!subscriber.close()) {
+            return false;
+        }
+        subscribersByUser.computeIfPresent(subscriber.getUserId(), (key, list) -> {
+            list.remove(subscriber);
+            return list.isEmpty() ? null : list;
+        });
+        connectionCount.decrementAndGet();
+        return true;
+    }
+}
@@ -0,0 +1,164 @@
+package br.com.fiap.videosapi.video.infrastructure.webhook;
+
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoStatusChangeResponse;
+import br.com.fiap.videosapi.video.domain.entity.VideoWebhook;
+import br.com.fiap.videosapi.video.domain.event.VideoStatusChangedEvent;
+import br.com.fiap.videosapi.video.infrastructure.repository.VideoWebhookRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Slf4j
+public class VideoWebhookDispatcher {
+
+    private static final long IDLE_WAIT_MILLIS = 1_000L;
+
+    private final VideoWebhookRepository videoWebhookRepository;
+    private final VideoWebhookSender videoWebhookSender;
+    private final BlockingQueue<VideoStatusChangedEvent> queue;
+    private final int batchSize;
+    private final Duration batchLinger;
+    private final Counter dropped;
+    private volatile boolean running;
+    private Thread worker;
+
+    public VideoWebhookDispatcher(
+            VideoWebhookRepository videoWebhookRepository,
+            VideoWebhookSender videoWebhookSender,
+            MeterRegistry meterRegistry,
+            @Value("${video.webhook.queue-capacity:10000}") int queueCapacity,
+            @Value("${video.webhook.batch-size:100}") int batchSize,
+            @Value("${video.webhook.batch-linger:PT1S}") Duration batchLinger
+    ) {
+        this.videoWebhookRepository = videoWebhookRepository;
+        this.videoWebhookSender = videoWebhookSender;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.batchLinger = batchLinger;
+        this.dropped = Counter.builder("video.webhook.events.dropped")
+                .description("Status transitions not dispatched to webhooks because the queue was full or the lookup failed")
+                .register(meterRegistry);
+        Gauge.builder("video.webhook.queued", queue, BlockingQueue::size)
+                .description("Status transitions waiting to be dispatched to webhooks")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStatusChanged(VideoStatusChangedEvent event) {
+        if (!queue.offer(event)) {
+            dropped.increment();
+            log.warn("Webhook queue is full, dropping status change of video ID: {}", event.getVideoId());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = Thread.ofPlatform().name("video-webhook-dispatcher").daemon().start(this::run);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        Thread current;
+        synchronized (this) {
+            running = false;
+            current = worker;
+        }
+        if (current != null) {
+            current.interrupt();
+            current.join(IDLE_WAIT_MILLIS);
+        }
+    }
+
+    int dispatchNext() throws InterruptedException {
+        VideoStatusChangedEvent first = queue.poll(IDLE_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return 0;
+        }
+        List<VideoStatusChangedEvent> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        long deadline = System.nanoTime() + batchLinger.toNanos();
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            VideoStatusChangedEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+            queue.drainTo(batch, batchSize - batch.size());
+        }
+        dispatch(batch);
+        return batch.size();
+    }
+
+    private void dispatch(List<VideoStatusChangedEvent> batch) {
+        Map<String, List<VideoStatusChangeResponse>> eventsByUser = new LinkedHashMap<>();
+        for (VideoStatusChangedEvent event : batch) {
+            eventsByUser.computeIfAbsent(event.getUserId(), userId -> new ArrayList<>()).add(toResponse(event));
+        }
+
+        List<VideoWebhook> webhooks;
+        try {
+            webhooks = videoWebhookRepository.findAllByUserIdInAndActiveTrue(eventsByUser.keySet());
+        } catch (RuntimeException e) {
+            log.error("Could not load webhooks, dropping {} status changes", batch.size(), e);
+            dropped.increment(batch.size());
+            return;
+        }
+
+        for (VideoWebhook webhook : webhooks) {
+            List<VideoStatusChangeResponse> events = eventsByUser.get(webhook.getUserId());
+            if (events != null) {
+                videoWebhookSender.send(webhook, events);
+            }
+        }
+        log.debug("Dispatched {} status changes of {} users to {} webhooks", batch.size(), eventsByUser.size(), webhooks.size());
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                dispatchNext();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Unexpected error dispatching webhooks", e);
+            }
+        }
+    }
+
+    private static VideoStatusChangeResponse toResponse(VideoStatusChangedEvent event) {
+        return VideoStatusChangeResponse.builder()
+                .videoId(event.getVideoId())
+                .previousStatus(event.getPreviousStatus())
+                .status(event.getStatus())
+                .processedAt(event.getProcessedAt())
+                .changedAt(event.getChangedAt())
+                .build();
+    }
+}
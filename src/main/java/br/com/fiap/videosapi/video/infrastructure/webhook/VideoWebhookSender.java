@@ -0,0 +1,291 @@
+package br.com.fiap.videosapi.video.infrastructure.webhook;
+
+import br.com.fiap.videosapi.video.common.domain.dto.event.VideoWebhookPayload;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoStatusChangeResponse;
+import br.com.fiap.videosapi.video.domain.entity.VideoWebhook;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@Slf4j
+public class VideoWebhookSender {
+
+    static final String SIGNATURE_HEADER = "X-Webhook-Signature";
+    static final String TIMESTAMP_HEADER = "X-Webhook-Timestamp";
+    static final String DELIVERY_HEADER = "X-Webhook-Delivery";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final ObjectMapper objectMapper;
+    private final VideoWebhookUrlPolicy urlPolicy;
+    private final ConnectionProvider connectionProvider;
+    private final HttpClient httpClient;
+    private final ExecutorService callbackExecutor;
+    private final ScheduledExecutorService retryScheduler;
+    private final Map<Long, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final int maxConcurrencyPerEndpoint;
+    private final int maxPendingPerEndpoint;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Counter delivered;
+    private final Counter retried;
+    private final Counter failed;
+    private final Counter dropped;
+    private final Counter blocked;
+
+    public VideoWebhookSender(
+            ObjectMapper objectMapper,
+            VideoWebhookUrlPolicy urlPolicy,
+            MeterRegistry meterRegistry,
+            @Value("${video.webhook.max-concurrency-per-endpoint:4}") int maxConcurrencyPerEndpoint,
+            @Value("${video.webhook.max-pending-per-endpoint:100}") int maxPendingPerEndpoint,
+            @Value("${video.webhook.max-attempts:5}") int maxAttempts,
+            @Value("${video.webhook.connect-timeout:PT5S}") Duration connectTimeout,
+            @Value("${video.webhook.request-timeout:PT10S}") Duration requestTimeout,
+            @Value("${video.webhook.initial-backoff:PT1S}") Duration initialBackoff,
+            @Value("${video.webhook.max-backoff:PT1M}") Duration maxBackoff
+    ) {
+        this.objectMapper = objectMapper;
+        this.urlPolicy = urlPolicy;
+        this.maxConcurrencyPerEndpoint = maxConcurrencyPerEndpoint;
+        this.maxPendingPerEndpoint = maxPendingPerEndpoint;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        // Reactor Netty rather than java.net.http: each delivery connects to the address the URL policy validated
+        this.connectionProvider = ConnectionProvider.create("video-webhook");
+        this.httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(connectTimeout.toMillis()))
+                .responseTimeout(requestTimeout)
+                .followRedirect(false);
+        // Completions are handled off the Netty event loop, since the next dispatch resolves DNS
+        this.callbackExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("video-webhook-retry").daemon().factory());
+        this.delivered = webhookCounter(meterRegistry, "delivered");
+        this.retried = webhookCounter(meterRegistry, "retried");
+        this.failed = webhookCounter(meterRegistry, "failed");
+        this.dropped = webhookCounter(meterRegistry, "dropped");
+        this.blocked = webhookCounter(meterRegistry, "blocked");
+        Gauge.builder("video.webhook.in-flight", inFlight, AtomicInteger::get)
+                .description("Webhook callbacks currently waiting for a response")
+                .register(meterRegistry);
+    }
+
+    public void send(VideoWebhook webhook, List<VideoStatusChangeResponse> events) {
+        VideoWebhookPayload payload = VideoWebhookPayload.builder()
+                .deliveryId(UUID.randomUUID().toString())
+                .webhookId(webhook.getId())
+                .sentAt(LocalDateTime.now())
+                .events(events)
+                .build();
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            log.error("Could not serialize webhook payload for webhook ID: {}", webhook.getId(), e);
+            failed.increment();
+            return;
+        }
+        attempt(new Delivery(webhook, payload.getDeliveryId(), body, events.size()), 1);
+    }
+
+    @PreDestroy
+    public void close() {
+        retryScheduler.shutdownNow();
+        connectionProvider.dispose();
+        callbackExecutor.shutdownNow();
+    }
+
+    static String sign(String secret, String timestamp, byte[] body) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+            mac.update(timestamp.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) '.');
+            return "sha256=" + HexFormat.of().formatHex(mac.doFinal(body));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+
+    private void attempt(Delivery delivery, int attempt) {
+        // Enqueued inside compute so it cannot race evictIfIdle removing the endpoint
+        boolean[] accepted = new boolean[1];
+        Endpoint endpoint = endpoints.compute(delivery.webhook().getId(), (id, existing) -> {
+            Endpoint current = existing != null ? existing
+                    : new Endpoint(new Semaphore(maxConcurrencyPerEndpoint), new LinkedBlockingQueue<>(maxPendingPerEndpoint));
+            accepted[0] = current.pending().offer(new PendingAttempt(delivery, attempt));
+            return current;
+        });
+        if (!accepted[0]) {
+            dropped.increment();
+            log.warn("Dropping delivery {} to webhook ID: {}: {} deliveries already waiting for this endpoint",
+                    delivery.deliveryId(), delivery.webhook().getId(), maxPendingPerEndpoint);
+            return;
+        }
+        drain(endpoint);
+    }
+
+    /**
+     * Starts queued attempts while the endpoint has free permits. Runs after every enqueue and every permit release,
+     * so an attempt queued while all permits were taken is picked up by whichever delivery finishes first.
+     */
+    private void drain(Endpoint endpoint) {
+        while (!endpoint.pending().isEmpty() && endpoint.permits().tryAcquire()) {
+            PendingAttempt next = endpoint.pending().poll();
+            if (next == null) {
+                endpoint.permits().release();
+                continue;
+            }
+            dispatch(endpoint, next.delivery(), next.attempt());
+        }
+    }
+
+    private void dispatch(Endpoint endpoint, Delivery delivery, int attempt) {
+        Mono<Integer> request;
+        try {
+            request = buildRequest(delivery);
+        } catch (UnknownHostException e) {
+            endpoint.permits().release();
+            onCompletion(delivery, attempt, -1, e);
+            evictIfIdle(delivery.webhook().getId(), endpoint);
+            return;
+        } catch (IllegalArgumentException e) {
+            endpoint.permits().release();
+            blocked.increment();
+            log.warn("Dropping delivery {} to webhook ID: {}: {}", delivery.deliveryId(), delivery.webhook().getId(), e.getMessage());
+            evictIfIdle(delivery.webhook().getId(), endpoint);
+            return;
+        }
+
+        inFlight.incrementAndGet();
+        request.toFuture()
+                .whenCompleteAsync((statusCode, error) -> {
+                    inFlight.decrementAndGet();
+                    endpoint.permits().release();
+                    onCompletion(delivery, attempt, statusCode != null ? statusCode : -1, error);
+                    drain(endpoint);
+                    evictIfIdle(delivery.webhook().getId(), endpoint);
+                }, callbackExecutor);
+    }
+
+    /**
+     * Drops the endpoint once nothing is queued or in flight for it, so webhooks that were deleted or went quiet
+     * do not keep an entry on every pod. A later delivery simply creates a fresh one.
+     */
+    private void evictIfIdle(Long webhookId, Endpoint endpoint) {
+        endpoints.computeIfPresent(webhookId, (id, current) -> current == endpoint
+                && current.pending().isEmpty()
+                && current.permits().availablePermits() == maxConcurrencyPerEndpoint ? null : current);
+    }
+
+    int trackedEndpoints() {
+        return endpoints.size();
+    }
+
+    private void onCompletion(Delivery delivery, int attempt, int statusCode, Throwable error) {
+        if (error == null && statusCode >= 200 && statusCode < 300) {
+            delivered.increment();
+            log.debug("Delivered {} events to webhook ID: {} (delivery {}, attempt {})",
+                    delivery.eventCount(), delivery.webhook().getId(), delivery.deliveryId(), attempt);
+            return;
+        }
+
+        String reason = error != null ? error.toString() : "HTTP " + statusCode;
+        boolean retryable = error != null || statusCode >= 500 || statusCode == 408 || statusCode == 429;
+        if (!retryable || attempt >= maxAttempts) {
+            failed.increment();
+            log.warn("Giving up delivery {} of {} events to webhook ID: {} after {} attempts: {}",
+                    delivery.deliveryId(), delivery.eventCount(), delivery.webhook().getId(), attempt, reason);
+            return;
+        }
+
+        Duration backoff = backoff(attempt);
+        retried.increment();
+        log.info("Retrying delivery {} to webhook ID: {} in {} (attempt {}/{}): {}",
+                delivery.deliveryId(), delivery.webhook().getId(), backoff, attempt + 1, maxAttempts, reason);
+        schedule(() -> attempt(delivery, attempt + 1), backoff.toMillis());
+    }
+
+    private Mono<Integer> buildRequest(Delivery delivery) throws UnknownHostException {
+        VideoWebhookUrlPolicy.Target target = urlPolicy.resolveBeforeSend(delivery.webhook().getUrl());
+        String timestamp = String.valueOf(System.currentTimeMillis() / 1000);
+        String signature = sign(delivery.webhook().getSecret(), timestamp, delivery.body());
+        return httpClient
+                // the Host header and TLS server name still come from the URL
+                .remoteAddress(target::address)
+                .headers(headers -> headers
+                        .set(HttpHeaderNames.CONTENT_TYPE, "application/json")
+                        .set(HttpHeaderNames.CONTENT_LENGTH, delivery.body().length)
+                        .set(DELIVERY_HEADER, delivery.deliveryId())
+                        .set(TIMESTAMP_HEADER, timestamp)
+                        .set(SIGNATURE_HEADER, signature))
+                .post()
+                .uri(target.uri())
+                .send((request, outbound) -> outbound.sendByteArray(Mono.just(delivery.body())))
+                .response()
+                .map(response -> response.status().code());
+    }
+
+    private Duration backoff(int attempt) {
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempt - 1, 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private void schedule(Runnable task, long delayMillis) {
+        if (!retryScheduler.isShutdown()) {
+            retryScheduler.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static Counter webhookCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("video.webhook.deliveries")
+                .description("Webhook callbacks by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Delivery(VideoWebhook webhook, String deliveryId, byte[] body, int eventCount) {
+    }
+
+    private record PendingAttempt(Delivery delivery, int attempt) {
+    }
+
+    private record Endpoint(Semaphore permits, LinkedBlockingQueue<PendingAttempt> pending) {
+    }
+}
@@ -0,0 +1,163 @@
+package br.com.fiap.videosapi.video.infrastructure.webhook;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Decides which callback URLs the API may POST to. Webhook URLs are user supplied, so the host is resolved and
+ * every address it maps to must be publicly routable; otherwise a user could make the pods call loopback, the
+ * cloud metadata endpoint or services inside the cluster. The check runs at registration and again before each
+ * send, because DNS answers can change after a webhook was accepted, and the send connects to the address that
+ * passed the check.
+ */
+@Component
+public class VideoWebhookUrlPolicy {
+
+    static final int MAX_URL_LENGTH = 2048;
+
+    private static final List<String> INTERNAL_HOST_SUFFIXES = List.of(
+            ".localhost", ".local", ".localdomain", ".internal", ".svc");
+
+    @FunctionalInterface
+    interface HostResolver {
+        InetAddress[] resolve(String host) throws UnknownHostException;
+    }
+
+    private final boolean allowHttp;
+    private final boolean allowPrivateAddresses;
+    private final HostResolver hostResolver;
+
+    @Autowired
+    public VideoWebhookUrlPolicy(
+            @Value("${video.webhook.allow-http:false}") boolean allowHttp,
+            @Value("${video.webhook.allow-private-addresses:false}") boolean allowPrivateAddresses
+    ) {
+        this(allowHttp, allowPrivateAddresses, InetAddress::getAllByName);
+    }
+
+    VideoWebhookUrlPolicy(boolean allowHttp, boolean allowPrivateAddresses, HostResolver hostResolver) {
+        this.allowHttp = allowHttp;
+        this.allowPrivateAddresses = allowPrivateAddresses;
+        this.hostResolver = hostResolver;
+    }
+
+    /**
+     * Validates a URL submitted for registration.
+     *
+     * @throws IllegalArgumentException when the URL is malformed, not https, unresolvable or points to an internal address
+     */
+    public URI validate(String url) {
+        URI uri = parse(url);
+        if (allowPrivateAddresses) {
+            return uri;
+        }
+        try {
+            resolveAllowed(uri);
+        } catch (UnknownHostException e) {
+            throw new IllegalArgumentException("Webhook URL host could not be resolved");
+        }
+        return uri;
+    }
+
+    /**
+     * Re-validates a stored URL right before a delivery and returns the address the delivery must connect to.
+     * Connecting to exactly that address, instead of letting the HTTP client resolve the host again, is what keeps
+     * a DNS answer that changes in between (DNS rebinding) from redirecting the delivery to an internal address.
+     * The address keeps the URL host name, so TLS still sends it as SNI and verifies the certificate against it.
+     * Resolution failures are surfaced separately so the caller can retry them as transient, while policy
+     * violations are final.
+     */
+    Target resolveBeforeSend(String url) throws UnknownHostException {
+        URI uri = parse(url);
+        String host = normalizedHost(uri);
+        InetAddress address = resolveAllowed(uri)[0];
+        int port = uri.getPort() != -1 ? uri.getPort() : "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+        return new Target(uri, new InetSocketAddress(InetAddress.getByAddress(host, address.getAddress()), port));
+    }
+
+    record Target(URI uri, InetSocketAddress address) {
+    }
+
+    private URI parse(String url) {
+        if (url == null || url.isBlank() || url.length() > MAX_URL_LENGTH) {
+            throw new IllegalArgumentException("Webhook URL must be provided and at most " + MAX_URL_LENGTH + " characters");
+        }
+        URI uri;
+        try {
+            uri = new URI(url.trim());
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Webhook URL is not a valid URI");
+        }
+
+        String scheme = uri.getScheme() == null ? null : uri.getScheme().toLowerCase(Locale.ROOT);
+        boolean https = "https".equals(scheme);
+        if (uri.getHost() == null || !(https || allowHttp && "http".equals(scheme))) {
+            throw new IllegalArgumentException(allowHttp
+                    ? "Webhook URL must be an absolute http or https URL"
+                    : "Webhook URL must be an absolute https URL");
+        }
+        if (uri.getUserInfo() != null) {
+            throw new IllegalArgumentException("Webhook URL must not contain credentials");
+        }
+        return uri;
+    }
+
+    private InetAddress[] resolveAllowed(URI uri) throws UnknownHostException {
+        String host = normalizedHost(uri);
+        if (allowPrivateAddresses) {
+            return hostResolver.resolve(host);
+        }
+        if (host.endsWith(".")) {
+            host = host.substring(0, host.length() - 1);
+        }
+        String dottedHost = "." + host;
+        // single-label names (e.g. a Kubernetes service name) only resolve inside the cluster
+        if (!host.contains(".") && !host.contains(":") || INTERNAL_HOST_SUFFIXES.stream().anyMatch(dottedHost::endsWith)) {
+            throw new IllegalArgumentException("Webhook URL must not point to an internal host");
+        }
+        InetAddress[] addresses = hostResolver.resolve(host);
+        for (InetAddress address : addresses) {
+            if (isInternal(address)) {
+                throw new IllegalArgumentException("Webhook URL must not point to a private or internal address");
+            }
+        }
+        return addresses;
+    }
+
+    private static String normalizedHost(URI uri) {
+        String host = uri.getHost().toLowerCase(Locale.ROOT);
+        if (host.startsWith("[") && host.endsWith("]")) {
+            host = host.substring(1, host.length() - 1);
+        }
+        return host;
+    }
+
+    static boolean isInternal(InetAddress address) {
+        if (address.isAnyLocalAddress() || address.isLoopbackAddress() || address.isLinkLocalAddress()
+                || address.isSiteLocalAddress() || address.isMulticastAddress()) {
+            return true;
+        }
+        byte[] bytes = address.getAddress();
+        if (address instanceof Inet4Address) {
+            int first = bytes[0] & 0xff;
+            int second = bytes[1] & 0xff;
+            return first == 0
+                    || first >= 240
+                    // carrier-grade NAT range, used as pod/service CIDR by some CNIs
+                    || first == 100 && second >= 64 && second < 128
+                    || first == 198 && (second == 18 || second == 19);
+        }
+        // IPv6 unique local addresses (fc00::/7)
+        return (bytes[0] & 0xfe) == 0xfc;
+    }
+}
@@ -0,0 +1,72 @@
+package br.com.fiap.videosapi.video.presentation.rest;
+
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoUploadResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.multipart.PartEvent;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Tag(name = "${tag.swagger.video.name}", description = "${tag.swagger.video.description}")
+public interface VideoReactiveRestController {
+
+    @Operation(
+            summary = "Upload multiple video files",
+            description = "Stream multiple video files straight into Azure Blob Storage and publish upload events to Kafka"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "All videos uploaded successfully",
+                    content = @Content(schema = @Schema(implementation = VideoUploadResponse.class, type = "array"))
+            ),
+            @ApiResponse(
+                    responseCode = "207",
+                    description = "Some videos failed to upload",
+                    content = @Content(schema = @Schema(implementation = VideoUploadResponse.class, type = "array"))
+            ),
+            @ApiResponse(responseCode = "400", description = "No files provided or invalid request parameters"),
+            @ApiResponse(responseCode = "500", description = "Internal server error during upload")
+    })
+    Mono<ResponseEntity<?>> uploadVideos(
+            @Parameter(hidden = true) @RequestHeader("x-cliente-id") String userId,
+            Flux<PartEvent> parts
+    );
+
+    @Operation(
+            summary = "Download extracted frames (ZIP)",
+            description = "Stream the frames ZIP archive of the video straight from Azure Blob Storage"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "ZIP streamed successfully"),
+            @ApiResponse(responseCode = "404", description = "Video or associated blobs not found"),
+            @ApiResponse(responseCode = "500", description = "Error streaming ZIP archive")
+    })
+    Mono<ResponseEntity<Flux<DataBuffer>>> downloadVideo(
+            @Parameter(hidden = true) @RequestHeader("x-cliente-id") String userId,
+            @Parameter(description = "Video ID", required = true) @PathVariable Long id
+    );
+
+    @Operation(
+            summary = "Download video and extracted frames (ZIP)",
+            description = "Generate a temporary public URL for the frames ZIP archive of the video"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Get ZIP successfully"),
+            @ApiResponse(responseCode = "404", description = "Video or associated blobs not found"),
+            @ApiResponse(responseCode = "500", description = "Error generating ZIP archive")
+    })
+    Mono<ResponseEntity<String>> downloadCompactedVideoUrl(
+            @Parameter(hidden = true) @RequestHeader("x-cliente-id") String userId,
+            @Parameter(description = "Video ID", required = true) @PathVariable Long id
+    );
+}
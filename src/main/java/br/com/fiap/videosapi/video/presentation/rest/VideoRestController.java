@@ -1,6 +1,12 @@
 package br.com.fiap.videosapi.video.presentation.rest;
 
+import br.com.fiap.videosapi.video.common.domain.dto.request.VideoBatchGetRequest;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoBatchGetResponse;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoChangesResponse;
 import br.com.fiap.videosapi.video.common.domain.dto.response.VideoListResponse;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoProgressResponse;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoSummaryResponse;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoTimeInStateResponse;
 import br.com.fiap.videosapi.video.common.domain.dto.response.VideoUploadResponse;
 import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,8 +19,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -57,6 +66,17 @@ public interface VideoRestController {
     @ApiResponse(responseCode = "200", description = "Videos retrieved successfully")
     ResponseEntity<List<VideoListResponse>> listAllVideos();
 
+    @Operation(
+            summary = "Stream all videos as NDJSON",
+            description = "Stream every video of the user as newline-delimited JSON (Accept: application/x-ndjson), reading rows from a database cursor without buffering the full list"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Videos streamed successfully",
+            content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = VideoListResponse.class))
+    )
+    ResponseEntity<StreamingResponseBody> streamAllVideos();
+
     @Operation(
             summary = "List videos by status",
             description = "Retrieve videos filtered by processing status"
@@ -66,6 +86,65 @@ public interface VideoRestController {
             @Parameter(description = "Video processing status", required = true)
             @PathVariable VideoStatus status);
 
+    @Operation(
+            summary = "Search videos by file name",
+            description = "Search the user's videos by prefix or substring of the original file name, ranked by prefix match and similarity"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Search executed successfully"),
+            @ApiResponse(responseCode = "400", description = "Blank query or invalid pagination parameters")
+    })
+    ResponseEntity<List<VideoListResponse>> searchVideos(
+            @Parameter(description = "Text to search in the original file name", required = true) @RequestParam("q") String query,
+            @Parameter(description = "Zero-based page index") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "20") int size);
+
+    @Operation(
+            summary = "Get multiple videos by ID",
+            description = "Retrieve up to 100 videos of the user in a single request; IDs that do not exist or belong to another user are returned in missingIds"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Videos retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "No IDs provided or more than 100 distinct IDs requested")
+    })
+    ResponseEntity<VideoBatchGetResponse> getVideosByIds(@RequestBody VideoBatchGetRequest request);
+
+    @Operation(
+            summary = "Get videos changed since a cursor",
+            description = "Incremental sync: returns the user's videos created or updated after the cursor, ordered by (updatedAt, id); pass nextCursor back as since to fetch the next page"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Changes retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or limit outside the 1 to 500 range")
+    })
+    ResponseEntity<VideoChangesResponse> getVideoChanges(
+            @Parameter(description = "Cursor returned by the previous call; omit for a full sync") @RequestParam(required = false) String since,
+            @Parameter(description = "Maximum number of videos (max 500)") @RequestParam(defaultValue = "100") int limit);
+
+    @Operation(
+            summary = "Get video summary",
+            description = "Retrieve the number of videos per processing status and the total bytes stored for the user"
+    )
+    @ApiResponse(responseCode = "200", description = "Summary retrieved successfully")
+    ResponseEntity<VideoSummaryResponse> getVideoSummary();
+
+    @Operation(
+            summary = "Get time spent in each status",
+            description = "Aggregate how long the user's videos stayed in each status before transitioning, over the last days"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Aggregation retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Days outside the 1 to 90 range")
+    })
+    ResponseEntity<List<VideoTimeInStateResponse>> getTimeInState(
+            @Parameter(description = "Number of days to aggregate (max 90)") @RequestParam(defaultValue = "7") int days);
+
+    @Operation(
+            summary = "Subscribe to video status changes",
+            description = "Server-Sent Events stream pushing the user's video status transitions as they are applied (event name: video-status)"
+    )
+    @ApiResponse(responseCode = "200", description = "Event stream opened", content = @Content(mediaType = "text/event-stream"))
+    SseEmitter streamStatusEvents();
 
     @Operation(
             summary = "Get video by ID",
@@ -77,6 +156,27 @@ public interface VideoRestController {
     })
     ResponseEntity<VideoListResponse> getVideoById(@Parameter(description = "Video ID", required = true) @PathVariable Long id);
 
+    @Operation(
+            summary = "Get video processing progress",
+            description = "Retrieve the latest progress percentage and stage reported by the processing workers"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Progress retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Video not found")
+    })
+    ResponseEntity<VideoProgressResponse> getVideoProgress(@Parameter(description = "Video ID", required = true) @PathVariable Long id);
+
+    @Operation(
+            summary = "Download extracted frames (ZIP)",
+            description = "Stream the frames ZIP archive of the video straight from Azure Blob Storage"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "ZIP streamed successfully"),
+            @ApiResponse(responseCode = "404", description = "Video or associated blobs not found"),
+            @ApiResponse(responseCode = "500", description = "Error streaming ZIP archive")
+    })
+    ResponseEntity<StreamingResponseBody> downloadVideo(@Parameter(description = "Video ID", required = true) @PathVariable Long id);
+
     @Operation(
             summary = "Download video and extracted frames (ZIP)",
             description = "Download the original uploaded video along with all extracted frames stored under {videoId}/frames as a single ZIP archive"
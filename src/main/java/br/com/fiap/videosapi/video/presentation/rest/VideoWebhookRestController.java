@@ -0,0 +1,45 @@
+package br.com.fiap.videosapi.video.presentation.rest;
+
+import br.com.fiap.videosapi.video.common.domain.dto.request.VideoWebhookRequest;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoWebhookResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
+
+@Tag(name = "${tag.swagger.video.name}", description = "${tag.swagger.video.description}")
+public interface VideoWebhookRestController {
+
+    @Operation(
+            summary = "Register a status webhook",
+            description = "Register a URL that receives batched POST callbacks with the user's video status transitions, signed with HMAC-SHA256 in the X-Webhook-Signature header using the returned secret"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Webhook registered; the secret is only returned in this response"),
+            @ApiResponse(responseCode = "400", description = "Invalid URL or webhook limit reached")
+    })
+    ResponseEntity<VideoWebhookResponse> registerWebhook(@RequestBody VideoWebhookRequest request);
+
+    @Operation(
+            summary = "List status webhooks",
+            description = "List the active webhooks registered by the user"
+    )
+    @ApiResponse(responseCode = "200", description = "Webhooks retrieved successfully")
+    ResponseEntity<List<VideoWebhookResponse>> listWebhooks();
+
+    @Operation(
+            summary = "Unregister a status webhook",
+            description = "Stop sending callbacks to a webhook registered by the user"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Webhook unregistered"),
+            @ApiResponse(responseCode = "404", description = "Webhook not found")
+    })
+    ResponseEntity<Void> unregisterWebhook(@Parameter(description = "Webhook ID", required = true) @PathVariable Long id);
+}
@@ -0,0 +1,121 @@
+package br.com.fiap.videosapi.video.presentation.rest.impl;
+
+import br.com.fiap.videosapi.core.reactive.BlockingCallOffloader;
+import br.com.fiap.videosapi.video.application.usecase.ReactiveVideoUploadUseCase;
+import br.com.fiap.videosapi.video.application.usecase.VideoDownloadUseCase;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoUploadResponse;
+import br.com.fiap.videosapi.video.infrastructure.azure.AzureBlobAsyncStorageService;
+import br.com.fiap.videosapi.video.infrastructure.azure.AzureBlobStorageService;
+import br.com.fiap.videosapi.video.presentation.rest.VideoReactiveRestController;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.multipart.PartEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/v1/videos")
+@RequiredArgsConstructor
+@Slf4j
+public class VideoReactiveRestControllerImpl implements VideoReactiveRestController {
+
+    private final ReactiveVideoUploadUseCase reactiveVideoUploadUseCase;
+    private final VideoDownloadUseCase videoDownloadUseCase;
+    private final AzureBlobAsyncStorageService azureBlobAsyncStorageService;
+    private final AzureBlobStorageService azureBlobStorageService;
+    private final BlockingCallOffloader blockingCallOffloader;
+
+    @Override
+    @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public Mono<ResponseEntity<?>> uploadVideos(
+            @RequestHeader("x-cliente-id") String userId,
+            @RequestBody Flux<PartEvent> parts
+    ) {
+        return reactiveVideoUploadUseCase.uploadVideos(parts, userId)
+                .collectList()
+                .<ResponseEntity<?>>map(this::toUploadResponse)
+                .onErrorResume(e -> {
+                    log.error("Unexpected error during video uploads", e);
+                    VideoUploadResponse errorResponse = VideoUploadResponse.builder()
+                            .message("Unexpected error occurred during video uploads: " + e.getMessage())
+                            .build();
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse));
+                });
+    }
+
+    @Override
+    @GetMapping(value = "/{id}/download", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public Mono<ResponseEntity<Flux<DataBuffer>>> downloadVideo(
+            @RequestHeader("x-cliente-id") String userId,
+            @PathVariable Long id
+    ) {
+        log.info("Received request to download frames of video {}", id);
+        return blockingCallOffloader.call(userId, () -> videoDownloadUseCase.prepareDownload(id, userId))
+                .map(data -> ResponseEntity.ok()
+                        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                                .filename(data.getZipFileName())
+                                .build()
+                                .toString())
+                        .body(azureBlobAsyncStorageService.download(data.getVideoBlobName())
+                                .<DataBuffer>map(DefaultDataBufferFactory.sharedInstance::wrap)))
+                .onErrorResume(e -> Mono.just(downloadFailure(id, e)));
+    }
+
+    @Override
+    @GetMapping(value = "/{id}/download-url")
+    public Mono<ResponseEntity<String>> downloadCompactedVideoUrl(
+            @RequestHeader("x-cliente-id") String userId,
+            @PathVariable Long id
+    ) {
+        log.info("Received request to generate public download URL for video {}", id);
+        return blockingCallOffloader.call(userId, () -> videoDownloadUseCase.prepareDownload(id, userId))
+                .map(data -> ResponseEntity.ok(azureBlobStorageService.generatePublicUrl(data.getVideoBlobName())))
+                .onErrorResume(e -> Mono.just(downloadFailure(id, e)));
+    }
+
+    private ResponseEntity<?> toUploadResponse(List<VideoUploadResponse> responses) {
+        if (responses.isEmpty()) {
+            log.warn("No files provided in the upload request");
+            return ResponseEntity.badRequest().body("No files provided for upload");
+        }
+
+        boolean allSuccessful = responses.stream()
+                .allMatch(response -> response.getId() != null);
+
+        if (allSuccessful) {
+            log.info("Successfully uploaded {} videos", responses.size());
+            return ResponseEntity.status(HttpStatus.CREATED).body(responses);
+        }
+        log.warn("Some videos failed to upload. Success: {}, Failed: {}",
+                responses.stream().filter(r -> r.getId() != null).count(),
+                responses.stream().filter(r -> r.getId() == null).count());
+        return ResponseEntity.status(HttpStatus.MULTI_STATUS).body(responses);
+    }
+
+    private static <T> ResponseEntity<T> downloadFailure(Long id, Throwable e) {
+        if (e instanceof IllegalArgumentException || e instanceof IllegalStateException) {
+            log.warn("Download request failed: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        log.error("Unexpected error preparing download of video {}", id, e);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    }
+}
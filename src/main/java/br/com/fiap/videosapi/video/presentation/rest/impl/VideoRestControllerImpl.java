@@ -1,26 +1,51 @@
 package br.com.fiap.videosapi.video.presentation.rest.impl;
 
+import br.com.fiap.videosapi.core.context.UserContext;
+import br.com.fiap.videosapi.core.exception.VideoNotFoundException;
 import br.com.fiap.videosapi.video.application.usecase.VideoDownloadUseCase;
 import br.com.fiap.videosapi.video.application.usecase.VideoListUseCase;
+import br.com.fiap.videosapi.video.application.usecase.VideoProgressUseCase;
+import br.com.fiap.videosapi.video.application.usecase.VideoStatusHistoryUseCase;
+import br.com.fiap.videosapi.video.application.usecase.VideoSummaryUseCase;
 import br.com.fiap.videosapi.video.application.usecase.VideoUploadUseCase;
 import br.com.fiap.videosapi.video.application.usecase.dto.VideoDownloadData;
+import br.com.fiap.videosapi.video.common.domain.dto.request.VideoBatchGetRequest;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoBatchGetResponse;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoChangesResponse;
 import br.com.fiap.videosapi.video.common.domain.dto.response.VideoListResponse;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoProgressResponse;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoSummaryResponse;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoTimeInStateResponse;
 import br.com.fiap.videosapi.video.common.domain.dto.response.VideoUploadResponse;
 import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
 import br.com.fiap.videosapi.video.infrastructure.azure.AzureBlobStorageService;
+import br.com.fiap.videosapi.video.infrastructure.sse.VideoStatusSseRegistry;
 import br.com.fiap.videosapi.video.presentation.rest.VideoRestController;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/v1/videos")
 @RequiredArgsConstructor
 @Slf4j
@@ -29,7 +54,14 @@ public class VideoRestControllerImpl implements VideoRestController {
     private final VideoUploadUseCase videoUploadUseCase;
     private final VideoListUseCase videoListUseCase;
     private final VideoDownloadUseCase videoDownloadUseCase;
+    private final VideoSummaryUseCase videoSummaryUseCase;
+    private final VideoProgressUseCase videoProgressUseCase;
+    private final VideoStatusHistoryUseCase videoStatusHistoryUseCase;
     private final AzureBlobStorageService azureBlobStorageService;
+    private final VideoStatusSseRegistry videoStatusSseRegistry;
+    private final ObjectMapper objectMapper;
+
+    private static final int NDJSON_FLUSH_INTERVAL = 100;
 
     @Override
     @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -74,6 +106,40 @@ public class VideoRestControllerImpl implements VideoRestController {
         return ResponseEntity.ok(videos);
     }
 
+    @Override
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllVideos() {
+        String userId = UserContext.getUserId();
+        log.info("Received request to stream all videos as NDJSON for userId={}", userId);
+        ObjectWriter writer = objectMapper.writerFor(VideoListResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                AtomicInteger written = new AtomicInteger();
+                videoListUseCase.streamAllVideos(userId, video -> {
+                    try {
+                        writer.writeValue(generator, video);
+                        generator.writeRaw('\n');
+                        if (written.getAndIncrement() % NDJSON_FLUSH_INTERVAL == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.flush();
+                log.info("Streamed {} videos as NDJSON for userId={}", written.get(), userId);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @Override
     @GetMapping("/status/{status}")
     public ResponseEntity<List<VideoListResponse>> listVideosByStatus(@PathVariable VideoStatus status) {
@@ -82,6 +148,57 @@ public class VideoRestControllerImpl implements VideoRestController {
         return ResponseEntity.ok(videos);
     }
 
+    @Override
+    @GetMapping("/search")
+    public ResponseEntity<List<VideoListResponse>> searchVideos(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        log.info("Received request to search videos with query: {}", query);
+        return ResponseEntity.ok(videoListUseCase.searchVideos(query, page, size));
+    }
+
+    @Override
+    @PostMapping("/batch-get")
+    public ResponseEntity<VideoBatchGetResponse> getVideosByIds(@RequestBody VideoBatchGetRequest request) {
+        List<Long> ids = request != null ? request.getIds() : null;
+        log.info("Received request to get {} videos by ID", ids != null ? ids.size() : 0);
+        return ResponseEntity.ok(videoListUseCase.getVideosByIds(ids));
+    }
+
+    @Override
+    @GetMapping("/changes")
+    public ResponseEntity<VideoChangesResponse> getVideoChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        log.info("Received request to get video changes since cursor: {}", since);
+        return ResponseEntity.ok(videoListUseCase.getChanges(since, limit));
+    }
+
+    @Override
+    @GetMapping("/summary")
+    public ResponseEntity<VideoSummaryResponse> getVideoSummary() {
+        log.info("Received request to get video summary");
+        return ResponseEntity.ok(videoSummaryUseCase.getSummary());
+    }
+
+    @Override
+    @GetMapping("/time-in-state")
+    public ResponseEntity<List<VideoTimeInStateResponse>> getTimeInState(@RequestParam(defaultValue = "7") int days) {
+        log.info("Received request to get time in state over the last {} days", days);
+        return ResponseEntity.ok(videoStatusHistoryUseCase.getTimeInState(days));
+    }
+
+    @Override
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStatusEvents() {
+        String userId = UserContext.getUserId();
+        log.info("Received request to subscribe to status events for userId={}", userId);
+        return videoStatusSseRegistry.subscribe(userId);
+    }
+
     @Override
     @GetMapping("/{id}")
     public ResponseEntity<VideoListResponse> getVideoById(@PathVariable Long id) {
@@ -95,6 +212,40 @@ public class VideoRestControllerImpl implements VideoRestController {
         }
     }
 
+    @Override
+    @GetMapping("/{id}/progress")
+    public ResponseEntity<VideoProgressResponse> getVideoProgress(@PathVariable Long id) {
+        log.info("Received request to get progress of video with ID: {}", id);
+        try {
+            return ResponseEntity.ok(videoProgressUseCase.getProgress(id));
+        } catch (VideoNotFoundException e) {
+            log.warn("Progress requested for unknown video ID: {}", id);
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @Override
+    @GetMapping(value = "/{id}/download", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<StreamingResponseBody> downloadVideo(@PathVariable Long id) {
+        log.info("Received request to download frames of video {}", id);
+        try {
+            VideoDownloadData data = videoDownloadUseCase.prepareDownload(id, UserContext.getUserId());
+            StreamingResponseBody body = outputStream -> azureBlobStorageService.download(data.getVideoBlobName(), outputStream);
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                            .filename(data.getZipFileName())
+                            .build()
+                            .toString())
+                    .body(body);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            log.warn("Download request failed: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (Exception e) {
+            log.error("Unexpected error preparing download of video {}", id, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     @Override
     @GetMapping(value = "/{id}/download-url")
     public ResponseEntity<String> downloadCompactedVideoUrl(
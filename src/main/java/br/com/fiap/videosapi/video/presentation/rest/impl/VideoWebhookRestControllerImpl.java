@@ -0,0 +1,54 @@
+package br.com.fiap.videosapi.video.presentation.rest.impl;
+
+import br.com.fiap.videosapi.video.application.usecase.VideoWebhookUseCase;
+import br.com.fiap.videosapi.video.common.domain.dto.request.VideoWebhookRequest;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoWebhookResponse;
+import br.com.fiap.videosapi.video.presentation.rest.VideoWebhookRestController;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/v1/videos/webhooks")
+@RequiredArgsConstructor
+@Slf4j
+public class VideoWebhookRestControllerImpl implements VideoWebhookRestController {
+
+    private final VideoWebhookUseCase videoWebhookUseCase;
+
+    @Override
+    @PostMapping
+    public ResponseEntity<VideoWebhookResponse> registerWebhook(@RequestBody VideoWebhookRequest request) {
+        log.info("Received request to register a status webhook");
+        return ResponseEntity.status(HttpStatus.CREATED).body(videoWebhookUseCase.register(request));
+    }
+
+    @Override
+    @GetMapping
+    public ResponseEntity<List<VideoWebhookResponse>> listWebhooks() {
+        log.info("Received request to list status webhooks");
+        return ResponseEntity.ok(videoWebhookUseCase.listWebhooks());
+    }
+
+    @Override
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> unregisterWebhook(@PathVariable Long id) {
+        log.info("Received request to unregister webhook ID: {}", id);
+        if (!videoWebhookUseCase.unregister(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,2 @@
+-- Keyset index for the per-user change feed ordered by (updated_at, id)
+CREATE INDEX idx_videos_user_id_updated_at_id ON videos (user_id, updated_at, id);
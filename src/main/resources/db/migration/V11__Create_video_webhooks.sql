@@ -0,0 +1,11 @@
+-- Per-user callback endpoints notified of video status transitions
+CREATE TABLE video_webhooks (
+    id         BIGSERIAL PRIMARY KEY,
+    user_id    VARCHAR(255) NOT NULL,
+    url        VARCHAR(2048) NOT NULL,
+    secret     VARCHAR(128) NOT NULL,
+    active     BOOLEAN      NOT NULL DEFAULT TRUE,
+    created_at TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_video_webhooks_user_id ON video_webhooks (user_id) WHERE active;
@@ -0,0 +1,11 @@
+-- Streamed (reactive) uploads insert the row as PENDING before the size is known and promote it to UPLOADED once
+-- the blob is committed. PENDING rows are hidden from reads and swept if the upload never completes.
+ALTER TABLE videos DROP CONSTRAINT chk_videos_status;
+ALTER TABLE videos ADD CONSTRAINT chk_videos_status
+    CHECK (status IN ('PENDING', 'UPLOADED', 'PROCESSING', 'PROCESSED', 'FAILED'));
+
+-- A zero size is only accepted while the upload is still pending.
+ALTER TABLE videos DROP CONSTRAINT chk_videos_file_size;
+ALTER TABLE videos ADD CONSTRAINT chk_videos_file_size CHECK (file_size > 0 OR status = 'PENDING');
+
+CREATE INDEX idx_videos_pending_uploaded_at ON videos (uploaded_at) WHERE status = 'PENDING';
@@ -0,0 +1,21 @@
+CREATE TABLE video_user_summary (
+    user_id VARCHAR(255) PRIMARY KEY,
+    uploaded_count BIGINT NOT NULL DEFAULT 0,
+    processing_count BIGINT NOT NULL DEFAULT 0,
+    processed_count BIGINT NOT NULL DEFAULT 0,
+    failed_count BIGINT NOT NULL DEFAULT 0,
+    total_bytes BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Backfill counters for videos uploaded before the summary table existed
+INSERT INTO video_user_summary (user_id, uploaded_count, processing_count, processed_count, failed_count, total_bytes, updated_at)
+SELECT user_id,
+       COUNT(*) FILTER (WHERE status = 'UPLOADED'),
+       COUNT(*) FILTER (WHERE status = 'PROCESSING'),
+       COUNT(*) FILTER (WHERE status = 'PROCESSED'),
+       COUNT(*) FILTER (WHERE status = 'FAILED'),
+       COALESCE(SUM(file_size), 0),
+       CURRENT_TIMESTAMP
+FROM videos
+GROUP BY user_id;
@@ -0,0 +1,6 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- The B-tree index cannot serve substring or case-insensitive matches, replace it with a trigram index
+DROP INDEX IF EXISTS idx_videos_original_file_name;
+
+CREATE INDEX idx_videos_original_file_name_trgm ON videos USING gin (original_file_name gin_trgm_ops);
@@ -0,0 +1,3 @@
+-- Ordering watermark for status transitions; concurrent transitions are serialized by the row lock
+ALTER TABLE videos
+    ADD COLUMN last_status_event_at TIMESTAMP;
@@ -0,0 +1,5 @@
+-- Latest processing progress reported by workers, written behind from memory
+ALTER TABLE videos
+    ADD COLUMN progress_percent SMALLINT,
+    ADD COLUMN progress_stage VARCHAR(64),
+    ADD COLUMN progress_updated_at TIMESTAMP;
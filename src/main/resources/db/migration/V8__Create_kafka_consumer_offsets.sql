@@ -0,0 +1,9 @@
+-- Consumer positions committed in the same transaction as the status writes they cover
+CREATE TABLE kafka_consumer_offsets (
+    consumer_group VARCHAR(255) NOT NULL,
+    topic          VARCHAR(255) NOT NULL,
+    partition_id   INTEGER      NOT NULL,
+    next_offset    BIGINT       NOT NULL,
+    updated_at     TIMESTAMP    NOT NULL DEFAULT now(),
+    PRIMARY KEY (consumer_group, topic, partition_id)
+);
@@ -0,0 +1,35 @@
+-- When the current status was entered, so each transition knows how long the previous one lasted
+ALTER TABLE videos
+    ADD COLUMN status_changed_at TIMESTAMP;
+
+-- Append-only log of applied status transitions, partitioned by month of the change
+CREATE TABLE video_status_history (
+    id                    BIGSERIAL,
+    video_id              BIGINT       NOT NULL,
+    user_id               VARCHAR(255) NOT NULL,
+    previous_status       VARCHAR(50)  NOT NULL,
+    status                VARCHAR(50)  NOT NULL,
+    previous_status_since TIMESTAMP    NOT NULL,
+    changed_at            TIMESTAMP    NOT NULL,
+    time_in_previous_ms   BIGINT       NOT NULL,
+    PRIMARY KEY (id, changed_at)
+) PARTITION BY RANGE (changed_at);
+
+CREATE INDEX idx_video_status_history_video_id ON video_status_history (video_id, changed_at);
+CREATE INDEX idx_video_status_history_user_id ON video_status_history (user_id, changed_at);
+
+CREATE TABLE video_status_history_default PARTITION OF video_status_history DEFAULT;
+
+DO $$
+DECLARE
+    month_start DATE;
+BEGIN
+    FOR i IN 0..2 LOOP
+        month_start := (date_trunc('month', now()) + make_interval(months => i))::date;
+        EXECUTE format(
+                'CREATE TABLE IF NOT EXISTS %I PARTITION OF video_status_history FOR VALUES FROM (%L) TO (%L)',
+                'video_status_history_' || to_char(month_start, 'YYYY_MM'),
+                month_start,
+                (month_start + interval '1 month')::date);
+    END LOOP;
+END $$;
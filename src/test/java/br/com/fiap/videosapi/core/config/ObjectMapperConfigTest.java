@@ -2,9 +2,11 @@ package br.com.fiap.videosapi.core.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ObjectMapperConfigTest {
 
@@ -16,4 +18,12 @@ class ObjectMapperConfigTest {
         assertFalse(mapper.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS),
                 "O ObjectMapper não deve serializar datas como timestamps");
     }
+
+    @Test
+    void deveRegistrarModuloBlackbirdNoObjectMapper() {
+        ObjectMapper mapper = new ObjectMapperConfig().objectMapper();
+
+        assertTrue(mapper.getRegisteredModuleIds().contains(new BlackbirdModule().getTypeId()),
+                "O ObjectMapper deve usar acessores gerados pelo Blackbird");
+    }
 }
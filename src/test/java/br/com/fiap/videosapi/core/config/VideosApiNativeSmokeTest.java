@@ -0,0 +1,88 @@
+package br.com.fiap.videosapi.core.config;
+
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoUploadResponse;
+import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
+import br.com.fiap.videosapi.video.infrastructure.kafka.serialization.VideoEventSchemaRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.tika.Tika;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Context test without Mockito, so it also runs inside the native image ({@code mvn -PnativeTest test}) and
+ * exercises the parts that depend on {@link VideosApiRuntimeHints}: Jackson binding of DTOs, Avro schema resources
+ * and the Tika MIME database.
+ */
+@SpringJUnitConfig(VideosApiNativeSmokeTest.SmokeConfig.class)
+class VideosApiNativeSmokeTest {
+
+    private static final byte[] MP4_HEADER = {
+            0x00, 0x00, 0x00, 0x18, 'f', 't', 'y', 'p', 'm', 'p', '4', '2',
+            0x00, 0x00, 0x00, 0x00, 'm', 'p', '4', '2', 'i', 's', 'o', 'm'
+    };
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private VideoEventSchemaRegistry schemaRegistry;
+
+    @Autowired
+    private Tika tika;
+
+    @Test
+    @DisplayName("Deve serializar e desserializar DTOs com o ObjectMapper da aplicação")
+    void deveSerializarEDesserializarDtos() throws Exception {
+        VideoUploadResponse resposta = VideoUploadResponse.builder()
+                .id(1L)
+                .originalFileName("video.mp4")
+                .status(VideoStatus.UPLOADED)
+                .uploadedAt(LocalDateTime.of(2024, 5, 1, 10, 0))
+                .build();
+
+        String json = objectMapper.writeValueAsString(resposta);
+
+        assertTrue(json.contains("\"uploadedAt\":\"2024-05-01T10:00:00\""));
+        assertEquals(resposta, objectMapper.readValue(json, VideoUploadResponse.class));
+    }
+
+    @Test
+    @DisplayName("Deve carregar os schemas Avro empacotados")
+    void deveCarregarSchemasAvro() {
+        assertEquals(VideoEventSchemaRegistry.VIDEO_STATUS_UPDATE_EVENT_V2,
+                schemaRegistry.getLatestId(schemaRegistry.getById(VideoEventSchemaRegistry.VIDEO_STATUS_UPDATE_EVENT_V2).getFullName()));
+        assertNotNull(schemaRegistry.getById(VideoEventSchemaRegistry.VIDEO_UPLOAD_EVENT_V1).getField("videoId"));
+    }
+
+    @Test
+    @DisplayName("Deve detectar vídeo MP4 pela base de tipos MIME do Tika")
+    void deveDetectarVideoMp4() {
+        assertEquals("video/mp4", tika.detect(MP4_HEADER, "video.mp4"));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @Import(ObjectMapperConfig.class)
+    @ImportRuntimeHints(VideosApiRuntimeHints.class)
+    static class SmokeConfig {
+
+        @Bean
+        VideoEventSchemaRegistry videoEventSchemaRegistry() {
+            return VideoEventSchemaRegistry.withDefaultSchemas();
+        }
+
+        @Bean
+        Tika tika() {
+            return new Tika();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.fiap.videosapi.core.config;
+
+import br.com.fiap.videosapi.video.common.domain.dto.event.VideoStatusUpdateEvent;
+import br.com.fiap.videosapi.video.common.domain.dto.event.VideoWebhookPayload;
+import br.com.fiap.videosapi.video.common.domain.dto.request.VideoWebhookRequest;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoListResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VideosApiRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new VideosApiRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("Deve registrar schemas Avro, migrações Flyway e tipos MIME do Tika como recursos")
+    void deveRegistrarRecursosCarregadosEmTempoDeExecucao() {
+        assertTrue(RuntimeHintsPredicates.resource().forResource("avro/video-upload-event-v1.avsc").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("avro/video-status-update-event-v2.avsc").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("db/migration/V1__Create_videos_table.sql").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("org/apache/tika/mime/tika-mimetypes.xml").test(hints));
+    }
+
+    @Test
+    @DisplayName("Deve registrar reflexão de binding para os DTOs serializados pelo Jackson")
+    void deveRegistrarReflexaoParaDtos() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(VideoListResponse.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(VideoWebhookRequest.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(VideoStatusUpdateEvent.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(VideoWebhookPayload.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(VideoListResponse.class, "getStatus").test(hints));
+    }
+
+    @Test
+    @DisplayName("Deve registrar construtores dos tipos instanciados por nome pelo cliente Kafka")
+    void deveRegistrarTiposDoKafka() {
+        VideosApiRuntimeHints.REFLECTIVE_TYPES.forEach(type ->
+                assertTrue(RuntimeHintsPredicates.reflection().onType(TypeReference.of(type)).test(hints), type));
+    }
+}
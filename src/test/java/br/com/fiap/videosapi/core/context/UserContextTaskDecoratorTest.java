@@ -0,0 +1,34 @@
+package br.com.fiap.videosapi.core.context;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class UserContextTaskDecoratorTest {
+
+    private final UserContextTaskDecorator decorator = new UserContextTaskDecorator();
+
+    @AfterEach
+    void tearDown() {
+        UserContext.clear();
+    }
+
+    @Test
+    @DisplayName("Deve executar a tarefa decorada com o usuário da requisição que a submeteu")
+    void deveExecutarTarefaComUsuarioDaRequisicao() throws InterruptedException {
+        UserContext.setUserId("user-123");
+        AtomicReference<String> capturado = new AtomicReference<>();
+        Runnable decorada = decorator.decorate(() -> capturado.set(UserContext.getUserId()));
+        UserContext.clear();
+
+        Thread.ofVirtual().start(decorada).join();
+
+        assertEquals("user-123", capturado.get());
+        assertNull(UserContext.getUserId());
+    }
+}
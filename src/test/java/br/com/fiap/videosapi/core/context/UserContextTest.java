@@ -0,0 +1,71 @@
+package br.com.fiap.videosapi.core.context;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UserContextTest {
+
+    @AfterEach
+    void tearDown() {
+        UserContext.clear();
+    }
+
+    @Test
+    @DisplayName("Deve expor o usuário apenas durante a execução e restaurar o anterior")
+    void deveRestaurarUsuarioAnteriorAposExecucao() throws Exception {
+        UserContext.setUserId("user-externo");
+
+        String dentro = UserContext.callWithUserId("user-123", UserContext::getUserId);
+
+        assertEquals("user-123", dentro);
+        assertEquals("user-externo", UserContext.getUserId());
+    }
+
+    @Test
+    @DisplayName("Deve limpar o usuário mesmo quando a tarefa lança exceção")
+    void deveLimparUsuarioQuandoTarefaFalha() {
+        Runnable falha = () -> {
+            throw new IllegalStateException("falha");
+        };
+
+        assertThrows(IllegalStateException.class, () -> UserContext.runWithUserId("user-123", falha));
+        assertNull(UserContext.getUserId());
+    }
+
+    @Test
+    @DisplayName("Deve propagar o usuário capturado para tarefas em threads virtuais")
+    void devePropagarUsuarioParaThreadVirtual() throws Exception {
+        UserContext.setUserId("user-123");
+        AtomicReference<String> capturado = new AtomicReference<>();
+        Runnable tarefa = () -> capturado.set(UserContext.getUserId());
+        Callable<String> consulta = UserContext::getUserId;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.submit(UserContext.wrap(tarefa)).get();
+            assertEquals("user-123", executor.submit(UserContext.wrap(consulta)).get());
+            assertNull(executor.submit(consulta).get());
+        }
+
+        assertEquals("user-123", capturado.get());
+    }
+
+    @Test
+    @DisplayName("Deve executar a tarefa sem usuário quando nenhum foi capturado")
+    void deveNaoVazarUsuarioDaThreadExecutora() throws Exception {
+        Callable<String> consulta = UserContext.wrap((Callable<String>) UserContext::getUserId);
+
+        String resultado = UserContext.callWithUserId("user-antigo", consulta);
+
+        assertNull(resultado);
+    }
+}
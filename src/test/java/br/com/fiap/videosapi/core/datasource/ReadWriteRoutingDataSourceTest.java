@@ -0,0 +1,53 @@
+package br.com.fiap.videosapi.core.datasource;
+
+import br.com.fiap.videosapi.core.context.UserContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private final ReadYourWritesGuard guard = new ReadYourWritesGuard(Duration.ofMinutes(1));
+    private final ReadWriteRoutingDataSource routingDataSource =
+            new ReadWriteRoutingDataSource(mock(DataSource.class), mock(DataSource.class), guard);
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        UserContext.clear();
+    }
+
+    @Test
+    @DisplayName("Deve rotear transações somente leitura para a réplica")
+    void deveRotearTransacoesSomenteLeituraParaReplica() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        UserContext.setUserId("user-1");
+
+        assertEquals(DataSourceRole.REPLICA, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("Deve rotear escritas para o primário")
+    void deveRotearEscritasParaPrimario() {
+        UserContext.setUserId("user-1");
+
+        assertEquals(DataSourceRole.PRIMARY, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("Deve manter leituras no primário após escrita recente do usuário")
+    void deveManterLeiturasNoPrimarioAposEscritaRecente() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        UserContext.setUserId("user-1");
+        guard.markWrite("user-1");
+
+        assertEquals(DataSourceRole.PRIMARY, routingDataSource.determineCurrentLookupKey());
+    }
+}
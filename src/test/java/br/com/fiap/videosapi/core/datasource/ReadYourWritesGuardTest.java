@@ -0,0 +1,47 @@
+package br.com.fiap.videosapi.core.datasource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReadYourWritesGuardTest {
+
+    @Test
+    @DisplayName("Deve fixar leituras no primário logo após uma escrita do usuário")
+    void deveFixarLeiturasNoPrimarioLogoAposEscrita() {
+        ReadYourWritesGuard guard = new ReadYourWritesGuard(Duration.ofMinutes(1));
+
+        guard.markWrite("user-1");
+
+        assertTrue(guard.requiresPrimary("user-1"));
+        assertFalse(guard.requiresPrimary("user-2"));
+    }
+
+    @Test
+    @DisplayName("Deve liberar leituras para a réplica quando a janela expirar")
+    void deveLiberarLeiturasQuandoJanelaExpirar() throws InterruptedException {
+        ReadYourWritesGuard guard = new ReadYourWritesGuard(Duration.ofMillis(20));
+
+        guard.markWrite("user-1");
+        Thread.sleep(40);
+
+        assertFalse(guard.requiresPrimary("user-1"));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar escritas sem usuário ou com janela desabilitada")
+    void deveIgnorarEscritasSemUsuarioOuJanelaDesabilitada() {
+        ReadYourWritesGuard disabled = new ReadYourWritesGuard(Duration.ZERO);
+        disabled.markWrite("user-1");
+
+        ReadYourWritesGuard guard = new ReadYourWritesGuard(Duration.ofMinutes(1));
+        guard.markWrite(null);
+
+        assertFalse(disabled.requiresPrimary("user-1"));
+        assertFalse(guard.requiresPrimary(null));
+    }
+}
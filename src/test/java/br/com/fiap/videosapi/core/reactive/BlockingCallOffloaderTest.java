@@ -0,0 +1,52 @@
+package br.com.fiap.videosapi.core.reactive;
+
+import br.com.fiap.videosapi.core.context.UserContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlockingCallOffloaderTest {
+
+    private BlockingCallOffloader offloader;
+
+    @BeforeEach
+    void setUp() {
+        offloader = new BlockingCallOffloader(2, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        offloader.close();
+    }
+
+    @Test
+    @DisplayName("Deve executar a chamada bloqueante fora da thread chamadora com o usuário informado")
+    void deveExecutarChamadaForaDaThreadChamadoraComUsuario() {
+        String threadChamadora = Thread.currentThread().getName();
+
+        String resultado = offloader.call("user-123", () -> Thread.currentThread().getName() + "|" + UserContext.getUserId())
+                .block();
+
+        assertNotNull(resultado);
+        String[] partes = resultado.split("\\|");
+        assertNotEquals(threadChamadora, partes[0]);
+        assertTrue(partes[0].startsWith("video-jdbc"));
+        assertEquals("user-123", partes[1]);
+    }
+
+    @Test
+    @DisplayName("Deve propagar a exceção da chamada bloqueante e não vazar o usuário para a thread")
+    void devePropagarExcecaoSemVazarUsuario() {
+        Mono<Object> falha = offloader.call("user-123", () -> {
+            throw new IllegalArgumentException("Video not found with id: 1");
+        });
+
+        IllegalArgumentException erro = assertThrows(IllegalArgumentException.class, falha::block);
+        assertEquals("Video not found with id: 1", erro.getMessage());
+        assertNull(offloader.call(null, UserContext::getUserId).block());
+    }
+}
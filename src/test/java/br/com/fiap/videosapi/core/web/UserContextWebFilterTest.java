@@ -0,0 +1,60 @@
+package br.com.fiap.videosapi.core.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserContextWebFilterTest {
+
+    private final UserContextWebFilter filter = new UserContextWebFilter();
+
+    @Test
+    @DisplayName("Deve retornar 400 quando o header x-cliente-id não for informado")
+    void deveRetornarBadRequestSemHeaderDoCliente() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/videos/api/v1/videos/upload"));
+        AtomicBoolean encadeado = new AtomicBoolean();
+
+        filter.filter(exchange, encadear(encadeado)).block();
+
+        assertFalse(encadeado.get());
+        assertEquals(HttpStatus.BAD_REQUEST, exchange.getResponse().getStatusCode());
+        assertEquals("{\"message\":\"Missing required header x-cliente-id\"}", exchange.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    @DisplayName("Deve seguir a cadeia e refletir o header do cliente na resposta")
+    void deveSeguirCadeiaERefletirHeaderDoCliente() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/videos/api/v1/videos/1/download")
+                .header("x-cliente-id", "cliente1"));
+        AtomicBoolean encadeado = new AtomicBoolean();
+
+        filter.filter(exchange, encadear(encadeado)).block();
+
+        assertTrue(encadeado.get());
+        assertEquals("cliente1", exchange.getResponse().getHeaders().getFirst("x-cliente-id"));
+    }
+
+    @Test
+    @DisplayName("Deve liberar endpoints públicos sem o header do cliente")
+    void deveLiberarEndpointsPublicosSemHeader() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/videos/actuator/health"));
+        AtomicBoolean encadeado = new AtomicBoolean();
+
+        filter.filter(exchange, encadear(encadeado)).block();
+
+        assertTrue(encadeado.get());
+        assertNull(exchange.getResponse().getStatusCode());
+    }
+
+    private static WebFilterChain encadear(AtomicBoolean encadeado) {
+        return exchange -> Mono.fromRunnable(() -> encadeado.set(true));
+    }
+}
@@ -0,0 +1,277 @@
+package br.com.fiap.videosapi.video.application.usecase.impl;
+
+import br.com.fiap.videosapi.core.context.UserContext;
+import br.com.fiap.videosapi.core.datasource.ReadYourWritesGuard;
+import br.com.fiap.videosapi.core.reactive.BlockingCallOffloader;
+import br.com.fiap.videosapi.video.application.usecase.VideoSummaryUseCase;
+import br.com.fiap.videosapi.video.common.domain.dto.event.VideoUploadEvent;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoUploadResponse;
+import br.com.fiap.videosapi.video.domain.entity.Video;
+import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
+import br.com.fiap.videosapi.video.infrastructure.azure.AzureBlobAsyncStorageService;
+import br.com.fiap.videosapi.video.infrastructure.azure.AzureBlobUploadResult;
+import br.com.fiap.videosapi.video.infrastructure.kafka.VideoEventProducer;
+import br.com.fiap.videosapi.video.infrastructure.repository.VideoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.multipart.FilePartEvent;
+import org.springframework.http.codec.multipart.FormPartEvent;
+import org.springframework.http.codec.multipart.PartEvent;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ReactiveVideoUploadUseCaseImplTest {
+
+    private static final byte[] MP4_HEADER = {
+            0x00, 0x00, 0x00, 0x18, 'f', 't', 'y', 'p', 'm', 'p', '4', '2',
+            0x00, 0x00, 0x00, 0x00, 'm', 'p', '4', '2', 'i', 's', 'o', 'm'
+    };
+
+    @Mock
+    private AzureBlobAsyncStorageService azureBlobAsyncStorageService;
+    @Mock
+    private VideoEventProducer videoEventProducer;
+    @Mock
+    private VideoRepository videoRepository;
+    @Mock
+    private VideoSummaryUseCase videoSummaryUseCase;
+    @Mock
+    private ReadYourWritesGuard readYourWritesGuard;
+
+    private BlockingCallOffloader blockingCallOffloader;
+    private ReactiveVideoUploadUseCaseImpl useCase;
+    private AutoCloseable autoCloseable;
+
+    @BeforeEach
+    void setUp() {
+        autoCloseable = MockitoAnnotations.openMocks(this);
+        blockingCallOffloader = new BlockingCallOffloader(2, 100);
+        useCase = new ReactiveVideoUploadUseCaseImpl(azureBlobAsyncStorageService, videoEventProducer,
+                videoRepository, videoSummaryUseCase, readYourWritesGuard, blockingCallOffloader);
+        useCase.connectionString = "conn";
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        blockingCallOffloader.close();
+        autoCloseable.close();
+    }
+
+    @Test
+    @DisplayName("Deve transmitir o vídeo para o blob e registrar o upload com o tamanho recebido")
+    @SuppressWarnings("unchecked")
+    void deveTransmitirVideoERegistrarUpload() {
+        List<String> usuariosNoJdbc = new CopyOnWriteArrayList<>();
+        when(videoRepository.save(any(Video.class))).thenAnswer(invocation -> {
+            usuariosNoJdbc.add(UserContext.getUserId());
+            Video video = invocation.getArgument(0);
+            video.setId(10L);
+            return video;
+        });
+        when(videoRepository.completePendingUpload(eq(10L), anyString(), anyString(), anyString(), anyLong()))
+                .thenAnswer(invocation -> {
+                    usuariosNoJdbc.add(UserContext.getUserId());
+                    return 1;
+                });
+        when(azureBlobAsyncStorageService.uploadVideo(any(), eq(10L), eq("video.mp4"), eq("video/mp4")))
+                .thenAnswer(invocation -> ((Flux<ByteBuffer>) invocation.getArgument(0))
+                        .then(Mono.just(AzureBlobUploadResult.builder()
+                                .fileName("10/video.mp4")
+                                .blobUrl("https://blob.url/10/video.mp4")
+                                .containerName("videos")
+                                .success(true)
+                                .build())));
+        byte[] restante = "restante-do-video".getBytes(StandardCharsets.UTF_8);
+
+        List<VideoUploadResponse> respostas = useCase.uploadVideos(
+                arquivo("video.mp4", MP4_HEADER, restante), "user-123").collectList().block();
+
+        assertNotNull(respostas);
+        assertEquals(1, respostas.size());
+        assertEquals(10L, respostas.get(0).getId());
+        assertEquals(VideoStatus.UPLOADED, respostas.get(0).getStatus());
+        assertEquals("https://blob.url/10/video.mp4", respostas.get(0).getAzureBlobUrl());
+        long tamanho = MP4_HEADER.length + restante.length;
+        assertEquals(tamanho, respostas.get(0).getFileSize());
+        assertEquals(List.of("user-123", "user-123"), usuariosNoJdbc);
+        verify(videoRepository).completePendingUpload(10L, "10/video.mp4", "https://blob.url/10/video.mp4", "videos",
+                tamanho);
+        verify(videoSummaryUseCase).recordUpload("user-123", tamanho);
+        verify(readYourWritesGuard).markWrite("user-123");
+        ArgumentCaptor<VideoUploadEvent> evento = ArgumentCaptor.forClass(VideoUploadEvent.class);
+        verify(videoEventProducer).publishVideoUploadEvent(evento.capture());
+        assertEquals(10L, evento.getValue().getVideoId());
+        assertEquals("conn", evento.getValue().getConnectionString());
+    }
+
+    @Test
+    @DisplayName("Deve gravar o registro pendente com o tipo detectado quando a parte não informa Content-Type")
+    void deveUsarTipoDetectadoQuandoParteNaoInformaContentType() {
+        List<Video> pendentes = new CopyOnWriteArrayList<>();
+        when(videoRepository.save(any(Video.class))).thenAnswer(invocation -> {
+            Video video = invocation.getArgument(0);
+            pendentes.add(Video.builder()
+                    .contentType(video.getContentType())
+                    .fileSize(video.getFileSize())
+                    .azureBlobUrl(video.getAzureBlobUrl())
+                    .status(video.getStatus())
+                    .build());
+            video.setId(10L);
+            return video;
+        });
+        when(videoRepository.completePendingUpload(eq(10L), anyString(), anyString(), anyString(), anyLong()))
+                .thenReturn(1);
+        when(azureBlobAsyncStorageService.uploadVideo(any(), eq(10L), eq("video.mp4"), eq("video/mp4")))
+                .thenReturn(Mono.just(AzureBlobUploadResult.builder()
+                        .fileName("10/video.mp4")
+                        .blobUrl("https://blob.url/10/video.mp4")
+                        .containerName("videos")
+                        .success(true)
+                        .build()));
+        Flux<DataBuffer> conteudo = Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(MP4_HEADER));
+        Flux<PartEvent> partes = FilePartEvent.create(ReactiveVideoUploadUseCaseImpl.FILES_PART, "video.mp4",
+                        MediaType.APPLICATION_OCTET_STREAM, conteudo, headers -> headers.remove(HttpHeaders.CONTENT_TYPE))
+                .cast(PartEvent.class);
+
+        List<VideoUploadResponse> respostas = useCase.uploadVideos(partes, "user-123").collectList().block();
+
+        assertNotNull(respostas);
+        assertEquals(10L, respostas.get(0).getId());
+        assertEquals(1, pendentes.size());
+        assertEquals("video/mp4", pendentes.get(0).getContentType());
+        assertEquals(0L, pendentes.get(0).getFileSize());
+        assertNull(pendentes.get(0).getAzureBlobUrl());
+        assertEquals(VideoStatus.PENDING, pendentes.get(0).getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar arquivo que não é vídeo sem gravar nem enviar ao blob")
+    void deveRejeitarArquivoQueNaoEVideo() {
+        List<VideoUploadResponse> respostas = useCase.uploadVideos(
+                arquivo("nota.txt", "apenas texto".getBytes(StandardCharsets.UTF_8)), "user-123").collectList().block();
+
+        assertNotNull(respostas);
+        assertEquals(1, respostas.size());
+        assertNull(respostas.get(0).getId());
+        assertTrue(respostas.get(0).getMessage().contains("Invalid file type"));
+        verifyNoInteractions(videoRepository, azureBlobAsyncStorageService, videoEventProducer);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar arquivo vazio")
+    void deveRejeitarArquivoVazio() {
+        List<VideoUploadResponse> respostas = useCase.uploadVideos(arquivo("video.mp4"), "user-123")
+                .collectList().block();
+
+        assertNotNull(respostas);
+        assertEquals("Error uploading video: File cannot be empty", respostas.get(0).getMessage());
+        verifyNoInteractions(videoRepository);
+    }
+
+    @Test
+    @DisplayName("Deve remover o registro do vídeo quando o envio ao blob falhar")
+    void deveRemoverRegistroQuandoEnvioAoBlobFalhar() {
+        when(videoRepository.save(any(Video.class))).thenAnswer(invocation -> {
+            Video video = invocation.getArgument(0);
+            video.setId(10L);
+            return video;
+        });
+        when(azureBlobAsyncStorageService.uploadVideo(any(), anyLong(), anyString(), any()))
+                .thenReturn(Mono.error(new RuntimeException("falha de rede")));
+
+        List<VideoUploadResponse> respostas = useCase.uploadVideos(arquivo("video.mp4", MP4_HEADER), "user-123")
+                .collectList().block();
+
+        assertNotNull(respostas);
+        assertEquals("Error uploading video: falha de rede", respostas.get(0).getMessage());
+        verify(videoRepository).deletePendingUpload(10L);
+        verify(videoSummaryUseCase, never()).recordUpload(anyString(), anyLong());
+        verify(videoEventProducer, never()).publishVideoUploadEvent(any());
+    }
+
+    @Test
+    @DisplayName("Deve remover o registro pendente quando o cliente desconectar durante o envio")
+    void deveRemoverRegistroPendenteQuandoClienteDesconectar() {
+        when(videoRepository.save(any(Video.class))).thenAnswer(invocation -> {
+            Video video = invocation.getArgument(0);
+            video.setId(10L);
+            return video;
+        });
+        Sinks.One<AzureBlobUploadResult> envio = Sinks.one();
+        when(azureBlobAsyncStorageService.uploadVideo(any(), anyLong(), anyString(), any()))
+                .thenReturn(envio.asMono());
+
+        Disposable assinatura = useCase.uploadVideos(arquivo("video.mp4", MP4_HEADER), "user-123").subscribe();
+        verify(azureBlobAsyncStorageService, timeout(5000)).uploadVideo(any(), eq(10L), anyString(), any());
+        assinatura.dispose();
+
+        verify(videoRepository, timeout(5000)).deletePendingUpload(10L);
+        verify(videoRepository, never()).completePendingUpload(anyLong(), anyString(), anyString(), anyString(), anyLong());
+        verify(videoEventProducer, never()).publishVideoUploadEvent(any());
+    }
+
+    @Test
+    @DisplayName("Deve falhar e não publicar evento quando o registro pendente já tiver sido varrido")
+    void deveFalharQuandoRegistroPendenteJaTiverSidoVarrido() {
+        when(videoRepository.save(any(Video.class))).thenAnswer(invocation -> {
+            Video video = invocation.getArgument(0);
+            video.setId(10L);
+            return video;
+        });
+        when(azureBlobAsyncStorageService.uploadVideo(any(), anyLong(), anyString(), any()))
+                .thenReturn(Mono.just(AzureBlobUploadResult.builder()
+                        .fileName("10/video.mp4")
+                        .blobUrl("https://blob.url/10/video.mp4")
+                        .containerName("videos")
+                        .success(true)
+                        .build()));
+        when(videoRepository.completePendingUpload(eq(10L), anyString(), anyString(), anyString(), anyLong()))
+                .thenReturn(0);
+
+        List<VideoUploadResponse> respostas = useCase.uploadVideos(arquivo("video.mp4", MP4_HEADER), "user-123")
+                .collectList().block();
+
+        assertNotNull(respostas);
+        assertTrue(respostas.get(0).getMessage().contains("expired"));
+        verify(videoSummaryUseCase, never()).recordUpload(anyString(), anyLong());
+        verify(videoEventProducer, never()).publishVideoUploadEvent(any());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar campos de formulário que não são arquivos de vídeo")
+    void deveIgnorarCamposDeFormulario() {
+        Flux<PartEvent> partes = FormPartEvent.create("descricao", "meu vídeo").cast(PartEvent.class).flux();
+
+        List<VideoUploadResponse> respostas = useCase.uploadVideos(partes, "user-123").collectList().block();
+
+        assertNotNull(respostas);
+        assertTrue(respostas.isEmpty());
+        verifyNoInteractions(videoRepository, azureBlobAsyncStorageService);
+    }
+
+    private static Flux<PartEvent> arquivo(String nome, byte[]... partes) {
+        Flux<DataBuffer> conteudo = Flux.fromArray(partes).<DataBuffer>map(DefaultDataBufferFactory.sharedInstance::wrap);
+        MediaType tipo = nome.endsWith(".mp4") ? MediaType.parseMediaType("video/mp4") : MediaType.TEXT_PLAIN;
+        return FilePartEvent.create(ReactiveVideoUploadUseCaseImpl.FILES_PART, nome, tipo, conteudo).cast(PartEvent.class);
+    }
+}
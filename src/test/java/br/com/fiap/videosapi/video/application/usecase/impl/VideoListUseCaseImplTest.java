@@ -1,9 +1,12 @@
 package br.com.fiap.videosapi.video.application.usecase.impl;
 
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoBatchGetResponse;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoChangesResponse;
 import br.com.fiap.videosapi.video.common.domain.dto.response.VideoListResponse;
 import br.com.fiap.videosapi.video.domain.entity.Video;
 import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
 import br.com.fiap.videosapi.video.infrastructure.repository.VideoRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,10 +17,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -29,6 +34,9 @@ class VideoListUseCaseImplTest {
     @Mock
     private VideoRepository videoRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private VideoListUseCaseImpl videoListUseCase;
 
@@ -223,4 +231,115 @@ class VideoListUseCaseImplTest {
         verify(videoRepository, times(1)).findByStatusAndUserId(VideoStatus.PROCESSED, USER_ID);
         verify(videoRepository, times(1)).findByIdAndUserId(1L, USER_ID);
     }
+
+    @Test
+    @DisplayName("Deve transmitir vídeos do cursor e desanexar cada entidade")
+    void deveTransmitirVideosDoCursorEDesanexarCadaEntidade() {
+        when(videoRepository.streamAllByUserId(USER_ID)).thenReturn(Stream.of(videoProcessado, videoPendente));
+
+        List<VideoListResponse> recebidos = new ArrayList<>();
+        videoListUseCase.streamAllVideos(USER_ID, recebidos::add);
+
+        assertEquals(2, recebidos.size());
+        assertEquals(videoProcessado.getId(), recebidos.get(0).getId());
+        assertNotNull(recebidos.get(0).getDownloadUrl());
+        assertNull(recebidos.get(1).getDownloadUrl());
+        verify(entityManager).detach(videoProcessado);
+        verify(entityManager).detach(videoPendente);
+        verify(videoRepository, never()).findAllByUserId(any());
+    }
+
+    @Test
+    @DisplayName("Deve buscar vídeos escapando curingas e calculando offset")
+    void deveBuscarVideosEscapandoCuringasECalculandoOffset() {
+        when(videoRepository.searchByOriginalFileName(USER_ID, "50%_off", "%50\\%\\_off%", "50\\%\\_off%", 10, 20L))
+                .thenReturn(Collections.singletonList(videoProcessado));
+
+        List<VideoListResponse> resultado = videoListUseCase.searchVideos(" 50%_off ", 2, 10);
+
+        assertEquals(1, resultado.size());
+        assertEquals(videoProcessado.getId(), resultado.getFirst().getId());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar busca vazia ou paginação inválida")
+    void deveRejeitarBuscaVaziaOuPaginacaoInvalida() {
+        assertThrows(IllegalArgumentException.class, () -> videoListUseCase.searchVideos("  ", 0, 20));
+        assertThrows(IllegalArgumentException.class, () -> videoListUseCase.searchVideos("video", -1, 20));
+        assertThrows(IllegalArgumentException.class, () -> videoListUseCase.searchVideos("video", 0, 101));
+        verifyNoInteractions(videoRepository);
+    }
+
+    @Test
+    @DisplayName("Deve buscar vídeos em lote retornando encontrados e IDs ausentes")
+    void deveBuscarVideosEmLoteRetornandoEncontradosEIdsAusentes() {
+        when(videoRepository.findAllByIdInAndUserId(List.of(2L, 1L, 99L), USER_ID))
+                .thenReturn(List.of(videoProcessado, videoPendente));
+
+        VideoBatchGetResponse resultado = videoListUseCase.getVideosByIds(List.of(2L, 1L, 99L, 2L));
+
+        assertEquals(2, resultado.getVideos().size());
+        assertEquals(2L, resultado.getVideos().get(0).getId());
+        assertEquals(1L, resultado.getVideos().get(1).getId());
+        assertEquals(List.of(99L), resultado.getMissingIds());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar busca em lote vazia ou acima do limite")
+    void deveRejeitarBuscaEmLoteVaziaOuAcimaDoLimite() {
+        List<Long> idsDemais = new ArrayList<>();
+        for (long i = 1; i <= 101; i++) {
+            idsDemais.add(i);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> videoListUseCase.getVideosByIds(null));
+        assertThrows(IllegalArgumentException.class, () -> videoListUseCase.getVideosByIds(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> videoListUseCase.getVideosByIds(idsDemais));
+        verifyNoInteractions(videoRepository);
+    }
+
+    @Test
+    @DisplayName("Deve retornar mudanças após o cursor limitadas pela marca d'água de transações em andamento")
+    void deveRetornarMudancasAposCursorLimitadasPelaMarcaDagua() {
+        LocalDateTime marcaDagua = LocalDateTime.of(2025, 9, 25, 12, 0);
+        LocalDateTime desde = LocalDateTime.of(2025, 9, 25, 10, 0, 0, 123456000);
+        videoProcessado.setUpdatedAt(LocalDateTime.of(2025, 9, 25, 11, 0));
+        videoPendente.setUpdatedAt(LocalDateTime.of(2025, 9, 25, 11, 30));
+        when(videoRepository.findChangeFeedHighWaterMark()).thenReturn(marcaDagua);
+        when(videoRepository.findChangedSince(USER_ID, desde, 7L, marcaDagua, 2))
+                .thenReturn(List.of(videoProcessado, videoPendente));
+
+        VideoChangesResponse resultado = videoListUseCase.getChanges(VideoListUseCaseImpl.encodeChangesCursor(desde, 7L), 1);
+
+        assertEquals(1, resultado.getVideos().size());
+        assertEquals(1L, resultado.getVideos().get(0).getId());
+        assertEquals(videoProcessado.getUpdatedAt(), resultado.getVideos().get(0).getUpdatedAt());
+        assertTrue(resultado.isHasMore());
+        assertEquals(VideoListUseCaseImpl.encodeChangesCursor(videoProcessado.getUpdatedAt(), 1L), resultado.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Deve iniciar sincronização completa e manter o cursor quando não houver mudanças")
+    void deveIniciarSincronizacaoCompletaEManterCursorSemMudancas() {
+        LocalDateTime marcaDagua = LocalDateTime.now();
+        when(videoRepository.findChangeFeedHighWaterMark()).thenReturn(marcaDagua);
+        when(videoRepository.findChangedSince(USER_ID, LocalDateTime.of(1970, 1, 1, 0, 0), 0L, marcaDagua, 101))
+                .thenReturn(List.of());
+
+        VideoChangesResponse resultado = videoListUseCase.getChanges(null, 100);
+
+        assertTrue(resultado.getVideos().isEmpty());
+        assertFalse(resultado.isHasMore());
+        assertEquals(VideoListUseCaseImpl.encodeChangesCursor(LocalDateTime.of(1970, 1, 1, 0, 0), 0L), resultado.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor inválido ou limite fora do intervalo")
+    void deveRejeitarCursorInvalidoOuLimiteForaDoIntervalo() {
+        assertThrows(IllegalArgumentException.class, () -> videoListUseCase.getChanges("não-é-cursor", 100));
+        assertThrows(IllegalArgumentException.class, () -> videoListUseCase.getChanges("YWJjfDEy", 100));
+        assertThrows(IllegalArgumentException.class, () -> videoListUseCase.getChanges(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> videoListUseCase.getChanges(null, 501));
+        verifyNoInteractions(videoRepository);
+    }
 }
@@ -0,0 +1,88 @@
+package br.com.fiap.videosapi.video.application.usecase.impl;
+
+import br.com.fiap.videosapi.core.context.UserContext;
+import br.com.fiap.videosapi.core.exception.VideoNotFoundException;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoProgressResponse;
+import br.com.fiap.videosapi.video.domain.entity.Video;
+import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
+import br.com.fiap.videosapi.video.infrastructure.progress.VideoProgress;
+import br.com.fiap.videosapi.video.infrastructure.progress.VideoProgressTracker;
+import br.com.fiap.videosapi.video.infrastructure.repository.VideoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VideoProgressUseCaseImplTest {
+
+    private static final String USER_ID = "user-123";
+
+    @Mock
+    private VideoProgressTracker videoProgressTracker;
+
+    @Mock
+    private VideoRepository videoRepository;
+
+    @InjectMocks
+    private VideoProgressUseCaseImpl videoProgressUseCase;
+
+    @BeforeEach
+    void setUp() {
+        UserContext.setUserId(USER_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        UserContext.clear();
+    }
+
+    @Test
+    @DisplayName("Deve responder progresso da memória sem consultar o banco")
+    void deveResponderProgressoDaMemoriaSemConsultarBanco() {
+        LocalDateTime reportadoEm = LocalDateTime.of(2025, 9, 25, 10, 30);
+        when(videoProgressTracker.get(1L)).thenReturn(Optional.of(VideoProgress.builder()
+                .videoId(1L).userId(USER_ID).percent(60).stage("frame-extraction").reportedAt(reportadoEm).build()));
+
+        VideoProgressResponse resposta = videoProgressUseCase.getProgress(1L);
+
+        assertEquals(VideoStatus.PROCESSING, resposta.getStatus());
+        assertEquals(60, resposta.getProgressPercent());
+        assertEquals(reportadoEm, resposta.getUpdatedAt());
+        verifyNoInteractions(videoRepository);
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco quando o progresso em memória for de outro usuário")
+    void deveConsultarBancoQuandoProgressoEmMemoriaForDeOutroUsuario() {
+        when(videoProgressTracker.get(1L)).thenReturn(Optional.of(VideoProgress.builder()
+                .videoId(1L).userId("outro-usuario").percent(60).reportedAt(LocalDateTime.now()).build()));
+        when(videoRepository.findByIdAndUserId(1L, USER_ID)).thenReturn(Optional.empty());
+
+        assertThrows(VideoNotFoundException.class, () -> videoProgressUseCase.getProgress(1L));
+    }
+
+    @Test
+    @DisplayName("Deve responder 100% para vídeo processado lido do banco")
+    void deveResponderCemPorCentoParaVideoProcessadoLidoDoBanco() {
+        when(videoProgressTracker.get(1L)).thenReturn(Optional.empty());
+        when(videoRepository.findByIdAndUserId(1L, USER_ID)).thenReturn(Optional.of(Video.builder()
+                .id(1L).userId(USER_ID).status(VideoStatus.PROCESSED).progressPercent(97).progressStage("zip").build()));
+
+        VideoProgressResponse resposta = videoProgressUseCase.getProgress(1L);
+
+        assertEquals(VideoStatus.PROCESSED, resposta.getStatus());
+        assertEquals(100, resposta.getProgressPercent());
+        assertEquals("zip", resposta.getStage());
+    }
+}
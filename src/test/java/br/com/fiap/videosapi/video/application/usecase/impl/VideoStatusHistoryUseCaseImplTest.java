@@ -0,0 +1,73 @@
+package br.com.fiap.videosapi.video.application.usecase.impl;
+
+import br.com.fiap.videosapi.core.context.UserContext;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoTimeInStateResponse;
+import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
+import br.com.fiap.videosapi.video.infrastructure.repository.VideoStatusHistoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VideoStatusHistoryUseCaseImplTest {
+
+    private static final String USER_ID = "user-123";
+
+    @Mock
+    private VideoStatusHistoryRepository videoStatusHistoryRepository;
+
+    @InjectMocks
+    private VideoStatusHistoryUseCaseImpl videoStatusHistoryUseCase;
+
+    @BeforeEach
+    void setUp() {
+        UserContext.setUserId(USER_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        UserContext.clear();
+    }
+
+    @Test
+    @DisplayName("Deve agregar tempo em cada status apenas dos vídeos do usuário na janela informada")
+    void deveAgregarTempoEmCadaStatusApenasDosVideosDoUsuario() {
+        List<VideoTimeInStateResponse> agregados = List.of(VideoTimeInStateResponse.builder()
+                .status(VideoStatus.PROCESSING).transitions(4L).averageSeconds(120.0).build());
+        when(videoStatusHistoryRepository.findTimeInState(eq(USER_ID), any())).thenReturn(agregados);
+        LocalDateTime antes = LocalDateTime.now().minusDays(7);
+
+        List<VideoTimeInStateResponse> resposta = videoStatusHistoryUseCase.getTimeInState(7);
+
+        ArgumentCaptor<LocalDateTime> desde = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(videoStatusHistoryRepository).findTimeInState(eq(USER_ID), desde.capture());
+        assertFalse(desde.getValue().isBefore(antes));
+        assertTrue(desde.getValue().isBefore(LocalDateTime.now().minusDays(6)));
+        assertSame(agregados, resposta);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar janela fora do intervalo permitido")
+    void deveRejeitarJanelaForaDoIntervaloPermitido() {
+        assertThrows(IllegalArgumentException.class, () -> videoStatusHistoryUseCase.getTimeInState(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> videoStatusHistoryUseCase.getTimeInState(VideoStatusHistoryUseCaseImpl.MAX_DAYS + 1));
+
+        verify(videoStatusHistoryRepository, never()).findTimeInState(anyString(), any());
+    }
+}
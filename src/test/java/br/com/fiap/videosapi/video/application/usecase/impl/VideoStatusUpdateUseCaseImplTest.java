@@ -1,18 +1,30 @@
 package br.com.fiap.videosapi.video.application.usecase.impl;
 
+import br.com.fiap.videosapi.core.datasource.ReadYourWritesGuard;
+import br.com.fiap.videosapi.core.exception.VideoNotFoundException;
+import br.com.fiap.videosapi.video.application.usecase.VideoSummaryUseCase;
 import br.com.fiap.videosapi.video.common.domain.dto.event.VideoStatusUpdateEvent;
 import br.com.fiap.videosapi.video.domain.entity.Video;
 import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
+import br.com.fiap.videosapi.video.domain.event.VideoStatusChangedEvent;
+import br.com.fiap.videosapi.video.infrastructure.metrics.VideoStatusUpdateMetrics;
+import br.com.fiap.videosapi.video.infrastructure.progress.VideoProgress;
+import br.com.fiap.videosapi.video.infrastructure.progress.VideoProgressTracker;
 import br.com.fiap.videosapi.video.infrastructure.repository.VideoRepository;
+import br.com.fiap.videosapi.video.infrastructure.repository.VideoStatusTransitionRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -25,11 +37,28 @@ class VideoStatusUpdateUseCaseImplTest {
     @Mock
     private VideoRepository videoRepository;
 
+    @Mock
+    private VideoSummaryUseCase videoSummaryUseCase;
+
+    @Mock
+    private ReadYourWritesGuard readYourWritesGuard;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Mock
+    private VideoStatusTransitionRepository videoStatusTransitionRepository;
+
+    @Mock
+    private VideoStatusUpdateMetrics videoStatusUpdateMetrics;
+
+    @Mock
+    private VideoProgressTracker videoProgressTracker;
+
     @InjectMocks
     private VideoStatusUpdateUseCaseImpl videoStatusUpdateUseCase;
 
     private Video videoPendente;
-    private Video videoProcessando;
     private VideoStatusUpdateEvent eventoSucesso;
     private static final String USER_ID = "user-123";
 
@@ -44,15 +73,6 @@ class VideoStatusUpdateUseCaseImplTest {
                 .userId(USER_ID)
                 .build();
 
-        videoProcessando = Video.builder()
-                .id(2L)
-                .originalFileName("video-processando.mp4")
-                .status(VideoStatus.PROCESSING)
-                .fileSize(2048L)
-                .uploadedAt(LocalDateTime.now().minusHours(2))
-                .userId(USER_ID)
-                .build();
-
         eventoSucesso = VideoStatusUpdateEvent.builder()
                 .videoId(1L)
                 .userId(USER_ID)
@@ -63,59 +83,71 @@ class VideoStatusUpdateUseCaseImplTest {
     @Test
     @DisplayName("Deve definir processedAt quando status for PROCESSED")
     void deveDefinirProcessedAtQuandoStatusForProcessed() {
-        when(videoRepository.findById(1L)).thenReturn(Optional.of(videoPendente));
-        when(videoRepository.save(any(Video.class))).thenReturn(videoPendente);
+        LocalDateTime processadoEm = LocalDateTime.now();
+        when(videoStatusTransitionRepository.applyStatusUpdate(1L, null, VideoStatus.PROCESSED, null))
+                .thenReturn(Optional.of(mudanca(1L, VideoStatus.PROCESSING, VideoStatus.PROCESSED, processadoEm)));
 
         videoStatusUpdateUseCase.updateVideoStatus(1L, "SUCCESS");
 
-        verify(videoRepository).save(videoPendente);
-        assertEquals(VideoStatus.PROCESSED, videoPendente.getStatus());
-        assertNotNull(videoPendente.getProcessedAt());
+        verify(videoSummaryUseCase).recordStatusChange(USER_ID, VideoStatus.PROCESSING, VideoStatus.PROCESSED);
+        verify(readYourWritesGuard).markWrite(USER_ID);
+
+        ArgumentCaptor<VideoStatusChangedEvent> eventCaptor = ArgumentCaptor.forClass(VideoStatusChangedEvent.class);
+        verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
+        assertEquals(1L, eventCaptor.getValue().getVideoId());
+        assertEquals(VideoStatus.PROCESSING, eventCaptor.getValue().getPreviousStatus());
+        assertEquals(VideoStatus.PROCESSED, eventCaptor.getValue().getStatus());
+        assertEquals(processadoEm, eventCaptor.getValue().getProcessedAt());
     }
 
     @Test
     @DisplayName("Deve não definir processedAt para outros status")
     void deveNaoDefinirProcessedAtParaOutrosStatus() {
-        when(videoRepository.findById(1L)).thenReturn(Optional.of(videoPendente));
-        when(videoRepository.save(any(Video.class))).thenReturn(videoPendente);
+        when(videoStatusTransitionRepository.applyStatusUpdate(1L, null, VideoStatus.FAILED, null))
+                .thenReturn(Optional.of(mudanca(1L, VideoStatus.PROCESSING, VideoStatus.FAILED, null)));
 
         videoStatusUpdateUseCase.updateVideoStatus(1L, "ERROR");
 
-        verify(videoRepository).save(videoPendente);
-        assertEquals(VideoStatus.FAILED, videoPendente.getStatus());
-        assertNull(videoPendente.getProcessedAt());
+        ArgumentCaptor<VideoStatusChangedEvent> eventCaptor = ArgumentCaptor.forClass(VideoStatusChangedEvent.class);
+        verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
+        assertEquals(VideoStatus.FAILED, eventCaptor.getValue().getStatus());
+        assertNull(eventCaptor.getValue().getProcessedAt());
     }
 
     @Test
     @DisplayName("Deve lançar exceção quando vídeo não for encontrado")
     void deveLancarExcecaoQuandoVideoNaoForEncontrado() {
+        when(videoStatusTransitionRepository.applyStatusUpdate(999L, null, VideoStatus.PROCESSED, null)).thenReturn(Optional.empty());
         when(videoRepository.findById(999L)).thenReturn(Optional.empty());
 
-        RuntimeException exception = assertThrows(RuntimeException.class, () ->
+        VideoNotFoundException exception = assertThrows(VideoNotFoundException.class, () ->
                 videoStatusUpdateUseCase.updateVideoStatus(999L, "SUCCESS")
         );
 
         assertEquals("Video not found with ID: 999", exception.getMessage());
+        verify(videoStatusUpdateMetrics).record(VideoStatusUpdateMetrics.Outcome.NOT_FOUND);
         verify(videoRepository).findById(999L);
         verify(videoRepository, never()).save(any());
+        verifyNoInteractions(videoSummaryUseCase, applicationEventPublisher);
     }
 
     @Test
     @DisplayName("Deve processar evento de atualização de status com sucesso")
     void deveProcessarEventoDeAtualizacaoDeStatusComSucesso() {
-        when(videoRepository.findById(1L)).thenReturn(Optional.of(videoPendente));
-        when(videoRepository.save(any(Video.class))).thenReturn(videoPendente);
+        when(videoStatusTransitionRepository.applyStatusUpdate(1L, USER_ID, VideoStatus.PROCESSED, null))
+                .thenReturn(Optional.of(mudanca(1L, VideoStatus.PROCESSING, VideoStatus.PROCESSED, LocalDateTime.now())));
 
         videoStatusUpdateUseCase.processStatusUpdateEvent(eventoSucesso);
 
-        verify(videoRepository).save(videoPendente);
-        assertEquals(VideoStatus.PROCESSED, videoPendente.getStatus());
-        assertNotNull(videoPendente.getProcessedAt());
+        verify(videoStatusTransitionRepository).applyStatusUpdate(1L, USER_ID, VideoStatus.PROCESSED, null);
+        verify(videoSummaryUseCase).recordStatusChange(USER_ID, VideoStatus.PROCESSING, VideoStatus.PROCESSED);
+        verify(applicationEventPublisher).publishEvent(any(VideoStatusChangedEvent.class));
     }
 
     @Test
     @DisplayName("Deve propagar exceção ao processar evento com vídeo inexistente")
     void devePropagarExcecaoAoProcessarEventoComVideoInexistente() {
+        when(videoStatusTransitionRepository.applyStatusUpdate(999L, USER_ID, VideoStatus.FAILED, null)).thenReturn(Optional.empty());
         when(videoRepository.findById(999L)).thenReturn(Optional.empty());
 
         VideoStatusUpdateEvent eventoInvalido = VideoStatusUpdateEvent.builder()
@@ -134,50 +166,47 @@ class VideoStatusUpdateUseCaseImplTest {
     @Test
     @DisplayName("Deve atualizar status de PROCESSING para PROCESSED")
     void deveAtualizarStatusDeProcessingParaProcessed() {
-        when(videoRepository.findById(2L)).thenReturn(Optional.of(videoProcessando));
-        when(videoRepository.save(any(Video.class))).thenReturn(videoProcessando);
+        when(videoStatusTransitionRepository.applyStatusUpdate(2L, null, VideoStatus.PROCESSED, null))
+                .thenReturn(Optional.of(mudanca(2L, VideoStatus.PROCESSING, VideoStatus.PROCESSED, LocalDateTime.now())));
 
         videoStatusUpdateUseCase.updateVideoStatus(2L, "SUCCESS");
 
-        assertEquals(VideoStatus.PROCESSED, videoProcessando.getStatus());
-        assertNotNull(videoProcessando.getProcessedAt());
-        verify(videoRepository).save(videoProcessando);
+        verify(videoSummaryUseCase).recordStatusChange(USER_ID, VideoStatus.PROCESSING, VideoStatus.PROCESSED);
     }
 
     @Test
     @DisplayName("Deve atualizar status de PROCESSING para ERROR")
     void deveAtualizarStatusDeProcessingParaError() {
-        when(videoRepository.findById(2L)).thenReturn(Optional.of(videoProcessando));
-        when(videoRepository.save(any(Video.class))).thenReturn(videoProcessando);
+        when(videoStatusTransitionRepository.applyStatusUpdate(2L, null, VideoStatus.FAILED, null))
+                .thenReturn(Optional.of(mudanca(2L, VideoStatus.PROCESSING, VideoStatus.FAILED, null)));
 
         videoStatusUpdateUseCase.updateVideoStatus(2L, "ERROR");
 
-        assertEquals(VideoStatus.FAILED, videoProcessando.getStatus());
-        assertNull(videoProcessando.getProcessedAt());
-        verify(videoRepository).save(videoProcessando);
+        verify(videoSummaryUseCase).recordStatusChange(USER_ID, VideoStatus.PROCESSING, VideoStatus.FAILED);
     }
 
     @Test
-    @DisplayName("Deve manter dados originais do vídeo após atualização")
-    void deveManterDadosOriginaisDoVideoAposAtualizacao() {
-        String nomeOriginal = videoPendente.getOriginalFileName();
-        Long tamanhoOriginal = videoPendente.getFileSize();
-        LocalDateTime uploadOriginal = videoPendente.getUploadedAt();
-
-        when(videoRepository.findById(1L)).thenReturn(Optional.of(videoPendente));
-        when(videoRepository.save(any(Video.class))).thenReturn(videoPendente);
+    @DisplayName("Deve ignorar transição obsoleta sem lançar exceção")
+    void deveIgnorarTransicaoObsoletaSemLancarExcecao() {
+        Video videoProcessado = Video.builder().id(1L).userId(USER_ID).status(VideoStatus.PROCESSED).build();
+        VideoStatusUpdateEvent eventoErroAtrasado = VideoStatusUpdateEvent.builder()
+                .videoId(1L)
+                .userId(USER_ID)
+                .status("ERROR")
+                .build();
+        when(videoStatusTransitionRepository.applyStatusUpdate(1L, USER_ID, VideoStatus.FAILED, null)).thenReturn(Optional.empty());
+        when(videoRepository.findById(1L)).thenReturn(Optional.of(videoProcessado));
 
-        videoStatusUpdateUseCase.updateVideoStatus(1L, "SUCCESS");
+        assertDoesNotThrow(() -> videoStatusUpdateUseCase.processStatusUpdateEvent(eventoErroAtrasado));
 
-        assertEquals(nomeOriginal, videoPendente.getOriginalFileName());
-        assertEquals(tamanhoOriginal, videoPendente.getFileSize());
-        assertEquals(uploadOriginal, videoPendente.getUploadedAt());
-        assertEquals(VideoStatus.PROCESSED, videoPendente.getStatus());
+        verify(videoStatusUpdateMetrics).record(VideoStatusUpdateMetrics.Outcome.STALE);
+        verifyNoInteractions(videoSummaryUseCase, readYourWritesGuard, applicationEventPublisher);
     }
 
     @Test
     @DisplayName("Deve lançar exceção quando userId do evento divergir do userId do vídeo")
     void deveLancarExcecaoQuandoUserIdDivergir() {
+        when(videoStatusTransitionRepository.applyStatusUpdate(1L, "outro-user", VideoStatus.PROCESSED, null)).thenReturn(Optional.empty());
         when(videoRepository.findById(1L)).thenReturn(Optional.of(videoPendente));
 
         VideoStatusUpdateEvent eventoUserDivergente = VideoStatusUpdateEvent.builder()
@@ -189,18 +218,207 @@ class VideoStatusUpdateUseCaseImplTest {
         IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () ->
                 videoStatusUpdateUseCase.processStatusUpdateEvent(eventoUserDivergente));
         assertTrue(ex.getMessage().contains("User mismatch"));
+        verify(videoStatusUpdateMetrics).record(VideoStatusUpdateMetrics.Outcome.USER_MISMATCH);
         verify(videoRepository, never()).save(any());
     }
 
     @Test
-    @DisplayName("Deve chamar repository findById e save exatamente uma vez")
-    void deveChamarRepositoryFindByIdESaveExatamenteUmaVez() {
-        when(videoRepository.findById(1L)).thenReturn(Optional.of(videoPendente));
-        when(videoRepository.save(any(Video.class))).thenReturn(videoPendente);
+    @DisplayName("Deve aplicar a transição com uma única instrução no caminho feliz")
+    void deveAplicarTransicaoComUmaUnicaInstrucaoNoCaminhoFeliz() {
+        when(videoStatusTransitionRepository.applyStatusUpdate(1L, USER_ID, VideoStatus.PROCESSED, null))
+                .thenReturn(Optional.of(mudanca(1L, VideoStatus.PROCESSING, VideoStatus.PROCESSED, LocalDateTime.now())));
 
-        videoStatusUpdateUseCase.updateVideoStatus(1L, "SUCCESS");
+        videoStatusUpdateUseCase.processStatusUpdateEvent(eventoSucesso);
+
+        verify(videoStatusTransitionRepository, times(1)).applyStatusUpdate(1L, USER_ID, VideoStatus.PROCESSED, null);
+        verifyNoInteractions(videoRepository);
+    }
 
-        verify(videoRepository, times(1)).findById(1L);
-        verify(videoRepository, times(1)).save(videoPendente);
+    @Test
+    @DisplayName("Deve aplicar lote mantendo apenas o último evento de cada vídeo")
+    void deveAplicarLoteMantendoApenasOUltimoEventoDeCadaVideo() {
+        VideoStatusUpdateEvent erroVideo1 = VideoStatusUpdateEvent.builder().videoId(1L).userId(USER_ID).status("ERROR").build();
+        VideoStatusUpdateEvent sucessoVideo2 = VideoStatusUpdateEvent.builder().videoId(2L).userId(USER_ID).status("SUCCESS").build();
+        VideoStatusChangedEvent mudanca = VideoStatusChangedEvent.builder()
+                .videoId(1L)
+                .userId(USER_ID)
+                .previousStatus(VideoStatus.PROCESSING)
+                .status(VideoStatus.PROCESSED)
+                .build();
+
+        when(videoStatusTransitionRepository.applyStatusUpdates(
+                List.of(1L, 2L), List.of(USER_ID, USER_ID), List.of(VideoStatus.PROCESSED, VideoStatus.PROCESSED),
+                Arrays.asList((LocalDateTime) null, null)))
+                .thenReturn(List.of(mudanca));
+
+        int aplicados = videoStatusUpdateUseCase.processStatusUpdateEvents(List.of(erroVideo1, sucessoVideo2, eventoSucesso));
+
+        assertEquals(1, aplicados);
+        verify(videoStatusUpdateMetrics).record(VideoStatusUpdateMetrics.Outcome.APPLIED, 1);
+        verify(videoStatusUpdateMetrics).record(VideoStatusUpdateMetrics.Outcome.REJECTED, 1);
+        verify(videoSummaryUseCase).recordStatusChanges(List.of(mudanca));
+        verify(readYourWritesGuard).markWrite(USER_ID);
+        verify(applicationEventPublisher).publishEvent(mudanca);
+        verify(videoRepository, never()).findById(any());
+        verify(videoRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar lote sem status suportado")
+    void deveIgnorarLoteSemStatusSuportado() {
+        VideoStatusUpdateEvent eventoDesconhecido = VideoStatusUpdateEvent.builder().videoId(1L).userId(USER_ID).status("QUEUED").build();
+
+        int aplicados = videoStatusUpdateUseCase.processStatusUpdateEvents(List.of(eventoDesconhecido));
+
+        assertEquals(0, aplicados);
+        verifyNoInteractions(videoStatusTransitionRepository, videoSummaryUseCase, applicationEventPublisher);
+    }
+
+    @Test
+    @DisplayName("Deve reconhecer evento duplicado sem escrita")
+    void deveReconhecerEventoDuplicadoSemEscrita() {
+        Video videoProcessado = Video.builder().id(1L).userId(USER_ID).status(VideoStatus.PROCESSED).build();
+        when(videoStatusTransitionRepository.applyStatusUpdate(1L, USER_ID, VideoStatus.PROCESSED, null)).thenReturn(Optional.empty());
+        when(videoRepository.findById(1L)).thenReturn(Optional.of(videoProcessado));
+
+        videoStatusUpdateUseCase.processStatusUpdateEvent(eventoSucesso);
+
+        verify(videoStatusUpdateMetrics).record(VideoStatusUpdateMetrics.Outcome.DUPLICATE);
+        verify(videoRepository, never()).save(any());
+        verifyNoInteractions(videoSummaryUseCase, readYourWritesGuard, applicationEventPublisher);
+    }
+
+    @Test
+    @DisplayName("Deve repassar o instante do evento para a transição condicional")
+    void deveRepassarInstanteDoEventoParaTransicaoCondicional() {
+        LocalDateTime ocorridoEm = LocalDateTime.of(2025, 9, 25, 10, 30);
+        VideoStatusUpdateEvent evento = VideoStatusUpdateEvent.builder()
+                .videoId(1L)
+                .userId(USER_ID)
+                .status("SUCCESS")
+                .occurredAt(ocorridoEm)
+                .build();
+        when(videoStatusTransitionRepository.applyStatusUpdate(1L, USER_ID, VideoStatus.PROCESSED, ocorridoEm))
+                .thenReturn(Optional.of(mudanca(1L, VideoStatus.PROCESSING, VideoStatus.PROCESSED, LocalDateTime.now())));
+
+        videoStatusUpdateUseCase.processStatusUpdateEvent(evento);
+
+        verify(videoStatusUpdateMetrics).record(VideoStatusUpdateMetrics.Outcome.APPLIED);
+    }
+
+    @Test
+    @DisplayName("Deve manter no lote o evento mais recente mesmo quando chegar fora de ordem")
+    void deveManterNoLoteOEventoMaisRecenteMesmoQuandoChegarForaDeOrdem() {
+        LocalDateTime base = LocalDateTime.of(2025, 9, 25, 10, 30);
+        VideoStatusUpdateEvent sucessoRecente = VideoStatusUpdateEvent.builder()
+                .videoId(1L).userId(USER_ID).status("SUCCESS").occurredAt(base.plusSeconds(5)).build();
+        VideoStatusUpdateEvent erroAntigo = VideoStatusUpdateEvent.builder()
+                .videoId(1L).userId(USER_ID).status("ERROR").occurredAt(base).build();
+        when(videoStatusTransitionRepository.applyStatusUpdates(List.of(1L), List.of(USER_ID),
+                List.of(VideoStatus.PROCESSED), List.of(base.plusSeconds(5))))
+                .thenReturn(List.of());
+
+        int aplicados = videoStatusUpdateUseCase.processStatusUpdateEvents(List.of(sucessoRecente, erroAntigo));
+
+        assertEquals(0, aplicados);
+        verify(videoStatusUpdateMetrics).record(VideoStatusUpdateMetrics.Outcome.REJECTED, 1);
+    }
+
+    @Test
+    @DisplayName("Deve mover vídeo para PROCESSING no primeiro evento de progresso")
+    void deveMoverVideoParaProcessingNoPrimeiroEventoDeProgresso() {
+        VideoStatusUpdateEvent progresso = eventoProgresso(10, LocalDateTime.of(2025, 9, 25, 10, 30));
+        when(videoProgressTracker.get(1L)).thenReturn(Optional.empty());
+        when(videoStatusTransitionRepository.applyStatusUpdate(1L, USER_ID, VideoStatus.PROCESSING, progresso.getOccurredAt()))
+                .thenReturn(Optional.of(mudanca(1L, VideoStatus.UPLOADED, VideoStatus.PROCESSING, null)));
+
+        videoStatusUpdateUseCase.processStatusUpdateEvent(progresso);
+
+        ArgumentCaptor<VideoProgress> progressCaptor = ArgumentCaptor.forClass(VideoProgress.class);
+        verify(videoProgressTracker).record(progressCaptor.capture());
+        assertEquals(10, progressCaptor.getValue().getPercent());
+        assertEquals("frame-extraction", progressCaptor.getValue().getStage());
+        assertEquals(USER_ID, progressCaptor.getValue().getUserId());
+        verify(videoSummaryUseCase).recordStatusChange(USER_ID, VideoStatus.UPLOADED, VideoStatus.PROCESSING);
+        verify(videoStatusUpdateMetrics).record(VideoStatusUpdateMetrics.Outcome.PROGRESS);
+    }
+
+    @Test
+    @DisplayName("Deve registrar progresso apenas em memória quando o vídeo já estiver sendo acompanhado")
+    void deveRegistrarProgressoApenasEmMemoriaQuandoVideoJaEstiverSendoAcompanhado() {
+        VideoStatusUpdateEvent progresso = eventoProgresso(55, LocalDateTime.of(2025, 9, 25, 10, 31));
+        when(videoProgressTracker.get(1L)).thenReturn(Optional.of(VideoProgress.builder()
+                .videoId(1L).userId(USER_ID).percent(10).reportedAt(LocalDateTime.of(2025, 9, 25, 10, 30)).build()));
+
+        videoStatusUpdateUseCase.processStatusUpdateEvent(progresso);
+
+        verify(videoProgressTracker).record(any(VideoProgress.class));
+        verifyNoInteractions(videoStatusTransitionRepository, videoRepository, videoSummaryUseCase, applicationEventPublisher);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar progresso de vídeo que já terminou o processamento")
+    void deveIgnorarProgressoDeVideoQueJaTerminouProcessamento() {
+        VideoStatusUpdateEvent progresso = eventoProgresso(90, null);
+        when(videoProgressTracker.get(1L)).thenReturn(Optional.empty());
+        when(videoStatusTransitionRepository.applyStatusUpdate(1L, USER_ID, VideoStatus.PROCESSING, null)).thenReturn(Optional.empty());
+        when(videoRepository.findById(1L)).thenReturn(Optional.of(
+                Video.builder().id(1L).userId(USER_ID).status(VideoStatus.PROCESSED).build()));
+
+        videoStatusUpdateUseCase.processStatusUpdateEvent(progresso);
+
+        verify(videoStatusUpdateMetrics).record(VideoStatusUpdateMetrics.Outcome.STALE);
+        verify(videoProgressTracker, never()).record(any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar progresso fora do intervalo de 0 a 100")
+    void deveRejeitarProgressoForaDoIntervalo() {
+        VideoStatusUpdateEvent progresso = eventoProgresso(120, null);
+
+        assertThrows(IllegalArgumentException.class, () -> videoStatusUpdateUseCase.processStatusUpdateEvent(progresso));
+
+        verify(videoStatusUpdateMetrics).record(VideoStatusUpdateMetrics.Outcome.INVALID);
+        verifyNoInteractions(videoProgressTracker, videoStatusTransitionRepository);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar progresso no lote, aplicado registro a registro pelo consumidor")
+    void deveIgnorarProgressoNoLote() {
+        LocalDateTime base = LocalDateTime.of(2025, 9, 25, 10, 30);
+        VideoStatusUpdateEvent progresso = eventoProgresso(120, base);
+        VideoStatusUpdateEvent sucesso = VideoStatusUpdateEvent.builder()
+                .videoId(1L).userId(USER_ID).status("SUCCESS").occurredAt(base.plusSeconds(5)).build();
+        when(videoStatusTransitionRepository.applyStatusUpdates(List.of(1L), List.of(USER_ID),
+                List.of(VideoStatus.PROCESSED), List.of(base.plusSeconds(5))))
+                .thenReturn(List.of(mudanca(1L, VideoStatus.PROCESSING, VideoStatus.PROCESSED, base.plusSeconds(5))));
+
+        int aplicados = videoStatusUpdateUseCase.processStatusUpdateEvents(List.of(progresso, sucesso));
+
+        assertEquals(1, aplicados);
+        verifyNoInteractions(videoProgressTracker);
+        verify(videoStatusUpdateMetrics, never()).record(VideoStatusUpdateMetrics.Outcome.INVALID);
+    }
+
+    private static VideoStatusUpdateEvent eventoProgresso(int percentual, LocalDateTime ocorridoEm) {
+        return VideoStatusUpdateEvent.builder()
+                .videoId(1L)
+                .userId(USER_ID)
+                .status("PROCESSING")
+                .progressPercent(percentual)
+                .stage("frame-extraction")
+                .occurredAt(ocorridoEm)
+                .build();
+    }
+
+    private static VideoStatusChangedEvent mudanca(Long videoId, VideoStatus anterior, VideoStatus novo, LocalDateTime processadoEm) {
+        return VideoStatusChangedEvent.builder()
+                .videoId(videoId)
+                .userId(USER_ID)
+                .previousStatus(anterior)
+                .status(novo)
+                .processedAt(processadoEm)
+                .changedAt(LocalDateTime.now())
+                .build();
     }
 }
@@ -0,0 +1,130 @@
+package br.com.fiap.videosapi.video.application.usecase.impl;
+
+import br.com.fiap.videosapi.core.context.UserContext;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoSummaryResponse;
+import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
+import br.com.fiap.videosapi.video.domain.entity.VideoUserSummary;
+import br.com.fiap.videosapi.video.domain.event.VideoStatusChangedEvent;
+import br.com.fiap.videosapi.video.infrastructure.repository.VideoUserSummaryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VideoSummaryUseCaseImplTest {
+
+    @Mock
+    private VideoUserSummaryRepository videoUserSummaryRepository;
+
+    @InjectMocks
+    private VideoSummaryUseCaseImpl videoSummaryUseCase;
+
+    private static final String USER_ID = "user-123";
+
+    @BeforeEach
+    void setUp() {
+        UserContext.setUserId(USER_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        UserContext.clear();
+    }
+
+    @Test
+    @DisplayName("Deve montar resumo a partir dos contadores do usuário")
+    void deveMontarResumoAPartirDosContadoresDoUsuario() {
+        VideoUserSummary summary = VideoUserSummary.builder()
+                .userId(USER_ID)
+                .uploadedCount(1)
+                .processingCount(2)
+                .processedCount(3)
+                .failedCount(4)
+                .totalBytes(10_000L)
+                .updatedAt(LocalDateTime.now())
+                .build();
+        when(videoUserSummaryRepository.findById(USER_ID)).thenReturn(Optional.of(summary));
+
+        VideoSummaryResponse resposta = videoSummaryUseCase.getSummary();
+
+        assertEquals(10L, resposta.getTotalVideos());
+        assertEquals(10_000L, resposta.getTotalBytes());
+        assertEquals(3L, resposta.getCountsByStatus().get(VideoStatus.PROCESSED));
+        assertEquals(4L, resposta.getCountsByStatus().get(VideoStatus.FAILED));
+    }
+
+    @Test
+    @DisplayName("Deve retornar resumo zerado quando usuário não possuir vídeos")
+    void deveRetornarResumoZeradoQuandoUsuarioNaoPossuirVideos() {
+        when(videoUserSummaryRepository.findById(USER_ID)).thenReturn(Optional.empty());
+
+        VideoSummaryResponse resposta = videoSummaryUseCase.getSummary();
+
+        assertEquals(0L, resposta.getTotalVideos());
+        assertEquals(0L, resposta.getTotalBytes());
+        assertEquals(VideoStatus.values().length - 1, resposta.getCountsByStatus().size());
+        assertFalse(resposta.getCountsByStatus().containsKey(VideoStatus.PENDING));
+    }
+
+    @Test
+    @DisplayName("Deve incrementar contador de enviados e bytes no upload")
+    void deveIncrementarContadorDeEnviadosEBytesNoUpload() {
+        videoSummaryUseCase.recordUpload(USER_ID, 2048L);
+
+        verify(videoUserSummaryRepository).applyDelta(USER_ID, 1, 0, 0, 0, 2048L);
+    }
+
+    @Test
+    @DisplayName("Deve mover contador entre status na transição")
+    void deveMoverContadorEntreStatusNaTransicao() {
+        videoSummaryUseCase.recordStatusChange(USER_ID, VideoStatus.UPLOADED, VideoStatus.PROCESSED);
+
+        verify(videoUserSummaryRepository).applyDelta(USER_ID, -1, 0, 1, 0, 0);
+    }
+
+    @Test
+    @DisplayName("Não deve alterar contadores quando status não mudar")
+    void naoDeveAlterarContadoresQuandoStatusNaoMudar() {
+        videoSummaryUseCase.recordStatusChange(USER_ID, VideoStatus.PROCESSED, VideoStatus.PROCESSED);
+
+        verify(videoUserSummaryRepository, never()).applyDelta(anyString(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve agregar transições em lote aplicando um delta por usuário")
+    void deveAgregarTransicoesEmLoteAplicandoUmDeltaPorUsuario() {
+        List<VideoStatusChangedEvent> mudancas = List.of(
+                mudanca(USER_ID, VideoStatus.PROCESSING, VideoStatus.PROCESSED),
+                mudanca(USER_ID, VideoStatus.PROCESSING, VideoStatus.PROCESSED),
+                mudanca(USER_ID, VideoStatus.UPLOADED, VideoStatus.FAILED),
+                mudanca("outro-user", VideoStatus.PROCESSING, VideoStatus.FAILED)
+        );
+
+        videoSummaryUseCase.recordStatusChanges(mudancas);
+
+        verify(videoUserSummaryRepository).applyDelta(USER_ID, -1, -2, 2, 1, 0);
+        verify(videoUserSummaryRepository).applyDelta("outro-user", 0, -1, 0, 1, 0);
+        verifyNoMoreInteractions(videoUserSummaryRepository);
+    }
+
+    private static VideoStatusChangedEvent mudanca(String userId, VideoStatus anterior, VideoStatus novo) {
+        return VideoStatusChangedEvent.builder()
+                .userId(userId)
+                .previousStatus(anterior)
+                .status(novo)
+                .build();
+    }
+}
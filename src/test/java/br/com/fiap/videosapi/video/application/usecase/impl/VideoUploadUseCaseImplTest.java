@@ -1,5 +1,7 @@
 package br.com.fiap.videosapi.video.application.usecase.impl;
 
+import br.com.fiap.videosapi.core.datasource.ReadYourWritesGuard;
+import br.com.fiap.videosapi.video.application.usecase.VideoSummaryUseCase;
 import br.com.fiap.videosapi.video.common.domain.dto.event.VideoUploadEvent;
 import br.com.fiap.videosapi.video.common.domain.dto.response.VideoUploadResponse;
 import br.com.fiap.videosapi.video.domain.entity.Video;
@@ -36,6 +38,10 @@ class VideoUploadUseCaseImplTest {
     @Mock
     private VideoRepository videoRepository;
     @Mock
+    private VideoSummaryUseCase videoSummaryUseCase;
+    @Mock
+    private ReadYourWritesGuard readYourWritesGuard;
+    @Mock
     private MultipartFile multipartFile;
     @Mock
     private Tika tika;
@@ -49,7 +55,7 @@ class VideoUploadUseCaseImplTest {
     void setUp() {
         autoCloseable = MockitoAnnotations.openMocks(this);
         videoUploadUseCase = new VideoUploadUseCaseImpl(
-                azureBlobStorageService, videoEventProducer, videoRepository);
+                azureBlobStorageService, videoEventProducer, videoRepository, videoSummaryUseCase, readYourWritesGuard);
 
         try {
             java.lang.reflect.Field field = VideoUploadUseCaseImpl.class.getDeclaredField("connectionString");
@@ -105,6 +111,8 @@ class VideoUploadUseCaseImplTest {
         assertEquals("video.mp4", response.getOriginalFileName());
         assertEquals("stored.mp4", response.getStoredFileName());
         assertEquals("video/mp4", response.getContentType());
+        verify(videoSummaryUseCase).recordUpload("user123", 100L);
+        verify(readYourWritesGuard).markWrite("user123");
         assertEquals(100L, response.getFileSize());
         assertEquals("url", response.getAzureBlobUrl());
         assertEquals(VideoStatus.UPLOADED, response.getStatus());
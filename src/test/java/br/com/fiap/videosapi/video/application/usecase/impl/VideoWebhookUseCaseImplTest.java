@@ -0,0 +1,112 @@
+package br.com.fiap.videosapi.video.application.usecase.impl;
+
+import br.com.fiap.videosapi.core.context.UserContext;
+import br.com.fiap.videosapi.video.common.domain.dto.request.VideoWebhookRequest;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoWebhookResponse;
+import br.com.fiap.videosapi.video.domain.entity.VideoWebhook;
+import br.com.fiap.videosapi.video.infrastructure.repository.VideoWebhookRepository;
+import br.com.fiap.videosapi.video.infrastructure.webhook.VideoWebhookUrlPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VideoWebhookUseCaseImplTest {
+
+    private static final String USER_ID = "user-123";
+
+    @Mock
+    private VideoWebhookRepository videoWebhookRepository;
+
+    @Spy
+    private VideoWebhookUrlPolicy videoWebhookUrlPolicy = new VideoWebhookUrlPolicy(false, true);
+
+    @InjectMocks
+    private VideoWebhookUseCaseImpl videoWebhookUseCase;
+
+    @BeforeEach
+    void setUp() {
+        UserContext.setUserId(USER_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        UserContext.clear();
+    }
+
+    @Test
+    @DisplayName("Deve registrar webhook gerando segredo retornado apenas no cadastro")
+    void deveRegistrarWebhookGerandoSegredo() {
+        when(videoWebhookRepository.countByUserIdAndActiveTrue(USER_ID)).thenReturn(0L);
+        when(videoWebhookRepository.save(any(VideoWebhook.class))).thenAnswer(invocation -> {
+            VideoWebhook webhook = invocation.getArgument(0);
+            webhook.setId(7L);
+            return webhook;
+        });
+
+        VideoWebhookResponse resposta = videoWebhookUseCase.register(new VideoWebhookRequest(" https://cliente.example/hook "));
+
+        ArgumentCaptor<VideoWebhook> salvo = ArgumentCaptor.forClass(VideoWebhook.class);
+        verify(videoWebhookRepository).save(salvo.capture());
+        assertEquals(USER_ID, salvo.getValue().getUserId());
+        assertEquals("https://cliente.example/hook", salvo.getValue().getUrl());
+        assertTrue(salvo.getValue().isActive());
+        assertEquals(64, salvo.getValue().getSecret().length());
+        assertEquals(7L, resposta.getId());
+        assertEquals(salvo.getValue().getSecret(), resposta.getSecret());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar URL inválida ou limite de webhooks atingido")
+    void deveRejeitarUrlInvalidaOuLimiteAtingido() {
+        assertThrows(IllegalArgumentException.class, () -> videoWebhookUseCase.register(null));
+        assertThrows(IllegalArgumentException.class, () -> videoWebhookUseCase.register(new VideoWebhookRequest("ftp://cliente.example/hook")));
+        assertThrows(IllegalArgumentException.class, () -> videoWebhookUseCase.register(new VideoWebhookRequest("http://cliente.example/hook")));
+        assertThrows(IllegalArgumentException.class, () -> videoWebhookUseCase.register(new VideoWebhookRequest("/relativo")));
+        assertThrows(IllegalArgumentException.class, () -> videoWebhookUseCase.register(new VideoWebhookRequest("http://exemplo com espaço")));
+
+        when(videoWebhookRepository.countByUserIdAndActiveTrue(USER_ID))
+                .thenReturn((long) VideoWebhookUseCaseImpl.MAX_WEBHOOKS_PER_USER);
+        assertThrows(IllegalArgumentException.class, () -> videoWebhookUseCase.register(new VideoWebhookRequest("https://cliente.example/hook")));
+        verify(videoWebhookRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve listar webhooks do usuário sem expor o segredo")
+    void deveListarWebhooksSemExporSegredo() {
+        when(videoWebhookRepository.findAllByUserIdAndActiveTrue(USER_ID)).thenReturn(List.of(
+                VideoWebhook.builder().id(1L).userId(USER_ID).url("https://cliente.example/hook").secret("segredo").active(true).build()));
+
+        List<VideoWebhookResponse> resposta = videoWebhookUseCase.listWebhooks();
+
+        assertEquals(1, resposta.size());
+        assertNull(resposta.get(0).getSecret());
+    }
+
+    @Test
+    @DisplayName("Deve desativar webhook do usuário e indicar quando não existir")
+    void deveDesativarWebhookDoUsuario() {
+        VideoWebhook webhook = VideoWebhook.builder().id(1L).userId(USER_ID).url("https://cliente.example/hook").secret("s").active(true).build();
+        when(videoWebhookRepository.findByIdAndUserIdAndActiveTrue(1L, USER_ID)).thenReturn(Optional.of(webhook));
+        when(videoWebhookRepository.findByIdAndUserIdAndActiveTrue(2L, USER_ID)).thenReturn(Optional.empty());
+
+        assertTrue(videoWebhookUseCase.unregister(1L));
+        assertFalse(videoWebhookUseCase.unregister(2L));
+        assertFalse(webhook.isActive());
+        verify(videoWebhookRepository).save(webhook);
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.fiap.videosapi.video.domain.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VideoStatusTest {
+
+    @Test
+    @DisplayName("Deve permitir apenas transições previstas na tabela")
+    void devePermitirApenasTransicoesPrevistasNaTabela() {
+        assertTrue(VideoStatus.UPLOADED.canTransitionTo(VideoStatus.PROCESSING));
+        assertTrue(VideoStatus.PROCESSING.canTransitionTo(VideoStatus.PROCESSED));
+        assertTrue(VideoStatus.PROCESSING.canTransitionTo(VideoStatus.FAILED));
+        assertTrue(VideoStatus.FAILED.canTransitionTo(VideoStatus.PROCESSED));
+
+        assertFalse(VideoStatus.PROCESSED.canTransitionTo(VideoStatus.FAILED));
+        assertFalse(VideoStatus.PROCESSED.canTransitionTo(VideoStatus.PROCESSING));
+        assertFalse(VideoStatus.PROCESSING.canTransitionTo(VideoStatus.UPLOADED));
+    }
+
+    @Test
+    @DisplayName("Não deve permitir transição para o mesmo status")
+    void naoDevePermitirTransicaoParaOMesmoStatus() {
+        for (VideoStatus status : VideoStatus.values()) {
+            assertFalse(status.canTransitionTo(status));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve derivar os predecessores permitidos da tabela de transições")
+    void deveDerivarPredecessoresPermitidosDaTabelaDeTransicoes() {
+        assertEquals(EnumSet.of(VideoStatus.UPLOADED, VideoStatus.PROCESSING, VideoStatus.FAILED),
+                VideoStatus.PROCESSED.allowedPredecessors());
+        assertEquals(EnumSet.of(VideoStatus.UPLOADED, VideoStatus.PROCESSING),
+                VideoStatus.FAILED.allowedPredecessors());
+        assertTrue(VideoStatus.UPLOADED.allowedPredecessors().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Não deve permitir que eventos de status movam um upload pendente")
+    void naoDevePermitirQueEventosMovamUploadPendente() {
+        for (VideoStatus status : VideoStatus.values()) {
+            assertFalse(VideoStatus.PENDING.canTransitionTo(status));
+            assertFalse(status.canTransitionTo(VideoStatus.PENDING));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package br.com.fiap.videosapi.video.infrastructure.azure;
+
+import com.azure.storage.blob.BlobAsyncClient;
+import com.azure.storage.blob.BlobContainerAsyncClient;
+import com.azure.storage.blob.BlobServiceAsyncClient;
+import com.azure.storage.blob.models.BlockBlobItem;
+import com.azure.storage.blob.models.ParallelTransferOptions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AzureBlobAsyncStorageServiceTest {
+
+    @Mock
+    private BlobServiceAsyncClient blobServiceAsyncClient;
+    @Mock
+    private BlobContainerAsyncClient blobContainerAsyncClient;
+    @Mock
+    private BlobAsyncClient blobAsyncClient;
+
+    private AzureBlobAsyncStorageService service;
+
+    private AutoCloseable autoCloseable;
+
+    @BeforeEach
+    void setUp() {
+        autoCloseable = MockitoAnnotations.openMocks(this);
+        when(blobServiceAsyncClient.getBlobContainerAsyncClient("teste")).thenReturn(blobContainerAsyncClient);
+        when(blobContainerAsyncClient.getBlobAsyncClient(anyString())).thenReturn(blobAsyncClient);
+        service = new AzureBlobAsyncStorageService("teste", blobServiceAsyncClient, DataSize.ofMegabytes(4), 2);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        autoCloseable.close();
+    }
+
+    @Test
+    @DisplayName("Deve transmitir o conteúdo para o blob com blocos limitados e sobrescrita")
+    void deveTransmitirConteudoParaBlob() {
+        Flux<ByteBuffer> conteudo = Flux.just(ByteBuffer.wrap("conteudo".getBytes(StandardCharsets.UTF_8)));
+        when(blobContainerAsyncClient.createIfNotExists()).thenReturn(Mono.just(false));
+        when(blobAsyncClient.upload(eq(conteudo), any(ParallelTransferOptions.class), eq(true)))
+                .thenReturn(Mono.just(mock(BlockBlobItem.class)));
+        when(blobAsyncClient.getBlobUrl()).thenReturn("https://blob.url/1/video.mp4");
+
+        AzureBlobUploadResult result = service.uploadVideo(conteudo, 1L, "video.mp4", "video/mp4").block();
+
+        assertNotNull(result);
+        assertTrue(result.isSuccess());
+        assertEquals("1/video.mp4", result.getFileName());
+        assertEquals("https://blob.url/1/video.mp4", result.getBlobUrl());
+        assertEquals("teste", result.getContainerName());
+        ArgumentCaptor<ParallelTransferOptions> options = ArgumentCaptor.forClass(ParallelTransferOptions.class);
+        verify(blobAsyncClient).upload(eq(conteudo), options.capture(), eq(true));
+        assertEquals(DataSize.ofMegabytes(4).toBytes(), options.getValue().getBlockSizeLong());
+        assertEquals(2, options.getValue().getMaxConcurrency());
+    }
+
+    @Test
+    @DisplayName("Deve seguir com o upload quando a criação do container falhar")
+    void deveSeguirComUploadQuandoCriacaoDoContainerFalhar() {
+        Flux<ByteBuffer> conteudo = Flux.just(ByteBuffer.wrap(new byte[]{1}));
+        when(blobContainerAsyncClient.createIfNotExists()).thenReturn(Mono.error(new RuntimeException("sem permissão")));
+        when(blobAsyncClient.upload(eq(conteudo), any(ParallelTransferOptions.class), eq(true)))
+                .thenReturn(Mono.just(mock(BlockBlobItem.class)));
+
+        AzureBlobUploadResult result = service.uploadVideo(conteudo, 1L, "video.mp4", "video/mp4").block();
+
+        assertNotNull(result);
+        assertTrue(result.isSuccess());
+    }
+
+    @Test
+    @DisplayName("Deve propagar erro quando o upload para o blob falhar")
+    void devePropagarErroQuandoUploadFalhar() {
+        Flux<ByteBuffer> conteudo = Flux.just(ByteBuffer.wrap(new byte[]{1}));
+        when(blobContainerAsyncClient.createIfNotExists()).thenReturn(Mono.just(true));
+        when(blobAsyncClient.upload(eq(conteudo), any(ParallelTransferOptions.class), eq(true)))
+                .thenReturn(Mono.error(new RuntimeException("falha de rede")));
+
+        Mono<AzureBlobUploadResult> upload = service.uploadVideo(conteudo, 1L, "video.mp4", "video/mp4");
+
+        RuntimeException erro = assertThrows(RuntimeException.class, upload::block);
+        assertEquals("falha de rede", erro.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve transmitir o download direto do blob")
+    void deveTransmitirDownloadDoBlob() {
+        ByteBuffer parte = ByteBuffer.wrap("zip".getBytes(StandardCharsets.UTF_8));
+        when(blobContainerAsyncClient.getBlobAsyncClient("cliente1/1/frames.zip")).thenReturn(blobAsyncClient);
+        when(blobAsyncClient.downloadStream()).thenReturn(Flux.just(parte));
+
+        List<ByteBuffer> partes = service.download("cliente1/1/frames.zip").collectList().block();
+
+        assertEquals(List.of(parte), partes);
+    }
+}
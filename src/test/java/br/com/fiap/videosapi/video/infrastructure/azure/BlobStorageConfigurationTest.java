@@ -1,5 +1,6 @@
 package br.com.fiap.videosapi.video.infrastructure.azure;
 
+import com.azure.storage.blob.BlobServiceAsyncClient;
 import com.azure.storage.blob.BlobServiceClient;
 import org.junit.jupiter.api.Test;
 
@@ -18,5 +19,15 @@ class BlobStorageConfigurationTest {
         assertNotNull(client, "O BlobServiceClient não deve ser nulo");
         assertEquals(BlobServiceClient.class, client.getClass());
     }
-}
 
+    @Test
+    void testBlobServiceAsyncClientCreation() {
+        String fakeConnectionString = "DefaultEndpointsProtocol=https;AccountName=fakeaccount;AccountKey=fakekey;EndpointSuffix=core.windows.net";
+        BlobStorageConfiguration config = new BlobStorageConfiguration();
+
+        BlobServiceAsyncClient client = config.blobServiceAsyncClient(fakeConnectionString);
+
+        assertNotNull(client, "O BlobServiceAsyncClient não deve ser nulo");
+        assertEquals("fakeaccount", client.getAccountName());
+    }
+}
@@ -0,0 +1,125 @@
+package br.com.fiap.videosapi.video.infrastructure.history;
+
+import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
+import br.com.fiap.videosapi.video.domain.event.VideoStatusChangedEvent;
+import br.com.fiap.videosapi.video.infrastructure.repository.VideoStatusHistoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VideoStatusHistoryAppenderTest {
+
+    @Mock
+    private VideoStatusHistoryRepository videoStatusHistoryRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Deve gravar transições enfileiradas em lote sem bloquear quem publica")
+    void deveGravarTransicoesEnfileiradasEmLote() throws InterruptedException {
+        List<VideoStatusChangedEvent> gravadas = new ArrayList<>();
+        when(videoStatusHistoryRepository.appendAll(anyCollection())).thenAnswer(invocation -> {
+            Collection<VideoStatusChangedEvent> lote = invocation.getArgument(0);
+            gravadas.addAll(lote);
+            return lote.size();
+        });
+        VideoStatusHistoryAppender appender = appender(100, 3);
+
+        appender.onStatusChanged(transicao(1L));
+        appender.onStatusChanged(transicao(2L));
+        appender.onStatusChanged(transicao(3L));
+        appender.start();
+        appender.stop();
+
+        assertEquals(List.of(1L, 2L, 3L), gravadas.stream().map(VideoStatusChangedEvent::getVideoId).toList());
+        assertEquals(3.0, contador("appended"));
+    }
+
+    @Test
+    @DisplayName("Deve descartar transições quando a fila estiver cheia")
+    void deveDescartarTransicoesQuandoFilaEstiverCheia() throws InterruptedException {
+        when(videoStatusHistoryRepository.appendAll(anyCollection())).thenReturn(1);
+        VideoStatusHistoryAppender appender = appender(1, 3);
+
+        appender.onStatusChanged(transicao(1L));
+        appender.onStatusChanged(transicao(2L));
+        appender.stop();
+
+        verify(videoStatusHistoryRepository, times(1)).appendAll(anyCollection());
+        assertEquals(1.0, contador("dropped"));
+        assertEquals(0.0, meterRegistry.get("video.status.history.queued").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Deve tentar novamente o lote que falhou antes de seguir")
+    void deveTentarNovamenteLoteQueFalhou() throws InterruptedException {
+        when(videoStatusHistoryRepository.appendAll(anyCollection()))
+                .thenThrow(new RuntimeException("database unavailable"))
+                .thenReturn(1);
+        VideoStatusHistoryAppender appender = appender(10, 3);
+
+        appender.onStatusChanged(transicao(1L));
+        appender.start();
+        verify(videoStatusHistoryRepository, timeout(2000).times(2)).appendAll(anyCollection());
+        appender.stop();
+
+        assertEquals(1.0, contador("appended"));
+        assertEquals(0.0, contador("failed"));
+    }
+
+    @Test
+    @DisplayName("Deve descartar o lote após esgotar as tentativas")
+    void deveDescartarLoteAposEsgotarTentativas() throws InterruptedException {
+        when(videoStatusHistoryRepository.appendAll(anyCollection())).thenThrow(new RuntimeException("database unavailable"));
+        VideoStatusHistoryAppender appender = appender(10, 2);
+
+        appender.onStatusChanged(transicao(1L));
+        appender.onStatusChanged(transicao(2L));
+        appender.start();
+        verify(videoStatusHistoryRepository, timeout(2000).times(2)).appendAll(anyCollection());
+        appender.stop();
+
+        assertEquals(2.0, contador("failed"));
+    }
+
+    private VideoStatusHistoryAppender appender(int queueCapacity, int maxAttempts) {
+        return new VideoStatusHistoryAppender(videoStatusHistoryRepository, meterRegistry, queueCapacity, 500, maxAttempts,
+                Duration.ofMillis(50), Duration.ofMillis(10), Duration.ofSeconds(2));
+    }
+
+    private double contador(String result) {
+        return meterRegistry.get("video.status.history.transitions").tag("result", result).counter().count();
+    }
+
+    private static VideoStatusChangedEvent transicao(Long videoId) {
+        LocalDateTime agora = LocalDateTime.now();
+        return VideoStatusChangedEvent.builder()
+                .videoId(videoId)
+                .userId("user-123")
+                .previousStatus(VideoStatus.UPLOADED)
+                .status(VideoStatus.PROCESSING)
+                .previousStatusSince(agora.minusMinutes(5))
+                .changedAt(agora)
+                .build();
+    }
+}
@@ -0,0 +1,108 @@
+package br.com.fiap.videosapi.video.infrastructure.kafka;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyOrderedExecutorTest {
+
+    private KeyOrderedExecutor executor;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("Deve executar tarefas da mesma chave na ordem de submissão")
+    void deveExecutarTarefasDaMesmaChaveNaOrdemDeSubmissao() throws InterruptedException {
+        executor = new KeyOrderedExecutor("test-worker-", 8, 100);
+        List<Integer> ordem = new CopyOnWriteArrayList<>();
+
+        for (int i = 0; i < 50; i++) {
+            int valor = i;
+            executor.submit(1L, () -> {
+                sleepQuietly(valor % 3);
+                ordem.add(valor);
+            });
+        }
+
+        assertTrue(executor.awaitIdle(Duration.ofSeconds(5)));
+        assertEquals(50, ordem.size());
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i, ordem.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve executar chaves distintas em paralelo")
+    void deveExecutarChavesDistintasEmParalelo() throws InterruptedException {
+        executor = new KeyOrderedExecutor("test-worker-", 4, 100);
+        CountDownLatch iniciadas = new CountDownLatch(4);
+        CountDownLatch liberar = new CountDownLatch(1);
+
+        for (long chave = 1; chave <= 4; chave++) {
+            executor.submit(chave, () -> {
+                iniciadas.countDown();
+                awaitQuietly(liberar);
+            });
+        }
+
+        assertTrue(iniciadas.await(5, TimeUnit.SECONDS));
+        assertEquals(4, executor.getInFlight());
+        liberar.countDown();
+        assertTrue(executor.awaitIdle(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    @DisplayName("Deve continuar a fila da chave após falha de uma tarefa")
+    void deveContinuarFilaDaChaveAposFalhaDeUmaTarefa() throws InterruptedException {
+        executor = new KeyOrderedExecutor("test-worker-", 2, 10);
+        List<String> executadas = new CopyOnWriteArrayList<>();
+
+        executor.submit("video-1", () -> {
+            throw new IllegalStateException("falha");
+        });
+        executor.submit("video-1", () -> executadas.add("segunda"));
+
+        assertTrue(executor.awaitIdle(Duration.ofSeconds(5)));
+        assertEquals(List.of("segunda"), executadas);
+    }
+
+    @Test
+    @DisplayName("Deve informar timeout quando tarefas não terminarem a tempo")
+    void deveInformarTimeoutQuandoTarefasNaoTerminaremATempo() throws InterruptedException {
+        executor = new KeyOrderedExecutor("test-worker-", 1, 10);
+        CountDownLatch liberar = new CountDownLatch(1);
+
+        executor.submit(1L, () -> awaitQuietly(liberar));
+
+        assertFalse(executor.awaitIdle(Duration.ofMillis(50)));
+        liberar.countDown();
+        assertTrue(executor.awaitIdle(Duration.ofSeconds(5)));
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,8 +1,9 @@
 package br.com.fiap.videosapi.video.infrastructure.kafka;
 
 import br.com.fiap.videosapi.video.common.domain.dto.event.VideoUploadEvent;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import br.com.fiap.videosapi.video.infrastructure.kafka.spool.VideoEventSpool;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.errors.SerializationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -26,16 +27,13 @@ import static org.mockito.Mockito.*;
 class VideoEventProducerTest {
 
     @Mock
-    private KafkaTemplate<String, String> kafkaTemplate;
+    private KafkaTemplate<String, Object> kafkaTemplate;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private CompletableFuture<SendResult<String, Object>> future;
 
     @Mock
-    private CompletableFuture<SendResult<String, String>> future;
-
-    @Mock
-    private SendResult<String, String> sendResult;
+    private VideoEventSpool videoEventSpool;
 
     @InjectMocks
     private VideoEventProducer videoEventProducer;
@@ -57,171 +55,142 @@ class VideoEventProducerTest {
 
     @Test
     @DisplayName("Deve publicar evento de upload com sucesso")
-    void devePublicarEventoDeUploadComSucesso() throws JsonProcessingException {
-        String eventJson = "{\"videoId\":1,\"fileName\":\"test-video.mp4\"}";
-        String expectedKey = "1";
-
-        when(objectMapper.writeValueAsString(videoUploadEvent)).thenReturn(eventJson);
-        when(kafkaTemplate.send(videoUploadTopic, expectedKey, eventJson)).thenReturn(future);
+    void devePublicarEventoDeUploadComSucesso() {
+        when(kafkaTemplate.send(videoUploadTopic, "1", videoUploadEvent)).thenReturn(future);
 
         videoEventProducer.publishVideoUploadEvent(videoUploadEvent);
 
-        verify(objectMapper).writeValueAsString(videoUploadEvent);
-        verify(kafkaTemplate).send(videoUploadTopic, expectedKey, eventJson);
+        verify(kafkaTemplate).send(videoUploadTopic, "1", videoUploadEvent);
         verify(future).whenComplete(any());
     }
 
     @Test
     @DisplayName("Deve usar videoId como chave da mensagem")
-    void deveUsarVideoIdComoChaveDaMensagem() throws JsonProcessingException {
-        String eventJson = "{\"videoId\":123}";
-        String expectedKey = "123";
-
-        VideoUploadEvent eventComIdEspecifico = VideoUploadEvent.builder()
+    void deveUsarVideoIdComoChaveDaMensagem() {
+        VideoUploadEvent eventoComIdEspecifico = VideoUploadEvent.builder()
                 .videoId(123L)
                 .fileName("outro-video.mp4")
                 .build();
 
-        when(objectMapper.writeValueAsString(eventComIdEspecifico)).thenReturn(eventJson);
-        when(kafkaTemplate.send(videoUploadTopic, expectedKey, eventJson)).thenReturn(future);
+        when(kafkaTemplate.send(videoUploadTopic, "123", eventoComIdEspecifico)).thenReturn(future);
 
-        videoEventProducer.publishVideoUploadEvent(eventComIdEspecifico);
+        videoEventProducer.publishVideoUploadEvent(eventoComIdEspecifico);
 
-        verify(kafkaTemplate).send(videoUploadTopic, expectedKey, eventJson);
+        verify(kafkaTemplate).send(videoUploadTopic, "123", eventoComIdEspecifico);
     }
 
     @Test
     @DisplayName("Deve capturar callback de sucesso corretamente")
     @SuppressWarnings("unchecked")
-    void deveCapturaCallbackDeSucessoCorretamente() throws JsonProcessingException {
-        String eventJson = "{\"videoId\":1}";
-        ArgumentCaptor<BiConsumer<SendResult<String, String>, Throwable>> callbackCaptor =
+    void deveCapturaCallbackDeSucessoCorretamente() {
+        ArgumentCaptor<BiConsumer<SendResult<String, Object>, Throwable>> callbackCaptor =
                 (ArgumentCaptor) ArgumentCaptor.forClass(BiConsumer.class);
 
-        when(objectMapper.writeValueAsString(any())).thenReturn(eventJson);
-        when(kafkaTemplate.send(anyString(), anyString(), anyString())).thenReturn(future);
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(future);
 
         videoEventProducer.publishVideoUploadEvent(videoUploadEvent);
 
         verify(future).whenComplete(callbackCaptor.capture());
 
-        BiConsumer<SendResult<String, String>, Throwable> callback = callbackCaptor.getValue();
+        BiConsumer<SendResult<String, Object>, Throwable> callback = callbackCaptor.getValue();
         assertNotNull(callback);
     }
 
     @Test
     @DisplayName("Deve executar callback de erro quando exceção for lançada")
     @SuppressWarnings("unchecked")
-    void deveExecutarCallbackDeErroQuandoExcecaoForLancada() throws JsonProcessingException {
-        String eventJson = "{\"videoId\":1}";
-        ArgumentCaptor<BiConsumer<SendResult<String, String>, Throwable>> callbackCaptor =
+    void deveExecutarCallbackDeErroQuandoExcecaoForLancada() {
+        ArgumentCaptor<BiConsumer<SendResult<String, Object>, Throwable>> callbackCaptor =
                 (ArgumentCaptor) ArgumentCaptor.forClass(BiConsumer.class);
 
-        when(objectMapper.writeValueAsString(any())).thenReturn(eventJson);
-        when(kafkaTemplate.send(anyString(), anyString(), anyString())).thenReturn(future);
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(future);
 
         videoEventProducer.publishVideoUploadEvent(videoUploadEvent);
 
         verify(future).whenComplete(callbackCaptor.capture());
 
-        BiConsumer<SendResult<String, String>, Throwable> callback = callbackCaptor.getValue();
+        BiConsumer<SendResult<String, Object>, Throwable> callback = callbackCaptor.getValue();
         RuntimeException exception = new RuntimeException("Kafka error");
 
         assertDoesNotThrow(() -> callback.accept(null, exception));
+        verify(videoEventSpool).appendAsync(videoUploadEvent);
+        verify(videoEventSpool, never()).append(any());
     }
 
     @Test
-    @DisplayName("Deve tratar JsonProcessingException durante serialização")
-    void deveTratarJsonProcessingExceptionDuranteSerializacao() throws JsonProcessingException {
-        JsonProcessingException jsonException = new JsonProcessingException("Serialization error") {};
+    @DisplayName("Deve gravar evento no spool quando o envio falhar de forma síncrona")
+    void deveGravarEventoNoSpoolQuandoEnvioFalharDeFormaSincrona() {
+        when(kafkaTemplate.send(videoUploadTopic, "1", videoUploadEvent))
+                .thenThrow(new KafkaException("Broker indisponível"));
+
+        assertDoesNotThrow(() -> videoEventProducer.publishVideoUploadEvent(videoUploadEvent));
 
-        when(objectMapper.writeValueAsString(videoUploadEvent)).thenThrow(jsonException);
+        verify(videoEventSpool).append(videoUploadEvent);
+    }
+
+    @Test
+    @DisplayName("Deve tratar SerializationException durante serialização")
+    void deveTratarSerializationExceptionDuranteSerializacao() {
+        when(kafkaTemplate.send(videoUploadTopic, "1", videoUploadEvent))
+                .thenThrow(new SerializationException("Serialization error"));
 
         assertDoesNotThrow(() -> videoEventProducer.publishVideoUploadEvent(videoUploadEvent));
 
-        verify(objectMapper).writeValueAsString(videoUploadEvent);
-        verify(kafkaTemplate, never()).send(anyString(), anyString(), anyString());
+        verify(future, never()).whenComplete(any());
+        verifyNoInteractions(videoEventSpool);
     }
 
     @Test
     @DisplayName("Deve publicar múltiplos eventos independentemente")
-    void devePublicarMultiplosEventosIndependentemente() throws JsonProcessingException {
+    void devePublicarMultiplosEventosIndependentemente() {
         VideoUploadEvent evento1 = VideoUploadEvent.builder().videoId(1L).fileName("video1.mp4").build();
         VideoUploadEvent evento2 = VideoUploadEvent.builder().videoId(2L).fileName("video2.mp4").build();
 
-        String json1 = "{\"videoId\":1}";
-        String json2 = "{\"videoId\":2}";
-
-        when(objectMapper.writeValueAsString(evento1)).thenReturn(json1);
-        when(objectMapper.writeValueAsString(evento2)).thenReturn(json2);
-        when(kafkaTemplate.send(anyString(), anyString(), anyString())).thenReturn(future);
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(future);
 
         videoEventProducer.publishVideoUploadEvent(evento1);
         videoEventProducer.publishVideoUploadEvent(evento2);
 
-        verify(kafkaTemplate).send(videoUploadTopic, "1", json1);
-        verify(kafkaTemplate).send(videoUploadTopic, "2", json2);
+        verify(kafkaTemplate).send(videoUploadTopic, "1", evento1);
+        verify(kafkaTemplate).send(videoUploadTopic, "2", evento2);
         verify(future, times(2)).whenComplete(any());
     }
 
     @Test
     @DisplayName("Deve usar tópico configurado corretamente")
-    void deveUsarTopicoConfiguradoCorretamente() throws JsonProcessingException {
+    void deveUsarTopicoConfiguradoCorretamente() {
         String topicoCustomizado = "topico-customizado";
         ReflectionTestUtils.setField(videoEventProducer, "videoUploadTopic", topicoCustomizado);
 
-        String eventJson = "{\"videoId\":1}";
-
-        when(objectMapper.writeValueAsString(any())).thenReturn(eventJson);
-        when(kafkaTemplate.send(topicoCustomizado, "1", eventJson)).thenReturn(future);
+        when(kafkaTemplate.send(topicoCustomizado, "1", videoUploadEvent)).thenReturn(future);
 
         videoEventProducer.publishVideoUploadEvent(videoUploadEvent);
 
-        verify(kafkaTemplate).send(topicoCustomizado, "1", eventJson);
+        verify(kafkaTemplate).send(topicoCustomizado, "1", videoUploadEvent);
     }
 
     @Test
     @DisplayName("Deve converter videoId para string corretamente")
-    void deveConverterVideoIdParaStringCorretamente() throws JsonProcessingException {
+    void deveConverterVideoIdParaStringCorretamente() {
         VideoUploadEvent eventoComIdGrande = VideoUploadEvent.builder()
                 .videoId(999999999L)
                 .fileName("video-grande-id.mp4")
                 .build();
 
-        String eventJson = "{\"videoId\":999999999}";
-        String expectedKey = "999999999";
-
-        when(objectMapper.writeValueAsString(eventoComIdGrande)).thenReturn(eventJson);
-        when(kafkaTemplate.send(videoUploadTopic, expectedKey, eventJson)).thenReturn(future);
+        when(kafkaTemplate.send(videoUploadTopic, "999999999", eventoComIdGrande)).thenReturn(future);
 
         videoEventProducer.publishVideoUploadEvent(eventoComIdGrande);
 
-        verify(kafkaTemplate).send(videoUploadTopic, expectedKey, eventJson);
-    }
-
-    @Test
-    @DisplayName("Deve chamar ObjectMapper exatamente uma vez por evento")
-    void deveChamarObjectMapperExatamenteUmaVezPorEvento() throws JsonProcessingException {
-        String eventJson = "{\"videoId\":1}";
-
-        when(objectMapper.writeValueAsString(videoUploadEvent)).thenReturn(eventJson);
-        when(kafkaTemplate.send(anyString(), anyString(), anyString())).thenReturn(future);
-
-        videoEventProducer.publishVideoUploadEvent(videoUploadEvent);
-
-        verify(objectMapper, times(1)).writeValueAsString(videoUploadEvent);
+        verify(kafkaTemplate).send(videoUploadTopic, "999999999", eventoComIdGrande);
     }
 
     @Test
     @DisplayName("Deve chamar KafkaTemplate send exatamente uma vez por evento")
-    void deveChamarKafkaTemplateSendExatamenteUmaVezPorEvento() throws JsonProcessingException {
-        String eventJson = "{\"videoId\":1}";
-
-        when(objectMapper.writeValueAsString(videoUploadEvent)).thenReturn(eventJson);
-        when(kafkaTemplate.send(anyString(), anyString(), anyString())).thenReturn(future);
+    void deveChamarKafkaTemplateSendExatamenteUmaVezPorEvento() {
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(future);
 
         videoEventProducer.publishVideoUploadEvent(videoUploadEvent);
 
-        verify(kafkaTemplate, times(1)).send(videoUploadTopic, "1", eventJson);
+        verify(kafkaTemplate, times(1)).send(videoUploadTopic, "1", videoUploadEvent);
     }
 }
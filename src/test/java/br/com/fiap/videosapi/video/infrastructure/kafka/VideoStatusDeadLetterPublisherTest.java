@@ -0,0 +1,93 @@
+package br.com.fiap.videosapi.video.infrastructure.kafka;
+
+import br.com.fiap.videosapi.video.common.domain.dto.event.VideoStatusUpdateEvent;
+import br.com.fiap.videosapi.video.infrastructure.metrics.VideoStatusUpdateMetrics;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VideoStatusDeadLetterPublisherTest {
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Mock
+    private VideoStatusUpdateMetrics videoStatusUpdateMetrics;
+
+    @InjectMocks
+    private VideoStatusDeadLetterPublisher deadLetterPublisher;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(deadLetterPublisher, "deadLetterTopic", "video.status-dlt");
+    }
+
+    @Test
+    @DisplayName("Deve publicar no DLT com os cabeçalhos de origem e de falha")
+    void devePublicarNoDltComCabecalhosDeOrigemEDeFalha() {
+        VideoStatusUpdateEvent evento = VideoStatusUpdateEvent.builder().videoId(7L).userId("user-123").status("SUCCESS").build();
+        ConsumerRecord<String, VideoStatusUpdateEvent> registro = new ConsumerRecord<>("video.status", 3, 42L, "7", evento);
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        deadLetterPublisher.publish(registro, new IllegalArgumentException("User mismatch for video ID: 7"));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<ProducerRecord<String, Object>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(captor.capture());
+        ProducerRecord<String, Object> enviado = captor.getValue();
+        assertEquals("video.status-dlt", enviado.topic());
+        assertEquals("7", enviado.key());
+        assertEquals(evento, enviado.value());
+        assertEquals("video.status", texto(enviado, KafkaHeaders.DLT_ORIGINAL_TOPIC));
+        assertEquals(3, ByteBuffer.wrap(enviado.headers().lastHeader(KafkaHeaders.DLT_ORIGINAL_PARTITION).value()).getInt());
+        assertEquals(42L, ByteBuffer.wrap(enviado.headers().lastHeader(KafkaHeaders.DLT_ORIGINAL_OFFSET).value()).getLong());
+        assertEquals(IllegalArgumentException.class.getName(), texto(enviado, KafkaHeaders.DLT_EXCEPTION_FQCN));
+        assertEquals("User mismatch for video ID: 7", texto(enviado, KafkaHeaders.DLT_EXCEPTION_MESSAGE));
+        verify(videoStatusUpdateMetrics).record(VideoStatusUpdateMetrics.Outcome.DEAD_LETTERED);
+    }
+
+    @Test
+    @DisplayName("Deve publicar no DLT os bytes originais de mensagem que falhou na desserialização")
+    void devePublicarNoDltBytesOriginaisDeMensagemQueFalhouNaDesserializacao() {
+        byte[] original = "not-json".getBytes(StandardCharsets.UTF_8);
+        ConsumerRecord<String, VideoStatusUpdateEvent> registro = new ConsumerRecord<>("video.status", 0, 5L, "9", null);
+        registro.headers().add(SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, new byte[]{1, 2, 3});
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        deadLetterPublisher.publish(registro,
+                new DeserializationException("failed to deserialize", original, false, new IllegalStateException()));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<ProducerRecord<String, Object>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(captor.capture());
+        assertArrayEquals(original, (byte[]) captor.getValue().value());
+        assertNull(captor.getValue().headers().lastHeader(SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER));
+    }
+
+    private static String texto(ProducerRecord<String, Object> registro, String cabecalho) {
+        return new String(registro.headers().lastHeader(cabecalho).value(), StandardCharsets.UTF_8);
+    }
+}
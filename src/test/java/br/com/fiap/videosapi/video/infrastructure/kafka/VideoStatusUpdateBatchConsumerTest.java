@@ -0,0 +1,152 @@
+package br.com.fiap.videosapi.video.infrastructure.kafka;
+
+import br.com.fiap.videosapi.core.exception.VideoNotFoundException;
+import br.com.fiap.videosapi.video.application.usecase.VideoStatusUpdateUseCase;
+import br.com.fiap.videosapi.video.common.domain.dto.event.VideoStatusUpdateEvent;
+import br.com.fiap.videosapi.video.infrastructure.metrics.VideoStatusUpdateMetrics;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VideoStatusUpdateBatchConsumerTest {
+
+    @Mock
+    private VideoStatusUpdateUseCase videoStatusUpdateUseCase;
+
+    @Mock
+    private VideoStatusDeadLetterPublisher deadLetterPublisher;
+
+    @Mock
+    private VideoStatusUpdateMetrics videoStatusUpdateMetrics;
+
+    private VideoStatusUpdateBatchConsumer videoStatusUpdateBatchConsumer;
+
+    private static final String TOPIC = "video.status";
+
+    @BeforeEach
+    void setUp() {
+        videoStatusUpdateBatchConsumer = new VideoStatusUpdateBatchConsumer(videoStatusUpdateUseCase, deadLetterPublisher,
+                videoStatusUpdateMetrics);
+    }
+
+    @Test
+    @DisplayName("Deve enviar todos os eventos válidos do lote em uma única chamada")
+    void deveEnviarTodosOsEventosValidosDoLoteEmUmaUnicaChamada() {
+        List<ConsumerRecord<String, VideoStatusUpdateEvent>> registros = List.of(
+                new ConsumerRecord<>(TOPIC, 0, 10L, "1", evento(1L, "user-123", "SUCCESS")),
+                new ConsumerRecord<>(TOPIC, 1, 20L, "2", evento(2L, "user-123", "ERROR"))
+        );
+        when(videoStatusUpdateUseCase.processStatusUpdateEvents(anyList())).thenReturn(2);
+
+        videoStatusUpdateBatchConsumer.consumeVideoStatusUpdates(registros);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<VideoStatusUpdateEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(videoStatusUpdateUseCase).processStatusUpdateEvents(captor.capture());
+        assertEquals(2, captor.getValue().size());
+        assertEquals(1L, captor.getValue().get(0).getVideoId());
+        assertEquals("ERROR", captor.getValue().get(1).getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve enviar para DLT mensagens vazias ou sem userId sem falhar o lote")
+    void deveEnviarParaDltMensagensVaziasOuSemUserIdSemFalharOLote() {
+        List<ConsumerRecord<String, VideoStatusUpdateEvent>> registros = List.of(
+                new ConsumerRecord<>(TOPIC, 0, 1L, "1", null),
+                new ConsumerRecord<>(TOPIC, 0, 2L, "2", evento(2L, null, "SUCCESS")),
+                new ConsumerRecord<>(TOPIC, 0, 3L, "3", evento(3L, "user-123", "SUCCESS"))
+        );
+        when(deadLetterPublisher.publish(any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        videoStatusUpdateBatchConsumer.consumeVideoStatusUpdates(registros);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<VideoStatusUpdateEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(videoStatusUpdateUseCase).processStatusUpdateEvents(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        assertEquals(3L, captor.getValue().getFirst().getVideoId());
+        verify(deadLetterPublisher).publish(argThat(registro -> registro.offset() == 1L), any());
+        verify(deadLetterPublisher).publish(argThat(registro -> registro.offset() == 2L), any());
+        verify(videoStatusUpdateMetrics, times(2)).record(VideoStatusUpdateMetrics.Outcome.INVALID);
+    }
+
+    @Test
+    @DisplayName("Não deve chamar o caso de uso quando nenhum evento for válido")
+    void naoDeveChamarCasoDeUsoQuandoNenhumEventoForValido() {
+        when(deadLetterPublisher.publish(any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        videoStatusUpdateBatchConsumer.consumeVideoStatusUpdates(List.of(
+                new ConsumerRecord<>(TOPIC, 0, 1L, "1", evento(1L, " ", "SUCCESS"))
+        ));
+
+        verifyNoInteractions(videoStatusUpdateUseCase);
+    }
+
+    @Test
+    @DisplayName("Deve enviar para DLT só o progresso inválido e aplicar os demais eventos do lote")
+    void deveEnviarParaDltSoOProgressoInvalidoEAplicarDemaisEventosDoLote() {
+        VideoStatusUpdateEvent progressoValido = evento(1L, "user-123", "PROCESSING");
+        VideoStatusUpdateEvent progressoForaDoIntervalo = evento(2L, "user-123", "PROCESSING");
+        progressoForaDoIntervalo.setProgressPercent(150);
+        VideoStatusUpdateEvent progressoDeVideoInexistente = evento(3L, "user-123", "PROCESSING");
+        List<ConsumerRecord<String, VideoStatusUpdateEvent>> registros = List.of(
+                new ConsumerRecord<>(TOPIC, 0, 1L, "1", progressoValido),
+                new ConsumerRecord<>(TOPIC, 0, 2L, "2", progressoForaDoIntervalo),
+                new ConsumerRecord<>(TOPIC, 0, 3L, "3", progressoDeVideoInexistente),
+                new ConsumerRecord<>(TOPIC, 0, 4L, "4", evento(4L, "user-123", "SUCCESS")),
+                new ConsumerRecord<>(TOPIC, 0, 5L, "5", evento(5L, "user-123", "ERROR"))
+        );
+        doThrow(new IllegalArgumentException("Progress out of range")).when(videoStatusUpdateUseCase)
+                .processStatusUpdateEvent(progressoForaDoIntervalo);
+        doThrow(new VideoNotFoundException(3L)).when(videoStatusUpdateUseCase)
+                .processStatusUpdateEvent(progressoDeVideoInexistente);
+        when(deadLetterPublisher.publish(any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+        when(videoStatusUpdateUseCase.processStatusUpdateEvents(anyList())).thenReturn(2);
+
+        videoStatusUpdateBatchConsumer.consumeVideoStatusUpdates(registros);
+
+        verify(videoStatusUpdateUseCase).processStatusUpdateEvent(progressoValido);
+        verify(deadLetterPublisher).publish(argThat(registro -> registro.offset() == 2L), any(IllegalArgumentException.class));
+        verify(deadLetterPublisher).publish(argThat(registro -> registro.offset() == 3L), any(VideoNotFoundException.class));
+        verify(deadLetterPublisher, times(2)).publish(any(), any());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<VideoStatusUpdateEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(videoStatusUpdateUseCase).processStatusUpdateEvents(captor.capture());
+        assertEquals(List.of(4L, 5L), captor.getValue().stream().map(VideoStatusUpdateEvent::getVideoId).toList());
+    }
+
+    @Test
+    @DisplayName("Deve propagar falha transitória do progresso para que o lote seja reprocessado")
+    void devePropagarFalhaTransitoriaDoProgressoParaQueOLoteSejaReprocessado() {
+        VideoStatusUpdateEvent progresso = evento(1L, "user-123", "PROCESSING");
+        doThrow(new QueryTimeoutException("timeout")).when(videoStatusUpdateUseCase).processStatusUpdateEvent(progresso);
+
+        assertThrows(QueryTimeoutException.class, () -> videoStatusUpdateBatchConsumer.consumeVideoStatusUpdates(List.of(
+                new ConsumerRecord<>(TOPIC, 0, 1L, "1", progresso),
+                new ConsumerRecord<>(TOPIC, 0, 2L, "2", evento(2L, "user-123", "SUCCESS"))
+        )));
+
+        verify(videoStatusUpdateUseCase, never()).processStatusUpdateEvents(anyList());
+        verifyNoInteractions(deadLetterPublisher);
+    }
+
+    private static VideoStatusUpdateEvent evento(Long videoId, String userId, String status) {
+        return VideoStatusUpdateEvent.builder().videoId(videoId).userId(userId).status(status).build();
+    }
+}
@@ -1,9 +1,9 @@
 package br.com.fiap.videosapi.video.infrastructure.kafka;
 
+import br.com.fiap.videosapi.core.exception.VideoNotFoundException;
 import br.com.fiap.videosapi.video.application.usecase.VideoStatusUpdateUseCase;
 import br.com.fiap.videosapi.video.common.domain.dto.event.VideoStatusUpdateEvent;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import br.com.fiap.videosapi.video.infrastructure.metrics.VideoStatusUpdateMetrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,8 +14,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.support.Acknowledgment;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,7 +28,7 @@ class VideoStatusUpdateConsumerTest {
     private VideoStatusUpdateUseCase videoStatusUpdateUseCase;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private VideoStatusUpdateMetrics videoStatusUpdateMetrics;
 
     @Mock
     private Acknowledgment acknowledgment;
@@ -37,6 +40,7 @@ class VideoStatusUpdateConsumerTest {
     private final String topic = "video-status-update-events";
     private final int partition = 0;
     private final long offset = 123L;
+    private final long timestamp = 1714559400000L;
 
     @BeforeEach
     void setUp() {
@@ -49,212 +53,165 @@ class VideoStatusUpdateConsumerTest {
 
     @Test
     @DisplayName("Deve consumir evento de atualização de status com sucesso")
-    void deveConsumirEventoDeAtualizacaoDeStatusComSucesso() throws JsonProcessingException {
-        String message = "{\"videoId\":1,\"newStatus\":\"PROCESSED\",\"message\":\"Processamento concluído\",\"userId\":\"user-123\"}";
+    void deveConsumirEventoDeAtualizacaoDeStatusComSucesso() {
+        videoStatusUpdateConsumer.consumeVideoStatusUpdate(videoStatusUpdateEvent, topic, partition, offset, timestamp);
 
-        when(objectMapper.readValue(message, VideoStatusUpdateEvent.class))
-                .thenReturn(videoStatusUpdateEvent);
-
-        videoStatusUpdateConsumer.consumeVideoStatusUpdate(message, topic, partition, offset);
-
-        verify(objectMapper).readValue(message, VideoStatusUpdateEvent.class);
         verify(videoStatusUpdateUseCase).processStatusUpdateEvent(videoStatusUpdateEvent);
     }
 
     @Test
     @DisplayName("Deve processar evento com status PROCESSING")
-    void deveProcessarEventoComStatusProcessing() throws JsonProcessingException {
-        String message = "{\"videoId\":2,\"newStatus\":\"PROCESSING\",\"userId\":\"user-abc\"}";
-
+    void deveProcessarEventoComStatusProcessing() {
         VideoStatusUpdateEvent eventProcessing = VideoStatusUpdateEvent.builder()
                 .videoId(2L)
                 .userId("user-abc")
-                .status("SUCCESS")
+                .status("PROCESSING")
                 .build();
 
-        when(objectMapper.readValue(message, VideoStatusUpdateEvent.class))
-                .thenReturn(eventProcessing);
-
-        videoStatusUpdateConsumer.consumeVideoStatusUpdate(message, topic, partition, offset);
+        videoStatusUpdateConsumer.consumeVideoStatusUpdate(eventProcessing, topic, partition, offset, timestamp);
 
         verify(videoStatusUpdateUseCase).processStatusUpdateEvent(eventProcessing);
     }
 
     @Test
     @DisplayName("Deve processar evento com status ERROR")
-    void deveProcessarEventoComStatusError() throws JsonProcessingException {
-        String message = "{\"videoId\":3,\"newStatus\":\"ERROR\",\"userId\":\"user-xyz\"}";
-
+    void deveProcessarEventoComStatusError() {
         VideoStatusUpdateEvent eventError = VideoStatusUpdateEvent.builder()
                 .videoId(3L)
                 .userId("user-xyz")
-                .status("SUCCESS")
+                .status("ERROR")
                 .build();
 
-        when(objectMapper.readValue(message, VideoStatusUpdateEvent.class))
-                .thenReturn(eventError);
-
-        videoStatusUpdateConsumer.consumeVideoStatusUpdate(message, topic, partition, offset);
+        videoStatusUpdateConsumer.consumeVideoStatusUpdate(eventError, topic, partition, offset, timestamp);
 
         verify(videoStatusUpdateUseCase).processStatusUpdateEvent(eventError);
     }
 
     @Test
-    @DisplayName("Deve lançar exceção e não fazer acknowledge quando ocorrer JsonProcessingException")
-    void deveLancarExcecaoENaoFazerAcknowledgeQuandoOcorrerJsonProcessingException() throws JsonProcessingException {
-        String message = "{invalid json}";
-        JsonProcessingException jsonException = new JsonProcessingException("Deserialization error") {};
-
-        when(objectMapper.readValue(message, VideoStatusUpdateEvent.class))
-                .thenThrow(jsonException);
+    @DisplayName("Deve lançar exceção e registrar métrica de inválido quando evento não tiver userId")
+    void deveLancarExcecaoERegistrarMetricaDeInvalidoQuandoEventoNaoTiverUserId() {
+        VideoStatusUpdateEvent eventSemUsuario = VideoStatusUpdateEvent.builder()
+                .videoId(1L)
+                .status("SUCCESS")
+                .build();
 
         RuntimeException exception = assertThrows(RuntimeException.class, () ->
-                videoStatusUpdateConsumer.consumeVideoStatusUpdate(message, topic, partition, offset));
+                videoStatusUpdateConsumer.consumeVideoStatusUpdate(eventSemUsuario, topic, partition, offset, timestamp));
 
         assertEquals("Failed to process video status update", exception.getMessage());
-        assertEquals(jsonException, exception.getCause());
-
-        verify(objectMapper).readValue(message, VideoStatusUpdateEvent.class);
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+        verify(videoStatusUpdateMetrics).record(VideoStatusUpdateMetrics.Outcome.INVALID);
         verify(videoStatusUpdateUseCase, never()).processStatusUpdateEvent(any());
         verify(acknowledgment, never()).acknowledge();
     }
 
     @Test
     @DisplayName("Deve lançar exceção e não fazer acknowledge quando ocorrer erro no use case")
-    void deveLancarExcecaoENaoFazerAcknowledgeQuandoOcorrerErroNoUseCase() throws JsonProcessingException {
-        String message = "{\"videoId\":1,\"newStatus\":\"PROCESSED\",\"userId\":\"user-123\"}";
+    void deveLancarExcecaoENaoFazerAcknowledgeQuandoOcorrerErroNoUseCase() {
         RuntimeException useCaseException = new RuntimeException("Erro no processamento");
 
-        when(objectMapper.readValue(message, VideoStatusUpdateEvent.class))
-                .thenReturn(videoStatusUpdateEvent);
         doThrow(useCaseException).when(videoStatusUpdateUseCase)
                 .processStatusUpdateEvent(videoStatusUpdateEvent);
 
         RuntimeException exception = assertThrows(RuntimeException.class, () ->
-                videoStatusUpdateConsumer.consumeVideoStatusUpdate(message, topic, partition, offset));
+                videoStatusUpdateConsumer.consumeVideoStatusUpdate(videoStatusUpdateEvent, topic, partition, offset, timestamp));
 
         assertEquals("Failed to process video status update", exception.getMessage());
         assertEquals(useCaseException, exception.getCause());
-
-        verify(objectMapper).readValue(message, VideoStatusUpdateEvent.class);
+        verify(videoStatusUpdateMetrics).record(VideoStatusUpdateMetrics.Outcome.FAILED);
         verify(videoStatusUpdateUseCase).processStatusUpdateEvent(videoStatusUpdateEvent);
         verify(acknowledgment, never()).acknowledge();
     }
 
     @Test
-    @DisplayName("Deve processar mensagem de diferentes tópicos")
-    void deveProcessarMensagemDeDiferentesTopicos() throws JsonProcessingException {
-        String message = "{\"videoId\":1,\"newStatus\":\"PROCESSED\",\"userId\":\"user-123\"}";
-        String customTopic = "custom-video-status-topic";
+    @DisplayName("Deve registrar idade do evento e tempo de processamento")
+    void deveRegistrarIdadeDoEventoETempoDeProcessamento() {
+        videoStatusUpdateConsumer.consumeVideoStatusUpdate(videoStatusUpdateEvent, topic, partition, offset, timestamp);
 
-        when(objectMapper.readValue(message, VideoStatusUpdateEvent.class))
-                .thenReturn(videoStatusUpdateEvent);
+        verify(videoStatusUpdateMetrics).recordEventAge(timestamp);
+        verify(videoStatusUpdateMetrics).recordProcessing(eq("record"), anyLong());
+    }
 
-        videoStatusUpdateConsumer.consumeVideoStatusUpdate(message, customTopic, partition, offset);
+    @Test
+    @DisplayName("Deve processar mensagem de diferentes tópicos")
+    void deveProcessarMensagemDeDiferentesTopicos() {
+        videoStatusUpdateConsumer.consumeVideoStatusUpdate(videoStatusUpdateEvent, "custom-video-status-topic", partition, offset, timestamp);
 
         verify(videoStatusUpdateUseCase).processStatusUpdateEvent(videoStatusUpdateEvent);
     }
 
     @Test
     @DisplayName("Deve processar mensagem de diferentes partições")
-    void deveProcessarMensagemDeDiferentesParticoes() throws JsonProcessingException {
-        String message = "{\"videoId\":1,\"newStatus\":\"PROCESSED\",\"userId\":\"user-123\"}";
-        int customPartition = 5;
-
-        when(objectMapper.readValue(message, VideoStatusUpdateEvent.class))
-                .thenReturn(videoStatusUpdateEvent);
-
-        videoStatusUpdateConsumer.consumeVideoStatusUpdate(message, topic, customPartition, offset);
+    void deveProcessarMensagemDeDiferentesParticoes() {
+        videoStatusUpdateConsumer.consumeVideoStatusUpdate(videoStatusUpdateEvent, topic, 5, offset, timestamp);
 
         verify(videoStatusUpdateUseCase).processStatusUpdateEvent(videoStatusUpdateEvent);
     }
 
     @Test
     @DisplayName("Deve processar mensagem com diferentes offsets")
-    void deveProcessarMensagemComDiferentesOffsets() throws JsonProcessingException {
-        String message = "{\"videoId\":1,\"newStatus\":\"PROCESSED\",\"userId\":\"user-123\"}";
-        long customOffset = 999999L;
-
-        when(objectMapper.readValue(message, VideoStatusUpdateEvent.class))
-                .thenReturn(videoStatusUpdateEvent);
-
-        videoStatusUpdateConsumer.consumeVideoStatusUpdate(message, topic, partition, customOffset);
+    void deveProcessarMensagemComDiferentesOffsets() {
+        videoStatusUpdateConsumer.consumeVideoStatusUpdate(videoStatusUpdateEvent, topic, partition, 999999L, timestamp);
 
         verify(videoStatusUpdateUseCase).processStatusUpdateEvent(videoStatusUpdateEvent);
     }
 
     @Test
     @DisplayName("Deve processar evento com videoId grande")
-    void deveProcessarEventoComVideoIdGrande() throws JsonProcessingException {
-        String message = "{\"videoId\":999999999,\"newStatus\":\"PROCESSED\",\"userId\":\"user-123\"}";
-
+    void deveProcessarEventoComVideoIdGrande() {
         VideoStatusUpdateEvent eventIdGrande = VideoStatusUpdateEvent.builder()
                 .videoId(999999999L)
                 .userId("user-123")
                 .status("SUCCESS")
                 .build();
 
-        when(objectMapper.readValue(message, VideoStatusUpdateEvent.class))
-                .thenReturn(eventIdGrande);
-
-        videoStatusUpdateConsumer.consumeVideoStatusUpdate(message, topic, partition, offset);
+        videoStatusUpdateConsumer.consumeVideoStatusUpdate(eventIdGrande, topic, partition, offset, timestamp);
 
         verify(videoStatusUpdateUseCase).processStatusUpdateEvent(eventIdGrande);
     }
 
     @Test
-    @DisplayName("Deve fazer acknowledge apenas após processamento bem-sucedido")
-    void deveFazerAcknowledgeApenasAposProcessamentoBemSucedido() throws JsonProcessingException {
-        String message = "{\"videoId\":1,\"newStatus\":\"PROCESSED\"}";
-
-        when(objectMapper.readValue(message, VideoStatusUpdateEvent.class))
-                .thenReturn(videoStatusUpdateEvent);
-
-        videoStatusUpdateConsumer.consumeVideoStatusUpdate(message, topic, partition, offset);
+    @DisplayName("Deve chamar use case processStatusUpdateEvent exatamente uma vez")
+    void deveChamarUseCaseProcessStatusUpdateEventExatamenteUmaVez() {
+        videoStatusUpdateConsumer.consumeVideoStatusUpdate(videoStatusUpdateEvent, topic, partition, offset, timestamp);
 
-        var inOrder = inOrder(videoStatusUpdateUseCase, acknowledgment);
-        inOrder.verify(videoStatusUpdateUseCase).processStatusUpdateEvent(videoStatusUpdateEvent);
+        verify(videoStatusUpdateUseCase, times(1)).processStatusUpdateEvent(videoStatusUpdateEvent);
     }
 
     @Test
-    @DisplayName("Deve chamar ObjectMapper readValue exatamente uma vez")
-    void deveChamarObjectMapperReadValueExatamenteUmaVez() throws JsonProcessingException {
-        String message = "{\"videoId\":1,\"newStatus\":\"PROCESSED\",\"userId\":\"user-123\"}";
+    @DisplayName("Deve propagar exceção original quando ocorrer erro inesperado")
+    void devePropagarExcecaoOriginalQuandoOcorrerErroInesperado() {
+        IllegalStateException originalException = new IllegalStateException("Estado inválido");
 
-        when(objectMapper.readValue(message, VideoStatusUpdateEvent.class))
-                .thenReturn(videoStatusUpdateEvent);
+        doThrow(originalException).when(videoStatusUpdateUseCase).processStatusUpdateEvent(videoStatusUpdateEvent);
 
-        videoStatusUpdateConsumer.consumeVideoStatusUpdate(message, topic, partition, offset);
+        RuntimeException exception = assertThrows(RuntimeException.class, () ->
+                videoStatusUpdateConsumer.consumeVideoStatusUpdate(videoStatusUpdateEvent, topic, partition, offset, timestamp));
 
-        verify(objectMapper, times(1)).readValue(message, VideoStatusUpdateEvent.class);
+        assertEquals("Failed to process video status update", exception.getMessage());
+        assertEquals(originalException, exception.getCause());
     }
 
     @Test
-    @DisplayName("Deve chamar use case processStatusUpdateEvent exatamente uma vez")
-    void deveChamarUseCaseProcessStatusUpdateEventExatamenteUmaVez() throws JsonProcessingException {
-        String message = "{\"videoId\":1,\"newStatus\":\"PROCESSED\",\"userId\":\"user-123\"}";
-
-        when(objectMapper.readValue(message, VideoStatusUpdateEvent.class))
-                .thenReturn(videoStatusUpdateEvent);
+    @DisplayName("Não deve contar falha transitória quando o vídeo não existir")
+    void naoDeveContarFalhaTransitoriaQuandoVideoNaoExistir() {
+        doThrow(new VideoNotFoundException(1L)).when(videoStatusUpdateUseCase)
+                .processStatusUpdateEvent(videoStatusUpdateEvent);
 
-        videoStatusUpdateConsumer.consumeVideoStatusUpdate(message, topic, partition, offset);
+        RuntimeException exception = assertThrows(RuntimeException.class, () ->
+                videoStatusUpdateConsumer.consumeVideoStatusUpdate(videoStatusUpdateEvent, topic, partition, offset, timestamp));
 
-        verify(videoStatusUpdateUseCase, times(1)).processStatusUpdateEvent(videoStatusUpdateEvent);
+        assertInstanceOf(VideoNotFoundException.class, exception.getCause());
+        verify(videoStatusUpdateMetrics, never()).record(VideoStatusUpdateMetrics.Outcome.FAILED);
     }
 
     @Test
-    @DisplayName("Deve propagar exceção original quando ocorrer erro inesperado")
-    void devePropagarExcecaoOriginalQuandoOcorrerErroInesperado() throws JsonProcessingException {
-        String message = "{\"videoId\":1,\"newStatus\":\"PROCESSED\",\"userId\":\"user-123\"}";
-        IllegalStateException originalException = new IllegalStateException("Estado inválido");
+    @DisplayName("Deve registrar métrica ao receber mensagem no tópico de dead letter")
+    void deveRegistrarMetricaAoReceberMensagemNoTopicoDeDeadLetter() {
+        videoStatusUpdateConsumer.handleDeadLetter(videoStatusUpdateEvent, "video.status-dlt",
+                IllegalArgumentException.class.getName(), "User mismatch for video ID: 1");
 
-        when(objectMapper.readValue(message, VideoStatusUpdateEvent.class))
-                .thenThrow(originalException);
-
-        RuntimeException exception = assertThrows(RuntimeException.class, () ->
-                videoStatusUpdateConsumer.consumeVideoStatusUpdate(message, topic, partition, offset));
-
-        assertEquals("Failed to process video status update", exception.getMessage());
-        assertEquals(originalException, exception.getCause());
+        verify(videoStatusUpdateMetrics).record(VideoStatusUpdateMetrics.Outcome.DEAD_LETTERED);
+        verifyNoInteractions(videoStatusUpdateUseCase);
     }
 }
@@ -0,0 +1,201 @@
+package br.com.fiap.videosapi.video.infrastructure.kafka;
+
+import br.com.fiap.videosapi.core.exception.VideoNotFoundException;
+import br.com.fiap.videosapi.video.application.usecase.VideoStatusUpdateUseCase;
+import br.com.fiap.videosapi.video.common.domain.dto.event.VideoStatusUpdateEvent;
+import br.com.fiap.videosapi.video.infrastructure.metrics.VideoStatusUpdateMetrics;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VideoStatusUpdateParallelConsumerTest {
+
+    @Mock
+    private VideoStatusUpdateUseCase videoStatusUpdateUseCase;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    @Mock
+    private VideoStatusDeadLetterPublisher deadLetterPublisher;
+
+    @Mock
+    private VideoStatusUpdateMetrics videoStatusUpdateMetrics;
+
+    private VideoStatusUpdateParallelConsumer consumer;
+
+    private static final String TOPIC = "video.status";
+
+    @BeforeEach
+    void setUp() {
+        consumer = new VideoStatusUpdateParallelConsumer(videoStatusUpdateUseCase, deadLetterPublisher,
+                videoStatusUpdateMetrics, 4, 16, 3, Duration.ofMillis(1), Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        consumer.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve processar evento e confirmar offset após conclusão")
+    void deveProcessarEventoEConfirmarOffsetAposConclusao() throws InterruptedException {
+        consumer.consumeVideoStatusUpdate(registro(10L, evento("user-123", "SUCCESS")), acknowledgment);
+
+        verify(acknowledgment, timeout(5000)).acknowledge();
+        verify(videoStatusUpdateUseCase).processStatusUpdateEvent(VideoStatusUpdateEvent.builder()
+                .videoId(1L).userId("user-123").status("SUCCESS").build());
+    }
+
+    @Test
+    @DisplayName("Deve enviar mensagem vazia para DLT e confirmar sem processar")
+    void deveEnviarMensagemVaziaParaDltEConfirmarSemProcessar() throws InterruptedException {
+        when(deadLetterPublisher.publish(any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        consumer.consumeVideoStatusUpdate(registro(11L, null), acknowledgment);
+
+        verify(acknowledgment).acknowledge();
+        verify(deadLetterPublisher).publish(any(), any());
+        verify(videoStatusUpdateMetrics).record(VideoStatusUpdateMetrics.Outcome.INVALID);
+        verifyNoInteractions(videoStatusUpdateUseCase);
+    }
+
+    @Test
+    @DisplayName("Deve tentar novamente falhas transitórias antes de confirmar")
+    void deveTentarNovamenteFalhasTransitoriasAntesDeConfirmar() throws InterruptedException {
+        doThrow(new RuntimeException("db indisponível"))
+                .doNothing()
+                .when(videoStatusUpdateUseCase).processStatusUpdateEvent(any());
+
+        consumer.consumeVideoStatusUpdate(registro(12L, evento("user-123", "ERROR")), acknowledgment);
+
+        verify(acknowledgment, timeout(5000)).acknowledge();
+        verify(videoStatusUpdateUseCase, times(2)).processStatusUpdateEvent(any());
+        verify(videoStatusUpdateMetrics).record(VideoStatusUpdateMetrics.Outcome.FAILED);
+        verifyNoInteractions(deadLetterPublisher);
+    }
+
+    @Test
+    @DisplayName("Deve enviar direto para DLT evento rejeitado por argumento inválido")
+    void deveEnviarDiretoParaDltEventoRejeitadoPorArgumentoInvalido() throws InterruptedException {
+        when(deadLetterPublisher.publish(any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+        doThrow(new IllegalArgumentException("User mismatch for video ID: 1"))
+                .when(videoStatusUpdateUseCase).processStatusUpdateEvent(any());
+
+        consumer.consumeVideoStatusUpdate(registro(13L, evento("outro", "SUCCESS")), acknowledgment);
+
+        verify(acknowledgment, timeout(5000)).acknowledge();
+        verify(videoStatusUpdateUseCase, times(1)).processStatusUpdateEvent(any());
+        verify(deadLetterPublisher).publish(argThat(registro -> registro.offset() == 13L), any(IllegalArgumentException.class));
+    }
+
+    @Test
+    @DisplayName("Deve aguardar tarefas em andamento ao perder partições")
+    void deveAguardarTarefasEmAndamentoAoPerderParticoes() throws InterruptedException {
+        doAnswer(invocation -> {
+            Thread.sleep(100);
+            return null;
+        }).when(videoStatusUpdateUseCase).processStatusUpdateEvent(any());
+
+        consumer.consumeVideoStatusUpdate(registro(14L, evento("user-123", "SUCCESS")), acknowledgment);
+        consumer.onPartitionsRevokedBeforeCommit(null, List.of());
+
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Deve enviar para DLT após esgotar as tentativas")
+    void deveEnviarParaDltAposEsgotarAsTentativas() throws InterruptedException {
+        when(deadLetterPublisher.publish(any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+        doThrow(new RuntimeException("db indisponível"))
+                .when(videoStatusUpdateUseCase).processStatusUpdateEvent(any());
+
+        consumer.consumeVideoStatusUpdate(registro(15L, evento("user-123", "SUCCESS")), acknowledgment);
+
+        verify(acknowledgment, timeout(5000)).acknowledge();
+        verify(videoStatusUpdateUseCase, times(3)).processStatusUpdateEvent(any());
+        verify(deadLetterPublisher).publish(any(), any(RuntimeException.class));
+    }
+
+    @Test
+    @DisplayName("Deve repetir a publicação na DLT até conseguir antes de confirmar offset")
+    void deveRepetirPublicacaoNaDltAteConseguirAntesDeConfirmarOffset() throws InterruptedException {
+        when(deadLetterPublisher.publish(any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker indisponível")))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker indisponível")))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        doThrow(new VideoNotFoundException(1L))
+                .when(videoStatusUpdateUseCase).processStatusUpdateEvent(any());
+
+        consumer.consumeVideoStatusUpdate(registro(16L, evento("user-123", "SUCCESS")), acknowledgment);
+
+        verify(acknowledgment, timeout(5000)).acknowledge();
+        verify(deadLetterPublisher, times(3))
+                .publish(argThat(registro -> registro.offset() == 16L), any(VideoNotFoundException.class));
+        verify(videoStatusUpdateUseCase, times(1)).processStatusUpdateEvent(any());
+    }
+
+    @Test
+    @DisplayName("Não deve confirmar offset quando o desligamento interromper a publicação na DLT")
+    void naoDeveConfirmarOffsetQuandoDesligamentoInterromperPublicacaoNaDlt() throws InterruptedException {
+        consumer.shutdown();
+        consumer = new VideoStatusUpdateParallelConsumer(videoStatusUpdateUseCase, deadLetterPublisher,
+                videoStatusUpdateMetrics, 4, 16, 3, Duration.ofMinutes(1), Duration.ofMillis(100));
+        when(deadLetterPublisher.publish(any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker indisponível")));
+        doThrow(new VideoNotFoundException(1L))
+                .when(videoStatusUpdateUseCase).processStatusUpdateEvent(any());
+
+        consumer.consumeVideoStatusUpdate(registro(18L, evento("user-123", "SUCCESS")), acknowledgment);
+        verify(deadLetterPublisher, timeout(5000)).publish(any(), any());
+        consumer.shutdown();
+
+        verify(videoStatusUpdateMetrics, timeout(5000)).recordProcessing(eq("parallel"), anyLong());
+        verify(deadLetterPublisher, times(1)).publish(any(), any());
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Não deve confirmar offset quando o desligamento interromper o backoff")
+    void naoDeveConfirmarOffsetQuandoDesligamentoInterromperBackoff() throws InterruptedException {
+        consumer.shutdown();
+        consumer = new VideoStatusUpdateParallelConsumer(videoStatusUpdateUseCase, deadLetterPublisher,
+                videoStatusUpdateMetrics, 4, 16, 3, Duration.ofMinutes(1), Duration.ofMillis(100));
+        doThrow(new RuntimeException("db indisponível"))
+                .when(videoStatusUpdateUseCase).processStatusUpdateEvent(any());
+
+        consumer.consumeVideoStatusUpdate(registro(17L, evento("user-123", "SUCCESS")), acknowledgment);
+        verify(videoStatusUpdateUseCase, timeout(5000)).processStatusUpdateEvent(any());
+        consumer.shutdown();
+
+        verify(videoStatusUpdateMetrics, timeout(5000)).recordProcessing(eq("parallel"), anyLong());
+        verify(videoStatusUpdateUseCase, times(1)).processStatusUpdateEvent(any());
+        verify(acknowledgment, never()).acknowledge();
+        verifyNoInteractions(deadLetterPublisher);
+    }
+
+    private static ConsumerRecord<String, VideoStatusUpdateEvent> registro(long offset, VideoStatusUpdateEvent valor) {
+        return new ConsumerRecord<>(TOPIC, 0, offset, "1", valor);
+    }
+
+    private static VideoStatusUpdateEvent evento(String userId, String status) {
+        return VideoStatusUpdateEvent.builder().videoId(1L).userId(userId).status(status).build();
+    }
+}
@@ -0,0 +1,146 @@
+package br.com.fiap.videosapi.video.infrastructure.kafka;
+
+import br.com.fiap.videosapi.core.exception.VideoNotFoundException;
+import br.com.fiap.videosapi.video.application.usecase.VideoStatusUpdateUseCase;
+import br.com.fiap.videosapi.video.common.domain.dto.event.VideoStatusUpdateEvent;
+import br.com.fiap.videosapi.video.infrastructure.metrics.VideoStatusUpdateMetrics;
+import br.com.fiap.videosapi.video.infrastructure.repository.KafkaConsumerOffsetRepository;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VideoStatusUpdateTransactionalConsumerTest {
+
+    private static final String TOPIC = "video.status";
+    private static final String GROUP = "video-api-consumer-group";
+
+    @Mock
+    private VideoStatusUpdateUseCase videoStatusUpdateUseCase;
+
+    @Mock
+    private KafkaConsumerOffsetRepository offsetRepository;
+
+    @Mock
+    private VideoStatusDeadLetterPublisher deadLetterPublisher;
+
+    @Mock
+    private VideoStatusUpdateMetrics videoStatusUpdateMetrics;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ConsumerSeekAware.ConsumerSeekCallback seekCallback;
+
+    private final TransactionStatus transactionStatus = new SimpleTransactionStatus();
+    private VideoStatusUpdateTransactionalConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new VideoStatusUpdateTransactionalConsumer(videoStatusUpdateUseCase, offsetRepository,
+                deadLetterPublisher, videoStatusUpdateMetrics, transactionManager, GROUP);
+    }
+
+    @Test
+    @DisplayName("Deve gravar o próximo offset na mesma transação da atualização de status")
+    void deveGravarProximoOffsetNaMesmaTransacaoDaAtualizacaoDeStatus() {
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+        ConsumerRecord<String, VideoStatusUpdateEvent> registro = registro(42L, evento("user-123"));
+
+        consumer.consumeVideoStatusUpdate(registro);
+
+        InOrder ordem = inOrder(transactionManager, videoStatusUpdateUseCase, offsetRepository);
+        ordem.verify(transactionManager).getTransaction(any());
+        ordem.verify(videoStatusUpdateUseCase).processStatusUpdateEvent(registro.value());
+        ordem.verify(offsetRepository).store(GROUP, TOPIC, 3, 43L);
+        ordem.verify(transactionManager).commit(transactionStatus);
+        verify(videoStatusUpdateMetrics).recordProcessing(eq("transactional"), anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve desfazer a transação e propagar erro transitório sem gravar offset")
+    void deveDesfazerTransacaoEPropagarErroTransitorioSemGravarOffset() {
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+        ConsumerRecord<String, VideoStatusUpdateEvent> registro = registro(42L, evento("user-123"));
+        doThrow(new QueryTimeoutException("timeout")).when(videoStatusUpdateUseCase).processStatusUpdateEvent(any());
+
+        assertThrows(QueryTimeoutException.class, () -> consumer.consumeVideoStatusUpdate(registro));
+
+        verify(transactionManager).rollback(transactionStatus);
+        verify(offsetRepository, never()).store(anyString(), anyString(), anyInt(), anyLong());
+        verify(videoStatusUpdateMetrics).record(VideoStatusUpdateMetrics.Outcome.FAILED);
+    }
+
+    @Test
+    @DisplayName("Deve enviar evento inválido para a DLT e avançar o offset")
+    void deveEnviarEventoInvalidoParaDltEAvancarOffset() {
+        ConsumerRecord<String, VideoStatusUpdateEvent> registro = registro(7L, evento(null));
+        when(deadLetterPublisher.publish(eq(registro), any(IllegalArgumentException.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        consumer.consumeVideoStatusUpdate(registro);
+
+        verify(videoStatusUpdateMetrics).record(VideoStatusUpdateMetrics.Outcome.INVALID);
+        verify(offsetRepository).store(GROUP, TOPIC, 3, 8L);
+        verifyNoInteractions(videoStatusUpdateUseCase, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Deve enviar para a DLT e avançar o offset quando o vídeo não existir")
+    void deveEnviarParaDltEAvancarOffsetQuandoVideoNaoExistir() {
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+        ConsumerRecord<String, VideoStatusUpdateEvent> registro = registro(9L, evento("user-123"));
+        doThrow(new VideoNotFoundException(1L)).when(videoStatusUpdateUseCase).processStatusUpdateEvent(any());
+        when(deadLetterPublisher.publish(eq(registro), any(VideoNotFoundException.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        consumer.consumeVideoStatusUpdate(registro);
+
+        verify(transactionManager).rollback(transactionStatus);
+        verify(offsetRepository).store(GROUP, TOPIC, 3, 10L);
+    }
+
+    @Test
+    @DisplayName("Deve posicionar as partições atribuídas a partir dos offsets gravados")
+    void devePosicionarParticoesAtribuidasAPartirDosOffsetsGravados() {
+        TopicPartition particao0 = new TopicPartition(TOPIC, 0);
+        TopicPartition particao1 = new TopicPartition(TOPIC, 1);
+        when(offsetRepository.findOffsets(GROUP, Set.of(particao0, particao1))).thenReturn(Map.of(particao1, 120L));
+
+        consumer.onPartitionsAssigned(Map.of(particao0, 5L, particao1, 100L), seekCallback);
+
+        verify(seekCallback).seek(TOPIC, 1, 120L);
+        verifyNoMoreInteractions(seekCallback);
+    }
+
+    private static ConsumerRecord<String, VideoStatusUpdateEvent> registro(long offset, VideoStatusUpdateEvent evento) {
+        return new ConsumerRecord<>(TOPIC, 3, offset, "1", evento);
+    }
+
+    private static VideoStatusUpdateEvent evento(String userId) {
+        return VideoStatusUpdateEvent.builder().videoId(1L).userId(userId).status("SUCCESS").build();
+    }
+}
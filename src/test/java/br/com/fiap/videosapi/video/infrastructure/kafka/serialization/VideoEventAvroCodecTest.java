@@ -0,0 +1,113 @@
+package br.com.fiap.videosapi.video.infrastructure.kafka.serialization;
+
+import br.com.fiap.videosapi.video.common.domain.dto.event.VideoStatusUpdateEvent;
+import br.com.fiap.videosapi.video.common.domain.dto.event.VideoUploadEvent;
+import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VideoEventAvroCodecTest {
+
+    private final VideoEventAvroCodec codec = new VideoEventAvroCodec(VideoEventSchemaRegistry.withDefaultSchemas());
+
+    @Test
+    @DisplayName("Deve codificar e decodificar evento de upload sem a connection string")
+    void deveCodificarEDecodificarEventoDeUploadSemConnectionString() {
+        VideoUploadEvent evento = VideoUploadEvent.createUploadSuccessEvent(1L, "video.mp4", "stored.mp4",
+                "video/mp4", 1024L, "https://blob/videos/stored.mp4", "videos",
+                "DefaultEndpointsProtocol=https;AccountKey=secret", LocalDateTime.of(2024, 5, 1, 10, 30, 15, 123456000));
+        evento.setUserId("user-123");
+
+        VideoUploadEvent decodificado = codec.decodeVideoUploadEvent(codec.encode(evento));
+
+        assertNull(decodificado.getConnectionString());
+        evento.setConnectionString(null);
+        assertEquals(evento, decodificado);
+        assertEquals(VideoStatus.UPLOADED, decodificado.getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve codificar e decodificar evento de status com campos nulos")
+    void deveCodificarEDecodificarEventoDeStatusComCamposNulos() {
+        VideoStatusUpdateEvent evento = VideoStatusUpdateEvent.builder().videoId(7L).status("SUCCESS").build();
+
+        assertEquals(evento, codec.decodeVideoStatusUpdateEvent(codec.encode(evento)));
+    }
+
+    @Test
+    @DisplayName("Deve prefixar payload com magic byte e id do schema")
+    void devePrefixarPayloadComMagicByteEIdDoSchema() {
+        byte[] payload = codec.encode(VideoStatusUpdateEvent.builder().videoId(1L).build());
+
+        assertTrue(VideoEventAvroCodec.isFramed(payload));
+        assertEquals(VideoEventSchemaRegistry.VIDEO_STATUS_UPDATE_EVENT_V2, ByteBuffer.wrap(payload, 1, 4).getInt());
+    }
+
+    @Test
+    @DisplayName("Deve codificar e decodificar progresso no schema v2")
+    void deveCodificarEDecodificarProgressoNoSchemaV2() {
+        VideoStatusUpdateEvent evento = VideoStatusUpdateEvent.builder()
+                .videoId(7L)
+                .userId("user-123")
+                .status("PROCESSING")
+                .progressPercent(42)
+                .stage("frame-extraction")
+                .build();
+
+        assertEquals(evento, codec.decodeVideoStatusUpdateEvent(codec.encode(evento)));
+    }
+
+    @Test
+    @DisplayName("Deve decodificar payload v1 com o schema de leitura v2")
+    void deveDecodificarPayloadV1ComSchemaDeLeituraV2() {
+        VideoEventSchemaRegistry registroV1 = new VideoEventSchemaRegistry();
+        registroV1.register(VideoEventSchemaRegistry.VIDEO_STATUS_UPDATE_EVENT_V1, "avro/video-status-update-event-v1.avsc");
+        VideoStatusUpdateEvent evento = VideoStatusUpdateEvent.builder().videoId(7L).userId("user-123").status("SUCCESS").build();
+
+        byte[] payloadV1 = new VideoEventAvroCodec(registroV1).encode(evento);
+        VideoStatusUpdateEvent decodificado = codec.decodeVideoStatusUpdateEvent(payloadV1);
+
+        assertEquals(VideoEventSchemaRegistry.VIDEO_STATUS_UPDATE_EVENT_V1, ByteBuffer.wrap(payloadV1, 1, 4).getInt());
+        assertEquals(evento, decodificado);
+        assertNull(decodificado.getProgressPercent());
+    }
+
+    @Test
+    @DisplayName("Deve gerar payload menor que o JSON equivalente")
+    void deveGerarPayloadMenorQueJsonEquivalente() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        VideoStatusUpdateEvent evento = VideoStatusUpdateEvent.builder()
+                .videoId(123456L)
+                .userId("user-123")
+                .status("SUCCESS")
+                .occurredAt(LocalDateTime.of(2024, 5, 1, 10, 30))
+                .build();
+
+        assertTrue(codec.encode(evento).length < objectMapper.writeValueAsBytes(evento).length);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar payload codificado com schema de outro tipo de evento")
+    void deveRejeitarPayloadCodificadoComSchemaDeOutroTipoDeEvento() {
+        byte[] upload = codec.encode(VideoUploadEvent.builder().videoId(1L).build());
+
+        assertThrows(SerializationException.class, () -> codec.decodeVideoStatusUpdateEvent(upload));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar id de schema desconhecido")
+    void deveRejeitarIdDeSchemaDesconhecido() {
+        byte[] payload = codec.encode(VideoStatusUpdateEvent.builder().videoId(1L).build());
+        ByteBuffer.wrap(payload, 1, 4).putInt(99);
+
+        assertThrows(SerializationException.class, () -> codec.decodeVideoStatusUpdateEvent(payload));
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.fiap.videosapi.video.infrastructure.kafka.serialization;
+
+import br.com.fiap.videosapi.video.common.domain.dto.event.VideoStatusUpdateEvent;
+import br.com.fiap.videosapi.video.common.domain.dto.event.VideoUploadEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VideoEventSerializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final VideoEventAvroCodec codec = new VideoEventAvroCodec(VideoEventSchemaRegistry.withDefaultSchemas());
+
+    @Test
+    @DisplayName("Deve serializar eventos em Avro e marcar o content-type quando formato for AVRO")
+    void deveSerializarEventosEmAvroEMarcarContentTypeQuandoFormatoForAvro() {
+        VideoEventSerializer serializer = new VideoEventSerializer(codec, objectMapper, VideoEventFormat.AVRO);
+        Headers headers = new RecordHeaders();
+
+        byte[] payload = serializer.serialize("video.uploaded", headers, VideoUploadEvent.builder().videoId(1L).build());
+
+        assertTrue(VideoEventAvroCodec.isFramed(payload));
+        assertEquals(VideoEventFormat.AVRO, VideoEventFormat.fromHeaders(headers).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Deve serializar eventos em JSON quando formato for JSON")
+    void deveSerializarEventosEmJsonQuandoFormatoForJson() throws Exception {
+        VideoEventSerializer serializer = new VideoEventSerializer(codec, objectMapper, VideoEventFormat.JSON);
+        Headers headers = new RecordHeaders();
+        VideoStatusUpdateEvent evento = VideoStatusUpdateEvent.builder().videoId(1L).userId("user-123").build();
+
+        byte[] payload = serializer.serialize("video.status", headers, evento);
+
+        assertEquals(evento, objectMapper.readValue(payload, VideoStatusUpdateEvent.class));
+        assertEquals(VideoEventFormat.JSON, VideoEventFormat.fromHeaders(headers).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Deve substituir content-type herdado e repassar strings como JSON")
+    void deveSubstituirContentTypeHerdadoERepassarStringsComoJson() {
+        VideoEventSerializer serializer = new VideoEventSerializer(codec, objectMapper, VideoEventFormat.AVRO);
+        Headers headers = new RecordHeaders();
+        VideoEventFormat.AVRO.writeTo(headers);
+
+        byte[] payload = serializer.serialize("video.status-dlt", headers, "{\"videoId\":1}");
+
+        assertEquals("{\"videoId\":1}", new String(payload, StandardCharsets.UTF_8));
+        assertEquals(1, headers.toArray().length);
+        assertEquals(VideoEventFormat.JSON, VideoEventFormat.fromHeaders(headers).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Deve retornar nulo para valores nulos")
+    void deveRetornarNuloParaValoresNulos() {
+        VideoEventSerializer serializer = new VideoEventSerializer(codec, objectMapper, VideoEventFormat.AVRO);
+
+        assertNull(serializer.serialize("video.status", new RecordHeaders(), null));
+    }
+}
@@ -0,0 +1,79 @@
+package br.com.fiap.videosapi.video.infrastructure.kafka.serialization;
+
+import br.com.fiap.videosapi.video.common.domain.dto.event.VideoStatusUpdateEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VideoStatusUpdateEventDeserializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final VideoEventAvroCodec codec = new VideoEventAvroCodec(VideoEventSchemaRegistry.withDefaultSchemas());
+    private final VideoStatusUpdateEventDeserializer deserializer = new VideoStatusUpdateEventDeserializer(codec, objectMapper);
+
+    private final VideoStatusUpdateEvent evento = VideoStatusUpdateEvent.builder()
+            .videoId(1L)
+            .userId("user-123")
+            .status("SUCCESS")
+            .occurredAt(LocalDateTime.of(2024, 5, 1, 10, 30))
+            .build();
+
+    @Test
+    @DisplayName("Deve decodificar payload Avro identificado pelo content-type")
+    void deveDecodificarPayloadAvroIdentificadoPeloContentType() {
+        Headers headers = new RecordHeaders();
+        VideoEventFormat.AVRO.writeTo(headers);
+
+        assertEquals(evento, deserializer.deserialize("video.status", headers, codec.encode(evento)));
+    }
+
+    @Test
+    @DisplayName("Deve decodificar payload Avro sem content-type pelo magic byte")
+    void deveDecodificarPayloadAvroSemContentTypePeloMagicByte() {
+        assertEquals(evento, deserializer.deserialize("video.status", new RecordHeaders(), codec.encode(evento)));
+    }
+
+    @Test
+    @DisplayName("Deve aceitar JSON legado sem content-type")
+    void deveAceitarJsonLegadoSemContentType() {
+        byte[] json = "{\"videoId\":1,\"userId\":\"user-123\",\"status\":\"SUCCESS\",\"occurredAt\":\"2024-05-01T10:30:00\"}"
+                .getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(evento, deserializer.deserialize("video.status", new RecordHeaders(), json));
+    }
+
+    @Test
+    @DisplayName("Deve aceitar JSON identificado pelo content-type")
+    void deveAceitarJsonIdentificadoPeloContentType() throws Exception {
+        Headers headers = new RecordHeaders();
+        headers.add(VideoEventFormat.CONTENT_TYPE_HEADER, "application/json; charset=utf-8".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(evento, deserializer.deserialize("video.status", headers, objectMapper.writeValueAsBytes(evento)));
+    }
+
+    @Test
+    @DisplayName("Deve lançar SerializationException para JSON inválido")
+    void deveLancarSerializationExceptionParaJsonInvalido() {
+        byte[] invalido = "not-json".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(SerializationException.class, () -> deserializer.deserialize("video.status", new RecordHeaders(), invalido));
+    }
+
+    @Test
+    @DisplayName("Deve lançar SerializationException para content-type desconhecido")
+    void deveLancarSerializationExceptionParaContentTypeDesconhecido() {
+        Headers headers = new RecordHeaders();
+        headers.add(VideoEventFormat.CONTENT_TYPE_HEADER, "text/plain".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(SerializationException.class, () -> deserializer.deserialize("video.status", headers, new byte[]{1}));
+    }
+}
@@ -0,0 +1,142 @@
+package br.com.fiap.videosapi.video.infrastructure.kafka.spool;
+
+import br.com.fiap.videosapi.video.common.domain.dto.event.VideoUploadEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VideoEventSpoolReplayerTest {
+
+    private static final String TOPIC = "video.uploaded";
+
+    @Mock
+    private VideoEventSpool videoEventSpool;
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private VideoEventSpoolReplayer replayer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        replayer = new VideoEventSpoolReplayer(videoEventSpool, kafkaTemplate, meterRegistry, TOPIC, "AccountKey=secret",
+                Duration.ofMillis(10), Duration.ofMillis(100), Duration.ofSeconds(1), Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("Deve reenviar evento do spool e confirmar a leitura")
+    void deveReenviarEventoDoSpoolEConfirmarLeitura() throws Exception {
+        VideoUploadEvent evento = VideoUploadEvent.builder().videoId(1L).build();
+        when(videoEventSpool.peek()).thenReturn(Optional.of(evento));
+        when(kafkaTemplate.send(TOPIC, "1", evento))
+                .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+
+        assertTrue(replayer.replayNext());
+
+        verify(videoEventSpool).commit();
+        assertEquals("AccountKey=secret", evento.getConnectionString());
+        assertEquals(1.0, meterRegistry.get("video.kafka.spool.events").tag("result", "replayed").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve manter evento no spool quando o broker continuar indisponível")
+    void deveManterEventoNoSpoolQuandoBrokerContinuarIndisponivel() {
+        VideoUploadEvent evento = VideoUploadEvent.builder().videoId(1L).build();
+        when(videoEventSpool.peek()).thenReturn(Optional.of(evento));
+        when(kafkaTemplate.send(TOPIC, "1", evento))
+                .thenReturn(CompletableFuture.failedFuture(new TimeoutException("Broker indisponível")));
+
+        assertThrows(ExecutionException.class, () -> replayer.replayNext());
+
+        verify(videoEventSpool, never()).commit();
+    }
+
+    @Test
+    @DisplayName("Deve descartar evento do spool que não pode ser serializado")
+    void deveDescartarEventoDoSpoolQueNaoPodeSerSerializado() throws Exception {
+        VideoUploadEvent evento = VideoUploadEvent.builder().videoId(1L).build();
+        when(videoEventSpool.peek()).thenReturn(Optional.of(evento));
+        when(kafkaTemplate.send(TOPIC, "1", evento)).thenThrow(new SerializationException("inválido"));
+
+        assertTrue(replayer.replayNext());
+
+        verify(videoEventSpool).commit();
+    }
+
+    @Test
+    @DisplayName("Não deve enviar nada quando o spool estiver vazio")
+    void naoDeveEnviarNadaQuandoSpoolEstiverVazio() throws Exception {
+        when(videoEventSpool.peek()).thenReturn(Optional.empty());
+
+        assertFalse(replayer.replayNext());
+
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("Deve drenar o spool em segundo plano após o início da aplicação")
+    void deveDrenarSpoolEmSegundoPlanoAposInicioDaAplicacao() throws Exception {
+        VideoUploadEvent evento = VideoUploadEvent.builder().videoId(1L).build();
+        when(videoEventSpool.peek()).thenReturn(Optional.of(evento), Optional.empty());
+        when(kafkaTemplate.send(TOPIC, "1", evento))
+                .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+
+        replayer.start();
+        verify(videoEventSpool, timeout(1000)).commit();
+        replayer.stop();
+    }
+
+    @Test
+    @DisplayName("Deve drenar o spool para o broker ao desligar")
+    void deveDrenarSpoolParaBrokerAoDesligar() throws Exception {
+        VideoUploadEvent primeiro = VideoUploadEvent.builder().videoId(1L).build();
+        VideoUploadEvent segundo = VideoUploadEvent.builder().videoId(2L).build();
+        when(videoEventSpool.depth()).thenReturn(2L, 1L, 0L);
+        when(videoEventSpool.peek()).thenReturn(Optional.of(primeiro), Optional.of(segundo));
+        when(kafkaTemplate.send(eq(TOPIC), anyString(), any()))
+                .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+
+        replayer.stop();
+
+        verify(kafkaTemplate).send(TOPIC, "1", primeiro);
+        verify(kafkaTemplate).send(TOPIC, "2", segundo);
+        verify(videoEventSpool, times(2)).commit();
+    }
+
+    @Test
+    @DisplayName("Deve deixar eventos no spool quando o broker estiver indisponível ao desligar")
+    void deveDeixarEventosNoSpoolQuandoBrokerIndisponivelAoDesligar() throws Exception {
+        VideoUploadEvent evento = VideoUploadEvent.builder().videoId(1L).build();
+        when(videoEventSpool.depth()).thenReturn(1L);
+        when(videoEventSpool.peek()).thenReturn(Optional.of(evento));
+        when(kafkaTemplate.send(TOPIC, "1", evento))
+                .thenReturn(CompletableFuture.failedFuture(new TimeoutException("Broker indisponível")));
+
+        assertDoesNotThrow(() -> replayer.stop());
+
+        verify(kafkaTemplate, times(1)).send(TOPIC, "1", evento);
+        verify(videoEventSpool, never()).commit();
+    }
+}
@@ -0,0 +1,146 @@
+package br.com.fiap.videosapi.video.infrastructure.kafka.spool;
+
+import br.com.fiap.videosapi.video.common.domain.dto.event.VideoUploadEvent;
+import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
+import br.com.fiap.videosapi.video.infrastructure.kafka.serialization.VideoEventAvroCodec;
+import br.com.fiap.videosapi.video.infrastructure.kafka.serialization.VideoEventSchemaRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VideoEventSpoolTest {
+
+    private final VideoEventAvroCodec codec = new VideoEventAvroCodec(VideoEventSchemaRegistry.withDefaultSchemas());
+    private final List<VideoEventSpool> spools = new ArrayList<>();
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void tearDown() {
+        spools.forEach(VideoEventSpool::close);
+    }
+
+    @Test
+    @DisplayName("Deve devolver os eventos na ordem em que foram gravados")
+    void deveDevolverEventosNaOrdemEmQueForamGravados() {
+        VideoEventSpool spool = abrir(DataSize.ofKilobytes(64));
+
+        assertTrue(spool.append(evento(1L)));
+        assertTrue(spool.append(evento(2L)));
+
+        assertEquals(2, spool.depth());
+        assertEquals(1L, spool.peek().orElseThrow().getVideoId());
+        spool.commit();
+        assertEquals(2L, spool.peek().orElseThrow().getVideoId());
+        spool.commit();
+        assertTrue(spool.peek().isEmpty());
+        assertEquals(0, spool.usedBytes());
+    }
+
+    @Test
+    @DisplayName("Deve manter eventos pendentes após reabrir o arquivo")
+    void deveManterEventosPendentesAposReabrirArquivo() {
+        VideoEventSpool spool = abrir(DataSize.ofKilobytes(64));
+        spool.append(evento(1L));
+        spool.append(evento(2L));
+        spool.peek();
+        spool.commit();
+        spool.close();
+
+        VideoEventSpool reaberto = abrir(DataSize.ofKilobytes(64));
+
+        assertEquals(1, reaberto.depth());
+        VideoUploadEvent pendente = reaberto.peek().orElseThrow();
+        assertEquals(2L, pendente.getVideoId());
+        assertEquals(VideoStatus.UPLOADED, pendente.getStatus());
+        assertNull(pendente.getConnectionString());
+    }
+
+    @Test
+    @DisplayName("Deve descartar registro corrompido ao reabrir o arquivo")
+    void deveDescartarRegistroCorrompidoAoReabrirArquivo() throws Exception {
+        VideoEventSpool spool = abrir(DataSize.ofKilobytes(64));
+        spool.append(evento(1L));
+        long fimDoPrimeiro = VideoEventSpool.HEADER_LENGTH + spool.usedBytes();
+        spool.append(evento(2L));
+        spool.close();
+
+        try (RandomAccessFile arquivo = new RandomAccessFile(directory.resolve(VideoEventSpool.FILE_NAME).toFile(), "rw")) {
+            arquivo.seek(fimDoPrimeiro + VideoEventSpool.RECORD_OVERHEAD + 2);
+            arquivo.write(0x7F);
+        }
+
+        VideoEventSpool reaberto = abrir(DataSize.ofKilobytes(64));
+        assertEquals(1, reaberto.depth());
+        assertEquals(1L, reaberto.peek().orElseThrow().getVideoId());
+    }
+
+    @Test
+    @DisplayName("Deve compactar o arquivo para reaproveitar espaço já consumido")
+    void deveCompactarArquivoParaReaproveitarEspacoJaConsumido() {
+        VideoEventSpool spool = abrir(DataSize.ofBytes(1024));
+        int gravados = 0;
+        while (spool.append(evento((long) gravados + 1))) {
+            gravados++;
+        }
+        assertTrue(gravados > 1);
+
+        spool.peek();
+        spool.commit();
+
+        assertTrue(spool.append(evento(999L)));
+        assertEquals(gravados, spool.depth());
+        assertEquals(2L, spool.peek().orElseThrow().getVideoId());
+    }
+
+    @Test
+    @DisplayName("Deve expor a profundidade do spool como métrica")
+    void deveExporProfundidadeDoSpoolComoMetrica() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        VideoEventSpool spool = new VideoEventSpool(codec, meterRegistry, directory, DataSize.ofKilobytes(64));
+        spools.add(spool);
+
+        spool.append(evento(1L));
+
+        assertEquals(1.0, meterRegistry.get("video.kafka.spool.depth").gauge().value());
+        assertEquals(1.0, meterRegistry.get("video.kafka.spool.events").tag("result", "spooled").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve gravar de forma assíncrona na thread do spool e recusar após o fechamento")
+    void deveGravarDeFormaAssincronaERecusarAposFechamento() throws Exception {
+        VideoEventSpool spool = abrir(DataSize.ofKilobytes(64));
+
+        assertTrue(spool.appendAsync(evento(1L)).get(5, TimeUnit.SECONDS));
+
+        assertTrue(Thread.getAllStackTraces().keySet().stream()
+                .anyMatch(thread -> thread.getName().equals("video-event-spool-append")));
+        assertEquals(1, spool.depth());
+        spool.close();
+        assertFalse(spool.appendAsync(evento(2L)).get(5, TimeUnit.SECONDS));
+    }
+
+    private VideoEventSpool abrir(DataSize capacidade) {
+        VideoEventSpool spool = new VideoEventSpool(codec, new SimpleMeterRegistry(), directory, capacidade);
+        spools.add(spool);
+        return spool;
+    }
+
+    private static VideoUploadEvent evento(Long videoId) {
+        return VideoUploadEvent.createUploadSuccessEvent(videoId, "video.mp4", videoId + "-stored.mp4", "video/mp4",
+                1024L, "https://blob/videos/" + videoId, "videos", "AccountKey=secret", LocalDateTime.of(2024, 5, 1, 10, 30));
+    }
+}
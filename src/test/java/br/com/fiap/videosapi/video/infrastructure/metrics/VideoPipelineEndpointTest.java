@@ -0,0 +1,82 @@
+package br.com.fiap.videosapi.video.infrastructure.metrics;
+
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoPipelineLatencyResponse;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoPipelineReportResponse;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoTimeInStateResponse;
+import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
+import br.com.fiap.videosapi.video.infrastructure.repository.VideoRepository;
+import br.com.fiap.videosapi.video.infrastructure.repository.VideoStatusHistoryRepository;
+import br.com.fiap.videosapi.video.infrastructure.repository.VideoStatusTransitionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VideoPipelineEndpointTest {
+
+    @Mock
+    private VideoRepository videoRepository;
+
+    @Mock
+    private VideoStatusTransitionRepository videoStatusTransitionRepository;
+
+    @Mock
+    private VideoStatusHistoryRepository videoStatusHistoryRepository;
+
+    private VideoPipelineEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        endpoint = new VideoPipelineEndpoint(videoRepository, videoStatusTransitionRepository, videoStatusHistoryRepository,
+                Duration.ofMinutes(15), Duration.ofHours(1), Duration.ofDays(1));
+    }
+
+    @Test
+    @DisplayName("Deve reportar percentis do banco e vídeos parados em estados não terminais")
+    void deveReportarPercentisRecentesEVideosParadosEmEstadosNaoTerminais() {
+        when(videoStatusTransitionRepository.findPipelineLatency(any())).thenReturn(VideoPipelineLatencyResponse.builder()
+                .completed(42L).p50Seconds(60.0).p95Seconds(240.0).p99Seconds(600.0).build());
+        when(videoRepository.countByStatusUploadedBefore(anyCollection(), any()))
+                .thenReturn(List.<Object[]>of(new Object[]{VideoStatus.PROCESSING, 3L}));
+        when(videoStatusHistoryRepository.findTimeInState(isNull(), any()))
+                .thenReturn(List.of(VideoTimeInStateResponse.builder().status(VideoStatus.PROCESSING).transitions(10L).p95Seconds(90.0).build()));
+
+        VideoPipelineReportResponse report = endpoint.report();
+
+        assertEquals(42L, report.getCompletedInWindow());
+        assertEquals(240.0, report.getLatencySeconds().get("p95"));
+        assertEquals(3L, report.getStuckTotal());
+        assertEquals(3L, report.getStuckByStatus().get(VideoStatus.PROCESSING));
+        assertEquals(0L, report.getStuckByStatus().get(VideoStatus.UPLOADED));
+        assertEquals(Duration.ofHours(1), report.getStuckAfter());
+        assertEquals(Duration.ofDays(1), report.getTimeInStateWindow());
+        assertEquals(90.0, report.getTimeInState().get(0).getP95Seconds());
+    }
+
+    @Test
+    @DisplayName("Deve omitir percentis quando nenhum vídeo concluiu na janela")
+    void deveOmitirPercentisQuandoNenhumVideoConcluiuNaJanela() {
+        when(videoStatusTransitionRepository.findPipelineLatency(any()))
+                .thenReturn(VideoPipelineLatencyResponse.builder().completed(0L).build());
+        when(videoRepository.countByStatusUploadedBefore(anyCollection(), any())).thenReturn(List.of());
+        when(videoStatusHistoryRepository.findTimeInState(isNull(), any())).thenReturn(List.of());
+
+        VideoPipelineReportResponse report = endpoint.report();
+
+        assertEquals(0L, report.getCompletedInWindow());
+        assertTrue(report.getLatencySeconds().isEmpty());
+    }
+}
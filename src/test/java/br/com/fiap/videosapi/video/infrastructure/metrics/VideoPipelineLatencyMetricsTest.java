@@ -0,0 +1,93 @@
+package br.com.fiap.videosapi.video.infrastructure.metrics;
+
+import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
+import br.com.fiap.videosapi.video.domain.event.VideoStatusChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VideoPipelineLatencyMetricsTest {
+
+    private static final LocalDateTime UPLOADED_AT = LocalDateTime.of(2024, 5, 1, 10, 0);
+
+    private SimpleMeterRegistry meterRegistry;
+    private VideoPipelineLatencyMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new VideoPipelineLatencyMetrics(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Deve registrar latência até PROCESSED por faixa de tamanho e content type")
+    void deveRegistrarLatenciaAteProcessedPorFaixaDeTamanhoEContentType() {
+        metrics.onStatusChanged(evento(VideoStatus.PROCESSED, 10L * 1024 * 1024, UPLOADED_AT.plusMinutes(3), null));
+
+        var timer = meterRegistry.get("video.pipeline.latency")
+                .tag("outcome", "processed")
+                .tag("size", "lt_50mb")
+                .tag("content_type", "video/mp4")
+                .timer();
+        assertEquals(1, timer.count());
+        assertEquals(180.0, timer.totalTime(TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Deve usar o momento da mudança como fim quando o vídeo falhar")
+    void deveUsarMomentoDaMudancaComoFimQuandoVideoFalhar() {
+        metrics.onStatusChanged(evento(VideoStatus.FAILED, 300L * 1024 * 1024, null, UPLOADED_AT.plusMinutes(10)));
+
+        var timer = meterRegistry.get("video.pipeline.latency").tag("outcome", "failed").tag("size", "gte_200mb").timer();
+        assertEquals(600.0, timer.totalTime(TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Não deve registrar latência para estados não terminais")
+    void naoDeveRegistrarLatenciaParaEstadosNaoTerminais() {
+        metrics.onStatusChanged(evento(VideoStatus.PROCESSING, 1024L, null, UPLOADED_AT.plusMinutes(1)));
+
+        assertNull(meterRegistry.find("video.pipeline.latency").timer());
+    }
+
+    @Test
+    @DisplayName("Deve normalizar o content type para um conjunto fixo de tags")
+    void deveNormalizarContentTypeParaConjuntoFixoDeTags() {
+        assertEquals("unknown", VideoPipelineLatencyMetrics.contentTypeTag(null));
+        assertEquals("unknown", VideoPipelineLatencyMetrics.contentTypeTag(" "));
+        assertEquals("video/mp4", VideoPipelineLatencyMetrics.contentTypeTag("Video/MP4"));
+        assertEquals("video/webm", VideoPipelineLatencyMetrics.contentTypeTag("video/webm; codecs=\"vp8, vorbis\""));
+        assertEquals("other", VideoPipelineLatencyMetrics.contentTypeTag("video/x-qualquer-" + System.nanoTime()));
+        assertEquals("other", VideoPipelineLatencyMetrics.contentTypeTag("application/octet-stream"));
+    }
+
+    @Test
+    @DisplayName("Deve classificar tamanhos de arquivo em faixas")
+    void deveClassificarTamanhosDeArquivoEmFaixas() {
+        assertEquals("unknown", VideoPipelineLatencyMetrics.sizeBucket(null));
+        assertEquals("lt_50mb", VideoPipelineLatencyMetrics.sizeBucket(1024L));
+        assertEquals("50_200mb", VideoPipelineLatencyMetrics.sizeBucket(100L * 1024 * 1024));
+        assertEquals("gte_200mb", VideoPipelineLatencyMetrics.sizeBucket(500L * 1024 * 1024));
+    }
+
+    private static VideoStatusChangedEvent evento(VideoStatus status, Long fileSize, LocalDateTime processedAt,
+                                                  LocalDateTime changedAt) {
+        return VideoStatusChangedEvent.builder()
+                .videoId(1L)
+                .userId("user-123")
+                .previousStatus(VideoStatus.PROCESSING)
+                .status(status)
+                .fileSize(fileSize)
+                .contentType("video/mp4")
+                .uploadedAt(UPLOADED_AT)
+                .processedAt(processedAt)
+                .changedAt(changedAt)
+                .build();
+    }
+}
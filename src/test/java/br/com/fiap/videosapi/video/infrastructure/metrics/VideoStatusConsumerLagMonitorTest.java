@@ -0,0 +1,137 @@
+package br.com.fiap.videosapi.video.infrastructure.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListConsumerGroupOffsetsResult;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatcher;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VideoStatusConsumerLagMonitorTest {
+
+    private static final String TOPIC = "video.status";
+    private static final String GROUP = "video-api-consumer-group";
+
+    @Mock
+    private Admin admin;
+
+    @Mock
+    private ListConsumerGroupOffsetsResult groupOffsets;
+
+    @Mock
+    private DescribeTopicsResult describeTopics;
+
+    @Mock
+    private ListOffsetsResult listOffsets;
+
+    @Mock
+    private ListOffsetsResult listEarliestOffsets;
+
+    private SimpleMeterRegistry meterRegistry;
+    private VideoStatusConsumerLagMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new VideoStatusConsumerLagMonitor(meterRegistry, () -> admin, TOPIC, GROUP, Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("Deve publicar lag por partição e total a partir dos offsets do grupo")
+    void devePublicarLagPorParticaoETotalAPartirDosOffsetsDoGrupo() {
+        TopicPartition particao0 = new TopicPartition(TOPIC, 0);
+        TopicPartition particao1 = new TopicPartition(TOPIC, 1);
+        when(admin.listConsumerGroupOffsets(GROUP)).thenReturn(groupOffsets);
+        when(groupOffsets.partitionsToOffsetAndMetadata())
+                .thenReturn(KafkaFuture.completedFuture(Map.of(particao0, new OffsetAndMetadata(90L))));
+        when(admin.describeTopics(List.of(TOPIC))).thenReturn(describeTopics);
+        when(describeTopics.allTopicNames()).thenReturn(KafkaFuture.completedFuture(Map.of(TOPIC,
+                new TopicDescription(TOPIC, false, List.of(
+                        new TopicPartitionInfo(0, null, List.of(), List.of()),
+                        new TopicPartitionInfo(1, null, List.of(), List.of()))))));
+        when(admin.listOffsets(argThat(especificacoesDo(OffsetSpec.LatestSpec.class)))).thenReturn(listOffsets);
+        when(listOffsets.all()).thenReturn(KafkaFuture.completedFuture(Map.of(
+                particao0, new ListOffsetsResult.ListOffsetsResultInfo(100L, -1L, Optional.empty()),
+                particao1, new ListOffsetsResult.ListOffsetsResultInfo(5L, -1L, Optional.empty()))));
+        when(admin.listOffsets(argThat(especificacoesDo(OffsetSpec.EarliestSpec.class)))).thenReturn(listEarliestOffsets);
+        when(listEarliestOffsets.all()).thenReturn(KafkaFuture.completedFuture(Map.of(
+                particao1, new ListOffsetsResult.ListOffsetsResultInfo(2L, -1L, Optional.empty()))));
+
+        monitor.refresh();
+
+        assertEquals(10.0, meterRegistry.get("video.status.consumer.lag").tag("partition", "0").gauge().value());
+        assertEquals(3.0, meterRegistry.get("video.status.consumer.lag").tag("partition", "1").gauge().value());
+        assertEquals(13.0, meterRegistry.get("video.status.consumer.lag.total").tag("group", GROUP).gauge().value());
+    }
+
+    @Test
+    @DisplayName("Não deve consultar o offset mais antigo quando todas as partições têm offset confirmado")
+    void naoDeveConsultarOffsetMaisAntigoQuandoTodasAsParticoesTemOffsetConfirmado() {
+        TopicPartition particao0 = new TopicPartition(TOPIC, 0);
+        when(admin.listConsumerGroupOffsets(GROUP)).thenReturn(groupOffsets);
+        when(groupOffsets.partitionsToOffsetAndMetadata())
+                .thenReturn(KafkaFuture.completedFuture(Map.of(particao0, new OffsetAndMetadata(40L))));
+        when(admin.describeTopics(List.of(TOPIC))).thenReturn(describeTopics);
+        when(describeTopics.allTopicNames()).thenReturn(KafkaFuture.completedFuture(Map.of(TOPIC,
+                new TopicDescription(TOPIC, false, List.of(new TopicPartitionInfo(0, null, List.of(), List.of()))))));
+        when(admin.listOffsets(anyMap())).thenReturn(listOffsets);
+        when(listOffsets.all()).thenReturn(KafkaFuture.completedFuture(Map.of(
+                particao0, new ListOffsetsResult.ListOffsetsResultInfo(50L, -1L, Optional.empty()))));
+
+        monitor.refresh();
+
+        assertEquals(10.0, meterRegistry.get("video.status.consumer.lag.total").gauge().value());
+        verify(admin, times(1)).listOffsets(anyMap());
+    }
+
+    @Test
+    @DisplayName("Deve manter o último valor quando a consulta ao cluster falhar")
+    void deveManterUltimoValorQuandoConsultaAoClusterFalhar() {
+        when(admin.listConsumerGroupOffsets(GROUP)).thenReturn(groupOffsets);
+        when(groupOffsets.partitionsToOffsetAndMetadata())
+                .thenReturn(KafkaFuture.completedFuture(Map.of()));
+        when(admin.describeTopics(List.of(TOPIC))).thenThrow(new IllegalStateException("broker indisponível"));
+
+        monitor.refresh();
+
+        assertEquals(0.0, meterRegistry.get("video.status.consumer.lag.total").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Deve fechar o cliente administrativo ao encerrar")
+    void deveFecharClienteAdministrativoAoEncerrar() {
+        when(admin.listConsumerGroupOffsets(GROUP)).thenThrow(new IllegalStateException("falha"));
+        monitor.refresh();
+
+        monitor.close();
+
+        verify(admin).close(Duration.ofSeconds(1));
+    }
+
+    private static ArgumentMatcher<Map<TopicPartition, OffsetSpec>> especificacoesDo(Class<? extends OffsetSpec> tipo) {
+        return especificacoes -> especificacoes != null && especificacoes.values().stream().allMatch(tipo::isInstance);
+    }
+}
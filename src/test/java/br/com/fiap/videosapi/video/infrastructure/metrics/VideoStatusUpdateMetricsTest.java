@@ -0,0 +1,67 @@
+package br.com.fiap.videosapi.video.infrastructure.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VideoStatusUpdateMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private VideoStatusUpdateMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new VideoStatusUpdateMetrics(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Deve registrar um contador por resultado")
+    void deveRegistrarUmContadorPorResultado() {
+        for (VideoStatusUpdateMetrics.Outcome outcome : VideoStatusUpdateMetrics.Outcome.values()) {
+            assertNotNull(meterRegistry.find("video.status.updates")
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .counter());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve incrementar o contador do resultado informado")
+    void deveIncrementarContadorDoResultadoInformado() {
+        metrics.record(VideoStatusUpdateMetrics.Outcome.APPLIED);
+        metrics.record(VideoStatusUpdateMetrics.Outcome.APPLIED, 4);
+        metrics.record(VideoStatusUpdateMetrics.Outcome.DEAD_LETTERED, 0);
+
+        assertEquals(5.0, meterRegistry.get("video.status.updates").tag("outcome", "applied").counter().count());
+        assertEquals(0.0, meterRegistry.get("video.status.updates").tag("outcome", "dead_lettered").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve registrar tempo de processamento por modo do consumidor")
+    void deveRegistrarTempoDeProcessamentoPorModoDoConsumidor() {
+        metrics.recordProcessing("record", System.nanoTime());
+        metrics.recordProcessing("batch", System.nanoTime());
+        metrics.recordProcessing("batch", System.nanoTime());
+
+        assertEquals(1, meterRegistry.get("video.status.consumer.processing").tag("mode", "record").timer().count());
+        assertEquals(2, meterRegistry.get("video.status.consumer.processing").tag("mode", "batch").timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve registrar idade do evento e ignorar registros sem timestamp")
+    void deveRegistrarIdadeDoEventoEIgnorarRegistrosSemTimestamp() {
+        metrics.recordEventAge(System.currentTimeMillis() - 5000);
+        metrics.recordEventAge(-1L);
+
+        var eventAge = meterRegistry.get("video.status.consumer.event.age").timer();
+        assertEquals(1, eventAge.count());
+        assertTrue(eventAge.totalTime(TimeUnit.MILLISECONDS) >= 5000);
+    }
+}
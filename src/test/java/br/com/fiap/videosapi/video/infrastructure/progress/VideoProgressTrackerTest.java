@@ -0,0 +1,138 @@
+package br.com.fiap.videosapi.video.infrastructure.progress;
+
+import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
+import br.com.fiap.videosapi.video.domain.event.VideoStatusChangedEvent;
+import br.com.fiap.videosapi.video.infrastructure.repository.VideoProgressRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VideoProgressTrackerTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.now();
+
+    @Mock
+    private VideoProgressRepository videoProgressRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private VideoProgressTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tracker = new VideoProgressTracker(videoProgressRepository, meterRegistry, 2, Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("Deve manter apenas o progresso mais recente de cada vídeo")
+    void deveManterApenasProgressoMaisRecenteDeCadaVideo() {
+        tracker.record(progresso(1L, 20, BASE.plusSeconds(2)));
+        tracker.record(progresso(1L, 10, BASE.plusSeconds(1)));
+
+        assertEquals(20, tracker.get(1L).orElseThrow().getPercent());
+    }
+
+    @Test
+    @DisplayName("Deve coalescer vários eventos do mesmo vídeo em uma única escrita")
+    @SuppressWarnings("unchecked")
+    void deveCoalescerVariosEventosDoMesmoVideoEmUmaUnicaEscrita() {
+        for (int percentual = 1; percentual <= 50; percentual++) {
+            tracker.record(progresso(1L, percentual, BASE.plusSeconds(percentual)));
+        }
+        when(videoProgressRepository.saveAll(anyCollection())).thenReturn(1);
+
+        tracker.flush();
+        tracker.flush();
+
+        ArgumentCaptor<Collection<VideoProgress>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(videoProgressRepository, times(1)).saveAll(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        assertEquals(50, captor.getValue().iterator().next().getPercent());
+        assertEquals(0.0, meterRegistry.get("video.progress.pending").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Deve dividir a escrita em lotes do tamanho configurado")
+    void deveDividirEscritaEmLotesDoTamanhoConfigurado() {
+        List<Integer> tamanhos = new ArrayList<>();
+        when(videoProgressRepository.saveAll(anyCollection())).thenAnswer(invocation -> {
+            Collection<?> lote = invocation.getArgument(0);
+            tamanhos.add(lote.size());
+            return lote.size();
+        });
+        for (long videoId = 1; videoId <= 5; videoId++) {
+            tracker.record(progresso(videoId, 10, BASE));
+        }
+
+        tracker.flush();
+
+        assertEquals(List.of(2, 2, 1), tamanhos);
+    }
+
+    @Test
+    @DisplayName("Deve reenfileirar progresso quando a escrita falhar")
+    void deveReenfileirarProgressoQuandoEscritaFalhar() {
+        tracker.record(progresso(1L, 30, BASE));
+        when(videoProgressRepository.saveAll(anyCollection()))
+                .thenThrow(new DataAccessResourceFailureException("banco indisponível"))
+                .thenReturn(1);
+
+        tracker.flush();
+        assertEquals(1.0, meterRegistry.get("video.progress.pending").gauge().value());
+
+        tracker.flush();
+        verify(videoProgressRepository, times(2)).saveAll(anyCollection());
+        assertEquals(0.0, meterRegistry.get("video.progress.pending").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Deve descartar progresso quando o vídeo atingir status terminal")
+    void deveDescartarProgressoQuandoVideoAtingirStatusTerminal() {
+        tracker.record(progresso(1L, 99, BASE));
+
+        tracker.onStatusChanged(VideoStatusChangedEvent.builder().videoId(1L).status(VideoStatus.PROCESSED).build());
+        tracker.flush();
+
+        assertTrue(tracker.get(1L).isEmpty());
+        verifyNoInteractions(videoProgressRepository);
+    }
+
+    @Test
+    @DisplayName("Deve expirar da memória progresso já persistido e antigo")
+    void deveExpirarDaMemoriaProgressoJaPersistidoEAntigo() {
+        tracker.record(progresso(1L, 10, BASE.minusHours(2)));
+        tracker.record(progresso(2L, 10, BASE));
+
+        tracker.flush();
+
+        assertTrue(tracker.get(1L).isEmpty());
+        assertTrue(tracker.get(2L).isPresent());
+    }
+
+    private static VideoProgress progresso(Long videoId, int percentual, LocalDateTime reportadoEm) {
+        return VideoProgress.builder()
+                .videoId(videoId)
+                .userId("user-123")
+                .percent(percentual)
+                .stage("frame-extraction")
+                .reportedAt(reportadoEm)
+                .build();
+    }
+}
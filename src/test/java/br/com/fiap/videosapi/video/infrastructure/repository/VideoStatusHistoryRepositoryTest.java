@@ -0,0 +1,71 @@
+package br.com.fiap.videosapi.video.infrastructure.repository;
+
+import br.com.fiap.videosapi.support.MigratedPostgresTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VideoStatusHistoryRepositoryTest extends MigratedPostgresTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private VideoStatusHistoryRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = dataSource();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        jdbcTemplate.execute("TRUNCATE video_status_history, videos");
+        repository = new VideoStatusHistoryRepository(new NamedParameterJdbcTemplate(jdbcTemplate));
+    }
+
+    @Test
+    @DisplayName("Deve mover linhas do mês que caíram na partição DEFAULT ao criar a partição mensal")
+    void deveMoverLinhasDaParticaoDefaultAoCriarParticaoMensal() {
+        YearMonth mes = YearMonth.now().plusYears(2);
+        long videoId = inserirVideo(LocalDateTime.now());
+        inserirTransicao(videoId, "PROCESSED", mes.atDay(10).atTime(12, 0));
+        inserirTransicao(videoId, "FAILED", mes.plusMonths(1).atDay(10).atTime(12, 0));
+        String particao = String.format("video_status_history_%d_%02d", mes.getYear(), mes.getMonthValue());
+
+        Integer movidas = transactionTemplate.execute(status -> repository.createMonthlyPartition(mes));
+
+        assertEquals(1, movidas);
+        assertEquals(1, contar("SELECT count(*) FROM " + particao));
+        assertEquals(1, contar("SELECT count(*) FROM video_status_history_default"));
+        assertEquals(2, contar("SELECT count(*) FROM video_status_history WHERE video_id = " + videoId));
+        assertEquals(-1, transactionTemplate.execute(status -> repository.createMonthlyPartition(mes)));
+    }
+
+    private long contar(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    private long inserirVideo(LocalDateTime uploadedAt) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO videos (original_file_name, stored_file_name, content_type, file_size, user_id, uploaded_at)
+                VALUES ('video.mp4', 'video.mp4', 'video/mp4', 1024, 'user-123', ?)
+                RETURNING id
+                """, Long.class, Timestamp.valueOf(uploadedAt));
+    }
+
+    private void inserirTransicao(long videoId, String status, LocalDateTime changedAt) {
+        jdbcTemplate.update("""
+                INSERT INTO video_status_history (video_id, user_id, previous_status, status, previous_status_since,
+                                                  changed_at, time_in_previous_ms)
+                VALUES (?, 'user-123', 'UPLOADED', ?, ?, ?, 0)
+                """, videoId, status, Timestamp.valueOf(changedAt.minusSeconds(1)), Timestamp.valueOf(changedAt));
+    }
+}
@@ -0,0 +1,66 @@
+package br.com.fiap.videosapi.video.infrastructure.repository;
+
+import br.com.fiap.videosapi.support.MigratedPostgresTest;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoPipelineLatencyResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VideoStatusTransitionRepositoryTest extends MigratedPostgresTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private VideoStatusTransitionRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource());
+        jdbcTemplate.execute("TRUNCATE video_status_history, videos");
+        repository = new VideoStatusTransitionRepository(new NamedParameterJdbcTemplate(jdbcTemplate));
+    }
+
+    @Test
+    @DisplayName("Deve calcular latência da janela a partir de videos, sem depender do histórico de status")
+    void deveCalcularLatenciaDaJanelaAPartirDeVideos() {
+        LocalDateTime agora = LocalDateTime.now();
+        for (int minutos = 1; minutos <= 9; minutos++) {
+            inserirVideo(agora.minusMinutes(minutos + 5), "PROCESSED", agora.minusMinutes(5));
+        }
+        inserirVideo(agora.minusMinutes(15), "FAILED", null);
+        inserirVideo(agora.minusMinutes(20), "PROCESSING", null);
+        inserirVideo(agora.minusHours(3), "PROCESSED", agora.minusHours(2));
+
+        VideoPipelineLatencyResponse latencia = repository.findPipelineLatency(agora.minusMinutes(15));
+
+        assertEquals(9L, latencia.getCompleted());
+        assertEquals(0L, jdbcTemplate.queryForObject("SELECT count(*) FROM video_status_history", Long.class));
+        assertTrue(latencia.getP50Seconds() > 60.0);
+        assertTrue(latencia.getP50Seconds() <= latencia.getP95Seconds());
+        assertTrue(latencia.getP95Seconds() <= latencia.getP99Seconds());
+        assertTrue(latencia.getP99Seconds() <= 541.0);
+    }
+
+    @Test
+    @DisplayName("Deve retornar percentis nulos quando nada concluiu na janela")
+    void deveRetornarPercentisNulosQuandoNadaConcluiu() {
+        VideoPipelineLatencyResponse latencia = repository.findPipelineLatency(LocalDateTime.now().minusMinutes(15));
+
+        assertEquals(0L, latencia.getCompleted());
+        assertNull(latencia.getP50Seconds());
+        assertNull(latencia.getP99Seconds());
+    }
+
+    private void inserirVideo(LocalDateTime uploadedAt, String status, LocalDateTime processedAt) {
+        jdbcTemplate.update("""
+                INSERT INTO videos (original_file_name, stored_file_name, content_type, file_size, user_id, uploaded_at,
+                                    status, processed_at)
+                VALUES ('video.mp4', 'video.mp4', 'video/mp4', 1024, 'user-123', ?, ?, ?)
+                """, Timestamp.valueOf(uploadedAt), status, processedAt == null ? null : Timestamp.valueOf(processedAt));
+    }
+}
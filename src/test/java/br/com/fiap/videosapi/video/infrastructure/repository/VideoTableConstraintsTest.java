@@ -0,0 +1,75 @@
+package br.com.fiap.videosapi.video.infrastructure.repository;
+
+import br.com.fiap.videosapi.support.MigratedPostgresTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VideoTableConstraintsTest extends MigratedPostgresTest {
+
+    private static final String INSERT = """
+            INSERT INTO videos (original_file_name, stored_file_name, content_type, file_size, azure_blob_url,
+                                status, user_id)
+            VALUES (?, 'files', ?, ?, ?, ?, 'user-123')
+            RETURNING id
+            """;
+
+    @Test
+    @DisplayName("Deve aceitar registro pendente de upload reativo com tamanho zero e sem blob")
+    void deveAceitarRegistroPendente() throws SQLException {
+        try (Connection conexao = connection()) {
+            long id = inserir(conexao, "pendente.mp4", "video/mp4", 0L, null, "PENDING");
+
+            try (PreparedStatement update = conexao.prepareStatement(
+                    "UPDATE videos SET status = 'UPLOADED', file_size = ?, azure_blob_url = ? WHERE id = ?")) {
+                update.setLong(1, 1024L);
+                update.setString(2, "https://blob.url/" + id + "/pendente.mp4");
+                update.setLong(3, id);
+                assertEquals(1, update.executeUpdate());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tamanho zero quando o upload já foi concluído")
+    void deveRejeitarTamanhoZeroComUploadConcluido() throws SQLException {
+        try (Connection conexao = connection()) {
+            SQLException erro = assertThrows(SQLException.class,
+                    () -> inserir(conexao, "vazio.mp4", "video/mp4", 0L, "https://blob.url/vazio.mp4", "UPLOADED"));
+
+            assertTrue(erro.getMessage().contains("chk_videos_file_size"));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar registro sem tipo de conteúdo")
+    void deveRejeitarRegistroSemTipoDeConteudo() throws SQLException {
+        try (Connection conexao = connection()) {
+            SQLException erro = assertThrows(SQLException.class,
+                    () -> inserir(conexao, "sem-tipo.mp4", null, 0L, null, "PENDING"));
+
+            assertTrue(erro.getMessage().contains("content_type"));
+        }
+    }
+
+    private static long inserir(Connection conexao, String nome, String tipo, long tamanho, String blobUrl,
+                                String status) throws SQLException {
+        try (PreparedStatement insert = conexao.prepareStatement(INSERT)) {
+            insert.setString(1, nome);
+            insert.setString(2, tipo);
+            insert.setLong(3, tamanho);
+            insert.setString(4, blobUrl);
+            insert.setString(5, status);
+            try (ResultSet resultado = insert.executeQuery()) {
+                resultado.next();
+                return resultado.getLong(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.fiap.videosapi.video.infrastructure.scheduler;
+
+import br.com.fiap.videosapi.video.infrastructure.repository.VideoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PendingVideoUploadSweeperTest {
+
+    @Mock
+    private VideoRepository videoRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PendingVideoUploadSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sweeper = new PendingVideoUploadSweeper(videoRepository, meterRegistry, Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("Deve remover uploads pendentes mais antigos que o limite e contabilizá-los")
+    void deveRemoverUploadsPendentesAntigos() {
+        when(videoRepository.deleteStalePendingUploads(any())).thenReturn(3);
+        LocalDateTime antes = LocalDateTime.now().minusHours(1);
+
+        sweeper.sweepStalePendingUploads();
+
+        ArgumentCaptor<LocalDateTime> limite = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(videoRepository).deleteStalePendingUploads(limite.capture());
+        assertFalse(limite.getValue().isBefore(antes));
+        assertTrue(limite.getValue().isBefore(LocalDateTime.now().minusMinutes(59)));
+        assertEquals(3.0, meterRegistry.get("video.upload.pending.swept").counter().count());
+    }
+
+    @Test
+    @DisplayName("Não deve propagar falha do banco ao varrer uploads pendentes")
+    void naoDevePropagarFalhaDoBanco() {
+        when(videoRepository.deleteStalePendingUploads(any()))
+                .thenThrow(new DataAccessResourceFailureException("banco indisponível"));
+
+        assertDoesNotThrow(() -> sweeper.sweepStalePendingUploads());
+        assertEquals(0.0, meterRegistry.get("video.upload.pending.swept").counter().count());
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.fiap.videosapi.video.infrastructure.scheduler;
+
+import br.com.fiap.videosapi.video.infrastructure.repository.VideoStatusHistoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VideoStatusHistoryPartitionSchedulerTest {
+
+    @Mock
+    private VideoStatusHistoryRepository videoStatusHistoryRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private VideoStatusHistoryPartitionScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new VideoStatusHistoryPartitionScheduler(videoStatusHistoryRepository, meterRegistry, 2);
+    }
+
+    @Test
+    @DisplayName("Deve contabilizar linhas movidas da DEFAULT e falhas sem interromper os demais meses")
+    void deveContabilizarLinhasMovidasEFalhas() {
+        YearMonth atual = YearMonth.now();
+        when(videoStatusHistoryRepository.createMonthlyPartition(atual)).thenReturn(-1);
+        when(videoStatusHistoryRepository.createMonthlyPartition(atual.plusMonths(1)))
+                .thenThrow(new DataAccessResourceFailureException("banco indisponível"));
+        when(videoStatusHistoryRepository.createMonthlyPartition(atual.plusMonths(2))).thenReturn(7);
+
+        scheduler.createUpcomingPartitions();
+
+        verify(videoStatusHistoryRepository, times(3)).createMonthlyPartition(any());
+        assertEquals(7.0, meterRegistry.get("video.status-history.partition.default-rows-moved").counter().count());
+        assertEquals(1.0, meterRegistry.get("video.status-history.partition.failures").counter().count());
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.fiap.videosapi.video.infrastructure.sse;
+
+import br.com.fiap.videosapi.support.MigratedPostgresTest;
+import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
+import br.com.fiap.videosapi.video.domain.event.VideoStatusChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class VideoStatusChangeBroadcasterPostgresTest extends MigratedPostgresTest {
+
+    private final VideoStatusSseRegistry registroDeOutroPod = mock(VideoStatusSseRegistry.class);
+    private VideoStatusChangeBroadcaster podQueAplica;
+    private VideoStatusChangeBroadcaster podQueEscuta;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (podQueEscuta != null) {
+            podQueEscuta.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve entregar a transição aplicada em um pod aos assinantes de outro pod")
+    void deveEntregarTransicaoAplicadaEmUmPodAosAssinantesDeOutroPod() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        NamedParameterJdbcTemplate jdbcTemplate = new NamedParameterJdbcTemplate(dataSource());
+        podQueAplica = new VideoStatusChangeBroadcaster(jdbcTemplate, objectMapper, mock(VideoStatusSseRegistry.class),
+                MigratedPostgresTest::connection, Duration.ofMillis(100), Duration.ofMillis(100));
+        podQueEscuta = new VideoStatusChangeBroadcaster(jdbcTemplate, objectMapper, registroDeOutroPod,
+                MigratedPostgresTest::connection, Duration.ofMillis(100), Duration.ofMillis(100));
+        podQueEscuta.start();
+
+        VideoStatusChangedEvent mudanca = VideoStatusChangedEvent.builder()
+                .videoId(42L)
+                .userId("user-1")
+                .previousStatus(VideoStatus.PROCESSING)
+                .status(VideoStatus.PROCESSED)
+                .changedAt(LocalDateTime.now())
+                .build();
+        // the listener subscribes asynchronously, so keep notifying until the first delivery
+        long prazo = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (mockingDetails(registroDeOutroPod).getInvocations().isEmpty() && System.nanoTime() < prazo) {
+            podQueAplica.onVideoStatusChanged(mudanca);
+            Thread.sleep(200);
+        }
+
+        assertFalse(mockingDetails(registroDeOutroPod).getInvocations().isEmpty());
+        verify(registroDeOutroPod, atLeastOnce()).dispatch(argThat(evento ->
+                evento.getVideoId() == 42L && evento.getStatus() == VideoStatus.PROCESSED));
+    }
+}
@@ -0,0 +1,88 @@
+package br.com.fiap.videosapi.video.infrastructure.sse;
+
+import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
+import br.com.fiap.videosapi.video.domain.event.VideoStatusChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VideoStatusChangeBroadcasterTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private VideoStatusSseRegistry videoStatusSseRegistry;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private VideoStatusChangeBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new VideoStatusChangeBroadcaster(jdbcTemplate, objectMapper, videoStatusSseRegistry,
+                () -> {
+                    throw new AssertionError("Não deve abrir conexão de escuta");
+                }, Duration.ofMillis(100), Duration.ofMillis(100));
+    }
+
+    @Test
+    @DisplayName("Deve notificar a transição pelo canal do Postgres e entregar aos assinantes locais ao recebê-la")
+    void deveNotificarTransicaoPeloCanalDoPostgresEEntregarAosAssinantesLocais() throws Exception {
+        LocalDateTime alteradoEm = LocalDateTime.of(2025, 9, 25, 10, 30);
+        broadcaster.onVideoStatusChanged(VideoStatusChangedEvent.builder()
+                .videoId(7L)
+                .userId("user-1")
+                .previousStatus(VideoStatus.PROCESSING)
+                .status(VideoStatus.PROCESSED)
+                .fileSize(1024L)
+                .contentType("video/mp4")
+                .processedAt(alteradoEm)
+                .changedAt(alteradoEm)
+                .build());
+
+        ArgumentCaptor<MapSqlParameterSource> parametros = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(jdbcTemplate).queryForObject(anyString(), parametros.capture(), eq(String.class));
+        assertEquals(VideoStatusChangeBroadcaster.CHANNEL, parametros.getValue().getValue("channel"));
+        String payload = (String) parametros.getValue().getValue("payload");
+        assertFalse(payload.contains("video/mp4"));
+
+        broadcaster.dispatch(payload);
+
+        ArgumentCaptor<VideoStatusChangedEvent> entregue = ArgumentCaptor.forClass(VideoStatusChangedEvent.class);
+        verify(videoStatusSseRegistry).dispatch(entregue.capture());
+        assertEquals(7L, entregue.getValue().getVideoId());
+        assertEquals("user-1", entregue.getValue().getUserId());
+        assertEquals(VideoStatus.PROCESSED, entregue.getValue().getStatus());
+        assertEquals(alteradoEm, entregue.getValue().getChangedAt());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar notificação ilegível sem derrubar a escuta")
+    void deveIgnorarNotificacaoIlegivel() {
+        assertDoesNotThrow(() -> broadcaster.dispatch("{nao-e-json"));
+
+        verify(videoStatusSseRegistry, never()).dispatch(any());
+    }
+}
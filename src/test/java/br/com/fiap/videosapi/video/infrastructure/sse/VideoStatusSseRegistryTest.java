@@ -0,0 +1,77 @@
+package br.com.fiap.videosapi.video.infrastructure.sse;
+
+import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
+import br.com.fiap.videosapi.video.domain.event.VideoStatusChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VideoStatusSseRegistryTest {
+
+    private final VideoStatusSseRegistry registry = new VideoStatusSseRegistry(Duration.ofMinutes(1), 4, 2);
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve registrar assinantes e contar conexões abertas")
+    void deveRegistrarAssinantesEContarConexoesAbertas() {
+        SseEmitter emitter = registry.subscribe("user-1");
+        registry.subscribe("user-2");
+
+        assertNotNull(emitter);
+        assertEquals(Duration.ofMinutes(1).toMillis(), emitter.getTimeout());
+        assertEquals(2, registry.getConnectionCount());
+    }
+
+    @Test
+    @DisplayName("Deve fechar a conexão mais antiga quando exceder o limite por usuário")
+    void deveFecharConexaoMaisAntigaQuandoExcederLimitePorUsuario() {
+        registry.subscribe("user-1");
+        registry.subscribe("user-1");
+        registry.subscribe("user-1");
+
+        assertEquals(2, registry.getConnectionCount());
+    }
+
+    @Test
+    @DisplayName("Deve publicar transição sem falhar mesmo sem assinantes do usuário")
+    void devePublicarTransicaoSemAssinantesDoUsuario() {
+        registry.subscribe("user-1");
+
+        assertDoesNotThrow(() -> registry.dispatch(VideoStatusChangedEvent.builder()
+                .videoId(1L)
+                .userId("user-2")
+                .previousStatus(VideoStatus.UPLOADED)
+                .status(VideoStatus.PROCESSED)
+                .changedAt(LocalDateTime.now())
+                .build()));
+        assertDoesNotThrow(() -> registry.dispatch(VideoStatusChangedEvent.builder()
+                .videoId(2L)
+                .userId("user-1")
+                .previousStatus(VideoStatus.UPLOADED)
+                .status(VideoStatus.FAILED)
+                .changedAt(LocalDateTime.now())
+                .build()));
+        assertEquals(1, registry.getConnectionCount());
+    }
+
+    @Test
+    @DisplayName("Deve desconectar todos os assinantes no encerramento")
+    void deveDesconectarTodosOsAssinantesNoEncerramento() {
+        registry.subscribe("user-1");
+        registry.subscribe("user-2");
+
+        registry.shutdown();
+
+        assertEquals(0, registry.getConnectionCount());
+    }
+}
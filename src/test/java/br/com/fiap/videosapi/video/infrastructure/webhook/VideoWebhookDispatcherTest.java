@@ -0,0 +1,123 @@
+package br.com.fiap.videosapi.video.infrastructure.webhook;
+
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoStatusChangeResponse;
+import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
+import br.com.fiap.videosapi.video.domain.entity.VideoWebhook;
+import br.com.fiap.videosapi.video.domain.event.VideoStatusChangedEvent;
+import br.com.fiap.videosapi.video.infrastructure.repository.VideoWebhookRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VideoWebhookDispatcherTest {
+
+    @Mock
+    private VideoWebhookRepository videoWebhookRepository;
+
+    @Mock
+    private VideoWebhookSender videoWebhookSender;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Deve agrupar eventos por usuário e enviar um lote para cada webhook")
+    @SuppressWarnings("unchecked")
+    void deveAgruparEventosPorUsuarioEEnviarUmLotePorWebhook() throws InterruptedException {
+        VideoWebhook webhookA1 = webhook(1L, "user-a");
+        VideoWebhook webhookA2 = webhook(2L, "user-a");
+        VideoWebhook webhookB = webhook(3L, "user-b");
+        when(videoWebhookRepository.findAllByUserIdInAndActiveTrue(anyCollection()))
+                .thenReturn(List.of(webhookA1, webhookA2, webhookB));
+        VideoWebhookDispatcher dispatcher = dispatcher(10, 100);
+
+        dispatcher.onStatusChanged(evento(1L, "user-a"));
+        dispatcher.onStatusChanged(evento(2L, "user-b"));
+        dispatcher.onStatusChanged(evento(3L, "user-a"));
+        dispatcher.onStatusChanged(evento(4L, "user-c"));
+
+        assertEquals(4, dispatcher.dispatchNext());
+
+        ArgumentCaptor<Collection<String>> usuarios = ArgumentCaptor.forClass(Collection.class);
+        verify(videoWebhookRepository).findAllByUserIdInAndActiveTrue(usuarios.capture());
+        assertEquals(Set.of("user-a", "user-b", "user-c"), Set.copyOf(usuarios.getValue()));
+
+        ArgumentCaptor<List<VideoStatusChangeResponse>> lote = ArgumentCaptor.forClass(List.class);
+        verify(videoWebhookSender).send(eq(webhookA1), lote.capture());
+        assertEquals(List.of(1L, 3L), lote.getValue().stream().map(VideoStatusChangeResponse::getVideoId).toList());
+        verify(videoWebhookSender).send(eq(webhookA2), any());
+        verify(videoWebhookSender).send(eq(webhookB), lote.capture());
+        assertEquals(List.of(2L), lote.getValue().stream().map(VideoStatusChangeResponse::getVideoId).toList());
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o tamanho máximo do lote")
+    void deveRespeitarTamanhoMaximoDoLote() throws InterruptedException {
+        when(videoWebhookRepository.findAllByUserIdInAndActiveTrue(anyCollection())).thenReturn(List.of());
+        VideoWebhookDispatcher dispatcher = dispatcher(10, 2);
+
+        dispatcher.onStatusChanged(evento(1L, "user-a"));
+        dispatcher.onStatusChanged(evento(2L, "user-a"));
+        dispatcher.onStatusChanged(evento(3L, "user-a"));
+
+        assertEquals(2, dispatcher.dispatchNext());
+        assertEquals(1, dispatcher.dispatchNext());
+        verifyNoInteractions(videoWebhookSender);
+    }
+
+    @Test
+    @DisplayName("Deve descartar eventos quando a fila estiver cheia ou a consulta falhar")
+    void deveDescartarEventosQuandoFilaCheiaOuConsultaFalhar() throws InterruptedException {
+        when(videoWebhookRepository.findAllByUserIdInAndActiveTrue(anyCollection()))
+                .thenThrow(new RuntimeException("database unavailable"));
+        VideoWebhookDispatcher dispatcher = dispatcher(1, 10);
+
+        dispatcher.onStatusChanged(evento(1L, "user-a"));
+        dispatcher.onStatusChanged(evento(2L, "user-a"));
+        dispatcher.dispatchNext();
+
+        assertEquals(2.0, meterRegistry.get("video.webhook.events.dropped").counter().count());
+        verifyNoInteractions(videoWebhookSender);
+    }
+
+    private VideoWebhookDispatcher dispatcher(int queueCapacity, int batchSize) {
+        return new VideoWebhookDispatcher(videoWebhookRepository, videoWebhookSender, meterRegistry,
+                queueCapacity, batchSize, Duration.ofMillis(20));
+    }
+
+    private static VideoWebhook webhook(Long id, String userId) {
+        return VideoWebhook.builder().id(id).userId(userId).url("https://cliente.example/hook").secret("s").active(true).build();
+    }
+
+    private static VideoStatusChangedEvent evento(Long videoId, String userId) {
+        return VideoStatusChangedEvent.builder()
+                .videoId(videoId)
+                .userId(userId)
+                .previousStatus(VideoStatus.PROCESSING)
+                .status(VideoStatus.PROCESSED)
+                .changedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,294 @@
+package br.com.fiap.videosapi.video.infrastructure.webhook;
+
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoStatusChangeResponse;
+import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
+import br.com.fiap.videosapi.video.domain.entity.VideoWebhook;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VideoWebhookSenderTest {
+
+    private static final String SECRET = "segredo-do-cliente";
+
+    private final Queue<RecordedRequest> requests = new ConcurrentLinkedQueue<>();
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private SimpleMeterRegistry meterRegistry;
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private VideoWebhookSender sender;
+    private final AtomicInteger emAndamento = new AtomicInteger();
+    private volatile IntSupplier responder = () -> 204;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        meterRegistry = new SimpleMeterRegistry();
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(serverExecutor);
+        server.createContext("/hook", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (sender != null) {
+            sender.close();
+        }
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Deve entregar eventos em lote com assinatura HMAC verificável")
+    void deveEntregarEventosEmLoteComAssinaturaHmac() throws Exception {
+        sender = sender(2, 3);
+
+        sender.send(webhook(), List.of(evento(1L, VideoStatus.PROCESSING), evento(2L, VideoStatus.PROCESSED)));
+
+        RecordedRequest request = aguardarRequisicoes(1).peek();
+        JsonNode payload = objectMapper.readTree(request.body());
+        assertEquals(2, payload.get("events").size());
+        assertEquals("PROCESSED", payload.get("events").get(1).get("status").asText());
+        assertEquals(request.delivery(), payload.get("deliveryId").asText());
+        assertEquals(VideoWebhookSender.sign(SECRET, request.timestamp(), request.body()), request.signature());
+        aguardarContador("delivered", 1.0);
+    }
+
+    @Test
+    @DisplayName("Deve tentar novamente com backoff quando o endpoint estiver indisponível")
+    void deveTentarNovamenteQuandoEndpointIndisponivel() throws Exception {
+        AtomicInteger chamadas = new AtomicInteger();
+        responder = () -> chamadas.incrementAndGet() < 3 ? 503 : 200;
+        sender = sender(2, 5);
+
+        sender.send(webhook(), List.of(evento(1L, VideoStatus.PROCESSED)));
+
+        List<RecordedRequest> recebidas = List.copyOf(aguardarRequisicoes(3));
+        assertEquals(1, recebidas.stream().map(RecordedRequest::delivery).distinct().count());
+        aguardarContador("delivered", 1.0);
+        assertEquals(2.0, contador("retried"));
+    }
+
+    @Test
+    @DisplayName("Não deve tentar novamente quando o endpoint rejeitar a requisição")
+    void naoDeveTentarNovamenteQuandoEndpointRejeitar() throws Exception {
+        responder = () -> 400;
+        sender = sender(2, 5);
+
+        sender.send(webhook(), List.of(evento(1L, VideoStatus.FAILED)));
+
+        aguardarContador("failed", 1.0);
+        Thread.sleep(100);
+        assertEquals(1, requests.size());
+        assertEquals(0.0, contador("retried"));
+    }
+
+    @Test
+    @DisplayName("Deve limitar entregas simultâneas por endpoint")
+    void deveLimitarEntregasSimultaneasPorEndpoint() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        AtomicInteger simultaneas = new AtomicInteger();
+        AtomicInteger maximo = new AtomicInteger();
+        responder = () -> {
+            maximo.accumulateAndGet(simultaneas.incrementAndGet(), Math::max);
+            try {
+                liberar.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            simultaneas.decrementAndGet();
+            return 200;
+        };
+        sender = sender(2, 3);
+
+        for (long i = 1; i <= 5; i++) {
+            sender.send(webhook(), List.of(evento(i, VideoStatus.PROCESSED)));
+        }
+        Thread.sleep(300);
+        assertEquals(2, maximo.get());
+
+        liberar.countDown();
+        aguardarContador("delivered", 5.0);
+        assertEquals(2, maximo.get());
+    }
+
+    @Test
+    @DisplayName("Deve descartar e contabilizar entregas além da fila do endpoint")
+    void deveDescartarEntregasAlemDaFilaDoEndpoint() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        responder = () -> {
+            try {
+                liberar.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return 200;
+        };
+        sender = sender(politicaLocal(), 1, 2, 3);
+
+        for (long i = 1; i <= 5; i++) {
+            sender.send(webhook(), List.of(evento(i, VideoStatus.PROCESSED)));
+        }
+        aguardarRequisicoesEmAndamento(1);
+        aguardarContador("dropped", 2.0);
+
+        liberar.countDown();
+        aguardarContador("delivered", 3.0);
+        assertEquals(3, requests.size());
+    }
+
+    @Test
+    @DisplayName("Deve bloquear no envio webhook que passou a apontar para endereço interno")
+    void deveBloquearNoEnvioWebhookComEnderecoInterno() throws Exception {
+        sender = sender(new VideoWebhookUrlPolicy(true, false), 2, 100, 3);
+
+        sender.send(webhook(), List.of(evento(1L, VideoStatus.PROCESSED)));
+
+        aguardarContador("blocked", 1.0);
+        assertTrue(requests.isEmpty());
+        assertEquals(0.0, contador("retried"));
+    }
+
+    @Test
+    @DisplayName("Deve conectar no endereço validado mesmo que o DNS responda outro endereço depois")
+    void deveConectarNoEnderecoValidadoMesmoComDnsRebinding() throws Exception {
+        AtomicInteger resolucoes = new AtomicInteger();
+        VideoWebhookUrlPolicy politica = new VideoWebhookUrlPolicy(true, true, host -> {
+            // a segunda resposta apontaria para um endereço inalcançável; o envio não pode usá-la
+            return resolucoes.incrementAndGet() == 1
+                    ? new InetAddress[]{InetAddress.getLoopbackAddress()}
+                    : new InetAddress[]{InetAddress.getByName("10.255.255.1")};
+        });
+        sender = sender(politica, 2, 100, 1);
+        String host = "webhook.example:" + server.getAddress().getPort();
+
+        sender.send(webhook("http://" + host + "/hook"), List.of(evento(1L, VideoStatus.PROCESSED)));
+
+        RecordedRequest request = aguardarRequisicoes(1).peek();
+        aguardarContador("delivered", 1.0);
+        assertEquals(host, request.host());
+        assertEquals(1, resolucoes.get());
+    }
+
+    @Test
+    @DisplayName("Deve descartar o endpoint quando não houver entregas pendentes nem em andamento")
+    void deveDescartarEndpointOcioso() throws Exception {
+        sender = sender(2, 3);
+
+        sender.send(webhook(), List.of(evento(1L, VideoStatus.PROCESSED)));
+
+        aguardarContador("delivered", 1.0);
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (sender.trackedEndpoints() > 0 && System.nanoTime() < limite) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, sender.trackedEndpoints());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        byte[] body = exchange.getRequestBody().readAllBytes();
+        emAndamento.incrementAndGet();
+        requests.add(new RecordedRequest(body, exchange.getRequestHeaders().getFirst("Host"),
+                exchange.getRequestHeaders().getFirst(VideoWebhookSender.SIGNATURE_HEADER),
+                exchange.getRequestHeaders().getFirst(VideoWebhookSender.TIMESTAMP_HEADER),
+                exchange.getRequestHeaders().getFirst(VideoWebhookSender.DELIVERY_HEADER)));
+        exchange.sendResponseHeaders(responder.getAsInt(), -1);
+        exchange.close();
+    }
+
+    private VideoWebhookSender sender(int maxConcurrency, int maxAttempts) {
+        return sender(politicaLocal(), maxConcurrency, 100, maxAttempts);
+    }
+
+    private static VideoWebhookUrlPolicy politicaLocal() {
+        return new VideoWebhookUrlPolicy(true, true, host -> new InetAddress[]{InetAddress.getLoopbackAddress()});
+    }
+
+    private VideoWebhookSender sender(VideoWebhookUrlPolicy politica, int maxConcurrency, int maxPending, int maxAttempts) {
+        return new VideoWebhookSender(objectMapper, politica, meterRegistry, maxConcurrency, maxPending, maxAttempts,
+                Duration.ofSeconds(2), Duration.ofSeconds(5), Duration.ofMillis(10), Duration.ofMillis(50));
+    }
+
+    private VideoWebhook webhook() {
+        return webhook("http://localhost:" + server.getAddress().getPort() + "/hook");
+    }
+
+    private VideoWebhook webhook(String url) {
+        return VideoWebhook.builder()
+                .id(10L)
+                .userId("user-123")
+                .url(url)
+                .secret(SECRET)
+                .active(true)
+                .build();
+    }
+
+    private Queue<RecordedRequest> aguardarRequisicoes(int quantidade) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (requests.size() < quantidade && System.nanoTime() < limite) {
+            Thread.sleep(10);
+        }
+        assertTrue(requests.size() >= quantidade, "Esperava " + quantidade + " requisições, recebeu " + requests.size());
+        return requests;
+    }
+
+    private void aguardarRequisicoesEmAndamento(int quantidade) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (emAndamento.get() < quantidade && System.nanoTime() < limite) {
+            Thread.sleep(10);
+        }
+        assertEquals(quantidade, emAndamento.get());
+    }
+
+    private void aguardarContador(String result, double esperado) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (contador(result) < esperado && System.nanoTime() < limite) {
+            Thread.sleep(10);
+        }
+        assertEquals(esperado, contador(result));
+    }
+
+    private double contador(String result) {
+        return meterRegistry.get("video.webhook.deliveries").tag("result", result).counter().count();
+    }
+
+    private static VideoStatusChangeResponse evento(Long videoId, VideoStatus status) {
+        return VideoStatusChangeResponse.builder()
+                .videoId(videoId)
+                .previousStatus(VideoStatus.UPLOADED)
+                .status(status)
+                .changedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private record RecordedRequest(byte[] body, String host, String signature, String timestamp, String delivery) {
+    }
+}
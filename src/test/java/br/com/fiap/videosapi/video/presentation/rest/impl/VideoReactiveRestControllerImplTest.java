@@ -0,0 +1,172 @@
+package br.com.fiap.videosapi.video.presentation.rest.impl;
+
+import br.com.fiap.videosapi.core.reactive.BlockingCallOffloader;
+import br.com.fiap.videosapi.video.application.usecase.ReactiveVideoUploadUseCase;
+import br.com.fiap.videosapi.video.application.usecase.VideoDownloadUseCase;
+import br.com.fiap.videosapi.video.application.usecase.dto.VideoDownloadData;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoUploadResponse;
+import br.com.fiap.videosapi.video.infrastructure.azure.AzureBlobAsyncStorageService;
+import br.com.fiap.videosapi.video.infrastructure.azure.AzureBlobStorageService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.http.codec.multipart.PartEvent;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.BodyInserters;
+import reactor.core.publisher.Flux;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class VideoReactiveRestControllerImplTest {
+
+    @Mock
+    private ReactiveVideoUploadUseCase reactiveVideoUploadUseCase;
+    @Mock
+    private VideoDownloadUseCase videoDownloadUseCase;
+    @Mock
+    private AzureBlobAsyncStorageService azureBlobAsyncStorageService;
+    @Mock
+    private AzureBlobStorageService azureBlobStorageService;
+
+    private BlockingCallOffloader blockingCallOffloader;
+    private WebTestClient webTestClient;
+    private AutoCloseable autoCloseable;
+
+    @BeforeEach
+    void setUp() {
+        autoCloseable = MockitoAnnotations.openMocks(this);
+        blockingCallOffloader = new BlockingCallOffloader(2, 100);
+        webTestClient = WebTestClient.bindToController(new VideoReactiveRestControllerImpl(reactiveVideoUploadUseCase,
+                videoDownloadUseCase, azureBlobAsyncStorageService, azureBlobStorageService, blockingCallOffloader)).build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        blockingCallOffloader.close();
+        autoCloseable.close();
+    }
+
+    @Test
+    @DisplayName("Deve retornar 201 quando todos os vídeos forem enviados em streaming")
+    void deveRetornarCreatedQuandoTodosOsVideosForemEnviados() {
+        respostasDoUpload(VideoUploadResponse.builder().id(1L).originalFileName("video1.mp4").build(),
+                VideoUploadResponse.builder().id(2L).originalFileName("video2.mp4").build());
+
+        enviarUpload()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].id").isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve retornar 207 quando parte dos vídeos falhar")
+    void deveRetornarMultiStatusQuandoParteDosVideosFalhar() {
+        respostasDoUpload(VideoUploadResponse.builder().id(1L).build(),
+                VideoUploadResponse.builder().message("Error uploading video: Invalid file type").build());
+
+        enviarUpload().expectStatus().isEqualTo(207);
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 quando nenhum arquivo for enviado")
+    void deveRetornarBadRequestQuandoNenhumArquivoForEnviado() {
+        respostasDoUpload();
+
+        enviarUpload()
+                .expectStatus().isBadRequest()
+                .expectBody(String.class).isEqualTo("No files provided for upload");
+    }
+
+    @Test
+    @DisplayName("Deve transmitir o ZIP de frames do blob como anexo")
+    void deveTransmitirZipDeFramesComoAnexo() {
+        when(videoDownloadUseCase.prepareDownload(1L, "cliente1")).thenReturn(VideoDownloadData.builder()
+                .videoBlobName("cliente1/1/frames.zip")
+                .zipFileName("frames-video.mp4.zip")
+                .build());
+        when(azureBlobAsyncStorageService.download("cliente1/1/frames.zip"))
+                .thenReturn(Flux.just(ByteBuffer.wrap("conteudo-".getBytes(StandardCharsets.UTF_8)),
+                        ByteBuffer.wrap("zip".getBytes(StandardCharsets.UTF_8))));
+
+        webTestClient.get().uri("/api/v1/videos/1/download")
+                .header("x-cliente-id", "cliente1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("Content-Disposition", "attachment; filename=\"frames-video.mp4.zip\"")
+                .expectBody(String.class).isEqualTo("conteudo-zip");
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 no download quando o ZIP de frames não existir")
+    void deveRetornarNotFoundNoDownloadQuandoZipNaoExistir() {
+        when(videoDownloadUseCase.prepareDownload(1L, "cliente1"))
+                .thenThrow(new IllegalArgumentException("Arquivo frames.zip não encontrado para o vídeo: 1"));
+
+        webTestClient.get().uri("/api/v1/videos/1/download")
+                .header("x-cliente-id", "cliente1")
+                .exchange()
+                .expectStatus().isNotFound();
+
+        verifyNoInteractions(azureBlobAsyncStorageService);
+    }
+
+    @Test
+    @DisplayName("Deve retornar URL pública SAS para download do vídeo")
+    void deveRetornarUrlPublicaSasParaDownload() {
+        when(videoDownloadUseCase.prepareDownload(1L, "cliente1")).thenReturn(VideoDownloadData.builder()
+                .videoBlobName("cliente1/1/frames.zip")
+                .build());
+        when(azureBlobStorageService.generatePublicUrl("cliente1/1/frames.zip")).thenReturn("https://blob.url/frames.zip?sig=abc");
+
+        webTestClient.get().uri("/api/v1/videos/1/download-url")
+                .header("x-cliente-id", "cliente1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("https://blob.url/frames.zip?sig=abc");
+    }
+
+    @Test
+    @DisplayName("Deve retornar 500 quando ocorrer erro inesperado ao preparar o download")
+    void deveRetornarInternalServerErrorQuandoErroInesperado() {
+        when(videoDownloadUseCase.prepareDownload(anyLong(), anyString())).thenThrow(new RuntimeException("Erro inesperado"));
+
+        webTestClient.get().uri("/api/v1/videos/1/download-url")
+                .header("x-cliente-id", "cliente1")
+                .exchange()
+                .expectStatus().is5xxServerError();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void respostasDoUpload(VideoUploadResponse... respostas) {
+        when(reactiveVideoUploadUseCase.uploadVideos(any(), eq("cliente1")))
+                .thenAnswer(invocation -> ((Flux<PartEvent>) invocation.getArgument(0))
+                        .thenMany(Flux.just(respostas)));
+    }
+
+    private WebTestClient.ResponseSpec enviarUpload() {
+        MultipartBodyBuilder body = new MultipartBodyBuilder();
+        body.part("files", new ByteArrayResource("conteudo".getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public String getFilename() {
+                return "video1.mp4";
+            }
+        }).contentType(MediaType.parseMediaType("video/mp4"));
+
+        return webTestClient.post().uri("/api/v1/videos/upload")
+                .header("x-cliente-id", "cliente1")
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .body(BodyInserters.fromMultipartData(body.build()))
+                .exchange();
+    }
+}
@@ -1,12 +1,22 @@
 package br.com.fiap.videosapi.video.presentation.rest.impl;
 
+import br.com.fiap.videosapi.core.exception.VideoNotFoundException;
 import br.com.fiap.videosapi.video.application.usecase.VideoDownloadUseCase;
 import br.com.fiap.videosapi.video.application.usecase.VideoListUseCase;
+import br.com.fiap.videosapi.video.application.usecase.VideoProgressUseCase;
+import br.com.fiap.videosapi.video.application.usecase.VideoStatusHistoryUseCase;
+import br.com.fiap.videosapi.video.application.usecase.VideoSummaryUseCase;
 import br.com.fiap.videosapi.video.application.usecase.VideoUploadUseCase;
 import br.com.fiap.videosapi.video.application.usecase.dto.VideoDownloadData;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoBatchGetResponse;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoChangesResponse;
 import br.com.fiap.videosapi.video.common.domain.dto.response.VideoListResponse;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoProgressResponse;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoSummaryResponse;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoTimeInStateResponse;
 import br.com.fiap.videosapi.video.domain.entity.VideoStatus;
 import br.com.fiap.videosapi.video.infrastructure.azure.AzureBlobStorageService;
+import br.com.fiap.videosapi.video.infrastructure.sse.VideoStatusSseRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,15 +24,24 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(VideoRestControllerImpl.class)
@@ -40,9 +59,21 @@ class VideoRestControllerImplTest {
     @MockBean
     private VideoDownloadUseCase videoDownloadUseCase;
 
+    @MockBean
+    private VideoSummaryUseCase videoSummaryUseCase;
+
+    @MockBean
+    private VideoProgressUseCase videoProgressUseCase;
+
+    @MockBean
+    private VideoStatusHistoryUseCase videoStatusHistoryUseCase;
+
     @MockBean
     private AzureBlobStorageService azureBlobStorageService;
 
+    @MockBean
+    private VideoStatusSseRegistry videoStatusSseRegistry;
+
     @Test
     @DisplayName("Deve retornar status 400 quando nenhum arquivo for fornecido")
     void deveRetornarBadRequestQuandoNenhumArquivoForFornecido() throws Exception {
@@ -90,6 +121,35 @@ class VideoRestControllerImplTest {
         verify(videoListUseCase, times(1)).listAllVideos();
     }
 
+    @Test
+    @DisplayName("Deve transmitir vídeos em NDJSON quando solicitado")
+    @SuppressWarnings("unchecked")
+    void deveTransmitirVideosEmNdjsonQuandoSolicitado() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<VideoListResponse> consumer = invocation.getArgument(1);
+            consumer.accept(VideoListResponse.builder().id(1L).originalFileName("video1.mp4").build());
+            consumer.accept(VideoListResponse.builder().id(2L).originalFileName("video2.mp4").build());
+            return null;
+        }).when(videoListUseCase).streamAllVideos(eq("cliente1"), any(Consumer.class));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/videos")
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .header("x-cliente-id", "cliente1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] linhas = body.split("\n");
+        assertEquals(2, linhas.length);
+        assertTrue(linhas[0].contains("\"id\":1"));
+        assertTrue(linhas[1].contains("\"id\":2"));
+        verify(videoListUseCase, never()).listAllVideos();
+    }
+
     @Test
     @DisplayName("Deve listar vídeos por status com sucesso")
     void deveListarVideosPorStatusComSucesso() throws Exception {
@@ -111,6 +171,167 @@ class VideoRestControllerImplTest {
         verify(videoListUseCase, times(1)).listVideosByStatus(VideoStatus.PROCESSED);
     }
 
+    @Test
+    @DisplayName("Deve buscar vídeos por nome de arquivo")
+    void deveBuscarVideosPorNomeDeArquivo() throws Exception {
+        List<VideoListResponse> videos = List.of(
+                VideoListResponse.builder().id(7L).originalFileName("ferias-praia.mp4").build()
+        );
+
+        when(videoListUseCase.searchVideos("praia", 0, 20)).thenReturn(videos);
+
+        mockMvc.perform(get("/api/v1/videos/search")
+                        .param("q", "praia")
+                        .header("x-cliente-id", "cliente1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(7))
+                .andExpect(jsonPath("$[0].originalFileName").value("ferias-praia.mp4"));
+
+        verify(videoListUseCase).searchVideos("praia", 0, 20);
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 quando busca for inválida")
+    void deveRetornarBadRequestQuandoBuscaForInvalida() throws Exception {
+        when(videoListUseCase.searchVideos(" ", 0, 20)).thenThrow(new IllegalArgumentException("Search query must not be blank"));
+
+        mockMvc.perform(get("/api/v1/videos/search")
+                        .param("q", " ")
+                        .header("x-cliente-id", "cliente1"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve buscar vídeos em lote por IDs")
+    void deveBuscarVideosEmLotePorIds() throws Exception {
+        VideoBatchGetResponse resposta = VideoBatchGetResponse.builder()
+                .videos(List.of(VideoListResponse.builder().id(1L).originalFileName("video1.mp4").build()))
+                .missingIds(List.of(5L))
+                .build();
+
+        when(videoListUseCase.getVideosByIds(List.of(1L, 5L))).thenReturn(resposta);
+
+        mockMvc.perform(post("/api/v1/videos/batch-get")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[1,5]}")
+                        .header("x-cliente-id", "cliente1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.videos[0].id").value(1))
+                .andExpect(jsonPath("$.missingIds[0]").value(5));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 quando busca em lote for inválida")
+    void deveRetornarBadRequestQuandoBuscaEmLoteForInvalida() throws Exception {
+        when(videoListUseCase.getVideosByIds(List.of())).thenThrow(new IllegalArgumentException("At least one video ID must be provided"));
+
+        mockMvc.perform(post("/api/v1/videos/batch-get")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[]}")
+                        .header("x-cliente-id", "cliente1"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve retornar resumo de vídeos do usuário")
+    void deveRetornarResumoDeVideosDoUsuario() throws Exception {
+        VideoSummaryResponse resumo = VideoSummaryResponse.builder()
+                .countsByStatus(Map.of(VideoStatus.PROCESSED, 2L, VideoStatus.UPLOADED, 1L))
+                .totalVideos(3L)
+                .totalBytes(4096L)
+                .build();
+
+        when(videoSummaryUseCase.getSummary()).thenReturn(resumo);
+
+        mockMvc.perform(get("/api/v1/videos/summary")
+                        .header("x-cliente-id", "cliente1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.countsByStatus.PROCESSED").value(2))
+                .andExpect(jsonPath("$.totalVideos").value(3))
+                .andExpect(jsonPath("$.totalBytes").value(4096));
+
+        verify(videoListUseCase, never()).getVideoById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve retornar mudanças desde o cursor informado")
+    void deveRetornarMudancasDesdeCursorInformado() throws Exception {
+        when(videoListUseCase.getChanges("cursor-anterior", 50)).thenReturn(VideoChangesResponse.builder()
+                .videos(List.of(VideoListResponse.builder().id(3L).status(VideoStatus.PROCESSED).build()))
+                .nextCursor("cursor-seguinte")
+                .hasMore(false)
+                .build());
+
+        mockMvc.perform(get("/api/v1/videos/changes")
+                        .param("since", "cursor-anterior")
+                        .param("limit", "50")
+                        .header("x-cliente-id", "cliente1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.videos[0].id").value(3))
+                .andExpect(jsonPath("$.nextCursor").value("cursor-seguinte"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    @DisplayName("Deve retornar tempo em cada status na janela informada")
+    void deveRetornarTempoEmCadaStatus() throws Exception {
+        when(videoStatusHistoryUseCase.getTimeInState(30)).thenReturn(List.of(VideoTimeInStateResponse.builder()
+                .status(VideoStatus.PROCESSING)
+                .transitions(12L)
+                .p95Seconds(300.0)
+                .build()));
+
+        mockMvc.perform(get("/api/v1/videos/time-in-state")
+                        .param("days", "30")
+                        .header("x-cliente-id", "cliente1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("PROCESSING"))
+                .andExpect(jsonPath("$[0].transitions").value(12))
+                .andExpect(jsonPath("$[0].p95Seconds").value(300.0));
+    }
+
+    @Test
+    @DisplayName("Deve retornar progresso do processamento do vídeo")
+    void deveRetornarProgressoDoProcessamentoDoVideo() throws Exception {
+        when(videoProgressUseCase.getProgress(1L)).thenReturn(VideoProgressResponse.builder()
+                .videoId(1L)
+                .status(VideoStatus.PROCESSING)
+                .progressPercent(40)
+                .stage("frame-extraction")
+                .build());
+
+        mockMvc.perform(get("/api/v1/videos/1/progress")
+                        .header("x-cliente-id", "cliente1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PROCESSING"))
+                .andExpect(jsonPath("$.progressPercent").value(40))
+                .andExpect(jsonPath("$.stage").value("frame-extraction"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 ao consultar progresso de vídeo inexistente")
+    void deveRetornarNotFoundAoConsultarProgressoDeVideoInexistente() throws Exception {
+        when(videoProgressUseCase.getProgress(999L)).thenThrow(new VideoNotFoundException(999L));
+
+        mockMvc.perform(get("/api/v1/videos/999/progress")
+                        .header("x-cliente-id", "cliente1"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Deve abrir stream SSE de status para o usuário do header")
+    void deveAbrirStreamSseDeStatusParaUsuarioDoHeader() throws Exception {
+        when(videoStatusSseRegistry.subscribe("cliente1")).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/api/v1/videos/events")
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .header("x-cliente-id", "cliente1"))
+                .andExpect(request().asyncStarted());
+
+        verify(videoStatusSseRegistry).subscribe("cliente1");
+        verify(videoListUseCase, never()).getVideoById(anyLong());
+    }
+
     @Test
     @DisplayName("Deve retornar vídeo por ID com sucesso")
     void deveRetornarVideoPorIdComSucesso() throws Exception {
@@ -164,6 +385,41 @@ class VideoRestControllerImplTest {
                 .andExpect(content().string(publicUrl));
     }
 
+    @Test
+    @DisplayName("Deve transmitir o ZIP de frames direto do Azure como anexo")
+    void deveTransmitirZipDeFramesComoAnexo() throws Exception {
+        VideoDownloadData data = VideoDownloadData.builder()
+                .videoBlobName("cliente1/1/frames.zip")
+                .zipFileName("frames-video.mp4.zip")
+                .build();
+        when(videoDownloadUseCase.prepareDownload(1L, "cliente1")).thenReturn(data);
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write("conteudo-zip".getBytes());
+            return null;
+        }).when(azureBlobStorageService).download(eq("cliente1/1/frames.zip"), any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/videos/1/download").header("x-cliente-id", "cliente1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"frames-video.mp4.zip\""))
+                .andExpect(content().string("conteudo-zip"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 no download quando o ZIP de frames não existir")
+    void deveRetornarNotFoundNoDownloadQuandoZipNaoExistir() throws Exception {
+        when(videoDownloadUseCase.prepareDownload(1L, "cliente1"))
+                .thenThrow(new IllegalArgumentException("Arquivo frames.zip não encontrado para o vídeo: 1"));
+
+        mockMvc.perform(get("/api/v1/videos/1/download").header("x-cliente-id", "cliente1"))
+                .andExpect(status().isNotFound());
+
+        verify(azureBlobStorageService, never()).download(anyString(), any(OutputStream.class));
+    }
 
     @Test
     @DisplayName("Deve retornar 500 quando ocorrer erro inesperado no download")
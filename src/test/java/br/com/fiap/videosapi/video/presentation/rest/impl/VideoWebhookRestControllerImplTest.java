@@ -0,0 +1,71 @@
+package br.com.fiap.videosapi.video.presentation.rest.impl;
+
+import br.com.fiap.videosapi.video.application.usecase.VideoWebhookUseCase;
+import br.com.fiap.videosapi.video.common.domain.dto.request.VideoWebhookRequest;
+import br.com.fiap.videosapi.video.common.domain.dto.response.VideoWebhookResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(VideoWebhookRestControllerImpl.class)
+class VideoWebhookRestControllerImplTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private VideoWebhookUseCase videoWebhookUseCase;
+
+    @Test
+    @DisplayName("Deve registrar webhook e retornar o segredo")
+    void deveRegistrarWebhookERetornarSegredo() throws Exception {
+        when(videoWebhookUseCase.register(any(VideoWebhookRequest.class))).thenReturn(VideoWebhookResponse.builder()
+                .id(1L).url("https://cliente.example/hook").secret("abc123").build());
+
+        mockMvc.perform(post("/api/v1/videos/webhooks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"url\":\"https://cliente.example/hook\"}")
+                        .header("x-cliente-id", "cliente1"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.secret").value("abc123"));
+    }
+
+    @Test
+    @DisplayName("Deve listar webhooks sem o segredo")
+    void deveListarWebhooksSemSegredo() throws Exception {
+        when(videoWebhookUseCase.listWebhooks()).thenReturn(List.of(VideoWebhookResponse.builder()
+                .id(1L).url("https://cliente.example/hook").build()));
+
+        mockMvc.perform(get("/api/v1/videos/webhooks")
+                        .header("x-cliente-id", "cliente1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].url").value("https://cliente.example/hook"))
+                .andExpect(jsonPath("$[0].secret").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 204 ao remover webhook e 404 quando não existir")
+    void deveRemoverWebhookOuRetornarNaoEncontrado() throws Exception {
+        when(videoWebhookUseCase.unregister(1L)).thenReturn(true);
+        when(videoWebhookUseCase.unregister(2L)).thenReturn(false);
+
+        mockMvc.perform(delete("/api/v1/videos/webhooks/1").header("x-cliente-id", "cliente1"))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(delete("/api/v1/videos/webhooks/2").header("x-cliente-id", "cliente1"))
+                .andExpect(status().isNotFound());
+    }
+}